@@ -36,6 +36,7 @@ import org.eclipse.dirigible.database.api.IDatabase;
 import org.eclipse.dirigible.database.dynamic.DynamicDatabase;
 import org.eclipse.dirigible.database.persistence.processors.identity.PersistenceNextValueIdentityProcessor;
 import org.eclipse.dirigible.database.sql.DataTypeUtils;
+import org.eclipse.dirigible.database.sql.DatabaseMetadataCache;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.eclipse.dirigible.databases.helpers.DatabaseMetadataHelper;
 import org.eclipse.dirigible.databases.helpers.DatabaseResultSetHelper;
@@ -306,6 +307,81 @@ public class DatabaseFacade implements IScriptingFacade {
 		return query(sql, null, null, null);
 	}
 	
+	/**
+	 * Executes SQL query and opens a cursor over its result, so that the records can be read in batches. The cursor
+	 * holds a connection until all the records are read or it is closed.
+	 *
+	 * @param sql the sql
+	 * @param parameters the parameters
+	 * @param databaseType the database type
+	 * @param datasourceName the datasource name
+	 * @return the cursor
+	 * @throws SQLException the SQL exception
+	 */
+	public static final ResultSetCursor cursor(String sql, String parameters, String databaseType, String datasourceName) throws SQLException {
+		DataSource dataSource = getDataSource(databaseType, datasourceName);
+		if (dataSource == null) {
+			String error = format("DataSource {0} of Database Type {1} not known.", datasourceName, databaseType);
+			throw new IllegalArgumentException(error);
+		}
+		Connection connection = dataSource.getConnection();
+		PreparedStatement preparedStatement = null;
+		try {
+			preparedStatement = connection.prepareStatement(sql);
+			preparedStatement.setFetchSize(ResultSetCursor.DEFAULT_BATCH_SIZE);
+			if (parameters != null) {
+				setParameters(parameters, preparedStatement);
+			}
+			ResultSet resultSet = preparedStatement.executeQuery();
+			return new ResultSetCursor(connection, preparedStatement, resultSet);
+		} catch (SQLException | RuntimeException e) {
+			try {
+				if (preparedStatement != null) {
+					preparedStatement.close();
+				}
+			} finally {
+				connection.close();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Executes SQL query and opens a cursor over its result.
+	 *
+	 * @param sql the sql
+	 * @param parameters the parameters
+	 * @param databaseType the database type
+	 * @return the cursor
+	 * @throws SQLException the SQL exception
+	 */
+	public static final ResultSetCursor cursor(String sql, String parameters, String databaseType) throws SQLException {
+		return cursor(sql, parameters, databaseType, null);
+	}
+
+	/**
+	 * Executes SQL query and opens a cursor over its result.
+	 *
+	 * @param sql the sql
+	 * @param parameters the parameters
+	 * @return the cursor
+	 * @throws SQLException the SQL exception
+	 */
+	public static final ResultSetCursor cursor(String sql, String parameters) throws SQLException {
+		return cursor(sql, parameters, null, null);
+	}
+
+	/**
+	 * Executes SQL query and opens a cursor over its result.
+	 *
+	 * @param sql the sql
+	 * @return the cursor
+	 * @throws SQLException the SQL exception
+	 */
+	public static final ResultSetCursor cursor(String sql) throws SQLException {
+		return cursor(sql, null, null, null);
+	}
+
 	//  ===========  Update  ===========
 
 	/**
@@ -332,7 +408,9 @@ public class DatabaseFacade implements IScriptingFacade {
 				if (parameters != null) {
 					setParameters(parameters, preparedStatement);
 				}
-				return preparedStatement.executeUpdate();
+				int result = preparedStatement.executeUpdate();
+				DatabaseMetadataCache.invalidateOnDefinition(connection, sql);
+				return result;
 			} finally {
 				if (preparedStatement != null) {
 					preparedStatement.close();
@@ -835,6 +913,7 @@ public class DatabaseFacade implements IScriptingFacade {
 			PreparedStatement preparedStatement = connection.prepareStatement(sql);
 			try {
 				preparedStatement.executeUpdate();
+				DatabaseMetadataCache.invalidate(connection, sequence);
 			} finally {
 				if (preparedStatement != null) {
 					preparedStatement.close();
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.v3.db;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.eclipse.dirigible.databases.processor.format.ResultSetJsonWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Cursor over the result of a query, which hands out the records in batches of JSON arrays.
+ *
+ * The cursor keeps its connection open until all the records are read or it is closed explicitly.
+ */
+public class ResultSetCursor implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ResultSetCursor.class);
+
+	/** The default number of records per batch */
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	private final Connection connection;
+
+	private final PreparedStatement preparedStatement;
+
+	private final ResultSet resultSet;
+
+	private final String[] names;
+
+	private boolean hasNext;
+
+	private boolean closed;
+
+	/**
+	 * Instantiates a new cursor over an executed query.
+	 *
+	 * @param connection
+	 *            the connection, closed together with the cursor
+	 * @param preparedStatement
+	 *            the prepared statement, closed together with the cursor
+	 * @param resultSet
+	 *            the result set
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	ResultSetCursor(Connection connection, PreparedStatement preparedStatement, ResultSet resultSet) throws SQLException {
+		this.connection = connection;
+		this.preparedStatement = preparedStatement;
+		this.resultSet = resultSet;
+		this.names = ResultSetJsonWriter.getColumnNames(resultSet);
+		this.hasNext = resultSet.next();
+		if (!hasNext) {
+			close();
+		}
+	}
+
+	/**
+	 * Checks whether there are more records.
+	 *
+	 * @return true, if there are more records
+	 */
+	public boolean hasNext() {
+		return hasNext;
+	}
+
+	/**
+	 * Reads the next batch of records as a JSON array. The cursor is closed after the last record.
+	 *
+	 * @param batchSize
+	 *            the maximum number of records
+	 * @return the records as JSON
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	public String next(int batchSize) throws SQLException {
+		StringWriter output = new StringWriter();
+		try {
+			JsonWriter jsonWriter = ResultSetJsonWriter.newJsonWriter(output);
+			jsonWriter.beginArray();
+			int count = 0;
+			while (hasNext && (count++ < batchSize)) {
+				ResultSetJsonWriter.writeRecord(resultSet, names, jsonWriter);
+				hasNext = resultSet.next();
+			}
+			jsonWriter.endArray();
+			jsonWriter.flush();
+		} catch (IOException e) {
+			close();
+			throw new SQLException(e);
+		} catch (SQLException e) {
+			close();
+			throw e;
+		}
+		if (!hasNext) {
+			close();
+		}
+		return output.toString();
+	}
+
+	/**
+	 * Reads the next batch of records with the default size.
+	 *
+	 * @return the records as JSON
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	public String next() throws SQLException {
+		return next(DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Closes the result set, the statement and the connection.
+	 */
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		hasNext = false;
+		try {
+			resultSet.close();
+			preparedStatement.close();
+		} catch (SQLException e) {
+			logger.error(e.getMessage(), e);
+		} finally {
+			try {
+				connection.close();
+			} catch (SQLException e) {
+				logger.error(e.getMessage(), e);
+			}
+		}
+	}
+
+}
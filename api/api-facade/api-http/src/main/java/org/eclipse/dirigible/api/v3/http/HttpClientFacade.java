@@ -42,7 +42,8 @@ import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.util.EntityUtils;
 import org.eclipse.dirigible.api.v3.http.client.HttpClientHeader;
 import org.eclipse.dirigible.api.v3.http.client.HttpClientParam;
-import org.eclipse.dirigible.api.v3.http.client.HttpClientProxyUtils;
+import org.eclipse.dirigible.api.v3.http.client.HttpClientProfile;
+import org.eclipse.dirigible.api.v3.http.client.HttpClientRegistry;
 import org.eclipse.dirigible.api.v3.http.client.HttpClientRequestOptions;
 import org.eclipse.dirigible.api.v3.http.client.HttpClientResponse;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
@@ -67,7 +68,7 @@ public class HttpClientFacade implements IScriptingFacade {
 	public static final String get(String url, String options) throws IOException {
 		HttpClientRequestOptions httpClientRequestOptions = parseOptions(options);
 		HttpGet httpGet = createGetRequest(url, httpClientRequestOptions);
-		CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(httpClientRequestOptions.isSslTrustAllEnabled());
+		CloseableHttpClient httpClient = getHttpClient(httpClientRequestOptions);
 		CloseableHttpResponse response = httpClient.execute(httpGet);
 		return processResponse(response, httpClientRequestOptions.isBinary());
 	}
@@ -86,7 +87,7 @@ public class HttpClientFacade implements IScriptingFacade {
 	public static final String post(String url, String options) throws IOException {
 		HttpClientRequestOptions httpClientRequestOptions = parseOptions(options);
 		HttpPost httpPost = createPostRequest(url, httpClientRequestOptions);
-		CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(httpClientRequestOptions.isSslTrustAllEnabled());
+		CloseableHttpClient httpClient = getHttpClient(httpClientRequestOptions);
 		CloseableHttpResponse response = httpClient.execute(httpPost);
 		return processResponse(response, httpClientRequestOptions.isBinary());
 	}
@@ -105,7 +106,7 @@ public class HttpClientFacade implements IScriptingFacade {
 	public static final String put(String url, String options) throws IOException {
 		HttpClientRequestOptions httpClientRequestOptions = parseOptions(options);
 		HttpPut httpPut = createPutRequest(url, httpClientRequestOptions);
-		CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(httpClientRequestOptions.isSslTrustAllEnabled());
+		CloseableHttpClient httpClient = getHttpClient(httpClientRequestOptions);
 		CloseableHttpResponse response = httpClient.execute(httpPut);
 		return processResponse(response, httpClientRequestOptions.isBinary());
 	}
@@ -124,7 +125,7 @@ public class HttpClientFacade implements IScriptingFacade {
 	public static final String patch(String url, String options) throws IOException {
 		HttpClientRequestOptions httpClientRequestOptions = parseOptions(options);
 		HttpPatch httpPatch = createPatchRequest(url, httpClientRequestOptions);
-		CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(httpClientRequestOptions.isSslTrustAllEnabled());
+		CloseableHttpClient httpClient = getHttpClient(httpClientRequestOptions);
 		CloseableHttpResponse response = httpClient.execute(httpPatch);
 		return processResponse(response, httpClientRequestOptions.isBinary());
 	}
@@ -144,7 +145,7 @@ public class HttpClientFacade implements IScriptingFacade {
 		HttpClientRequestOptions httpClientRequestOptions = parseOptions(options);
 		HttpDelete httpDelete = createDeleteRequest(url, httpClientRequestOptions);
 
-		CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(httpClientRequestOptions.isSslTrustAllEnabled());
+		CloseableHttpClient httpClient = getHttpClient(httpClientRequestOptions);
 		CloseableHttpResponse response = httpClient.execute(httpDelete);
 		return processResponse(response, httpClientRequestOptions.isBinary());
 	}
@@ -164,7 +165,7 @@ public class HttpClientFacade implements IScriptingFacade {
 		HttpClientRequestOptions httpClientRequestOptions = parseOptions(options);
 		HttpHead httpHead = createHeadRequest(url, httpClientRequestOptions);
 
-		CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(httpClientRequestOptions.isSslTrustAllEnabled());
+		CloseableHttpClient httpClient = getHttpClient(httpClientRequestOptions);
 		CloseableHttpResponse response = httpClient.execute(httpHead);
 		return processResponse(response, httpClientRequestOptions.isBinary());
 	}
@@ -184,11 +185,42 @@ public class HttpClientFacade implements IScriptingFacade {
 		HttpClientRequestOptions httpClientRequestOptions = parseOptions(options);
 		HttpTrace httpTrace = createTraceRequest(url, httpClientRequestOptions);
 
-		CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(httpClientRequestOptions.isSslTrustAllEnabled());
+		CloseableHttpClient httpClient = getHttpClient(httpClientRequestOptions);
 		CloseableHttpResponse response = httpClient.execute(httpTrace);
 		return processResponse(response, httpClientRequestOptions.isBinary());
 	}
 
+	/**
+	 * Registers a named client profile with its own pool of connections, to be selected by the [profile] element of the
+	 * request options
+	 *
+	 * @param name
+	 *            the name of the profile
+	 * @param profile
+	 *            the settings of the profile as JSON
+	 */
+	public static final void registerProfile(String name, String profile) {
+		HttpClientProfile httpClientProfile = GsonHelper.GSON.fromJson(profile, HttpClientProfile.class);
+		if (httpClientProfile == null) {
+			httpClientProfile = new HttpClientProfile();
+		}
+		httpClientProfile.setName(name);
+		HttpClientRegistry.registerProfile(httpClientProfile);
+	}
+
+	/**
+	 * Returns the statistics of the connection pools of the clients
+	 *
+	 * @return the statistics as JSON
+	 */
+	public static final String getStatistics() {
+		return GsonHelper.GSON.toJson(HttpClientRegistry.getStatistics());
+	}
+
+	private static CloseableHttpClient getHttpClient(HttpClientRequestOptions httpClientRequestOptions) {
+		return HttpClientRegistry.getHttpClient(httpClientRequestOptions.getProfile(), httpClientRequestOptions.isSslTrustAllEnabled());
+	}
+
 	private static void prepareHeaders(HttpClientRequestOptions httpClientRequestOptions, HttpRequestBase httpRequestBase) {
 		for (HttpClientHeader httpClientHeader : httpClientRequestOptions.getHeaders()) {
 			httpRequestBase.setHeader(httpClientHeader.getName(), httpClientHeader.getValue());
@@ -291,11 +291,22 @@ public class HttpRequestFacade implements IScriptingFacade {
 	 *             Signals that an I/O exception has occurred.
 	 */
 	public static final String getBytes() throws IOException {
+		return BytesHelper.bytesToJson(getBytesNative());
+	}
+
+	/**
+	 * Returns the bytes as they are, without converting them to JSON.
+	 *
+	 * @return the bytes
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static final byte[] getBytesNative() throws IOException {
 		HttpServletRequest request = getRequest();
 		if (request == null) {
 			throw new InvalidStateException(NO_VALID_REQUEST);
 		}
-		return BytesHelper.bytesToJson(IOUtils.toByteArray(request.getInputStream()));
+		return IOUtils.toByteArray(request.getInputStream());
 	}
 
 	/**
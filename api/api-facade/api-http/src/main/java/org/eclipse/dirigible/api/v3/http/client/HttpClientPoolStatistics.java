@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.v3.http.client;
+
+/**
+ * Snapshot of the connection pool of a pooled HTTP client.
+ */
+public class HttpClientPoolStatistics {
+
+	/** The profile. */
+	private String profile;
+
+	/** Whether the client trusts all the certificates. */
+	private boolean sslTrustAllEnabled;
+
+	/** The connections in use. */
+	private int leased;
+
+	/** The connections kept alive for reuse. */
+	private int available;
+
+	/** The requests waiting for a connection. */
+	private int pending;
+
+	/** The maximum number of connections. */
+	private int max;
+
+	/** The number of the routes with connections. */
+	private int routes;
+
+	/**
+	 * Gets the profile.
+	 *
+	 * @return the profile
+	 */
+	public String getProfile() {
+		return profile;
+	}
+
+	/**
+	 * Sets the profile.
+	 *
+	 * @param profile
+	 *            the new profile
+	 */
+	public void setProfile(String profile) {
+		this.profile = profile;
+	}
+
+	/**
+	 * Checks if is ssl trust all enabled.
+	 *
+	 * @return true, if is ssl trust all enabled
+	 */
+	public boolean isSslTrustAllEnabled() {
+		return sslTrustAllEnabled;
+	}
+
+	/**
+	 * Sets the ssl trust all enabled.
+	 *
+	 * @param sslTrustAllEnabled
+	 *            the new ssl trust all enabled
+	 */
+	public void setSslTrustAllEnabled(boolean sslTrustAllEnabled) {
+		this.sslTrustAllEnabled = sslTrustAllEnabled;
+	}
+
+	/**
+	 * Gets the leased.
+	 *
+	 * @return the leased
+	 */
+	public int getLeased() {
+		return leased;
+	}
+
+	/**
+	 * Sets the leased.
+	 *
+	 * @param leased
+	 *            the new leased
+	 */
+	public void setLeased(int leased) {
+		this.leased = leased;
+	}
+
+	/**
+	 * Gets the available.
+	 *
+	 * @return the available
+	 */
+	public int getAvailable() {
+		return available;
+	}
+
+	/**
+	 * Sets the available.
+	 *
+	 * @param available
+	 *            the new available
+	 */
+	public void setAvailable(int available) {
+		this.available = available;
+	}
+
+	/**
+	 * Gets the pending.
+	 *
+	 * @return the pending
+	 */
+	public int getPending() {
+		return pending;
+	}
+
+	/**
+	 * Sets the pending.
+	 *
+	 * @param pending
+	 *            the new pending
+	 */
+	public void setPending(int pending) {
+		this.pending = pending;
+	}
+
+	/**
+	 * Gets the max.
+	 *
+	 * @return the max
+	 */
+	public int getMax() {
+		return max;
+	}
+
+	/**
+	 * Sets the max.
+	 *
+	 * @param max
+	 *            the new max
+	 */
+	public void setMax(int max) {
+		this.max = max;
+	}
+
+	/**
+	 * Gets the routes.
+	 *
+	 * @return the routes
+	 */
+	public int getRoutes() {
+		return routes;
+	}
+
+	/**
+	 * Sets the routes.
+	 *
+	 * @param routes
+	 *            the new routes
+	 */
+	public void setRoutes(int routes) {
+		this.routes = routes;
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.v3.http.client;
+
+/**
+ * The settings of the connection pool of a named HTTP client.
+ */
+public class HttpClientProfile {
+
+	/** The name. */
+	private String name;
+
+	/** The maximum number of connections in total. */
+	private int maxTotal;
+
+	/** The maximum number of connections per route. */
+	private int maxPerRoute;
+
+	/** The maximum time in milliseconds a connection is kept alive. */
+	private long keepAlive;
+
+	/** The time in milliseconds after which an idle connection is evicted. */
+	private long idleTimeout;
+
+	/**
+	 * Gets the name.
+	 *
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Sets the name.
+	 *
+	 * @param name
+	 *            the new name
+	 */
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Gets the max total.
+	 *
+	 * @return the max total
+	 */
+	public int getMaxTotal() {
+		return maxTotal;
+	}
+
+	/**
+	 * Sets the max total.
+	 *
+	 * @param maxTotal
+	 *            the new max total
+	 */
+	public void setMaxTotal(int maxTotal) {
+		this.maxTotal = maxTotal;
+	}
+
+	/**
+	 * Gets the max per route.
+	 *
+	 * @return the max per route
+	 */
+	public int getMaxPerRoute() {
+		return maxPerRoute;
+	}
+
+	/**
+	 * Sets the max per route.
+	 *
+	 * @param maxPerRoute
+	 *            the new max per route
+	 */
+	public void setMaxPerRoute(int maxPerRoute) {
+		this.maxPerRoute = maxPerRoute;
+	}
+
+	/**
+	 * Gets the keep alive.
+	 *
+	 * @return the keep alive
+	 */
+	public long getKeepAlive() {
+		return keepAlive;
+	}
+
+	/**
+	 * Sets the keep alive.
+	 *
+	 * @param keepAlive
+	 *            the new keep alive
+	 */
+	public void setKeepAlive(long keepAlive) {
+		this.keepAlive = keepAlive;
+	}
+
+	/**
+	 * Gets the idle timeout.
+	 *
+	 * @return the idle timeout
+	 */
+	public long getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	/**
+	 * Sets the idle timeout.
+	 *
+	 * @param idleTimeout
+	 *            the new idle timeout
+	 */
+	public void setIdleTimeout(long idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+}
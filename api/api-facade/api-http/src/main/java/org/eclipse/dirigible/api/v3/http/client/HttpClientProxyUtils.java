@@ -29,14 +29,10 @@ import org.apache.http.HttpException;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpRequest;
 import org.apache.http.conn.routing.HttpRoute;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.DefaultProxyRoutePlanner;
 import org.apache.http.protocol.HttpContext;
-import org.apache.http.ssl.SSLContextBuilder;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -82,36 +78,15 @@ public class HttpClientProxyUtils {
 	}
 
 	/**
-	 * Returns the http client.
+	 * Returns the shared pooled http client of the default profile. The client must not be closed.
 	 *
 	 * @param trustAll
 	 *            if no SSL verification should be done
 	 * @return the http client
+	 * @see HttpClientRegistry#getHttpClient(String, boolean)
 	 */
 	public static CloseableHttpClient getHttpClient(boolean trustAll) {
-		CloseableHttpClient httpClient = null;
-
-		if (trustAll) {
-			try {
-				SSLContextBuilder sslContextBuilder = new SSLContextBuilder();
-				sslContextBuilder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
-				SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(sslContextBuilder.build(),
-						(hostName, sslSession) -> true);
-				HttpClientBuilder httpClientBuilder = HttpClients.custom();
-				httpClientBuilder.setSSLSocketFactory(sslSocketFactory);
-				setProxyIfNeeded(httpClientBuilder);
-				httpClient = httpClientBuilder.build();
-			} catch (Exception e) {
-				logger.error("Error occurred when trying to create a TRUST ALL HTTP Client", e);
-				httpClient = HttpClients.createDefault();
-			}
-		} else {
-			HttpClientBuilder httpClientBuilder = HttpClients.custom();
-			setProxyIfNeeded(httpClientBuilder);
-			httpClient = httpClientBuilder.build();
-		}
-
-		return httpClient;
+		return HttpClientRegistry.getHttpClient(HttpClientRegistry.DEFAULT_PROFILE, trustAll);
 	}
 
 	/**
@@ -120,7 +95,7 @@ public class HttpClientProxyUtils {
 	 * @param httpClientBuilder
 	 *            the client build
 	 */
-	private static void setProxyIfNeeded(HttpClientBuilder httpClientBuilder) {
+	static void setProxyIfNeeded(HttpClientBuilder httpClientBuilder) {
 		String httpProxyHost = Configuration.get(HTTP_PROXY_HOST);
 		String httpProxyPort = Configuration.get(HTTP_PROXY_PORT);
 
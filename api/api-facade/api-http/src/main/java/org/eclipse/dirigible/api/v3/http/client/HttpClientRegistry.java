@@ -0,0 +1,415 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.v3.http.client;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.ssl.SSLContextBuilder;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of the shared outbound HTTP clients.
+ *
+ * Every named profile gets its own pool of connections, kept alive and reused across the requests, with limits per
+ * route and in total. The clients are created on first use and are not closed by the callers. The settings of a
+ * profile are taken from the registered profile or else from the configuration, e.g.
+ * DIRIGIBLE_HTTP_CLIENT_[PROFILE]_MAX_TOTAL, falling back to the settings of the default profile.
+ *
+ * Registering a profile again replaces its clients. A replaced client keeps serving the requests in flight and is
+ * closed once none of its connections is leased any more, while the new requests go to the new client.
+ */
+public class HttpClientRegistry {
+
+	/** The name of the default profile. */
+	public static final String DEFAULT_PROFILE = "default"; //$NON-NLS-1$
+
+	/** The maximum number of connections in total per profile. */
+	public static final String DIRIGIBLE_HTTP_CLIENT_MAX_TOTAL = "DIRIGIBLE_HTTP_CLIENT_MAX_TOTAL"; //$NON-NLS-1$
+
+	/** The maximum number of connections per route. */
+	public static final String DIRIGIBLE_HTTP_CLIENT_MAX_PER_ROUTE = "DIRIGIBLE_HTTP_CLIENT_MAX_PER_ROUTE"; //$NON-NLS-1$
+
+	/** The maximum time in milliseconds a connection is kept alive. */
+	public static final String DIRIGIBLE_HTTP_CLIENT_KEEP_ALIVE = "DIRIGIBLE_HTTP_CLIENT_KEEP_ALIVE"; //$NON-NLS-1$
+
+	/** The time in milliseconds after which an idle connection is evicted. */
+	public static final String DIRIGIBLE_HTTP_CLIENT_IDLE_TIMEOUT = "DIRIGIBLE_HTTP_CLIENT_IDLE_TIMEOUT"; //$NON-NLS-1$
+
+	private static final String DIRIGIBLE_HTTP_CLIENT_PREFIX = "DIRIGIBLE_HTTP_CLIENT_"; //$NON-NLS-1$
+
+	private static final String TRUST_ALL_SUFFIX = ":trustAll"; //$NON-NLS-1$
+
+	private static final Logger logger = LoggerFactory.getLogger(HttpClientRegistry.class);
+
+	private static final Map<String, HttpClientProfile> PROFILES = new ConcurrentHashMap<String, HttpClientProfile>();
+
+	private static final Map<String, PooledHttpClient> CLIENTS = new ConcurrentHashMap<String, PooledHttpClient>();
+
+	/** The replaced clients still having requests in flight. */
+	private static final Set<PooledHttpClient> RETIRED = ConcurrentHashMap.newKeySet();
+
+	/** The time in milliseconds after which a replaced client is closed even if its connections are still leased. */
+	private static final long RETIRED_CLOSE_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+
+	private static final long RETIRED_CHECK_PERIOD = 1000;
+
+	private static ScheduledExecutorService retiredCloser;
+
+	/**
+	 * Returns the shared client of the given profile.
+	 *
+	 * @param profile
+	 *            the name of the profile, or null for the default one
+	 * @param trustAll
+	 *            if no SSL verification should be done
+	 * @return the http client
+	 */
+	public static CloseableHttpClient getHttpClient(String profile, boolean trustAll) {
+		String name = (profile != null) && !profile.isEmpty() ? profile : DEFAULT_PROFILE;
+		String key = trustAll ? name + TRUST_ALL_SUFFIX : name;
+		return CLIENTS.computeIfAbsent(key, k -> new PooledHttpClient(getProfile(name), trustAll)).sharedClient;
+	}
+
+	/**
+	 * Registers a profile, replacing the previous one with the same name. The clients already created for the profile
+	 * are replaced and closed as soon as their requests in flight are completed.
+	 *
+	 * @param profile
+	 *            the profile
+	 */
+	public static void registerProfile(HttpClientProfile profile) {
+		if ((profile.getName() == null) || profile.getName().isEmpty()) {
+			throw new IllegalArgumentException("The name of the HTTP client profile cannot be empty");
+		}
+		HttpClientProfile defaults = createProfile(profile.getName());
+		if (profile.getMaxTotal() <= 0) {
+			profile.setMaxTotal(defaults.getMaxTotal());
+		}
+		if (profile.getMaxPerRoute() <= 0) {
+			profile.setMaxPerRoute(defaults.getMaxPerRoute());
+		}
+		if (profile.getKeepAlive() <= 0) {
+			profile.setKeepAlive(defaults.getKeepAlive());
+		}
+		if (profile.getIdleTimeout() <= 0) {
+			profile.setIdleTimeout(defaults.getIdleTimeout());
+		}
+		PROFILES.put(profile.getName(), profile);
+		retire(CLIENTS.remove(profile.getName()));
+		retire(CLIENTS.remove(profile.getName() + TRUST_ALL_SUFFIX));
+	}
+
+	/**
+	 * Gets the profile with the given name, either registered or configured.
+	 *
+	 * @param name
+	 *            the name
+	 * @return the profile
+	 */
+	public static HttpClientProfile getProfile(String name) {
+		HttpClientProfile profile = PROFILES.get(name);
+		return profile != null ? profile : createProfile(name);
+	}
+
+	/**
+	 * Gets the statistics of the connection pools of the clients created so far.
+	 *
+	 * @return the statistics
+	 */
+	public static List<HttpClientPoolStatistics> getStatistics() {
+		List<HttpClientPoolStatistics> statistics = new ArrayList<HttpClientPoolStatistics>();
+		for (PooledHttpClient pooledHttpClient : CLIENTS.values()) {
+			PoolStats totalStats = pooledHttpClient.connectionManager.getTotalStats();
+			HttpClientPoolStatistics poolStatistics = new HttpClientPoolStatistics();
+			poolStatistics.setProfile(pooledHttpClient.profile.getName());
+			poolStatistics.setSslTrustAllEnabled(pooledHttpClient.trustAll);
+			poolStatistics.setLeased(totalStats.getLeased());
+			poolStatistics.setAvailable(totalStats.getAvailable());
+			poolStatistics.setPending(totalStats.getPending());
+			poolStatistics.setMax(totalStats.getMax());
+			poolStatistics.setRoutes(pooledHttpClient.connectionManager.getRoutes().size());
+			statistics.add(poolStatistics);
+		}
+		return statistics;
+	}
+
+	/**
+	 * Closes all the clients and their connections.
+	 */
+	public static void closeAll() {
+		for (String key : new ArrayList<String>(CLIENTS.keySet())) {
+			close(CLIENTS.remove(key));
+		}
+		for (PooledHttpClient pooledHttpClient : new ArrayList<PooledHttpClient>(RETIRED)) {
+			RETIRED.remove(pooledHttpClient);
+			close(pooledHttpClient);
+		}
+	}
+
+	private static HttpClientProfile createProfile(String name) {
+		HttpClientProfile profile = new HttpClientProfile();
+		profile.setName(name);
+		profile.setMaxTotal(Integer.parseInt(getProfileSetting(name, DIRIGIBLE_HTTP_CLIENT_MAX_TOTAL, "100"))); //$NON-NLS-1$
+		profile.setMaxPerRoute(Integer.parseInt(getProfileSetting(name, DIRIGIBLE_HTTP_CLIENT_MAX_PER_ROUTE, "20"))); //$NON-NLS-1$
+		profile.setKeepAlive(Long.parseLong(getProfileSetting(name, DIRIGIBLE_HTTP_CLIENT_KEEP_ALIVE, "30000"))); //$NON-NLS-1$
+		profile.setIdleTimeout(Long.parseLong(getProfileSetting(name, DIRIGIBLE_HTTP_CLIENT_IDLE_TIMEOUT, "60000"))); //$NON-NLS-1$
+		return profile;
+	}
+
+	private static String getProfileSetting(String name, String key, String defaultValue) {
+		String value = Configuration.get(key, defaultValue);
+		if (!DEFAULT_PROFILE.equals(name)) {
+			String profileKey = DIRIGIBLE_HTTP_CLIENT_PREFIX + name.toUpperCase(Locale.ENGLISH) + "_" //$NON-NLS-1$
+					+ key.substring(DIRIGIBLE_HTTP_CLIENT_PREFIX.length());
+			value = Configuration.get(profileKey, value);
+		}
+		return value;
+	}
+
+	private static void close(PooledHttpClient pooledHttpClient) {
+		if (pooledHttpClient != null) {
+			pooledHttpClient.close();
+		}
+	}
+
+	/**
+	 * Stops handing out the client and closes it right away if it is not in use, otherwise once its requests in flight
+	 * are completed.
+	 */
+	private static void retire(PooledHttpClient pooledHttpClient) {
+		if ((pooledHttpClient == null) || pooledHttpClient.retire()) {
+			return;
+		}
+		RETIRED.add(pooledHttpClient);
+		synchronized (HttpClientRegistry.class) {
+			if (retiredCloser == null) {
+				retiredCloser = Executors.newSingleThreadScheduledExecutor(runnable -> {
+					Thread thread = new Thread(runnable, "dirigible-http-client-closer"); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				});
+				retiredCloser.scheduleWithFixedDelay(HttpClientRegistry::closeRetired, RETIRED_CHECK_PERIOD, RETIRED_CHECK_PERIOD,
+						TimeUnit.MILLISECONDS);
+			}
+		}
+	}
+
+	private static void closeRetired() {
+		for (PooledHttpClient pooledHttpClient : RETIRED) {
+			if (pooledHttpClient.closeIfUnused()) {
+				RETIRED.remove(pooledHttpClient);
+			} else if (System.currentTimeMillis() - pooledHttpClient.retiredAt > RETIRED_CLOSE_TIMEOUT) {
+				logger.warn("Closing the replaced HTTP client of the profile {} with {} connections still leased", pooledHttpClient.profile.getName(),
+						pooledHttpClient.connectionManager.getTotalStats().getLeased());
+				RETIRED.remove(pooledHttpClient);
+				pooledHttpClient.close();
+			}
+		}
+	}
+
+	/**
+	 * A client together with its connection pool.
+	 */
+	private static class PooledHttpClient {
+
+		private final HttpClientProfile profile;
+
+		private final boolean trustAll;
+
+		private final PoolingHttpClientConnectionManager connectionManager;
+
+		private final CloseableHttpClient client;
+
+		/** The client handed out to the callers, counting the requests in flight. */
+		private final SharedHttpClient sharedClient;
+
+		private final AtomicInteger inFlight = new AtomicInteger();
+
+		private volatile boolean retired;
+
+		private volatile long retiredAt;
+
+		private boolean closed;
+
+		PooledHttpClient(HttpClientProfile profile, boolean trustAll) {
+			this.profile = profile;
+			this.trustAll = trustAll;
+			this.connectionManager = new PoolingHttpClientConnectionManager(createSocketFactoryRegistry(trustAll));
+			this.connectionManager.setMaxTotal(profile.getMaxTotal());
+			this.connectionManager.setDefaultMaxPerRoute(profile.getMaxPerRoute());
+
+			long keepAlive = profile.getKeepAlive();
+			ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+				long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+				return duration > 0 ? Math.min(duration, keepAlive) : keepAlive;
+			};
+
+			HttpClientBuilder httpClientBuilder = HttpClients.custom();
+			httpClientBuilder.setConnectionManager(connectionManager);
+			httpClientBuilder.setKeepAliveStrategy(keepAliveStrategy);
+			httpClientBuilder.evictExpiredConnections();
+			httpClientBuilder.evictIdleConnections(profile.getIdleTimeout(), TimeUnit.MILLISECONDS);
+			HttpClientProxyUtils.setProxyIfNeeded(httpClientBuilder);
+			this.client = httpClientBuilder.build();
+			this.sharedClient = new SharedHttpClient(this);
+		}
+
+		/**
+		 * Registers a request in flight, unless the client has been retired.
+		 *
+		 * @return true if the request can be executed by this client
+		 */
+		boolean acquire() {
+			inFlight.incrementAndGet();
+			if (retired) {
+				release();
+				return false;
+			}
+			return true;
+		}
+
+		void release() {
+			if ((inFlight.decrementAndGet() == 0) && retired && closeIfUnused()) {
+				RETIRED.remove(this);
+			}
+		}
+
+		/**
+		 * Marks the client as retired and closes its idle connections.
+		 *
+		 * @return true if the client has been closed, as it is not used any more
+		 */
+		boolean retire() {
+			retiredAt = System.currentTimeMillis();
+			retired = true;
+			connectionManager.closeExpiredConnections();
+			connectionManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+			return closeIfUnused();
+		}
+
+		/**
+		 * Closes the client if no request is in flight and none of its connections is leased.
+		 *
+		 * @return true if the client is closed
+		 */
+		synchronized boolean closeIfUnused() {
+			if (!closed && ((inFlight.get() > 0) || (connectionManager.getTotalStats().getLeased() > 0))) {
+				return false;
+			}
+			close();
+			return true;
+		}
+
+		synchronized void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			try {
+				client.close();
+			} catch (IOException e) {
+				logger.error(e.getMessage(), e);
+			}
+		}
+
+		private static Registry<ConnectionSocketFactory> createSocketFactoryRegistry(boolean trustAll) {
+			SSLConnectionSocketFactory sslSocketFactory = SSLConnectionSocketFactory.getSocketFactory();
+			if (trustAll) {
+				try {
+					SSLContextBuilder sslContextBuilder = new SSLContextBuilder();
+					sslContextBuilder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
+					sslSocketFactory = new SSLConnectionSocketFactory(sslContextBuilder.build(), (hostName, sslSession) -> true);
+				} catch (Exception e) {
+					logger.error("Error occurred when trying to create a TRUST ALL HTTP Client", e);
+				}
+			}
+			return RegistryBuilder.<ConnectionSocketFactory> create().register("http", PlainConnectionSocketFactory.getSocketFactory()) //$NON-NLS-1$
+					.register("https", sslSocketFactory).build(); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * The client handed out to the callers. It cannot be closed by them, and a request reaching it after it has been
+	 * replaced is executed by the client of the profile registered last.
+	 */
+	private static class SharedHttpClient extends CloseableHttpClient {
+
+		private final PooledHttpClient pooledHttpClient;
+
+		SharedHttpClient(PooledHttpClient pooledHttpClient) {
+			this.pooledHttpClient = pooledHttpClient;
+		}
+
+		@Override
+		protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context) throws IOException {
+			if (!pooledHttpClient.acquire()) {
+				SharedHttpClient current = (SharedHttpClient) getHttpClient(pooledHttpClient.profile.getName(), pooledHttpClient.trustAll);
+				return current.doExecute(target, request, context);
+			}
+			try {
+				return pooledHttpClient.client.execute(target, request, context);
+			} finally {
+				pooledHttpClient.release();
+			}
+		}
+
+		@Override
+		public void close() {
+			// shared, closed by the registry only
+		}
+
+		@Override
+		@Deprecated
+		public HttpParams getParams() {
+			return pooledHttpClient.client.getParams();
+		}
+
+		@Override
+		@Deprecated
+		public ClientConnectionManager getConnectionManager() {
+			return pooledHttpClient.client.getConnectionManager();
+		}
+
+	}
+
+}
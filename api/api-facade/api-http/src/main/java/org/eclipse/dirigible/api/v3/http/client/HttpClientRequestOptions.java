@@ -114,6 +114,10 @@ public class HttpClientRequestOptions {
 	// context
 	private JsonObject context;
 
+	/** The profile. */
+	// the name of the pooled client profile
+	private String profile;
+
 	/**
 	 * Checks if is expect continue enabled.
 	 *
@@ -606,4 +610,23 @@ public class HttpClientRequestOptions {
 	public void setContext(JsonObject context) {
 		this.context = context;
 	}
+
+	/**
+	 * Gets the name of the client profile.
+	 *
+	 * @return the profile
+	 */
+	public String getProfile() {
+		return profile;
+	}
+
+	/**
+	 * Sets the name of the client profile.
+	 *
+	 * @param profile
+	 *            the new profile
+	 */
+	public void setProfile(String profile) {
+		this.profile = profile;
+	}
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.api.v3.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.eclipse.dirigible.api.v3.http.client.HttpClientPoolStatistics;
+import org.eclipse.dirigible.api.v3.http.client.HttpClientRegistry;
+import org.eclipse.dirigible.api.v3.http.client.HttpClientResponse;
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * The outbound requests against an in-process server.
+ */
+public class HttpClientFacadeTest {
+
+	private HttpServer server;
+
+	private ExecutorService serverExecutor;
+
+	private String url;
+
+	private final Set<Integer> clientPorts = Collections.synchronizedSet(new HashSet<Integer>());
+
+	private final CountDownLatch slowReceived = new CountDownLatch(1);
+
+	private final CountDownLatch slowReleased = new CountDownLatch(1);
+
+	@Before
+	public void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/hello", exchange -> {
+			clientPorts.add(exchange.getRemoteAddress().getPort());
+			byte[] body = "Hello".getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "text/plain");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(body);
+			}
+		});
+		server.createContext("/slow", exchange -> {
+			slowReceived.countDown();
+			try {
+				slowReleased.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			byte[] body = "Slow".getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "text/plain");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(body);
+			}
+		});
+		serverExecutor = Executors.newCachedThreadPool();
+		server.setExecutor(serverExecutor);
+		server.start();
+		url = "http://localhost:" + server.getAddress().getPort() + "/hello";
+	}
+
+	@After
+	public void tearDown() {
+		HttpClientRegistry.closeAll();
+		server.stop(0);
+		serverExecutor.shutdownNow();
+	}
+
+	@Test
+	public void connectionsAreReused() throws IOException {
+		HttpClientFacade.registerProfile("test", "{\"maxTotal\":5,\"maxPerRoute\":2}");
+		for (int i = 0; i < 10; i++) {
+			String json = HttpClientFacade.get(url, "{\"profile\":\"test\"}");
+			HttpClientResponse response = GsonHelper.GSON.fromJson(json, HttpClientResponse.class);
+			assertEquals(200, response.getStatusCode());
+			assertEquals("Hello", response.getText());
+		}
+		assertEquals(1, clientPorts.size());
+
+		HttpClientPoolStatistics[] statistics = GsonHelper.GSON.fromJson(HttpClientFacade.getStatistics(), HttpClientPoolStatistics[].class);
+		assertEquals(1, statistics.length);
+		assertEquals("test", statistics[0].getProfile());
+		assertEquals(0, statistics[0].getLeased());
+		assertEquals(1, statistics[0].getAvailable());
+		assertEquals(5, statistics[0].getMax());
+	}
+
+	@Test
+	public void defaultProfile() throws IOException {
+		HttpClientFacade.get(url, "{}");
+		HttpClientFacade.get(url, "{}");
+		assertEquals(1, clientPorts.size());
+		assertEquals(HttpClientRegistry.DEFAULT_PROFILE, HttpClientRegistry.getStatistics().get(0).getProfile());
+	}
+
+	@Test
+	public void reregisterProfileDuringRequest() throws Exception {
+		HttpClientFacade.registerProfile("test", "{\"maxTotal\":5}");
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			String slowUrl = url.replace("/hello", "/slow");
+			Future<String> slow = executor.submit(() -> HttpClientFacade.get(slowUrl, "{\"profile\":\"test\"}"));
+			assertTrue(slowReceived.await(10, TimeUnit.SECONDS));
+			CloseableHttpClient previous = HttpClientRegistry.getHttpClient("test", false);
+
+			HttpClientFacade.registerProfile("test", "{\"maxTotal\":7}");
+			slowReleased.countDown();
+
+			HttpClientResponse response = GsonHelper.GSON.fromJson(slow.get(10, TimeUnit.SECONDS), HttpClientResponse.class);
+			assertEquals(200, response.getStatusCode());
+			assertEquals("Slow", response.getText());
+
+			// a client obtained before the replacement is still usable
+			try (CloseableHttpResponse httpResponse = previous.execute(new HttpGet(url))) {
+				assertEquals("Hello", EntityUtils.toString(httpResponse.getEntity()));
+			}
+			HttpClientPoolStatistics[] statistics = GsonHelper.GSON.fromJson(HttpClientFacade.getStatistics(), HttpClientPoolStatistics[].class);
+			assertEquals(1, statistics.length);
+			assertEquals(7, statistics[0].getMax());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
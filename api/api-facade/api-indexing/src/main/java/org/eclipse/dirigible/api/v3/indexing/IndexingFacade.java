@@ -12,17 +12,23 @@
 package org.eclipse.dirigible.api.v3.indexing;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.api.module.StaticInjector;
 import org.eclipse.dirigible.commons.api.scripting.IScriptingFacade;
 import org.eclipse.dirigible.core.indexing.api.IIndexingCoreService;
+import org.eclipse.dirigible.core.indexing.api.IndexingDocument;
 import org.eclipse.dirigible.core.indexing.api.IndexingException;
 import org.eclipse.dirigible.core.indexing.service.IndexingCoreService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
 /**
  * The Class IndexingFacade.
  */
@@ -47,6 +53,29 @@ public class IndexingFacade implements IScriptingFacade {
 		indexingCoreService.add(index, location, contents.getBytes(StandardCharsets.UTF_8), Long.parseLong(lastModified), map);
 	}
 
+	/**
+	 * Adds documents to an index in bulk.
+	 *
+	 * @param index the index
+	 * @param documents the documents as JSON array of objects with location, contents, lastModified and parameters
+	 * @throws IndexingException the indexing exception
+	 */
+	public static final void addAll(String index, String documents) throws IndexingException {
+		List<IndexingDocument> indexingDocuments = new ArrayList<IndexingDocument>();
+		for (JsonElement element : GsonHelper.PARSER.parse(documents).getAsJsonArray()) {
+			JsonObject document = element.getAsJsonObject();
+			IndexingDocument indexingDocument = new IndexingDocument();
+			indexingDocument.setLocation(document.get("location").getAsString());
+			indexingDocument.setContents(document.get("contents").getAsString().getBytes(StandardCharsets.UTF_8));
+			indexingDocument.setLastModified(document.has("lastModified") ? document.get("lastModified").getAsLong() : System.currentTimeMillis());
+			if (document.has("parameters")) {
+				indexingDocument.setParameters(GsonHelper.GSON.fromJson(document.get("parameters"), Map.class));
+			}
+			indexingDocuments.add(indexingDocument);
+		}
+		indexingCoreService.addAll(index, indexingDocuments);
+	}
+
 	/**
 	 * Search an index by term.
 	 *
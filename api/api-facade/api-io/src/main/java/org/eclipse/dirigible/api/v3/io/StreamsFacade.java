@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import org.apache.commons.io.IOUtils;
 import org.eclipse.dirigible.commons.api.helpers.BytesHelper;
@@ -46,6 +47,22 @@ public class StreamsFacade {
 		return IOUtils.toByteArray(input);
 	}
 
+	/**
+	 * Read the next chunk of the provided {@link InputStream} as byte array
+	 * @param input the input stream to read from
+	 * @param length the maximum number of bytes to read
+	 * @return the bytes read, which can be less than the requested length, or null if end of stream is reached
+	 * @throws IOException in case of failure in underlying layer
+	 */
+	public static final byte[] readBytes(InputStream input, int length) throws IOException {
+		byte[] buffer = new byte[length];
+		int count = input.read(buffer, 0, length);
+		if (count < 0) {
+			return null;
+		}
+		return count == length ? buffer : Arrays.copyOf(buffer, count);
+	}
+
 	/**
 	 * Read the content of the {@link InputStream} as UTF-8 text
 	 * @param input the input stream to read from
@@ -86,6 +103,16 @@ public class StreamsFacade {
 		output.write(bytes);
 	}
 
+	/**
+	 * Write byte array to the provided {@link OutputStream}
+	 * @param output the output stream to write to
+	 * @param input the bytes to write
+	 * @throws IOException in case of failure in underlying layer
+	 */
+	public static final void writeBytes(OutputStream output, byte[] input) throws IOException {
+		output.write(input);
+	}
+
 	/**
 	 * Write text to the provided {@link OutputStream} using UTF-8 encoding
 	 * @param output the output stream to write to
@@ -96,6 +123,15 @@ public class StreamsFacade {
 		output.write(value.getBytes(StandardCharsets.UTF_8));
 	}
 
+	/**
+	 * Flush the provided {@link OutputStream}, so that the data written so far is sent to its destination
+	 * @param output the output stream to flush
+	 * @throws IOException in case of failure in underlying layer
+	 */
+	public static final void flush(OutputStream output) throws IOException {
+		output.flush();
+	}
+
 	/**
 	 * Close the provided {@link OutputStream}
 	 * @param output the output stream that is to be closed
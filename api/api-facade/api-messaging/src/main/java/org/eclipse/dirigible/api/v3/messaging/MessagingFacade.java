@@ -13,8 +13,9 @@ package org.eclipse.dirigible.api.v3.messaging;
 
 import org.eclipse.dirigible.commons.api.scripting.IScriptingFacade;
 import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
+import org.eclipse.dirigible.core.messaging.api.MessagingException;
 import org.eclipse.dirigible.core.messaging.service.MessagingConsumer;
-import org.eclipse.dirigible.core.messaging.service.MessagingProducer;
+import org.eclipse.dirigible.core.messaging.service.MessagingProducerPool;
 
 /**
  * The Class MessagingFacade.
@@ -26,10 +27,22 @@ public class MessagingFacade implements IScriptingFacade {
 	 *
 	 * @param destination the destination
 	 * @param message the message
+	 * @throws MessagingException in case of an error
 	 */
-	public static final void sendToQueue(String destination, String message) {
-		MessagingProducer producer = new MessagingProducer(destination, IMessagingCoreService.QUEUE, message);
-		new Thread(producer).start();
+	public static final void sendToQueue(String destination, String message) throws MessagingException {
+		sendToQueue(destination, message, true);
+	}
+
+	/**
+	 * Send a message to queue.
+	 *
+	 * @param destination the destination
+	 * @param message the message
+	 * @param persistent whether the message is stored by the broker until it is delivered
+	 * @throws MessagingException in case of an error
+	 */
+	public static final void sendToQueue(String destination, String message, boolean persistent) throws MessagingException {
+		MessagingProducerPool.send(destination, IMessagingCoreService.QUEUE, message, persistent);
 	}
 	
 	/**
@@ -37,10 +50,22 @@ public class MessagingFacade implements IScriptingFacade {
 	 *
 	 * @param destination the destination
 	 * @param message the message
+	 * @throws MessagingException in case of an error
+	 */
+	public static final void sendToTopic(String destination, String message) throws MessagingException {
+		sendToTopic(destination, message, true);
+	}
+
+	/**
+	 * Send a message to topic.
+	 *
+	 * @param destination the destination
+	 * @param message the message
+	 * @param persistent whether the message is stored by the broker until it is delivered, false for fire-and-forget
+	 * @throws MessagingException in case of an error
 	 */
-	public static final void sendToTopic(String destination, String message) {
-		MessagingProducer producer = new MessagingProducer(destination, IMessagingCoreService.TOPIC, message);
-		new Thread(producer).start();
+	public static final void sendToTopic(String destination, String message, boolean persistent) throws MessagingException {
+		MessagingProducerPool.send(destination, IMessagingCoreService.TOPIC, message, persistent);
 	}
 	
 	/**
@@ -92,6 +92,8 @@ public abstract class AbstractApiSuiteTest extends AbstractGuiceTest {
 	}
 
 	private void registerModulesIoV4() {
+		TEST_MODULES.add("io/v4/bytes/typedArrays.js");
+		TEST_MODULES.add("io/v4/streams/chunks.js");
 		TEST_MODULES.add("io/v4/streams/copy.js");
 		TEST_MODULES.add("io/v4/streams/text.js");
 		TEST_MODULES.add("io/v4/files/createTempFile.js");
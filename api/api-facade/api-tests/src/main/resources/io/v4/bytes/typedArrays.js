@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+var bytes = require('io/v4/bytes');
+var streams = require('io/v4/streams');
+
+var native = bytes.toJavaBytes(new Uint8Array([1, 2, 200]));
+var typed = bytes.toJavaScriptTypedArray(native);
+var array = bytes.toJavaScriptBytes(native);
+
+var bais = streams.createByteArrayInputStream(new Uint8Array([61, 62, 63]));
+var baos = streams.createByteArrayOutputStream();
+streams.copy(bais, baos);
+var copied = bytes.toJavaScriptTypedArray(baos.getBytesNative());
+
+typed.length === 3 && typed[2] === 200 && array[2] === -56 && copied[1] === 62;
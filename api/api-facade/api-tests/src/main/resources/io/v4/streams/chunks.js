@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+var streams = require('io/v4/streams');
+
+var input = streams.createByteArrayInputStream([1, 2, 3, 4, 5]);
+var output = streams.createByteArrayOutputStream();
+var lengths = [];
+var chunk;
+while ((chunk = input.readBytes(2)) !== null) {
+	lengths.push(chunk.length);
+	output.writeBytes(chunk);
+	output.flush();
+}
+input.close();
+
+var piped = streams.createByteArrayOutputStream();
+streams.createByteArrayInputStream([6, 7]).pipe(piped);
+
+var result = output.getBytes();
+var pipedResult = piped.getBytes();
+
+lengths.join() === "2,2,1" && result.length === 5 && result[4] === 5 && pipedResult[1] === 7;
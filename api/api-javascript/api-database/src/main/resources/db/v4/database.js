@@ -16,6 +16,7 @@
  */
 
 var bytes = require('io/v4/bytes');
+var streams = require('io/v4/streams');
 
 exports.getDatabaseTypes = function() {
 	var types = org.eclipse.dirigible.api.v3.db.DatabaseFacade.getDatabaseTypes();
@@ -268,6 +269,21 @@ function PreparedStatement(internalStatement) {
 		}
 	};
 
+	/**
+	 * Sets the value from an io/v4/streams InputStream, read by the driver on execution instead of being loaded in memory
+	 */
+	this.setBinaryStream = function(index, inputStream, length) {
+		if(inputStream!==null && inputStream!==undefined) {
+			if (length !== undefined && length !== null) {
+				this.native.setBinaryStream(index, inputStream.native, length);
+			} else {
+				this.native.setBinaryStream(index, inputStream.native);
+			}
+		} else {
+			this.setNull(index, this.SQLTypes.BLOB);
+		}
+	};
+
 	this.setDate = function(index, value) {
 		if(value!==null && value!==undefined) {
 			var dateInstance = new java.sql.Date(value.getTime());
@@ -690,6 +706,17 @@ function ResultSet(internalResultset) {
 		var data = this.native.getBytes(identifier);
 		return bytes.toJavaScriptBytes(data);
 	};
+
+	/**
+	 * Returns the value as an io/v4/streams InputStream, or null for a SQL NULL
+	 */
+	this.getBinaryStream = function(identifier) {
+		var native = this.native.getBinaryStream(identifier);
+		if (native === null) {
+			return null;
+		}
+		return streams.createInputStream(native);
+	};
 	
 	this.getClob = function(identifier) {
 		return this.native.getClob(identifier);
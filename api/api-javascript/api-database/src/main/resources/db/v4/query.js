@@ -36,3 +36,42 @@ exports.execute = function(sql, parameters, databaseType, datasourceName) {
 	}
 	return resultset;
 };
+
+exports.cursor = function(sql, parameters, databaseType, datasourceName) {
+	var params = parameters ? JSON.stringify(parameters) : null;
+	var native = org.eclipse.dirigible.api.v3.db.DatabaseFacade.cursor(sql, params, databaseType ? databaseType : null, datasourceName ? datasourceName : null);
+	return new Cursor(native);
+};
+
+/**
+ * Cursor object, which reads the records of a query in batches
+ */
+function Cursor(native) {
+
+	this.native = native;
+
+	this.hasNext = function() {
+		return this.native.hasNext();
+	};
+
+	this.next = function(batchSize) {
+		return JSON.parse(this.native.next(batchSize ? batchSize : 100));
+	};
+
+	this.forEach = function(callback, batchSize) {
+		try {
+			while (this.hasNext()) {
+				var records = this.next(batchSize);
+				for (var i = 0; i < records.length; i++) {
+					callback(records[i]);
+				}
+			}
+		} finally {
+			this.close();
+		}
+	};
+
+	this.close = function() {
+		this.native.close();
+	};
+}
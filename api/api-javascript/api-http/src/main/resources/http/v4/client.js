@@ -92,6 +92,19 @@ exports.trace = function(url, options) {
 	return JSON.parse(result);
 };
 
+exports.registerProfile = function(name, profile) {
+	var opts = '{}';
+	if (profile) {
+		opts = JSON.stringify(profile);
+	}
+	org.eclipse.dirigible.api.v3.http.HttpClientFacade.registerProfile(name, opts);
+};
+
+exports.getStatistics = function() {
+	var result = org.eclipse.dirigible.api.v3.http.HttpClientFacade.getStatistics();
+	return JSON.parse(result);
+};
+
 function buildUrl(url, options) {
 	if (options === undefined || options === null || options.params === undefined || options.params === null || options.params.length === 0) {
 		return url;
@@ -10,6 +10,7 @@
  * SPDX-License-Identifier: EPL-2.0
  */
 var streams = require("io/v4/streams");
+var bytes = require("io/v4/bytes");
 
 exports.isValid = function() {
 	return org.eclipse.dirigible.api.v3.http.HttpRequestFacade.isValid();
@@ -81,10 +82,12 @@ exports.getContentType = function() {
 };
 
 exports.getBytes = function() {
-	var bytesJson;
-	bytesJson = org.eclipse.dirigible.api.v3.http.HttpRequestFacade.getBytes();
-	var bytes = JSON.parse(bytesJson);
-	return bytes;
+	var native = org.eclipse.dirigible.api.v3.http.HttpRequestFacade.getBytesNative();
+	return bytes.toJavaScriptBytes(native);
+};
+
+exports.getBytesNative = function() {
+	return org.eclipse.dirigible.api.v3.http.HttpRequestFacade.getBytesNative();
 };
 
 var getText = exports.getText = function() {
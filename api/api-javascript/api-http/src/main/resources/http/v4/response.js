@@ -40,6 +40,9 @@ exports.println = function(text) {
 
 exports.write = function(bytes) {
 	if (!bytes) bytes += "";
+	if (typeof bytes !== "string") {
+		bytes = require("io/v4/bytes").toJavaBytes(bytes);
+	}
 	org.eclipse.dirigible.api.v3.http.HttpResponseFacade.write(bytes);
 };
 
@@ -55,6 +58,15 @@ exports.flush = function() {
 	org.eclipse.dirigible.api.v3.http.HttpResponseFacade.flush();
 };
 
+/**
+ * Streams the content of an io/v4/streams InputStream, e.g. of a file, a repository resource or a BLOB,
+ * into the response body in chunks and closes it
+ */
+exports.pipe = function(inputStream) {
+	inputStream.pipe(exports.getOutputStream());
+	exports.flush();
+};
+
 exports.close = function() {
 	org.eclipse.dirigible.api.v3.http.HttpResponseFacade.close();
 };
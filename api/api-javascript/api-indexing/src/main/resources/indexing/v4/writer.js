@@ -25,3 +25,16 @@ exports.add = function(index, location, contents, lastModified, parameters) {
 	}
 	org.eclipse.dirigible.api.v3.indexing.IndexingFacade.add(index, location, contents, '' + lastModified.getTime(), map);
 };
+
+exports.addAll = function(index, documents) {
+	var list = documents.map(function(document) {
+		var lastModified = document.lastModified ? document.lastModified : new Date();
+		return {
+			"location": document.location,
+			"contents": document.contents,
+			"lastModified": lastModified.getTime(),
+			"parameters": document.parameters ? document.parameters : {}
+		};
+	});
+	org.eclipse.dirigible.api.v3.indexing.IndexingFacade.addAll(index, JSON.stringify(list));
+};
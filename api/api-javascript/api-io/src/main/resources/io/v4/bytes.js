@@ -12,13 +12,46 @@
 /**
  * API v4 Bytes
  * 
- * Bytes module is supported only with the Mozilla Rhino engine
+ * The binary data is exchanged with Java in bulk where the engine allows it - with GraalVM the typed arrays share the
+ * memory of the Java byte arrays, with GraalVM and Nashorn the arrays are converted by the engine itself. Otherwise the
+ * bytes are copied one by one.
  */
 
+var isGraalVM = function() {
+	return (typeof __engine !== "undefined") && (__engine === "graalvm");
+};
+
+var hasJavaConversions = function() {
+	return (typeof Java !== "undefined") && (typeof Java.to === "function") && (typeof Java.from === "function");
+};
+
+var isJavaObject = function(object) {
+	return (typeof Java !== "undefined") && (typeof Java.isJavaObject === "function") && Java.isJavaObject(object);
+};
+
+var isTypedArray = function(data) {
+	return (typeof ArrayBuffer !== "undefined") && ((data instanceof ArrayBuffer) || ArrayBuffer.isView(data));
+};
+
 /**
- * Convert the native JavaScript byte array to Java one. To be used internally by the API layer
+ * Convert the native JavaScript byte array, typed array or ArrayBuffer to Java one. To be used internally by the API layer
  */
 exports.toJavaBytes = function(bytes) {
+	if (isJavaObject(bytes)) {
+		return bytes;
+	}
+	if (isGraalVM() && isTypedArray(bytes)) {
+		var view = (bytes instanceof ArrayBuffer) ? new Int8Array(bytes) : new Int8Array(bytes.buffer, bytes.byteOffset, bytes.byteLength);
+		var buffer = java.nio.ByteBuffer.allocate(view.length);
+		new Int8Array(new ArrayBuffer(buffer)).set(view);
+		return buffer.array();
+	}
+	if (hasJavaConversions() && !isTypedArray(bytes)) {
+		return Java.to(bytes, "byte[]");
+	}
+	if (bytes instanceof ArrayBuffer) {
+		bytes = new Int8Array(bytes);
+	}
 	var internalBytes = java.lang.reflect.Array.newInstance(java.lang.Byte.TYPE, bytes.length);
 	for (var i=0; i<bytes.length; i++) {
 		internalBytes[i] = bytes[i];
@@ -30,6 +63,9 @@ exports.toJavaBytes = function(bytes) {
  * Convert the Java byte array to a native JavaScript one. To be used internally by the API layer
  */
 exports.toJavaScriptBytes = function(internalBytes) {
+	if (hasJavaConversions() && isJavaObject(internalBytes)) {
+		return Java.from(internalBytes);
+	}
 	var bytes = [];
 	for (var i=0; i<internalBytes.length; i++) {
 		bytes.push(internalBytes[i]);
@@ -37,6 +73,18 @@ exports.toJavaScriptBytes = function(internalBytes) {
 	return bytes;
 };
 
+/**
+ * Convert the Java byte array to a Uint8Array. With GraalVM the typed array shares the memory of the Java byte array
+ * without copying it, so the changes made on either side are visible on the other. Note that the values are unsigned,
+ * in contrast to the ones returned by toJavaScriptBytes
+ */
+exports.toJavaScriptTypedArray = function(internalBytes) {
+	if (isGraalVM()) {
+		return new Uint8Array(new ArrayBuffer(java.nio.ByteBuffer.wrap(internalBytes)));
+	}
+	return new Uint8Array(exports.toJavaScriptBytes(internalBytes));
+};
+
 /**
  * Converts a text to a byte array
  */
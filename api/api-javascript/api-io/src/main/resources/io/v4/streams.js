@@ -21,14 +21,26 @@ exports.InputStream = function() {
 		return value;
 	};
 	
-	this.readBytes = function() {
-		var native = org.eclipse.dirigible.api.v3.io.StreamsFacade.readBytes(this.native);
+	/**
+	 * Reads the whole content, or only the next chunk of at most length bytes if a length is given.
+	 * A chunked read returns null when the end of the stream is reached.
+	 */
+	this.readBytes = function(length) {
+		var native = this.readBytesNative(length);
+		if (native === null) {
+			return null;
+		}
 		var data = bytes.toJavaScriptBytes(native);
 		return data;
 	};
 	
-	this.readBytesNative = function() {
-		var native = org.eclipse.dirigible.api.v3.io.StreamsFacade.readBytes(this.native);
+	this.readBytesNative = function(length) {
+		var native;
+		if (length === undefined || length === null) {
+			native = org.eclipse.dirigible.api.v3.io.StreamsFacade.readBytes(this.native);
+		} else {
+			native = org.eclipse.dirigible.api.v3.io.StreamsFacade.readBytes(this.native, length);
+		}
 		return native;
 	};
 	
@@ -41,6 +53,17 @@ exports.InputStream = function() {
 		org.eclipse.dirigible.api.v3.io.StreamsFacade.close(this.native);
 	};
 	
+	/**
+	 * Copies the remaining content into the output stream with a fixed size buffer and closes this stream
+	 */
+	this.pipe = function(output) {
+		try {
+			org.eclipse.dirigible.api.v3.io.StreamsFacade.copyLarge(this.native, output.native);
+		} finally {
+			this.close();
+		}
+	};
+	
 	this.isValid = function() {
 		return this.native !== null;
 	};
@@ -69,6 +92,10 @@ exports.OutputStream = function() {
 		org.eclipse.dirigible.api.v3.io.StreamsFacade.writeText(this.native, text);
 	};
 
+	this.flush = function() {
+		org.eclipse.dirigible.api.v3.io.StreamsFacade.flush(this.native);
+	};
+
 	this.close = function() {
 		org.eclipse.dirigible.api.v3.io.StreamsFacade.close(this.native);
 	};
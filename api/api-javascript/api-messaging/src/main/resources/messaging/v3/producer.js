@@ -24,14 +24,14 @@ exports.topic = function(destination) {
 };
 
 function Queue() {
-	this.send = function(message) {
-		java.call('org.eclipse.dirigible.api.v3.messaging.MessagingFacade', 'sendToQueue', [this.destination, message]);
+	this.send = function(message, persistent) {
+		java.call('org.eclipse.dirigible.api.v3.messaging.MessagingFacade', 'sendToQueue', [this.destination, message, persistent !== false]);
 	}
 };
 
 function Topic() {
-	this.send = function(message) {
-		java.call('org.eclipse.dirigible.api.v3.messaging.MessagingFacade', 'sendToTopic', [this.destination, message]);
+	this.send = function(message, persistent) {
+		java.call('org.eclipse.dirigible.api.v3.messaging.MessagingFacade', 'sendToTopic', [this.destination, message, persistent !== false]);
 	}
 };
 
@@ -27,14 +27,18 @@ exports.topic = function(destination) {
 	return topic;
 };
 
+/**
+ * The message is sent asynchronously. Pass persistent false for a message, which
+ * does not have to survive a restart of the broker.
+ */
 function Queue() {
-	this.send = function(message) {
-		org.eclipse.dirigible.api.v3.messaging.MessagingFacade.sendToQueue(this.destination, message);
+	this.send = function(message, persistent) {
+		org.eclipse.dirigible.api.v3.messaging.MessagingFacade.sendToQueue(this.destination, message, persistent !== false);
 	};
 }
 
 function Topic() {
-	this.send = function(message) {
-		org.eclipse.dirigible.api.v3.messaging.MessagingFacade.sendToTopic(this.destination, message);
+	this.send = function(message, persistent) {
+		org.eclipse.dirigible.api.v3.messaging.MessagingFacade.sendToTopic(this.destination, message, persistent !== false);
 	};
 }
@@ -10,6 +10,7 @@
  * SPDX-License-Identifier: EPL-2.0
  */
 var bytes = require("io/v4/bytes");
+var streams = require("io/v4/streams");
 
 exports.getResource = function(path) {
 	var resourceInstance = org.eclipse.dirigible.api.v3.platform.RepositoryFacade.getResource(path);
@@ -118,6 +119,17 @@ function Resource() {
 		return this.native.getContent();
 	};
 
+	/**
+	 * Opens the content as an io/v4/streams InputStream, to be read in chunks or piped and closed by the caller
+	 */
+	this.getInputStream = function() {
+		var native = this.native.getContentAsStream();
+		if (native === null) {
+			return null;
+		}
+		return streams.createInputStream(native);
+	};
+
 	this.setContent = function(content) {
 		this.native.setContent(content);
 	};
@@ -105,6 +105,7 @@ public class GitProcessor {
 	 */
 	public void clone(String workspace, GitCloneModel model) throws GitConnectorException {
 		cloneCommand.execute(model.getRepository(), model.getBranch(), model.getUsername(), getPassword(model), workspace, model.isPublish(), model.getProjectName());
+		WorkspaceGitHelper.clearGitAware();
 	}
 
 	/**
@@ -163,6 +164,7 @@ public class GitProcessor {
 			}
 
 			FileUtils.deleteDirectory(gitRepository);
+			WorkspaceGitHelper.clearGitAware();
 		} catch (IOException e) {
 			throw new GitConnectorException("Unable to delete Git repository [" + repositoryName + "]", e);
 		}
@@ -180,6 +182,7 @@ public class GitProcessor {
 		IProject project = getProject(workspaceApi, model.getProject());
 		shareCommand.execute(workspaceApi, project, model.getRepository(), model.getBranch(), model.getCommitMessage(), model.getUsername(),
 				getPassword(model), model.getEmail());
+		WorkspaceGitHelper.clearGitAware();
 	}
 	
 	/**
@@ -39,6 +39,7 @@ import org.eclipse.dirigible.core.workspace.json.FolderDescriptor;
 import org.eclipse.dirigible.core.workspace.json.ProjectDescriptor;
 import org.eclipse.dirigible.core.workspace.json.WorkspaceDescriptor;
 import org.eclipse.dirigible.core.workspace.json.WorkspaceJsonHelper;
+import org.eclipse.dirigible.core.workspace.json.WorkspaceTreeHelper;
 import org.eclipse.dirigible.core.workspace.service.WorkspacesCoreService;
 import org.eclipse.dirigible.engine.api.script.ScriptEngineExecutorsManager;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
@@ -446,6 +447,60 @@ public class WorkspaceProcessor {
 				"");
 	}
 
+	/**
+	 * Render workspace tree down to the given depth and page by page.
+	 *
+	 * @param workspace
+	 *            the workspace
+	 * @param depth
+	 *            the number of the levels to be loaded
+	 * @param offset
+	 *            the index of the first project
+	 * @param limit
+	 *            the maximum number of the children per level, 0 for the configured page size
+	 * @return the workspace descriptor
+	 */
+	public WorkspaceDescriptor renderWorkspaceTree(IWorkspace workspace, int depth, int offset, int limit) {
+		return WorkspaceTreeHelper.describeWorkspace(workspace,
+				IRepositoryStructure.PATH_USERS + IRepositoryStructure.SEPARATOR + UserFacade.getName(), "", depth, offset, limit);
+	}
+
+	/**
+	 * Render project tree down to the given depth and page by page.
+	 *
+	 * @param project
+	 *            the project
+	 * @param depth
+	 *            the number of the levels to be loaded
+	 * @param offset
+	 *            the index of the first child
+	 * @param limit
+	 *            the maximum number of the children per folder, 0 for the configured page size
+	 * @return the project descriptor
+	 */
+	public ProjectDescriptor renderProjectTree(IProject project, int depth, int offset, int limit) {
+		return WorkspaceTreeHelper.describeProject(project, IRepositoryStructure.PATH_USERS + IRepositoryStructure.SEPARATOR + UserFacade.getName(),
+				"", depth, offset, limit);
+	}
+
+	/**
+	 * Render folder tree down to the given depth and page by page.
+	 *
+	 * @param folder
+	 *            the folder
+	 * @param depth
+	 *            the number of the levels to be loaded
+	 * @param offset
+	 *            the index of the first child
+	 * @param limit
+	 *            the maximum number of the children per folder, 0 for the configured page size
+	 * @return the folder descriptor
+	 */
+	public FolderDescriptor renderFolderTree(IFolder folder, int depth, int offset, int limit) {
+		return WorkspaceTreeHelper.describeFolder(folder, IRepositoryStructure.PATH_USERS + IRepositoryStructure.SEPARATOR + UserFacade.getName(),
+				"", depth, offset, limit);
+	}
+
 	/**
 	 * Render file description.
 	 *
@@ -31,6 +31,7 @@ import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 
@@ -112,13 +113,20 @@ public class WorkspaceRestService extends AbstractRestService implements IRestSe
 	 *
 	 * @param workspace
 	 *            the workspace
+	 * @param depth
+	 *            the number of the levels to be loaded, the whole tree if not set
+	 * @param offset
+	 *            the index of the first project
+	 * @param limit
+	 *            the maximum number of the children per level
 	 * @param request
 	 *            the request
 	 * @return the workspace
 	 */
 	@GET
 	@Path("{workspace}")
-	public Response getWorkspace(@PathParam("workspace") String workspace, @Context HttpServletRequest request) {
+	public Response getWorkspace(@PathParam("workspace") String workspace, @QueryParam("depth") Integer depth, @QueryParam("offset") Integer offset,
+			@QueryParam("limit") Integer limit, @Context HttpServletRequest request) {
 		String user = UserFacade.getName();
 		if (user == null) {
 			return createErrorResponseForbidden(NO_LOGGED_IN_USER);
@@ -133,6 +141,10 @@ public class WorkspaceRestService extends AbstractRestService implements IRestSe
 		if (!workspaceObject.exists()) {
 			return createErrorResponseNotFound(workspace);
 		}
+		if (depth != null) {
+			return Response.ok().entity(processor.renderWorkspaceTree(workspaceObject, depth, valueOf(offset), valueOf(limit)))
+					.type(ContentTypeHelper.APPLICATION_JSON).build();
+		}
 		return Response.ok().entity(processor.renderWorkspaceTree(workspaceObject)).type(ContentTypeHelper.APPLICATION_JSON).build();
 	}
 
@@ -201,13 +213,20 @@ public class WorkspaceRestService extends AbstractRestService implements IRestSe
 	 *            the workspace
 	 * @param project
 	 *            the project
+	 * @param depth
+	 *            the number of the levels to be loaded, the whole tree if not set
+	 * @param offset
+	 *            the index of the first child
+	 * @param limit
+	 *            the maximum number of the children per folder
 	 * @param request
 	 *            the request
 	 * @return the project
 	 */
 	@GET
 	@Path("{workspace}/{project}")
-	public Response getProject(@PathParam("workspace") String workspace, @PathParam("project") String project, @Context HttpServletRequest request) {
+	public Response getProject(@PathParam("workspace") String workspace, @PathParam("project") String project, @QueryParam("depth") Integer depth,
+			@QueryParam("offset") Integer offset, @QueryParam("limit") Integer limit, @Context HttpServletRequest request) {
 		String user = UserFacade.getName();
 		if (user == null) {
 			return createErrorResponseForbidden(NO_LOGGED_IN_USER);
@@ -227,6 +246,10 @@ public class WorkspaceRestService extends AbstractRestService implements IRestSe
 		if (!projectObject.exists()) {
 			return createErrorResponseNotFound(project);
 		}
+		if (depth != null) {
+			return Response.ok().entity(processor.renderProjectTree(projectObject, depth, valueOf(offset), valueOf(limit)))
+					.type(ContentTypeHelper.APPLICATION_JSON).build();
+		}
 		return Response.ok().entity(processor.renderProjectTree(projectObject)).type(ContentTypeHelper.APPLICATION_JSON).build();
 	}
 
@@ -314,6 +337,12 @@ public class WorkspaceRestService extends AbstractRestService implements IRestSe
 	 *            the project
 	 * @param path
 	 *            the path
+	 * @param depth
+	 *            the number of the levels to be loaded for a folder, the whole tree if not set
+	 * @param offset
+	 *            the index of the first child of a folder
+	 * @param limit
+	 *            the maximum number of the children per folder
 	 * @param request
 	 *            the request
 	 * @return the file
@@ -321,6 +350,7 @@ public class WorkspaceRestService extends AbstractRestService implements IRestSe
 	@GET
 	@Path("{workspace}/{project}/{path:.*}")
 	public Response getFile(@PathParam("workspace") String workspace, @PathParam("project") String project, @PathParam("path") String path,
+			@QueryParam("depth") Integer depth, @QueryParam("offset") Integer offset, @QueryParam("limit") Integer limit,
 			@Context HttpServletRequest request) {
 		String user = UserFacade.getName();
 		if (user == null) {
@@ -343,6 +373,10 @@ public class WorkspaceRestService extends AbstractRestService implements IRestSe
 			if (!folder.exists()) {
 				return createErrorResponseNotFound(path);
 			}
+			if (depth != null) {
+				return Response.ok().entity(processor.renderFolderTree(folder, depth, valueOf(offset), valueOf(limit)))
+						.type(ContentTypeHelper.APPLICATION_JSON).build();
+			}
 			return Response.ok().entity(processor.renderFolderTree(folder)).type(ContentTypeHelper.APPLICATION_JSON).build();
 		}
 		String headerContentType = request.getHeader("describe");
@@ -569,4 +603,8 @@ public class WorkspaceRestService extends AbstractRestService implements IRestSe
 		return logger;
 	}
 
+	private static int valueOf(Integer value) {
+		return value != null ? value : 0;
+	}
+
 }
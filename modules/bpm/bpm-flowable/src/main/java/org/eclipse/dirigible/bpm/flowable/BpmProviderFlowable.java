@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntConsumer;
 
 import javax.inject.Inject;
 import javax.sql.DataSource;
@@ -63,6 +64,13 @@ public class BpmProviderFlowable implements IBpmProvider {
 	private static final String DIRIGIBLE_FLOWABLE_DATABASE_DATASOURCE_NAME = "DIRIGIBLE_FLOWABLE_DATABASE_DATASOURCE_NAME";
 	private static final String DIRIGIBLE_FLOWABLE_DATABASE_SCHEMA_UPDATE = "DIRIGIBLE_FLOWABLE_DATABASE_SCHEMA_UPDATE";
 	private static final String DIRIGIBLE_FLOWABLE_USE_DEFAULT_DATABASE = "DIRIGIBLE_FLOWABLE_USE_DEFAULT_DATABASE";
+	private static final String DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_ACTIVATE = "DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_ACTIVATE";
+	private static final String DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_CORE_POOL_SIZE = "DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_CORE_POOL_SIZE";
+	private static final String DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_MAX_POOL_SIZE = "DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_MAX_POOL_SIZE";
+	private static final String DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_QUEUE_SIZE = "DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_QUEUE_SIZE";
+	private static final String DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_ACQUISITION_SIZE = "DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_ACQUISITION_SIZE";
+	private static final String DIRIGIBLE_FLOWABLE_ID_BLOCK_SIZE = "DIRIGIBLE_FLOWABLE_ID_BLOCK_SIZE";
+	private static final String DIRIGIBLE_FLOWABLE_PROCESS_DEFINITION_CACHE_SIZE = "DIRIGIBLE_FLOWABLE_PROCESS_DEFINITION_CACHE_SIZE";
 	
 
 	/** The Constant NAME. */
@@ -71,7 +79,8 @@ public class BpmProviderFlowable implements IBpmProvider {
 	/** The Constant TYPE. */
 	public static final String TYPE = "internal"; //$NON-NLS-1$
 
-	private static ProcessEngine processEngine;
+	/** Written once under the lock and read without it afterwards. */
+	private static volatile ProcessEngine processEngine;
 
 	@Inject
 	private static IDatabase database;
@@ -95,52 +104,90 @@ public class BpmProviderFlowable implements IBpmProvider {
 
 	@Override
 	public ProcessEngine getProcessEngine() {
-		synchronized (BpmProviderFlowable.class) {
-			if (processEngine == null) {
-				logger.info("Initializng the Flowable Process Engine...");
-				if (database == null)
-					database = StaticInjector.getInjector().getInstance(IDatabase.class);
-				if (repository == null)
-					repository = StaticInjector.getInjector().getInstance(IRepository.class);
-				ProcessEngineConfiguration cfg = null;
-				String dataSourceName = Configuration.get(DIRIGIBLE_FLOWABLE_DATABASE_DATASOURCE_NAME);
-				if (dataSourceName != null) {
-					logger.info("Initializng the Flowable Process Engine with JNDI datasource name");
-					cfg = new StandaloneProcessEngineConfiguration().setDataSourceJndiName(dataSourceName);
-				} else {
-					String driver = Configuration.get(DIRIGIBLE_FLOWABLE_DATABASE_DRIVER);
-					String url = Configuration.get(DIRIGIBLE_FLOWABLE_DATABASE_URL);
-					String user = Configuration.get(DIRIGIBLE_FLOWABLE_DATABASE_USER);
-					String password = Configuration.get(DIRIGIBLE_FLOWABLE_DATABASE_PASSWORD);
+		ProcessEngine engine = processEngine;
+		if (engine == null) {
+			synchronized (BpmProviderFlowable.class) {
+				engine = processEngine;
+				if (engine == null) {
+					engine = buildProcessEngine();
+					processEngine = engine;
+				}
+			}
+		}
+		return engine;
+	}
 
-					if (driver != null && url != null) {
-						logger.info("Initializng the Flowable Process Engine with environment variables datasource parameters");
-						cfg = new StandaloneProcessEngineConfiguration().setJdbcUrl(url).setJdbcUsername(user)
-								.setJdbcPassword(password).setJdbcDriver(driver);
-					} else {
-						String useDefault = Configuration.get(DIRIGIBLE_FLOWABLE_USE_DEFAULT_DATABASE, "true");
-						if (Boolean.parseBoolean(useDefault)) {
-							logger.info("Initializng the Flowable Process Engine with the default datasource");
-							cfg = new StandaloneProcessEngineConfiguration().setDataSource(database.getDataSource());
-						} else {
-							H2Database h2Database = new H2Database();
-							h2Database.initialize();
-							DataSource flowableDataSource = h2Database.getDataSource("flowable");
-							logger.info("Initializng the Flowable Process Engine with the built-in H2 datasource");
-							cfg = new StandaloneProcessEngineConfiguration().setDataSource(flowableDataSource);
-						}
-					}
+	private static ProcessEngine buildProcessEngine() {
+		logger.info("Initializng the Flowable Process Engine...");
+		if (database == null)
+			database = StaticInjector.getInjector().getInstance(IDatabase.class);
+		if (repository == null)
+			repository = StaticInjector.getInjector().getInstance(IRepository.class);
+		StandaloneProcessEngineConfiguration cfg = new StandaloneProcessEngineConfiguration();
+		String dataSourceName = Configuration.get(DIRIGIBLE_FLOWABLE_DATABASE_DATASOURCE_NAME);
+		if (dataSourceName != null) {
+			logger.info("Initializng the Flowable Process Engine with JNDI datasource name");
+			cfg.setDataSourceJndiName(dataSourceName);
+		} else {
+			String driver = Configuration.get(DIRIGIBLE_FLOWABLE_DATABASE_DRIVER);
+			String url = Configuration.get(DIRIGIBLE_FLOWABLE_DATABASE_URL);
+			String user = Configuration.get(DIRIGIBLE_FLOWABLE_DATABASE_USER);
+			String password = Configuration.get(DIRIGIBLE_FLOWABLE_DATABASE_PASSWORD);
+
+			if (driver != null && url != null) {
+				logger.info("Initializng the Flowable Process Engine with environment variables datasource parameters");
+				cfg.setJdbcUrl(url).setJdbcUsername(user).setJdbcPassword(password).setJdbcDriver(driver);
+			} else {
+				String useDefault = Configuration.get(DIRIGIBLE_FLOWABLE_USE_DEFAULT_DATABASE, "true");
+				if (Boolean.parseBoolean(useDefault)) {
+					logger.info("Initializng the Flowable Process Engine with the default datasource");
+					cfg.setDataSource(database.getDataSource());
+				} else {
+					H2Database h2Database = new H2Database();
+					h2Database.initialize();
+					DataSource flowableDataSource = h2Database.getDataSource("flowable");
+					logger.info("Initializng the Flowable Process Engine with the built-in H2 datasource");
+					cfg.setDataSource(flowableDataSource);
 				}
-				boolean updateSchema = Boolean
-						.parseBoolean(Configuration.get(DIRIGIBLE_FLOWABLE_DATABASE_SCHEMA_UPDATE, "true"));
-				cfg.setDatabaseSchemaUpdate(updateSchema ? ProcessEngineConfiguration.DB_SCHEMA_UPDATE_TRUE
-						: ProcessEngineConfiguration.DB_SCHEMA_UPDATE_FALSE);
+			}
+		}
+		boolean updateSchema = Boolean
+				.parseBoolean(Configuration.get(DIRIGIBLE_FLOWABLE_DATABASE_SCHEMA_UPDATE, "true"));
+		cfg.setDatabaseSchemaUpdate(updateSchema ? ProcessEngineConfiguration.DB_SCHEMA_UPDATE_TRUE
+				: ProcessEngineConfiguration.DB_SCHEMA_UPDATE_FALSE);
+		configureTuning(cfg);
+
+		ProcessEngine engine = cfg.buildProcessEngine();
+		logger.info("Done initializng the Flowable Process Engine.");
+		return engine;
+	}
+
+	/**
+	 * Applies the configured async executor, id generator and cache settings, keeping the Flowable defaults for the
+	 * ones which are not set.
+	 *
+	 * @param cfg the process engine configuration
+	 */
+	private static void configureTuning(StandaloneProcessEngineConfiguration cfg) {
+		cfg.setAsyncExecutorActivate(Boolean.parseBoolean(Configuration.get(DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_ACTIVATE, "false")));
+		configureInt(DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_CORE_POOL_SIZE, cfg::setAsyncExecutorCorePoolSize);
+		configureInt(DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_MAX_POOL_SIZE, cfg::setAsyncExecutorMaxPoolSize);
+		configureInt(DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_QUEUE_SIZE, cfg::setAsyncExecutorThreadPoolQueueSize);
+		configureInt(DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_ACQUISITION_SIZE, cfg::setAsyncExecutorMaxAsyncJobsDuePerAcquisition);
+		configureInt(DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_ACQUISITION_SIZE, cfg::setAsyncExecutorMaxTimerJobsPerAcquisition);
+		configureInt(DIRIGIBLE_FLOWABLE_ID_BLOCK_SIZE, cfg::setIdBlockSize);
+		configureInt(DIRIGIBLE_FLOWABLE_PROCESS_DEFINITION_CACHE_SIZE, cfg::setProcessDefinitionCacheLimit);
+	}
 
-				processEngine = cfg.buildProcessEngine();
-				logger.info("Done initializng the Flowable Process Engine.");
+	private static void configureInt(String key, IntConsumer setter) {
+		String value = Configuration.get(key);
+		if ((value != null) && !value.trim().isEmpty()) {
+			try {
+				setter.accept(Integer.parseInt(value.trim()));
+			} catch (NumberFormatException e) {
+				logger.error(format("Invalid value [{0}] of [{1}], the Flowable default is used", value, key));
 			}
 		}
-		return processEngine;
 	}
 
 	@Override
@@ -201,7 +248,7 @@ public class BpmProviderFlowable implements IBpmProvider {
 			processInstance = runtimeService.startProcessInstanceByKey(key, variables);
 		} catch (Exception e) {
 			logger.error(e.getMessage(), e);
-			List<ProcessDefinition> processDefinitions = processEngine.getRepositoryService().createProcessDefinitionQuery().list();
+			List<ProcessDefinition> processDefinitions = getProcessEngine().getRepositoryService().createProcessDefinitionQuery().list();
 			logger.error("Available process definitions:");
 			for (ProcessDefinition processDefinition : processDefinitions) {
 				logger.error(format("Deployment: [{0}] with key: [{1}] and name: [{2}]", processDefinition.getDeploymentId(), processDefinition.getKey(), processDefinition.getName()));
@@ -84,7 +84,7 @@ public class BpmSynchronizer extends AbstractSynchronizer {
 			if (beforeSynchronizing()) {
 				logger.trace("Synchronizing BPMN files...");
 				try {
-					if (isSynchronizerSuccessful("org.eclipse.dirigible.database.ds.synchronizer.DataStructuresSynchronizer")) {
+					if (isSynchronizerSuccessful(DATA_STRUCTURES_SYNCHRONIZER)) {
 						startSynchronization(SYNCHRONIZER_NAME);
 						clearCache();
 						synchronizePredelivered();
@@ -96,7 +96,7 @@ public class BpmSynchronizer extends AbstractSynchronizer {
 						clearCache();
 						successfulSynchronization(SYNCHRONIZER_NAME, format("Immutable: {0}, Mutable: {1}", immutableCount, mutableCount));
 					} else {
-						failedSynchronization(SYNCHRONIZER_NAME, "Skipped due to dependency: org.eclipse.dirigible.database.ds.synchronizer.DataStructuresSynchronizer");
+						failedSynchronization(SYNCHRONIZER_NAME, "Skipped due to dependency: " + DATA_STRUCTURES_SYNCHRONIZER);
 					}
 				} catch (Exception e) {
 					logger.error("Synchronizing process for BPMN files failed.", e);
@@ -195,6 +195,15 @@ public class BpmSynchronizer extends AbstractSynchronizer {
 		logger.trace("Done synchronizing BPMN files from Registry.");
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#getFileExtensions()
+	 */
+	@Override
+	protected String[] getFileExtensions() {
+		return new String[] { IBpmCoreService.FILE_EXTENSION_BPMN };
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#synchronizeResource(org.eclipse.dirigible.
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.bpm.flowable.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.dirigible.bpm.flowable.BpmProviderFlowable;
+import org.eclipse.dirigible.core.test.AbstractGuiceTest;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RepositoryService;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.repository.Deployment;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Starts many process instances concurrently against the local H2 database of the tests. The number of the threads
+ * stays below the default limit of the connections of the data source, as the id generator takes one more.
+ */
+public class ThroughputFlowableEngineTest extends AbstractGuiceTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(ThroughputFlowableEngineTest.class);
+
+	private static final int THREADS = 4;
+
+	private static final int INSTANCES = 2000;
+
+	/** The flowable engine provider. */
+	private BpmProviderFlowable bpmProviderFlowable;
+
+	/**
+	 * Sets the up.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		this.bpmProviderFlowable = getInjector().getInstance(BpmProviderFlowable.class);
+	}
+
+	/**
+	 * All the threads get the same engine.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void sameProcessEngine() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Callable<Object>> calls = Collections.nCopies(THREADS * 4, () -> bpmProviderFlowable.getProcessEngine());
+			Object first = bpmProviderFlowable.getProcessEngine();
+			for (Future<Object> future : executor.invokeAll(calls)) {
+				assertSame(first, future.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Starts thousands of process instances from several threads.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void startProcessInstances() throws Exception {
+		ProcessEngine processEngine = (ProcessEngine) bpmProviderFlowable.getProcessEngine();
+		RepositoryService repositoryService = processEngine.getRepositoryService();
+		RuntimeService runtimeService = processEngine.getRuntimeService();
+		Deployment deployment = repositoryService.createDeployment().addClasspathResource("throughput.bpmn20.xml").deploy();
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Callable<Integer>> calls = new ArrayList<Callable<Integer>>();
+			for (int i = 0; i < THREADS; i++) {
+				final int thread = i;
+				calls.add(() -> {
+					for (int j = 0; j < INSTANCES / THREADS; j++) {
+						Map<String, Object> variables = new HashMap<String, Object>();
+						variables.put("thread", thread);
+						variables.put("index", j);
+						runtimeService.startProcessInstanceByKey("throughput", variables);
+					}
+					return INSTANCES / THREADS;
+				});
+			}
+			long start = System.currentTimeMillis();
+			int started = 0;
+			for (Future<Integer> future : executor.invokeAll(calls)) {
+				started += future.get();
+			}
+			long duration = Math.max(System.currentTimeMillis() - start, 1);
+			logger.info("Started {} process instances in {} ms ({} per second)", started, duration, (started * 1000L) / duration);
+
+			assertEquals(INSTANCES, started);
+			assertEquals(INSTANCES, runtimeService.createProcessInstanceQuery().processDefinitionKey("throughput").count());
+			assertEquals(INSTANCES, processEngine.getTaskService().createTaskQuery().taskDefinitionKey("review").count());
+		} finally {
+			executor.shutdown();
+			repositoryService.deleteDeployment(deployment.getId(), true);
+		}
+	}
+
+}
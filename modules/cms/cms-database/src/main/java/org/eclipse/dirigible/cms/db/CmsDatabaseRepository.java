@@ -13,6 +13,7 @@ package org.eclipse.dirigible.cms.db;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -30,6 +31,7 @@ import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IEntity;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryChangeJournal;
 import org.eclipse.dirigible.repository.api.RepositoryExportException;
 import org.eclipse.dirigible.repository.api.RepositoryImportException;
 import org.eclipse.dirigible.repository.api.RepositoryPath;
@@ -261,6 +263,16 @@ public class CmsDatabaseRepository implements IRepository {
 		return RepositoryZipExporter.exportZip(this, relativeRoot, inclusive);
 	}
 
+	@Override
+	public void exportZip(List<String> relativeRoots, OutputStream output) throws RepositoryExportException {
+		RepositoryZipExporter.exportZip(this, relativeRoots, output);
+	}
+
+	@Override
+	public void exportZip(String relativeRoot, boolean inclusive, OutputStream output) throws RepositoryExportException {
+		RepositoryZipExporter.exportZip(this, relativeRoot, inclusive, output);
+	}
+
 	@Override
 	public List<IEntity> searchName(String parameter, boolean caseInsensitive) throws RepositorySearchException {
 		return databaseRepositoryDao.searchName(parameter, caseInsensitive);
@@ -342,4 +354,9 @@ public class CmsDatabaseRepository implements IRepository {
 	protected void setLastModified(long time) {
 		lastModified.set(time);
 	}
+
+	@Override
+	public RepositoryChangeJournal getChangeJournal() {
+		return null;
+	}
 }
@@ -13,6 +13,8 @@ package org.eclipse.dirigible.cms.db;
 
 import static java.text.MessageFormat.format;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.List;
 
@@ -164,6 +166,16 @@ public class CmsDatabaseResource extends CmsDatabaseEntity implements IResource
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#getContentAsStream()
+	 */
+	@Override
+	public InputStream getContentAsStream() throws RepositoryReadException {
+		byte[] content = getContent();
+		return content != null ? new ByteArrayInputStream(content) : null;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.repository.api.IResource#setContent(byte[])
@@ -11,8 +11,14 @@
  */
 package org.eclipse.dirigible.commons.api.helpers;
 
+import java.util.Arrays;
+
+import com.google.gson.JsonSyntaxException;
+
 /**
  * The Class BytesHelper.
+ *
+ * Converts the bytes to and from a JSON array of numbers in a single pass over the input, without boxing every byte.
  */
 public class BytesHelper {
 
@@ -24,7 +30,64 @@ public class BytesHelper {
 	 * @return the byte[]
 	 */
 	public static byte[] jsonToBytes(String input) {
-		return GsonHelper.GSON.fromJson(input, byte[].class);
+		if (input == null) {
+			return null;
+		}
+		int length = input.length();
+		int position = skipWhitespace(input, 0);
+		if (position == length) {
+			return null;
+		}
+		if (input.startsWith("null", position) && (skipWhitespace(input, position + 4) == length)) { //$NON-NLS-1$
+			return null;
+		}
+		if (input.charAt(position) != '[') {
+			throw new JsonSyntaxException("Expected a JSON array of bytes at position " + position);
+		}
+		// every element takes at least two characters with the separator
+		byte[] bytes = new byte[Math.min(16, (length / 2) + 1)];
+		int count = 0;
+		position = skipWhitespace(input, position + 1);
+		if ((position < length) && (input.charAt(position) == ']')) {
+			position++;
+		} else {
+			while (true) {
+				boolean negative = false;
+				if ((position < length) && ((input.charAt(position) == '-') || (input.charAt(position) == '+'))) {
+					negative = input.charAt(position) == '-';
+					position++;
+				}
+				int start = position;
+				int value = 0;
+				while ((position < length) && (input.charAt(position) >= '0') && (input.charAt(position) <= '9')) {
+					value = (value * 10) + (input.charAt(position) - '0');
+					position++;
+				}
+				if (start == position) {
+					throw new JsonSyntaxException("Expected a number at position " + position);
+				}
+				if (count == bytes.length) {
+					bytes = Arrays.copyOf(bytes, Math.min(bytes.length * 2, (length / 2) + 1));
+				}
+				bytes[count++] = (byte) (negative ? -value : value);
+				position = skipWhitespace(input, position);
+				if (position == length) {
+					throw new JsonSyntaxException("Unterminated JSON array of bytes");
+				}
+				char separator = input.charAt(position++);
+				if (separator == ']') {
+					break;
+				}
+				if (separator != ',') {
+					throw new JsonSyntaxException("Expected a comma or a closing bracket at position " + (position - 1));
+				}
+				position = skipWhitespace(input, position);
+			}
+		}
+		if (skipWhitespace(input, position) != length) {
+			throw new JsonSyntaxException("Unexpected content after the JSON array of bytes at position " + position);
+		}
+		return count == bytes.length ? bytes : Arrays.copyOf(bytes, count);
 	}
 
 	/**
@@ -35,7 +98,26 @@ public class BytesHelper {
 	 * @return the string
 	 */
 	public static String bytesToJson(byte[] bytes) {
-		return GsonHelper.GSON.toJson(bytes);
+		if (bytes == null) {
+			return "null"; //$NON-NLS-1$
+		}
+		StringBuilder json = new StringBuilder((bytes.length * 4) + 2);
+		json.append('[');
+		for (int i = 0; i < bytes.length; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append(bytes[i]);
+		}
+		json.append(']');
+		return json.toString();
+	}
+
+	private static int skipWhitespace(String input, int position) {
+		while ((position < input.length()) && Character.isWhitespace(input.charAt(position))) {
+			position++;
+		}
+		return position;
 	}
 
 }
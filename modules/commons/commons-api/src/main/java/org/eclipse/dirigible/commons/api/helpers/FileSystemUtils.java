@@ -16,6 +16,7 @@ import static java.nio.file.FileVisitResult.CONTINUE;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.FileSystems;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
@@ -107,6 +108,24 @@ public class FileSystemUtils {
 		return null;
 	}
 
+	/**
+	 * Opens a file for reading without loading its content in memory.
+	 *
+	 * @param workspacePath
+	 *            the workspace path
+	 * @return the input stream, or null if the file does not exist
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static InputStream openFile(String workspacePath) throws IOException {
+		String normalizedPath = FilenameUtils.normalize(workspacePath);
+		Path path = FileSystems.getDefault().getPath(normalizedPath);
+		if (path.toFile().exists()) {
+			return Files.newInputStream(path);
+		}
+		return null;
+	}
+
 	/**
 	 * Move file.
 	 *
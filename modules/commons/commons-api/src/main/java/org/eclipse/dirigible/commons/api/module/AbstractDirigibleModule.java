@@ -36,4 +36,11 @@ public abstract class AbstractDirigibleModule extends AbstractModule {
 	public int getPriority() {
 		return DEFAULT_PRIORITY;
 	}
+
+	/**
+	 * Releases the resources held by the module on shutdown. Does nothing by default.
+	 */
+	public void destroy() {
+		// nothing to release by default
+	}
 }
@@ -13,6 +13,8 @@ package org.eclipse.dirigible.commons.api.module;
 
 import static java.text.MessageFormat.format;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.ServiceLoader;
@@ -35,6 +37,8 @@ public class DirigibleModulesInstallerModule extends AbstractModule {
 	
 	private static Set<String> modules = new HashSet<String>();
 
+	private static List<AbstractDirigibleModule> installedModules = Collections.synchronizedList(new ArrayList<AbstractDirigibleModule>());
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.google.inject.AbstractModule#configure()
@@ -74,6 +78,7 @@ public class DirigibleModulesInstallerModule extends AbstractModule {
 			}
 			logger.debug(format("Done installing Dirigible Module [{0}].", next.getName()));
 			modules.add(next.getName());
+			installedModules.add(next);
 		}
 		logger.debug("Done initializing Dirigible Modules.");
 	}
@@ -82,4 +87,23 @@ public class DirigibleModulesInstallerModule extends AbstractModule {
 		return modules;
 	}
 
+	/**
+	 * Destroys the installed modules in the reverse order of their installation.
+	 */
+	public static void destroyModules() {
+		List<AbstractDirigibleModule> destroyed;
+		synchronized (installedModules) {
+			destroyed = new ArrayList<AbstractDirigibleModule>(installedModules);
+			installedModules.clear();
+		}
+		Collections.reverse(destroyed);
+		for (AbstractDirigibleModule next : destroyed) {
+			try {
+				next.destroy();
+			} catch (Throwable e) {
+				LoggerFactory.getLogger(DirigibleModulesInstallerModule.class).error(format("Failed destroying Dirigible Module [{0}].", next.getName()), e);
+			}
+		}
+	}
+
 }
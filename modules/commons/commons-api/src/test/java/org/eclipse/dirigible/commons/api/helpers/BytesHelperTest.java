@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.commons.api.helpers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.google.gson.JsonSyntaxException;
+
+/**
+ * The conversion of the bytes to and from JSON, compatible with the one of Gson.
+ */
+public class BytesHelperTest {
+
+	@Test
+	public void roundTrip() {
+		byte[] bytes = new byte[256];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) i;
+		}
+		String json = BytesHelper.bytesToJson(bytes);
+		assertEquals(GsonHelper.GSON.toJson(bytes), json);
+		assertArrayEquals(bytes, BytesHelper.jsonToBytes(json));
+	}
+
+	@Test
+	public void parse() {
+		assertArrayEquals(new byte[] {1, -2, 127, -128}, BytesHelper.jsonToBytes(" [ 1 , -2,127,\n-128 ] "));
+		assertArrayEquals(new byte[] {}, BytesHelper.jsonToBytes("[]"));
+		assertArrayEquals(new byte[] {-56}, BytesHelper.jsonToBytes("[200]"));
+		assertNull(BytesHelper.jsonToBytes(null));
+		assertNull(BytesHelper.jsonToBytes(""));
+		assertNull(BytesHelper.jsonToBytes("null"));
+		assertEquals("[]", BytesHelper.bytesToJson(new byte[] {}));
+	}
+
+	@Test(expected = JsonSyntaxException.class)
+	public void unterminated() {
+		BytesHelper.jsonToBytes("[1,2");
+	}
+
+	@Test(expected = JsonSyntaxException.class)
+	public void notNumber() {
+		BytesHelper.jsonToBytes("[1,\"a\"]");
+	}
+
+}
@@ -325,24 +325,44 @@ public class Configuration {
 			"DIRIGIBLE_GIT_ROOT_FOLDER",
 			"DIRIGIBLE_REGISTRY_SYNCH_ROOT_FOLDER",
 			"DIRIGIBLE_REPOSITORY_PROVIDER",
+			"DIRIGIBLE_REPOSITORY_CACHE_MAX_SIZE",
+			"DIRIGIBLE_REPOSITORY_CHANGE_JOURNAL_SIZE",
+			"DIRIGIBLE_REPOSITORY_ZIP_EXPORT_THREADS",
+			"DIRIGIBLE_REPOSITORY_ZIP_EXPORT_READ_AHEAD_SIZE",
 			"DIRIGIBLE_REPOSITORY_DATABASE_DATASOURCE_NAME",
 			"DIRIGIBLE_REPOSITORY_LOCAL_ROOT_FOLDER",
 			"DIRIGIBLE_REPOSITORY_LOCAL_ROOT_FOLDER_IS_ABSOLUTE",
 			"DIRIGIBLE_MASTER_REPOSITORY_PROVIDER",
 			"DIRIGIBLE_MASTER_REPOSITORY_ROOT_FOLDER",
 			"DIRIGIBLE_MASTER_REPOSITORY_ZIP_LOCATION",
+			"DIRIGIBLE_MASTER_REPOSITORY_ZIP_READ_THROUGH",
 			"DIRIGIBLE_MASTER_REPOSITORY_JAR_PATH",
 			"DIRIGIBLE_REPOSITORY_SEARCH_ROOT_FOLDER",
 			"DIRIGIBLE_REPOSITORY_SEARCH_ROOT_FOLDER_IS_ABSOLUTE",
 			"DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION",
+			"DIRIGIBLE_INDEXING_ROOT_FOLDER",
+			"DIRIGIBLE_INDEXING_MAX_RESULTS",
+			"DIRIGIBLE_INDEXING_COMMIT_INTERVAL",
+			"DIRIGIBLE_INDEXING_REFRESH_INTERVAL",
 			"DIRIGIBLE_DATABASE_PROVIDER",
 			"DIRIGIBLE_DATABASE_DEFAULT_SET_AUTO_COMMIT",
 			"DIRIGIBLE_DATABASE_DEFAULT_MAX_CONNECTIONS_COUNT",
 			"DIRIGIBLE_DATABASE_DEFAULT_WAIT_TIMEOUT",
 			"DIRIGIBLE_DATABASE_DEFAULT_WAIT_COUNT",
+			"DIRIGIBLE_DATABASE_POOL_ENABLED",
+			"DIRIGIBLE_DATABASE_POOL_MIN_IDLE",
+			"DIRIGIBLE_DATABASE_POOL_MAX_SIZE",
+			"DIRIGIBLE_DATABASE_POOL_IDLE_TIMEOUT",
+			"DIRIGIBLE_DATABASE_POOL_CONNECTION_TIMEOUT",
+			"DIRIGIBLE_DATABASE_POOL_LEAK_DETECTION_THRESHOLD",
+			"DIRIGIBLE_DATABASE_POOL_LEAK_DETECTION_SAMPLING",
 			"DIRIGIBLE_DATABASE_CUSTOM_DATASOURCES",
 			"DIRIGIBLE_DATABASE_DATASOURCE_NAME_DEFAULT",
 			"DIRIGIBLE_DATABASE_NAMES_CASE_SENSITIVE",
+			"DIRIGIBLE_DATABASE_METADATA_CACHE_ENABLED",
+			"DIRIGIBLE_DATABASE_DATA_IMPORT_BATCH_SIZE",
+			"DIRIGIBLE_DATABASE_DATA_IMPORT_THREADS",
+			"DIRIGIBLE_DATABASE_DATA_IMPORT_NATIVE",
 			"DIRIGIBLE_DATABASE_DERBY_ROOT_FOLDER_DEFAULT",
 			"DIRIGIBLE_DATABASE_H2_ROOT_FOLDER_DEFAULT",
 			"DIRIGIBLE_DATABASE_H2_DRIVER",
@@ -357,6 +377,7 @@ public class Configuration {
 			"DIRIGIBLE_SCHEDULER_DATASOURCE_NAME",
 			"DIRIGIBLE_SCHEDULER_DATABASE_DELEGATE",
 			"DIRIGIBLE_SYNCHRONIZER_IGNORE_DEPENDENCIES",
+			"DIRIGIBLE_SYNCHRONIZER_POOL_SIZE",
 			"DIRIGIBLE_HOME_URL",
 			"DIRIGIBLE_JOB_EXPRESSION_BPM",
 			"DIRIGIBLE_JOB_EXPRESSION_DATA_STRUCTURES",
@@ -369,6 +390,7 @@ public class Configuration {
 			"DIRIGIBLE_JOB_EXPRESSION_SECURITY",
 			"DIRIGIBLE_JOB_EXPRESSION_REGISTRY",
 			"DIRIGIBLE_JOB_DEFAULT_TIMEOUT",
+			"DIRIGIBLE_SECURITY_ACCESS_DECISION_CACHE_SIZE",
 			"DIRIGIBLE_CMS_PROVIDER",
 			"DIRIGIBLE_CMS_ROLES_ENABLED",
 			"DIRIGIBLE_CMS_INTERNAL_ROOT_FOLDER",
@@ -389,13 +411,27 @@ public class Configuration {
 			"DIRIGIBLE_FLOWABLE_DATABASE_DATASOURCE_NAME",
 			"DIRIGIBLE_FLOWABLE_DATABASE_SCHEMA_UPDATE",
 			"DIRIGIBLE_FLOWABLE_USE_DEFAULT_DATABASE",
+			"DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_ACTIVATE",
+			"DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_CORE_POOL_SIZE",
+			"DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_MAX_POOL_SIZE",
+			"DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_QUEUE_SIZE",
+			"DIRIGIBLE_FLOWABLE_ASYNC_EXECUTOR_ACQUISITION_SIZE",
+			"DIRIGIBLE_FLOWABLE_ID_BLOCK_SIZE",
+			"DIRIGIBLE_FLOWABLE_PROCESS_DEFINITION_CACHE_SIZE",
 			"DIRIGIBLE_MESSAGING_USE_DEFAULT_DATABASE",
+			"DIRIGIBLE_MESSAGING_PRODUCER_THREADS",
+			"DIRIGIBLE_MESSAGING_PRODUCER_QUEUE_SIZE",
+			"DIRIGIBLE_MESSAGING_PRODUCER_BATCH_SIZE",
 			"DIRIGIBLE_KAFKA_BOOTSTRAP_SERVER",
 			"DIRIGIBLE_KAFKA_ACKS",
 			"DIRIGIBLE_KAFKA_KEY_SERIALIZER",
 			"DIRIGIBLE_KAFKA_VALUE_SERIALIZER",
 			"DIRIGIBLE_KAFKA_AUTOCOMMIT_ENABLED",
 			"DIRIGIBLE_KAFKA_AUTOCOMMIT_INTERVAL",
+			"DIRIGIBLE_HTTP_CLIENT_MAX_TOTAL",
+			"DIRIGIBLE_HTTP_CLIENT_MAX_PER_ROUTE",
+			"DIRIGIBLE_HTTP_CLIENT_KEEP_ALIVE",
+			"DIRIGIBLE_HTTP_CLIENT_IDLE_TIMEOUT",
 			"DIRIGIBLE_JAVASCRIPT_ENGINE_TYPE_DEFAULT",
 			"DIRIGBLE_JAVASCRIPT_GRAALVM_DEBUGGER_PORT",
 			"DIRIGBLE_JAVASCRIPT_GRAALVM_ALLOW_HOST_ACCESS",
@@ -404,9 +440,25 @@ public class Configuration {
 			"DIRIGBLE_JAVASCRIPT_GRAALVM_ALLOW_IO",
 			"DIRIGBLE_JAVASCRIPT_GRAALVM_COMPATIBILITY_MODE_NASHORN",
 			"DIRIGBLE_JAVASCRIPT_GRAALVM_COMPATIBILITY_MODE_MOZILLA",
+			"DIRIGBLE_JAVASCRIPT_GRAALVM_CONTEXT_POOL_ENABLED",
+			"DIRIGBLE_JAVASCRIPT_GRAALVM_CONTEXT_POOL_SIZE",
+			"DIRIGBLE_JAVASCRIPT_GRAALVM_CONTEXT_POOL_IDLE_TIMEOUT",
+			"DIRIGBLE_JAVASCRIPT_GRAALVM_CONTEXT_POOL_WARMUP",
+			"DIRIGIBLE_WEB_COMPRESSION_ENABLED",
+			"DIRIGIBLE_WEB_COMPRESSION_MIN_SIZE",
+			"DIRIGIBLE_WEB_COMPRESSION_CACHE_MAX_SIZE",
+			"DIRIGIBLE_WEB_CACHE_IMMUTABLE_PATHS",
+			"DIRIGIBLE_WEB_CACHE_IMMUTABLE_MAX_AGE",
+			"DIRIGIBLE_GENERATION_TEMPLATE_CACHE_SIZE",
+			"DIRIGIBLE_GENERATION_THREADS",
+			"DIRIGIBLE_PROCESS_MAX_CONCURRENT",
+			"DIRIGIBLE_PROCESS_MAX_OUTPUT_SIZE",
+			"DIRIGIBLE_PROCESS_TIMEOUT",
+			"DIRIGIBLE_WORKSPACE_TREE_PAGE_SIZE",
 			"DIRIGIBLE_OPERATIONS_LOGS_ROOT_FOLDER_DEFAULT",
 			"DIRIGIBLE_THEME_DEFAULT",
-			"DIRIGIBLE_GENERATE_PRETTY_NAMES"
+			"DIRIGIBLE_GENERATE_PRETTY_NAMES",
+			"DIRIGIBLE_ODATA_KEYSET_PAGING_ENABLED"
 	};
 
 }
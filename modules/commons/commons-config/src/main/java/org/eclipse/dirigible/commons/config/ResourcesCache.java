@@ -11,6 +11,8 @@
  */
 package org.eclipse.dirigible.commons.config;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -40,6 +42,10 @@ public class ResourcesCache {
 
 	public static class Cache {
 
+		private static final int TAG_LENGTH = 16;
+
+		private static final char[] HEX = "0123456789abcdef".toCharArray();
+
 		private static final Map<String, String> CACHE = Collections.synchronizedMap(new HashMap<String, String>());
 
 		private Cache() {
@@ -58,6 +64,26 @@ public class ResourcesCache {
 			return UUID.randomUUID().toString();
 		}
 
+		/**
+		 * Generates a strong entity tag derived from the content, so that the same content always gets the same tag.
+		 *
+		 * @param content
+		 *            the content
+		 * @return the quoted entity tag
+		 */
+		public String generateTag(byte[] content) {
+			try {
+				byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+				StringBuilder tag = new StringBuilder(TAG_LENGTH * 2 + 2).append('"');
+				for (int i = 0; i < TAG_LENGTH; i++) {
+					tag.append(HEX[(digest[i] >> 4) & 0x0F]).append(HEX[digest[i] & 0x0F]);
+				}
+				return tag.append('"').toString();
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
 		public void clear() {
 			CACHE.clear();
 		}
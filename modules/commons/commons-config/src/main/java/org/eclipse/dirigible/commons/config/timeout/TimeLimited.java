@@ -31,7 +31,7 @@ public class TimeLimited {
 	
 	private static final String DEFAULT_TIMEOUT = "3";
 
-	public static synchronized void runWithTimeout(final Runnable runnable, long timeout, TimeUnit timeUnit) throws Exception {
+	public static void runWithTimeout(final Runnable runnable, long timeout, TimeUnit timeUnit) throws Exception {
 		runWithTimeout(new Callable<Object>() {
 			@Override
 			public Object call() throws Exception {
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.commons.process;
+
+/**
+ * The result of a process run by the {@link ProcessRunner}.
+ */
+public class ProcessResult {
+
+	private final int exitValue;
+
+	private final long outputSize;
+
+	private final boolean truncated;
+
+	/**
+	 * Instantiates a new process result.
+	 *
+	 * @param exitValue
+	 *            the exit value
+	 * @param outputSize
+	 *            the size in bytes of the copied output
+	 * @param truncated
+	 *            whether the output has exceeded the limit
+	 */
+	public ProcessResult(int exitValue, long outputSize, boolean truncated) {
+		this.exitValue = exitValue;
+		this.outputSize = outputSize;
+		this.truncated = truncated;
+	}
+
+	/**
+	 * Gets the exit value.
+	 *
+	 * @return the exit value
+	 */
+	public int getExitValue() {
+		return exitValue;
+	}
+
+	/**
+	 * Gets the size in bytes of the copied output.
+	 *
+	 * @return the output size
+	 */
+	public long getOutputSize() {
+		return outputSize;
+	}
+
+	/**
+	 * Checks if the output has exceeded the limit and only its beginning has been copied.
+	 *
+	 * @return true, if is truncated
+	 */
+	public boolean isTruncated() {
+		return truncated;
+	}
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.commons.process;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+
+/**
+ * Runs external processes and waits for them without polling.
+ *
+ * The output of a process is copied to the given stream as it is produced, by a thread of a shared I/O pool, and the
+ * caller is woken up when both the process has exited and its output has been drained. The output beyond the limit is
+ * read and discarded, so that the process is never blocked on a full pipe. At most DIRIGIBLE_PROCESS_MAX_CONCURRENT
+ * processes run at the same time - the callers above the limit wait for a free slot within their timeout. The I/O pool
+ * has as many threads as the limit, so every running process has a thread draining its output.
+ */
+public class ProcessRunner {
+
+	/** The maximum number of the processes running at the same time. */
+	public static final String DIRIGIBLE_PROCESS_MAX_CONCURRENT = "DIRIGIBLE_PROCESS_MAX_CONCURRENT"; //$NON-NLS-1$
+
+	/** The maximum size in bytes of the output kept from a process. */
+	public static final String DIRIGIBLE_PROCESS_MAX_OUTPUT_SIZE = "DIRIGIBLE_PROCESS_MAX_OUTPUT_SIZE"; //$NON-NLS-1$
+
+	/** The time in milliseconds after which a process is killed. */
+	public static final String DIRIGIBLE_PROCESS_TIMEOUT = "DIRIGIBLE_PROCESS_TIMEOUT"; //$NON-NLS-1$
+
+	/** The default maximum size in bytes of the output. */
+	public static final long DEFAULT_MAX_OUTPUT_SIZE = 2097152;
+
+	/** The default timeout in milliseconds. */
+	public static final long DEFAULT_TIMEOUT = (long) ProcessUtils.DEFAULT_WAIT_TIME * ProcessUtils.DEFAULT_LOOP_COUNT;
+
+	private static final byte[] TRUNCATED = "\n...".getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final int MAX_CONCURRENT = Integer.parseInt(Configuration.get(DIRIGIBLE_PROCESS_MAX_CONCURRENT,
+			Integer.toString(Math.max(4, Runtime.getRuntime().availableProcessors()))));
+
+	private static final Semaphore SLOTS = new Semaphore(MAX_CONCURRENT, true);
+
+	private static final ExecutorService IO = createIoExecutor();
+
+	private ProcessRunner() {
+	}
+
+	private static ExecutorService createIoExecutor() {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_CONCURRENT, MAX_CONCURRENT, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), new ProcessThreadFactory());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Runs the process with the configured output limit and timeout.
+	 *
+	 * @param processBuilder
+	 *            the process builder
+	 * @param output
+	 *            the stream the output of the process is copied to, it is not closed
+	 * @return the result
+	 * @throws IOException
+	 *             if the process cannot be started or the output cannot be written
+	 * @throws TimeoutException
+	 *             if the process has not finished in time, it is killed then
+	 * @throws InterruptedException
+	 *             if the calling thread has been interrupted
+	 */
+	public static ProcessResult run(ProcessBuilder processBuilder, OutputStream output)
+			throws IOException, TimeoutException, InterruptedException {
+		long maxOutputSize = Long.parseLong(Configuration.get(DIRIGIBLE_PROCESS_MAX_OUTPUT_SIZE, Long.toString(DEFAULT_MAX_OUTPUT_SIZE)));
+		long timeout = Long.parseLong(Configuration.get(DIRIGIBLE_PROCESS_TIMEOUT, Long.toString(DEFAULT_TIMEOUT)));
+		return run(processBuilder, output, maxOutputSize, timeout);
+	}
+
+	/**
+	 * Runs the process.
+	 *
+	 * @param processBuilder
+	 *            the process builder
+	 * @param output
+	 *            the stream the output of the process is copied to, it is not closed
+	 * @param maxOutputSize
+	 *            the maximum size in bytes of the output copied to the stream
+	 * @param timeout
+	 *            the time in milliseconds to wait for a free slot and for the process
+	 * @return the result
+	 * @throws IOException
+	 *             if the process cannot be started or the output cannot be written
+	 * @throws TimeoutException
+	 *             if the process has not finished in time, it is killed then
+	 * @throws InterruptedException
+	 *             if the calling thread has been interrupted
+	 */
+	public static ProcessResult run(ProcessBuilder processBuilder, OutputStream output, long maxOutputSize, long timeout)
+			throws IOException, TimeoutException, InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+		if (!SLOTS.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+			throw new TimeoutException("No free slot to run the process within " + timeout + " ms, the limit is " + MAX_CONCURRENT);
+		}
+		try {
+			Process process = processBuilder.start();
+			process.getOutputStream().close();
+			Drainer drainer = new Drainer(process.getInputStream(), output, maxOutputSize);
+			CompletableFuture<Void> drained = CompletableFuture.runAsync(drainer, IO);
+			try {
+				CompletableFuture.allOf(process.onExit(), drained).get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				kill(process);
+				throw new TimeoutException("The process has not finished within " + timeout + " ms and has been killed");
+			} catch (ExecutionException e) {
+				kill(process);
+				if (e.getCause() instanceof UncheckedIOException) {
+					throw ((UncheckedIOException) e.getCause()).getCause();
+				}
+				throw new IOException(e.getCause());
+			} catch (InterruptedException e) {
+				kill(process);
+				throw e;
+			}
+			return new ProcessResult(process.exitValue(), drainer.size, drainer.truncated);
+		} finally {
+			SLOTS.release();
+		}
+	}
+
+	/**
+	 * Kills the process and closes its output, so that the draining stops even if a child process still holds the pipe.
+	 *
+	 * @param process
+	 *            the process
+	 */
+	private static void kill(Process process) {
+		process.destroyForcibly();
+		try {
+			process.getInputStream().close();
+		} catch (IOException e) {
+			// the draining fails and stops then
+		}
+	}
+
+	/**
+	 * Gets the maximum number of the processes running at the same time.
+	 *
+	 * @return the maximum
+	 */
+	public static int getMaxConcurrent() {
+		return MAX_CONCURRENT;
+	}
+
+	/**
+	 * Copies the output of a process up to the limit, flushing after every chunk, and discards the rest.
+	 */
+	private static class Drainer implements Runnable {
+
+		private final InputStream input;
+
+		private final OutputStream output;
+
+		private final long maxOutputSize;
+
+		private long size;
+
+		private boolean truncated;
+
+		Drainer(InputStream input, OutputStream output, long maxOutputSize) {
+			this.input = input;
+			this.output = output;
+			this.maxOutputSize = maxOutputSize;
+		}
+
+		@Override
+		public void run() {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			try (InputStream in = input) {
+				int read;
+				while ((read = in.read(buffer)) != -1) {
+					long remaining = maxOutputSize - size;
+					if (remaining > 0) {
+						int length = (int) Math.min(read, remaining);
+						output.write(buffer, 0, length);
+						output.flush();
+						size += length;
+					}
+					if (read > remaining) {
+						truncated = true;
+					}
+				}
+				if (truncated) {
+					output.write(TRUNCATED);
+					output.flush();
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * Creates the daemon threads of the I/O pool.
+	 */
+	private static class ProcessThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "dirigible-process-io-" + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+}
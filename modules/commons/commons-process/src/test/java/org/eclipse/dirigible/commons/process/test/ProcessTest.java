@@ -12,13 +12,26 @@
 package org.eclipse.dirigible.commons.process.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.dirigible.commons.process.Piper;
+import org.eclipse.dirigible.commons.process.ProcessResult;
+import org.eclipse.dirigible.commons.process.ProcessRunner;
 import org.eclipse.dirigible.commons.process.ProcessUtils;
+import org.junit.Assume;
 import org.junit.Test;
 
 /**
@@ -94,4 +107,92 @@ public class ProcessTest {
 		assertEquals("ps -ef", args[2]);
 	}
 
+	/**
+	 * Test the runner returns as soon as the process exits, with the whole output.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testRunner() throws Exception {
+		assumeUnix();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long start = System.currentTimeMillis();
+		ProcessResult result = ProcessRunner.run(new ProcessBuilder("bash", "-c", "echo hello; exit 3"), out, 1024, 10000);
+		assertTrue(System.currentTimeMillis() - start < ProcessUtils.DEFAULT_WAIT_TIME);
+		assertEquals(3, result.getExitValue());
+		assertEquals("hello\n", new String(out.toByteArray()));
+		assertEquals(6, result.getOutputSize());
+		assertFalse(result.isTruncated());
+	}
+
+	/**
+	 * Test the output beyond the limit is discarded without blocking the process.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testRunnerOutputLimit() throws Exception {
+		assumeUnix();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ProcessResult result = ProcessRunner.run(new ProcessBuilder("bash", "-c", "head -c 1000000 /dev/zero"), out, 1000, 10000);
+		assertEquals(0, result.getExitValue());
+		assertEquals(1000, result.getOutputSize());
+		assertTrue(result.isTruncated());
+		assertEquals(1004, out.size());
+	}
+
+	/**
+	 * Test a process exceeding the timeout is killed.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testRunnerTimeout() throws Exception {
+		assumeUnix();
+		long start = System.currentTimeMillis();
+		try {
+			ProcessRunner.run(new ProcessBuilder("sleep", "10"), new ByteArrayOutputStream(), 1024, 300);
+			fail("The process has not timed out");
+		} catch (TimeoutException e) {
+			assertTrue(System.currentTimeMillis() - start < 5000);
+		}
+	}
+
+	/**
+	 * Test more processes than the limit wait for a free slot.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testRunnerConcurrent() throws Exception {
+		assumeUnix();
+		int count = ProcessRunner.getMaxConcurrent() * 3;
+		ExecutorService executor = Executors.newFixedThreadPool(count);
+		try {
+			List<Callable<String>> calls = new ArrayList<Callable<String>>();
+			for (int i = 0; i < count; i++) {
+				String text = "process" + i;
+				calls.add(() -> {
+					ByteArrayOutputStream out = new ByteArrayOutputStream();
+					ProcessRunner.run(new ProcessBuilder("bash", "-c", "sleep 0.1; echo " + text), out, 1024, 30000);
+					return new String(out.toByteArray()).trim();
+				});
+			}
+			List<Future<String>> results = executor.invokeAll(calls);
+			for (int i = 0; i < count; i++) {
+				assertEquals("process" + i, results.get(i).get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private void assumeUnix() {
+		Assume.assumeFalse(System.getProperty("os.name").toLowerCase().indexOf("win") >= 0);
+	}
+
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.commons.utils.xml2json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Minimal streaming JSON emitter, which in contrast to the Gson writer can splice already serialized values of any
+ * size into the output.
+ */
+class JsonOutput {
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private final Writer writer;
+
+	private boolean[] hasElements = new boolean[32];
+
+	private int depth;
+
+	private boolean afterName;
+
+	/**
+	 * Instantiates a new JSON output.
+	 *
+	 * @param writer
+	 *            the writer
+	 */
+	JsonOutput(Writer writer) {
+		this.writer = writer;
+	}
+
+	void beginObject() throws IOException {
+		beforeValue();
+		writer.write('{');
+		push();
+	}
+
+	void endObject() throws IOException {
+		depth--;
+		writer.write('}');
+	}
+
+	void beginArray() throws IOException {
+		beforeValue();
+		writer.write('[');
+		push();
+	}
+
+	void endArray() throws IOException {
+		depth--;
+		writer.write(']');
+	}
+
+	void name(String name) throws IOException {
+		beforeValue();
+		string(name);
+		writer.write(':');
+		afterName = true;
+	}
+
+	void value(String value) throws IOException {
+		beforeValue();
+		string(value);
+	}
+
+	/**
+	 * Writes a value serialized separately.
+	 *
+	 * @param buffer
+	 *            the buffer holding the value
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	void value(SpillBuffer buffer) throws IOException {
+		beforeValue();
+		buffer.writeTo(writer);
+	}
+
+	private void push() {
+		depth++;
+		if (depth == hasElements.length) {
+			hasElements = Arrays.copyOf(hasElements, depth * 2);
+		}
+		hasElements[depth] = false;
+	}
+
+	private void beforeValue() throws IOException {
+		if (afterName) {
+			afterName = false;
+			return;
+		}
+		if (hasElements[depth]) {
+			writer.write(',');
+		}
+		hasElements[depth] = true;
+	}
+
+	private void string(String value) throws IOException {
+		writer.write('"');
+		int last = 0;
+		int length = value.length();
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			String replacement;
+			if (c == '"') {
+				replacement = "\\\""; //$NON-NLS-1$
+			} else if (c == '\\') {
+				replacement = "\\\\"; //$NON-NLS-1$
+			} else if (c == '\n') {
+				replacement = "\\n"; //$NON-NLS-1$
+			} else if (c == '\r') {
+				replacement = "\\r"; //$NON-NLS-1$
+			} else if (c == '\t') {
+				replacement = "\\t"; //$NON-NLS-1$
+			} else if ((c < 0x20) || (c == '\u2028') || (c == '\u2029')) {
+				replacement = "\\u" + HEX[(c >> 12) & 0xf] + HEX[(c >> 8) & 0xf] + HEX[(c >> 4) & 0xf] + HEX[c & 0xf]; //$NON-NLS-1$
+			} else {
+				continue;
+			}
+			writer.write(value, last, i - last);
+			writer.write(replacement);
+			last = i + 1;
+		}
+		writer.write(value, last, length - last);
+		writer.write('"');
+	}
+
+}
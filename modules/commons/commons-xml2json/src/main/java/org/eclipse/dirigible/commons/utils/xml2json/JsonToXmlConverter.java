@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.commons.utils.xml2json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Converts a JSON document in the form produced by {@link XmlToJsonConverter} back to XML while reading it. An
+ * instance keeps the state of one conversion only.
+ *
+ * The attributes of an element are written as they are read, so they have to precede its child elements. The "#text"
+ * and "#cdata-section" members are held back until the first child element or the end of the object, so that they
+ * can precede the attributes.
+ */
+class JsonToXmlConverter {
+
+	private static final Logger logger = LoggerFactory.getLogger(JsonToXmlConverter.class);
+
+	private static final String ATTR_TEXT = "#text"; //$NON-NLS-1$
+
+	private static final String ATTR_CDATA = "#cdata-section"; //$NON-NLS-1$
+
+	private static final String ATTR_PREFIX = "-"; //$NON-NLS-1$
+
+	private final JsonReader reader;
+
+	private final XMLStreamWriter writer;
+
+	/**
+	 * Instantiates a new converter.
+	 *
+	 * @param reader
+	 *            the reader of the JSON document
+	 * @param writer
+	 *            the writer of the XML
+	 */
+	JsonToXmlConverter(JsonReader reader, XMLStreamWriter writer) {
+		this.reader = reader;
+		this.writer = writer;
+	}
+
+	/**
+	 * Writes the document as XML.
+	 *
+	 * @throws IOException
+	 *             in case the JSON cannot be read
+	 * @throws XMLStreamException
+	 *             in case the XML cannot be written
+	 */
+	void convert() throws IOException, XMLStreamException {
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+			if (isAttribute(name)) {
+				reader.skipValue();
+			} else {
+				convertValue(name);
+			}
+		}
+		reader.endObject();
+		writer.flush();
+	}
+
+	private void convertValue(String name) throws IOException, XMLStreamException {
+		JsonToken token = reader.peek();
+		if (token == JsonToken.BEGIN_OBJECT) {
+			convertObject(name);
+		} else if (token == JsonToken.BEGIN_ARRAY) {
+			reader.beginArray();
+			while (reader.hasNext()) {
+				convertValue(name);
+			}
+			reader.endArray();
+		} else if (token == JsonToken.NULL) {
+			reader.nextNull();
+			writer.writeEmptyElement(name);
+		} else {
+			String value = nextPrimitive();
+			if (ATTR_TEXT.equals(name)) {
+				writer.writeCharacters(value);
+			} else if (ATTR_CDATA.equals(name)) {
+				writeCData(value);
+			} else if (!isAttribute(name)) {
+				writer.writeStartElement(name);
+				writer.writeCharacters(value);
+				writer.writeEndElement();
+			}
+		}
+	}
+
+	private void convertObject(String name) throws IOException, XMLStreamException {
+		writer.writeStartElement(name);
+		reader.beginObject();
+		List<String[]> texts = new ArrayList<String[]>();
+		boolean content = false;
+		while (reader.hasNext()) {
+			String member = reader.nextName();
+			JsonToken token = reader.peek();
+			boolean primitive = (token != JsonToken.BEGIN_OBJECT) && (token != JsonToken.BEGIN_ARRAY) && (token != JsonToken.NULL);
+			if (primitive && isAttribute(member)) {
+				if (content) {
+					logger.error("Attribute {} of element {} follows its content, so it is skipped", member, name);
+					reader.skipValue();
+				} else {
+					writer.writeAttribute(member.substring(ATTR_PREFIX.length()), nextPrimitive());
+				}
+			} else if (primitive && (ATTR_TEXT.equals(member) || ATTR_CDATA.equals(member)) && !content) {
+				texts.add(new String[] {member, nextPrimitive()});
+			} else {
+				if (!content) {
+					writeTexts(texts);
+					content = true;
+				}
+				convertValue(member);
+			}
+		}
+		reader.endObject();
+		if (!content) {
+			writeTexts(texts);
+		}
+		writer.writeEndElement();
+	}
+
+	private void writeTexts(List<String[]> texts) throws XMLStreamException {
+		for (String[] text : texts) {
+			if (ATTR_TEXT.equals(text[0])) {
+				writer.writeCharacters(text[1]);
+			} else {
+				writeCData(text[1]);
+			}
+		}
+		texts.clear();
+	}
+
+	private void writeCData(String base64) throws XMLStreamException {
+		writer.writeCData(new String(Base64.getDecoder().decode(base64), StandardCharsets.UTF_8));
+	}
+
+	private String nextPrimitive() throws IOException {
+		if (reader.peek() == JsonToken.BOOLEAN) {
+			return String.valueOf(reader.nextBoolean());
+		}
+		return reader.nextString();
+	}
+
+	private static boolean isAttribute(String name) {
+		return name.startsWith(ATTR_PREFIX);
+	}
+
+}
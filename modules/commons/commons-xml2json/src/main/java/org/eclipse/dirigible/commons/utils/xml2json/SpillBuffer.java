@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.commons.utils.xml2json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Buffer of characters kept in memory up to a limit and spilled to a temporary file after it. The limit can be shared
+ * by several buffers, so that the memory used by all of them together is bounded.
+ */
+class SpillBuffer extends Writer {
+
+	private final AtomicInteger memoryLeft;
+
+	private StringBuilder memory = new StringBuilder();
+
+	private Path file;
+
+	private Writer fileWriter;
+
+	/**
+	 * Instantiates a new spill buffer.
+	 *
+	 * @param memoryLeft
+	 *            the number of characters which can still be kept in memory by all the buffers sharing it
+	 */
+	SpillBuffer(AtomicInteger memoryLeft) {
+		this.memoryLeft = memoryLeft;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Writer#write(char[], int, int)
+	 */
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		if (fileWriter != null) {
+			fileWriter.write(cbuf, off, len);
+			return;
+		}
+		if (spillIfNeeded(len)) {
+			fileWriter.write(cbuf, off, len);
+			return;
+		}
+		memory.append(cbuf, off, len);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Writer#write(java.lang.String, int, int)
+	 */
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		if (fileWriter != null) {
+			fileWriter.write(str, off, len);
+			return;
+		}
+		if (spillIfNeeded(len)) {
+			fileWriter.write(str, off, len);
+			return;
+		}
+		memory.append(str, off, off + len);
+	}
+
+	/**
+	 * Reserves memory for the given number of characters or moves the buffer to a temporary file if there is not enough.
+	 *
+	 * @return true, if the buffer has been spilled
+	 */
+	private boolean spillIfNeeded(int len) throws IOException {
+		if (memoryLeft.addAndGet(-len) >= 0) {
+			return false;
+		}
+		memoryLeft.addAndGet(len + memory.length());
+		file = Files.createTempFile("dirigible-xml2json", ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
+		fileWriter = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+		fileWriter.append(memory);
+		memory = null;
+		return true;
+	}
+
+	/**
+	 * Copies the buffered characters to the given writer.
+	 *
+	 * @param writer
+	 *            the writer
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	void writeTo(Writer writer) throws IOException {
+		if (fileWriter == null) {
+			writer.append(memory);
+			return;
+		}
+		fileWriter.flush();
+		char[] chunk = new char[8192];
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			int read;
+			while ((read = reader.read(chunk)) != -1) {
+				writer.write(chunk, 0, read);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Writer#flush()
+	 */
+	@Override
+	public void flush() throws IOException {
+		if (fileWriter != null) {
+			fileWriter.flush();
+		}
+	}
+
+	/**
+	 * Releases the buffer and deletes the temporary file, if any.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (fileWriter != null) {
+			fileWriter.close();
+			Files.deleteIfExists(file);
+			fileWriter = null;
+		}
+		if (memory != null) {
+			memoryLeft.addAndGet(memory.length());
+			memory = null;
+		}
+	}
+
+}
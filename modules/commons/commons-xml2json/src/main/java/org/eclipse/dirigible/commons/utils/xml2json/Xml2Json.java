@@ -12,21 +12,25 @@
 package org.eclipse.dirigible.commons.utils.xml2json;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Base64;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 
 import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
@@ -35,304 +39,95 @@ import javax.xml.transform.TransformerFactoryConfigurationError;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 /**
- * The Class Xml2Json.
+ * Converts between XML and JSON.
+ *
+ * The conversion streams in both directions - the XML is read with StAX and written as JSON while reading, and the
+ * JSON is read token by token and written as XML - so the memory used does not depend on the size of the document.
+ * The attributes of an element are the members prefixed with "-", its text is "#text" and its CDATA sections are
+ * Base64 encoded as "#cdata-section". The sibling elements with the same name, adjacent or not, are grouped into an
+ * array.
  */
 public class Xml2Json {
-	private static final Logger logger = LoggerFactory.getLogger(Xml2Json.class);
-	
-	private static final String CDATA_CLOSE = "]]>";
-	
-	private static final String CDATA_OPEN = "<![CDATA[";
-	
-	private static final String ESQ = "=\"";
-	
-	private static final String SPACE = " ";
-	
-	private static final String EQ = "\"";
-	
-	private static final String EMPTY = "";
-	
-	private static final String ATTR_TEXT = "#text";
-	
-	private static final String ATTR_CDATA = "#cdata-section";
-	
-	private static final String LTS = "</";
-	
-	private static final String GT = ">";
-	
-	private static final String LT = "<";
-	
-	/** The added by value. */
-	static List<Object> ADDED_BY_VALUE = new ArrayList<Object>();
-	
-	/** The reorganized. */
-	static Map<String, JsonElement> REORGANIZED = new HashMap<String, JsonElement>();
-
-	/**
-	 * Transform XML to JSON.
-	 *
-	 * @param xml the xml
-	 * @return the string
-	 * @throws ParserConfigurationException the parser configuration exception
-	 * @throws SAXException the SAX exception
-	 * @throws IOException Signals that an I/O exception has occurred.
-	 */
-	public static String toJson(String xml) throws ParserConfigurationException, SAXException, IOException {
-		JsonObject rootJson = new JsonObject();
-		DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
-		documentBuilderFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-		DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
-		Document doc = documentBuilder.parse(new InputSource(new StringReader(xml)));
-		if (doc.hasChildNodes()) {
-			traverseNode(doc, rootJson, null);
-		}
-		Gson gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
-		String json = gson.toJson(rootJson);
-
-		return json;
-	}
-
-	/**
-	 * Traverse node.
-	 *
-	 * @param parentNode the parent node
-	 * @param parentJson the parent json
-	 * @param upperJson the upper json
-	 */
-	private static void traverseNode(Node parentNode, JsonObject parentJson, JsonObject upperJson) {
-		NodeList childList = parentNode.getChildNodes();
-		for (int i = 0; i < childList.getLength(); i++) {
-			JsonObject childJson = new JsonObject();
-			Node childNode = childList.item(i);
 
-			if (childNode.getNodeType() == Node.TEXT_NODE) {
-				if (childNode.getNodeValue().trim().length() != 0) {
-					// non empty text node reached, so add to the parent
-					processTextNode(parentNode, upperJson, childJson, childNode);
-				}
-			} else if (childNode.getNodeType() == Node.ELEMENT_NODE) {
+	private static final String INDENT = "  "; //$NON-NLS-1$
 
-				if (childNode.hasAttributes()) {
-					// attributes exist, so go thru them
-					traverseAttributes(childJson, childNode);
-				}
+	/** The JDK parser reports the CDATA sections as characters unless this property is set. */
+	private static final String REPORT_CDATA_EVENT = "http://java.sun.com/xml/stream/properties/report-cdata-event"; //$NON-NLS-1$
 
-				if (childNode.hasChildNodes()) {
-					// child nodes exist, so go into them
-					traverseNode(childNode, childJson, parentJson);
-				}
+	private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
 
-				if (childNode.getNodeType() != Node.TEXT_NODE) {
-					// non text node element
-					if (ADDED_BY_VALUE.contains(childNode)) {
-						// already added as a value
-						if (parentJson.has(childNode.getNodeName())) {
-							// there is already such an element as expected
-							JsonElement existing = parentJson.get(childNode.getNodeName());
-							if (existing instanceof JsonPrimitive) {
-								// it is a primitive as expected
-								Iterator attrs = childJson.entrySet().iterator();
-								if (attrs.hasNext()) {
-									// there are attributes, so reorganize the element to include the attributes and the
-									// value as property - #text
-									reorganizeForAttributes(parentJson, childNode, existing, attrs);
-								}
-							} else if (existing instanceof JsonArray) {
-								// already added and reorganized as an array, so take the last element of this type and
-								// add the attributes
-								Iterator attrs = childJson.entrySet().iterator();
-								if (attrs.hasNext()) {
-									reorganizeAddAttributes(childNode, attrs);
-								}
-							} else if (existing instanceof JsonObject) {
-								logger.error("Found object, but expected primitive or array");
-							}
-						} else {
-							logger.error("Expected element, but it does not exist");
-						}
-						// remove it from the list
-						ADDED_BY_VALUE.remove(childNode);
-					} else {
-						if (parentJson.has(childNode.getNodeName())) {
-							// parent already has such an element
-							JsonElement existing = parentJson.get(childNode.getNodeName());
-							if (existing instanceof JsonArray) {
-								// and it is already an array, so just add the child to the array
-								((JsonArray) existing).add(childJson);
-							} else if (existing instanceof JsonObject) {
-								// and it not an array, so reorganize the element
-								reorganizeElement(parentNode, parentJson, childJson, childNode, existing);
-							}
-						} else {
-							// no such an element yet, so add it to the parent
-							parentJson.add(childNode.getNodeName(), childJson);
-						}
-					}
-				}
-			} else if (childNode.getNodeType() == Node.CDATA_SECTION_NODE) {
-				// processTextNode(parentNode, upperJson, childJson, childNode);
-				String base64 = Base64.getEncoder().encodeToString(childNode.getNodeValue().getBytes(StandardCharsets.UTF_8));
-				parentJson.addProperty(childNode.getNodeName(), base64);
-			} else {
-				logger.error("Unsupported node type: {}", childNode.getNodeType());
-			}
-		}
-	}
+	private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
 
-	/**
-	 * Process text node.
-	 *
-	 * @param parentNode the parent node
-	 * @param upperJson the upper json
-	 * @param childJson the child json
-	 * @param childNode the child node
-	 */
-	private static void processTextNode(Node parentNode, JsonObject upperJson, JsonObject childJson, Node childNode) {
-		if (upperJson.has(parentNode.getNodeName())) {
-			// upper already has such an element
-			JsonElement existing = upperJson.get(parentNode.getNodeName());
-			if (existing instanceof JsonArray) {
-				// adding to the already reorganized array
-				((JsonArray) existing).add(new JsonPrimitive(childNode.getNodeValue()));
-				REORGANIZED.put(parentNode.hashCode() + EMPTY, childJson);
-			} else if (existing instanceof JsonObject) {
-				// found it as an object, so reorganize it
-				reorganizeObjectToArray(parentNode, upperJson, childJson, childNode, existing);
-			} else {
-				// found as a primitive, so reorganize it
-				reorganizePrimitiveToArray(parentNode, upperJson, childJson, childNode, existing);
-			}
-		} else {
-			// no such a node exists yet, so add it as a property to the upper element
-			upperJson.addProperty(parentNode.getNodeName(), childNode.getNodeValue());
+	private static XMLInputFactory createXmlInputFactory() {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+		if (factory.isPropertySupported(REPORT_CDATA_EVENT)) {
+			factory.setProperty(REPORT_CDATA_EVENT, Boolean.TRUE);
 		}
-		// add the parent node to the added as a value list
-		ADDED_BY_VALUE.add(parentNode);
-	}
-
-	/**
-	 * Reorganize element.
-	 *
-	 * @param parentNode the parent node
-	 * @param parentJson the parent json
-	 * @param childJson the child json
-	 * @param childNode the child node
-	 * @param existing the existing
-	 */
-	private static void reorganizeElement(Node parentNode, JsonObject parentJson, JsonObject childJson, Node childNode, JsonElement existing) {
-		parentJson.remove(childNode.getNodeName());
-		JsonArray arrayJson = new JsonArray();
-		arrayJson.add(existing);
-		arrayJson.add(childJson);
-		parentJson.add(childNode.getNodeName(), arrayJson);
-	}
-
-	/**
-	 * Reorganize object to array.
-	 *
-	 * @param parentNode the parent node
-	 * @param upperJson the upper json
-	 * @param childJson the child json
-	 * @param childNode the child node
-	 * @param existing the existing
-	 */
-	private static void reorganizeObjectToArray(Node parentNode, JsonObject upperJson, JsonObject childJson, Node childNode, JsonElement existing) {
-		upperJson.remove(parentNode.getNodeName());
-		JsonArray arrayJson = new JsonArray();
-		arrayJson.add(existing);
-		childJson.addProperty(childNode.getNodeName(), childNode.getNodeValue());
-		arrayJson.add(childJson);
-		upperJson.add(parentNode.getNodeName(), arrayJson);
-		REORGANIZED.put(parentNode.hashCode() + EMPTY, childJson);
-	}
-
-	/**
-	 * Reorganize primitive to array.
-	 *
-	 * @param parentNode the parent node
-	 * @param upperJson the upper json
-	 * @param childJson the child json
-	 * @param childNode the child node
-	 * @param existing the existing
-	 */
-	private static void reorganizePrimitiveToArray(Node parentNode, JsonObject upperJson, JsonObject childJson, Node childNode,
-			JsonElement existing) {
-		upperJson.remove(parentNode.getNodeName());
-		JsonArray arrayJson = new JsonArray();
-		arrayJson.add(existing);
-		arrayJson.add(new JsonPrimitive(childNode.getNodeValue()));
-		upperJson.add(parentNode.getNodeName(), arrayJson);
-		REORGANIZED.put(parentNode.hashCode() + EMPTY, childJson);
+		return factory;
 	}
 
 	/**
-	 * Reorganize add attributes.
+	 * Transform XML to JSON.
 	 *
-	 * @param childNode the child node
-	 * @param attrs the attrs
+	 * @param xml the xml
+	 * @return the pretty printed json
+	 * @throws XMLStreamException in case the XML cannot be parsed
+	 * @throws IOException Signals that an I/O exception has occurred.
 	 */
-	private static void reorganizeAddAttributes(Node childNode, Iterator attrs) {
-		JsonElement reorganizedJson = REORGANIZED.get(childNode.hashCode() + EMPTY);
-		if (reorganizedJson instanceof JsonObject) {
-			JsonObject objectJson = (JsonObject) reorganizedJson;
-			while (attrs.hasNext()) {
-				Entry entry = (Entry) attrs.next();
-				objectJson.addProperty(entry.getKey().toString(), entry.getValue().toString().replace(EQ, EMPTY));
-			}
-		} else {
-			logger.error("Expected object, found element or null");
-		}
-		REORGANIZED.remove(childNode.hashCode() + EMPTY);
+	public static String toJson(String xml) throws XMLStreamException, IOException {
+		StringWriter json = new StringWriter();
+		toJson(new StringReader(xml), json);
+		StringWriter pretty = new StringWriter();
+		prettyPrint(new JsonReader(new StringReader(json.toString())), pretty);
+		return pretty.toString();
 	}
 
 	/**
-	 * Reorganize for attributes.
+	 * Transform XML to JSON while reading it.
 	 *
-	 * @param parentJson the parent json
-	 * @param childNode the child node
-	 * @param existing the existing
-	 * @param attrs the attrs
+	 * @param xml the reader of the xml
+	 * @param json the writer of the json
+	 * @throws XMLStreamException in case the XML cannot be parsed
+	 * @throws IOException Signals that an I/O exception has occurred.
 	 */
-	private static void reorganizeForAttributes(JsonObject parentJson, Node childNode, JsonElement existing, Iterator attrs) {
-		parentJson.remove(childNode.getNodeName());
-		JsonObject objectJson = new JsonObject();
-		objectJson.addProperty(ATTR_TEXT, ((JsonPrimitive) existing).getAsString());
-		while (attrs.hasNext()) {
-			Entry entry = (Entry) attrs.next();
-			objectJson.addProperty(entry.getKey().toString(), entry.getValue().toString().replace(EQ, EMPTY));
+	public static void toJson(Reader xml, Writer json) throws XMLStreamException, IOException {
+		XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(xml);
+		try {
+			new XmlToJsonConverter(reader).convert(json);
+			json.flush();
+		} finally {
+			reader.close();
 		}
-		parentJson.add(childNode.getNodeName(), objectJson);
 	}
 
 	/**
-	 * Traverse attributes.
+	 * Transform XML to JSON while reading it. The JSON is written in UTF-8.
 	 *
-	 * @param childJson the child json
-	 * @param childNode the child node
+	 * @param xml the input stream of the xml
+	 * @param json the output stream of the json
+	 * @throws XMLStreamException in case the XML cannot be parsed
+	 * @throws IOException Signals that an I/O exception has occurred.
 	 */
-	private static void traverseAttributes(JsonObject childJson, Node childNode) {
-		NamedNodeMap attrNodeMap = childNode.getAttributes();
-		for (int j = 0; j < attrNodeMap.getLength(); j++) {
-			Node attrNode = attrNodeMap.item(j);
-			childJson.addProperty("-" + attrNode.getNodeName(), attrNode.getNodeValue());
+	public static void toJson(InputStream xml, OutputStream json) throws XMLStreamException, IOException {
+		XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(xml);
+		try {
+			Writer writer = new OutputStreamWriter(json, StandardCharsets.UTF_8);
+			new XmlToJsonConverter(reader).convert(writer);
+			writer.flush();
+		} finally {
+			reader.close();
 		}
 	}
 
@@ -340,108 +135,103 @@ public class Xml2Json {
 	 * To xml.
 	 *
 	 * @param json the json
-	 * @return the string
+	 * @return the xml
+	 * @throws XMLStreamException in case the XML cannot be written
+	 * @throws IOException in case the JSON cannot be parsed
 	 */
-	public static String toXml(String json) {
-		JsonParser parser = new JsonParser();
-		JsonElement rootJson = parser.parse(json);
-		StringBuffer buff = new StringBuffer();
-		serializeObjectAsXml((JsonObject) rootJson, buff);
-		return buff.toString();
+	public static String toXml(String json) throws XMLStreamException, IOException {
+		StringWriter xml = new StringWriter();
+		toXml(new StringReader(json), xml);
+		return xml.toString();
 	}
 
 	/**
-	 * Serialize object as xml.
+	 * Transform JSON to XML while reading it.
 	 *
-	 * @param objectJson the object json
-	 * @param buff the buff
+	 * @param json the reader of the json
+	 * @param xml the writer of the xml
+	 * @throws XMLStreamException in case the XML cannot be written
+	 * @throws IOException in case the JSON cannot be parsed
 	 */
-	private static void serializeObjectAsXml(JsonObject objectJson, StringBuffer buff) {
-		Iterator elements = objectJson.entrySet().iterator();
-		while (elements.hasNext()) {
-			Entry entry = (Entry) elements.next();
-			Object key = entry.getKey();
-			Object value = entry.getValue();
-			if (value instanceof JsonObject) {
-				buff.append(LT).append(key);
-				serializeObjectAttributes((JsonObject) value, buff);
-				buff.append(GT);
-				serializeObjectAsXml((JsonObject) value, buff);
-				buff.append(LTS).append(key).append(GT);
-			} else if (value instanceof JsonArray) {
-				serializeArrayAsXml(buff, key, value);
-			} else if (value instanceof JsonPrimitive) {
-				if (ATTR_TEXT.equals(key)) {
-					buff.append(value.toString().replace(EQ, EMPTY));
-				} else if (ATTR_CDATA.equals(key)) {
-					buff.append(CDATA_OPEN).append(new String(Base64.getDecoder().decode(value.toString().replace(EQ, EMPTY)), StandardCharsets.UTF_8)).append(CDATA_CLOSE);
-				} else {
-					if (!key.toString().startsWith("-")) {
-						buff.append(LT).append(key.toString()).append(GT).append(value.toString().replace(EQ, EMPTY)).append(LTS)
-								.append(key.toString()).append(GT);
-					}
-				}
-			} else {
-				logger.error("Unhandled element");
-			}
+	public static void toXml(Reader json, Writer xml) throws XMLStreamException, IOException {
+		XMLStreamWriter writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(xml);
+		try {
+			new JsonToXmlConverter(new JsonReader(json), writer).convert();
+		} finally {
+			writer.close();
 		}
 	}
 
 	/**
-	 * Serialize object attributes.
+	 * Transform JSON to XML while reading it. The JSON is read and the XML is written in UTF-8.
 	 *
-	 * @param objectJson the object json
-	 * @param buff the buff
+	 * @param json the input stream of the json
+	 * @param xml the output stream of the xml
+	 * @throws XMLStreamException in case the XML cannot be written
+	 * @throws IOException in case the JSON cannot be parsed
 	 */
-	private static void serializeObjectAttributes(JsonObject objectJson, StringBuffer buff) {
-		Iterator elements = objectJson.entrySet().iterator();
-		while (elements.hasNext()) {
-			Entry entry = (Entry) elements.next();
-			Object key = entry.getKey();
-			Object value = entry.getValue();
-			if (value instanceof JsonPrimitive) {
-				if (key.toString().startsWith("-")) {
-					buff.append(SPACE).append(key.toString().substring(1)).append(ESQ).append(value.toString().replace(EQ, EMPTY)).append(EQ);
-				}
-			}
+	public static void toXml(InputStream json, OutputStream xml) throws XMLStreamException, IOException {
+		XMLStreamWriter writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(xml, StandardCharsets.UTF_8.name());
+		try {
+			new JsonToXmlConverter(new JsonReader(new InputStreamReader(json, StandardCharsets.UTF_8)), writer).convert();
+		} finally {
+			writer.close();
 		}
 	}
 
 	/**
-	 * Serialize array as xml.
+	 * Copies the JSON token by token with indentation, keeping the order and any repeated names of the members.
 	 *
-	 * @param buff the buff
-	 * @param key the key
-	 * @param value the value
+	 * @param reader the reader
+	 * @param output the output
+	 * @throws IOException Signals that an I/O exception has occurred.
 	 */
-	private static void serializeArrayAsXml(StringBuffer buff, Object key, Object value) {
-		JsonArray array = (JsonArray) value;
-		for (int i = 0; i < array.size(); i++) {
-			JsonElement elementJson = array.get(i);
-			if (elementJson instanceof JsonObject) {
-				buff.append(LT).append(key);
-				serializeObjectAttributes((JsonObject) elementJson, buff);
-				buff.append(GT);
-				serializeObjectAsXml((JsonObject) elementJson, buff);
-				buff.append(LTS).append(key).append(GT);
-			} else if (elementJson instanceof JsonArray) {
-				serializeArrayAsXml(buff, key, elementJson);
-			} else if (elementJson instanceof JsonPrimitive) {
-				JsonPrimitive elementPrimitive = (JsonPrimitive) elementJson;
-				if (ATTR_TEXT.equals(key)) {
-					buff.append(elementPrimitive.toString().replace(EQ, EMPTY));
-				} else if (ATTR_CDATA.equals(key)) {
-					buff.append(CDATA_OPEN).append(new String(Base64.getDecoder().decode(elementPrimitive.toString().replace(EQ, EMPTY)), StandardCharsets.UTF_8))
-							.append(CDATA_CLOSE);
-				} else {
-					// System.err.println("ERROR: content attributes must be #text");
-					buff.append(LT).append(key);
-					buff.append(GT);
-					buff.append(elementPrimitive.toString().replace(EQ, EMPTY));
-					buff.append(LTS).append(key).append(GT);
-				}
+	private static void prettyPrint(JsonReader reader, Writer output) throws IOException {
+		JsonWriter writer = new JsonWriter(output);
+		writer.setIndent(INDENT);
+		writer.setHtmlSafe(false);
+		int depth = 0;
+		do {
+			switch (reader.peek()) {
+				case BEGIN_OBJECT:
+					reader.beginObject();
+					writer.beginObject();
+					depth++;
+					break;
+				case END_OBJECT:
+					reader.endObject();
+					writer.endObject();
+					depth--;
+					break;
+				case BEGIN_ARRAY:
+					reader.beginArray();
+					writer.beginArray();
+					depth++;
+					break;
+				case END_ARRAY:
+					reader.endArray();
+					writer.endArray();
+					depth--;
+					break;
+				case NAME:
+					writer.name(reader.nextName());
+					break;
+				case STRING:
+				case NUMBER:
+					writer.value(reader.nextString());
+					break;
+				case BOOLEAN:
+					writer.value(reader.nextBoolean());
+					break;
+				case NULL:
+					reader.nextNull();
+					writer.nullValue();
+					break;
+				default:
+					return;
 			}
-		}
+		} while (depth > 0);
+		writer.flush();
 	}
 
 	/**
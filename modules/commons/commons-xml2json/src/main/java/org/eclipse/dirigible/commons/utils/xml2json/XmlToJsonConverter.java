@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.commons.utils.xml2json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Converts a single XML document to JSON while reading it. An instance keeps the state of one conversion only.
+ *
+ * Every element becomes a member named after it. An element with text only becomes a string, otherwise an object with
+ * the attributes as "-name" members, the child elements, the text as "#text" and the CDATA sections Base64 encoded as
+ * "#cdata-section". The child elements with the same name, adjacent or not, are grouped into an array. As that is
+ * known only when the parent ends, the children are serialized aside, one buffer per name, in memory up to a limit
+ * shared by the whole conversion and in temporary files after it, so the memory used does not depend on the size of
+ * the document.
+ */
+class XmlToJsonConverter {
+
+	private static final String ATTR_TEXT = "#text"; //$NON-NLS-1$
+
+	private static final String ATTR_CDATA = "#cdata-section"; //$NON-NLS-1$
+
+	private static final String ATTR_PREFIX = "-"; //$NON-NLS-1$
+
+	private static final int BUFFER_THRESHOLD = 1024 * 1024;
+
+	private final XMLStreamReader reader;
+
+	private final AtomicInteger memoryLeft = new AtomicInteger(BUFFER_THRESHOLD);
+
+	/**
+	 * Instantiates a new converter.
+	 *
+	 * @param reader
+	 *            the reader of the XML document
+	 */
+	XmlToJsonConverter(XMLStreamReader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * Writes the document as JSON.
+	 *
+	 * @param writer
+	 *            the writer
+	 * @throws XMLStreamException
+	 *             in case the XML cannot be parsed
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	void convert(Writer writer) throws XMLStreamException, IOException {
+		JsonOutput output = new JsonOutput(writer);
+		output.beginObject();
+		while (reader.hasNext()) {
+			if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+				output.name(getName());
+				convertElement(output);
+			}
+		}
+		output.endObject();
+		writer.flush();
+	}
+
+	/**
+	 * Writes the value of the current element and moves to its end.
+	 */
+	private void convertElement(JsonOutput output) throws XMLStreamException, IOException {
+		int attributesCount = reader.getAttributeCount();
+		String[] attributes = new String[attributesCount * 2];
+		for (int i = 0; i < attributesCount; i++) {
+			attributes[i * 2] = ATTR_PREFIX + getAttributeName(i);
+			attributes[(i * 2) + 1] = reader.getAttributeValue(i);
+		}
+
+		StringBuilder text = new StringBuilder();
+		int event = readText(text);
+		boolean hasText = !isBlank(text);
+		if (event == XMLStreamConstants.END_ELEMENT) {
+			if (attributesCount == 0) {
+				if (hasText) {
+					output.value(text.toString());
+				} else {
+					output.beginObject();
+					output.endObject();
+				}
+				return;
+			}
+			output.beginObject();
+			if (hasText) {
+				output.name(ATTR_TEXT);
+				output.value(text.toString());
+			}
+			writeAttributes(output, attributes);
+			output.endObject();
+			return;
+		}
+
+		output.beginObject();
+		writeAttributes(output, attributes);
+		if (!hasText) {
+			text.setLength(0);
+		}
+		StringBuilder cdata = null;
+		Map<String, ChildGroup> children = new LinkedHashMap<String, ChildGroup>();
+		try {
+			while (event != XMLStreamConstants.END_ELEMENT) {
+				if (event == XMLStreamConstants.START_ELEMENT) {
+					String name = getName();
+					ChildGroup group = children.get(name);
+					if (group == null) {
+						group = new ChildGroup(memoryLeft);
+						children.put(name, group);
+					}
+					group.count++;
+					convertElement(group.output);
+				} else if (event == XMLStreamConstants.CDATA) {
+					if (cdata == null) {
+						cdata = new StringBuilder();
+					}
+					cdata.append(reader.getText());
+				}
+				event = readMixedText(text);
+			}
+			for (Map.Entry<String, ChildGroup> entry : children.entrySet()) {
+				output.name(entry.getKey());
+				ChildGroup group = entry.getValue();
+				if (group.count > 1) {
+					output.beginArray();
+					output.value(group.buffer);
+					output.endArray();
+				} else {
+					output.value(group.buffer);
+				}
+			}
+		} finally {
+			for (ChildGroup group : children.values()) {
+				group.buffer.close();
+			}
+		}
+		if (!isBlank(text)) {
+			output.name(ATTR_TEXT);
+			output.value(text.toString());
+		}
+		if (cdata != null) {
+			output.name(ATTR_CDATA);
+			output.value(Base64.getEncoder().encodeToString(cdata.toString().getBytes(StandardCharsets.UTF_8)));
+		}
+		output.endObject();
+	}
+
+	/**
+	 * Appends the text up to the next element or CDATA section, skipping the comments and the processing instructions.
+	 *
+	 * @return the event after the text
+	 */
+	private int readText(StringBuilder text) throws XMLStreamException {
+		while (true) {
+			int event = reader.next();
+			switch (event) {
+				case XMLStreamConstants.CHARACTERS:
+				case XMLStreamConstants.SPACE:
+				case XMLStreamConstants.ENTITY_REFERENCE:
+					text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+					break;
+				case XMLStreamConstants.START_ELEMENT:
+				case XMLStreamConstants.END_ELEMENT:
+				case XMLStreamConstants.CDATA:
+					return event;
+				default:
+					break;
+			}
+		}
+	}
+
+	/**
+	 * Appends the text up to the next element or CDATA section unless it is blank, so that the indentation between the
+	 * child elements is not collected.
+	 *
+	 * @return the event after the text
+	 */
+	private int readMixedText(StringBuilder text) throws XMLStreamException {
+		int start = text.length();
+		int event = readText(text);
+		if (isBlank(text, start)) {
+			text.setLength(start);
+		}
+		return event;
+	}
+
+	private void writeAttributes(JsonOutput output, String[] attributes) throws IOException {
+		for (int i = 0; i < attributes.length; i += 2) {
+			output.name(attributes[i]);
+			output.value(attributes[i + 1]);
+		}
+	}
+
+	private String getName() {
+		String prefix = reader.getPrefix();
+		return (prefix == null) || prefix.isEmpty() ? reader.getLocalName() : prefix + ":" + reader.getLocalName(); //$NON-NLS-1$
+	}
+
+	private String getAttributeName(int index) {
+		String prefix = reader.getAttributePrefix(index);
+		String localName = reader.getAttributeLocalName(index);
+		return (prefix == null) || prefix.isEmpty() ? localName : prefix + ":" + localName; //$NON-NLS-1$
+	}
+
+	private static boolean isBlank(CharSequence text) {
+		return isBlank(text, 0);
+	}
+
+	private static boolean isBlank(CharSequence text, int start) {
+		for (int i = start; i < text.length(); i++) {
+			if (!Character.isWhitespace(text.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The serialized child elements with the same name, separated by commas.
+	 */
+	private static class ChildGroup {
+
+		private final SpillBuffer buffer;
+
+		private final JsonOutput output;
+
+		private int count;
+
+		ChildGroup(AtomicInteger memoryLeft) {
+			this.buffer = new SpillBuffer(memoryLeft);
+			this.output = new JsonOutput(buffer);
+		}
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.commons.utils.xml2json.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.dirigible.commons.utils.xml2json.Xml2Json;
+import org.junit.Test;
+
+/**
+ * The streaming conversions between XML and JSON.
+ */
+public class Xml2JsonStreamTest {
+
+	/**
+	 * The stream overloads produce compact JSON and XML without a declaration.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void testStreams() throws Exception {
+		String xml = "<a x=\"1\"><b>é</b><b>2</b><c/></a>";
+		ByteArrayOutputStream json = new ByteArrayOutputStream();
+		Xml2Json.toJson(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), json);
+		assertEquals("{\"a\":{\"-x\":\"1\",\"b\":[\"é\",\"2\"],\"c\":{}}}", json.toString(StandardCharsets.UTF_8.name()));
+
+		ByteArrayOutputStream back = new ByteArrayOutputStream();
+		Xml2Json.toXml(new ByteArrayInputStream(json.toByteArray()), back);
+		assertEquals("<a x=\"1\"><b>é</b><b>2</b><c/></a>", back.toString(StandardCharsets.UTF_8.name()));
+	}
+
+	/**
+	 * Repeated elements larger than the in-memory buffer are spilled and still grouped into an array.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void testLargeRepeatedElements() throws Exception {
+		StringBuilder text = new StringBuilder();
+		while (text.length() < (3 * 1024 * 1024) / 2) {
+			text.append("0123456789abcdef");
+		}
+		String xml = "<a><b>" + text + "</b><b>" + text + "</b><b>x</b></a>";
+		StringWriter json = new StringWriter();
+		Xml2Json.toJson(new StringReader(xml), json);
+		assertEquals("{\"a\":{\"b\":[\"" + text + "\",\"" + text + "\",\"x\"]}}", json.toString());
+
+		StringWriter back = new StringWriter();
+		Xml2Json.toXml(new StringReader(json.toString()), back);
+		assertEquals(xml, back.toString());
+	}
+
+	/**
+	 * Elements with the same name which are not adjacent are still grouped into a single array.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void testNonAdjacentElements() throws Exception {
+		String xml = "<a><b>1</b><c>x</c><b>2</b><d><e>3</e><f/><e>4</e></d></a>";
+		StringWriter json = new StringWriter();
+		Xml2Json.toJson(new StringReader(xml), json);
+		assertEquals("{\"a\":{\"b\":[\"1\",\"2\"],\"c\":\"x\",\"d\":{\"e\":[\"3\",\"4\"],\"f\":{}}}}", json.toString());
+		assertEquals("<a><b>1</b><b>2</b><c>x</c><d><e>3</e><e>4</e><f/></d></a>", Xml2Json.toXml(json.toString()));
+	}
+
+	/**
+	 * The conversions do not share any state.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void testConcurrentConversions() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> results = new ArrayList<Future<String>>();
+			for (int i = 0; i < 64; i++) {
+				final int index = i;
+				results.add(executor.submit(new Callable<String>() {
+					@Override
+					public String call() throws Exception {
+						String xml = "<a><b id=\"" + index + "\">" + index + "</b><b>" + index + "</b></a>";
+						return Xml2Json.toXml(Xml2Json.toJson(xml));
+					}
+				}));
+			}
+			for (int i = 0; i < results.size(); i++) {
+				assertEquals("<a><b id=\"" + i + "\">" + i + "</b><b>" + i + "</b></a>", results.get(i).get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
@@ -230,6 +230,45 @@ public class ExtensionsSynchronizer extends AbstractSynchronizer {
 		logger.trace("Done synchronizing Extension Points and Extensions from Registry.");
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#getFileExtensions()
+	 */
+	@Override
+	protected String[] getFileExtensions() {
+		return new String[] { IExtensionsCoreService.FILE_EXTENSION_EXTENSIONPOINT, IExtensionsCoreService.FILE_EXTENSION_EXTENSION };
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#isIncrementalSynchronizationSupported()
+	 */
+	@Override
+	protected boolean isIncrementalSynchronizationSupported() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#cleanupResource(java.lang.String)
+	 */
+	@Override
+	protected void cleanupResource(String registryPath) throws SynchronizationException {
+		try {
+			if (registryPath.endsWith(IExtensionsCoreService.FILE_EXTENSION_EXTENSIONPOINT)
+					&& extensionsCoreService.existsExtensionPoint(registryPath)) {
+				extensionsCoreService.removeExtensionPoint(registryPath);
+				logger.warn("Cleaned up Extension Point from location: {}", registryPath);
+			}
+			if (registryPath.endsWith(IExtensionsCoreService.FILE_EXTENSION_EXTENSION) && extensionsCoreService.existsExtension(registryPath)) {
+				extensionsCoreService.removeExtension(registryPath);
+				logger.warn("Cleaned up Extension from location: {}", registryPath);
+			}
+		} catch (ExtensionsException e) {
+			throw new SynchronizationException(e);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#synchronizeResource(org.eclipse.dirigible.
@@ -260,6 +299,10 @@ public class ExtensionsSynchronizer extends AbstractSynchronizer {
 	protected void cleanup() throws SynchronizationException {
 		logger.trace("Cleaning up Extension Points and Extensions...");
 		super.cleanup();
+		if (isIncrementalSynchronization()) {
+			// only the deleted resources are cleaned up during incremental synchronization
+			return;
+		}
 
 		try {
 			List<ExtensionPointDefinition> extensionPointDefinitions = extensionsCoreService.getExtensionPoints();
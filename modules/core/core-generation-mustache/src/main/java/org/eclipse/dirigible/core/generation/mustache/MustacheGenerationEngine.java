@@ -11,21 +11,26 @@
  */
 package org.eclipse.dirigible.core.generation.mustache;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.StringReader;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.eclipse.dirigible.core.generation.api.GenerationBatch;
+import org.eclipse.dirigible.core.generation.api.GenerationException;
+import org.eclipse.dirigible.core.generation.api.GenerationTemplate;
+import org.eclipse.dirigible.core.generation.api.GenerationTemplateCache;
 import org.eclipse.dirigible.core.generation.api.IGenerationEngine;
 
 import com.github.mustachejava.DefaultMustacheFactory;
 import com.github.mustachejava.Mustache;
+import com.github.mustachejava.MustacheException;
 import com.github.mustachejava.util.DecoratedCollection;
 
 public class MustacheGenerationEngine implements IGenerationEngine {
@@ -35,6 +40,8 @@ public class MustacheGenerationEngine implements IGenerationEngine {
 	private static final String MUSTACHE_DEFAULT_START_SYMBOL = "{{";
 	private static final String MUSTACHE_DEFAULT_END_SYMBOL = "}}";
 	
+	private static final DefaultMustacheFactory MUSTACHE_FACTORY = new DefaultMustacheFactory();
+	
 	@Override
 	public String getName() {
 		return ENGINE_NAME;
@@ -48,18 +55,43 @@ public class MustacheGenerationEngine implements IGenerationEngine {
 	@Override
 	public byte[] generate(Map<String, Object> parameters, String location, byte[] input, String sm, String em)
 			throws IOException {
-		sm = sm == null ? MUSTACHE_DEFAULT_START_SYMBOL : sm;
-		em = em == null ? MUSTACHE_DEFAULT_END_SYMBOL : em;
-		decorateParameters(parameters);
-		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		ByteArrayOutputStream baos = new ByteArrayOutputStream(Math.max(input.length, 32));
 		Writer writer = new OutputStreamWriter(baos, StandardCharsets.UTF_8);
-		DefaultMustacheFactory defaultMustacheFactory = new DefaultMustacheFactory();
-		Mustache mustache = defaultMustacheFactory.compile(new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.UTF_8), location, sm, em);
-		mustache.execute(writer, parameters);
+		generate(parameters, location, input, sm, em, writer);
 		writer.flush();
 		return baos.toByteArray();
 	}
 
+	@Override
+	public void generate(Map<String, Object> parameters, String location, byte[] input, String sm, String em, Writer writer)
+			throws IOException {
+		decorateParameters(parameters);
+		render(parameters, location, input, sm, em, writer);
+	}
+
+	/**
+	 * The parameters are decorated once for the whole batch, so that the templates can be rendered in parallel.
+	 */
+	@Override
+	public List<byte[]> generate(Map<String, Object> parameters, List<GenerationTemplate> templates) throws IOException {
+		decorateParameters(parameters);
+		return GenerationBatch.generate(templates,
+				(template, writer) -> render(parameters, template.getLocation(), template.getInput(), template.getSm(), template.getEm(), writer));
+	}
+
+	private void render(Map<String, Object> parameters, String location, byte[] input, String sm, String em, Writer writer) {
+		String start = sm == null ? MUSTACHE_DEFAULT_START_SYMBOL : sm;
+		String end = em == null ? MUSTACHE_DEFAULT_END_SYMBOL : em;
+		Mustache mustache = GenerationTemplateCache.get(ENGINE_NAME, input, start, end, template -> {
+			try {
+				return MUSTACHE_FACTORY.compile(new StringReader(template), location, start, end);
+			} catch (MustacheException e) {
+				throw new GenerationException("Could not compile template by Mustache: " + location, e);
+			}
+		});
+		mustache.execute(writer, parameters);
+	}
+
 	private void decorateParameters(Map<String, Object> parameters) {
 		if (parameters != null) {
 			Map<String, Object> newParameters = new HashMap<String, Object>();
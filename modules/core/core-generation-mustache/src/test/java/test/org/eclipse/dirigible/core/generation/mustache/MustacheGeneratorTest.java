@@ -14,10 +14,15 @@ package test.org.eclipse.dirigible.core.generation.mustache;
 import static org.junit.Assert.assertEquals;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.eclipse.dirigible.core.generation.api.GenerationTemplate;
+import org.eclipse.dirigible.core.generation.api.GenerationTemplateCache;
 import org.eclipse.dirigible.core.generation.api.IGenerationEngine;
 import org.eclipse.dirigible.core.generation.mustache.MustacheGenerationEngine;
 import org.junit.Test;
@@ -117,4 +122,46 @@ public class MustacheGeneratorTest {
 		byte[] result = generationEngine.generate(parameters, "/location", "test {{#elements_}}{{#value.properties_}}{{value.table}}{{^last}}, {{/last}}{{/value.properties_}}{{/elements_}}".getBytes(), "{{", "}}");
 		assertEquals("test table1, table2", new String(result));
 	}
+
+	@Test
+	public void generateCached() throws IOException {
+		GenerationTemplateCache.clear();
+		IGenerationEngine generationEngine = new MustacheGenerationEngine();
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		for (int i = 0; i < 10; i++) {
+			parameters.put("testParameter", "testValue" + i);
+			StringWriter writer = new StringWriter();
+			generationEngine.generate(parameters, "/location" + i, "test {{testParameter}}".getBytes(), null, null, writer);
+			assertEquals("test testValue" + i, writer.toString());
+		}
+		assertEquals(1, GenerationTemplateCache.size());
+		generationEngine.generate(parameters, "/location", "test [[testParameter]]".getBytes(), "[[", "]]");
+		assertEquals(2, GenerationTemplateCache.size());
+	}
+
+	@Test
+	public void generateBatch() throws IOException {
+		IGenerationEngine generationEngine = new MustacheGenerationEngine();
+		Map<String, Object> parameters = new HashMap<String, Object>() {{
+			put("name", "model");
+			put("elements", Arrays.asList(
+					new HashMap<String, Object>() {{
+						put("name", "name1");
+					}},
+					new HashMap<String, Object>() {{
+						put("name", "name2");
+					}}
+				));
+		}};
+		List<GenerationTemplate> templates = new ArrayList<GenerationTemplate>();
+		for (int i = 0; i < 50; i++) {
+			templates.add(new GenerationTemplate("/location" + i, (i + " {{name}}: {{#elements_}}{{value.name}}{{^last}}, {{/last}}{{/elements_}}").getBytes()));
+		}
+		List<byte[]> results = generationEngine.generate(parameters, templates);
+		assertEquals(templates.size(), results.size());
+		for (int i = 0; i < results.size(); i++) {
+			assertEquals(i + " model: name1, name2", new String(results.get(i)));
+		}
+	}
+
 }
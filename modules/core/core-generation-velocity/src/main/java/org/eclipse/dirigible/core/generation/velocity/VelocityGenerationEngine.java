@@ -11,28 +11,34 @@
  */
 package org.eclipse.dirigible.core.generation.velocity;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.StringReader;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
+import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.apache.velocity.runtime.parser.ParseException;
+import org.eclipse.dirigible.core.generation.api.GenerationBatch;
+import org.eclipse.dirigible.core.generation.api.GenerationException;
+import org.eclipse.dirigible.core.generation.api.GenerationTemplate;
+import org.eclipse.dirigible.core.generation.api.GenerationTemplateCache;
 import org.eclipse.dirigible.core.generation.api.IGenerationEngine;
 
 public class VelocityGenerationEngine implements IGenerationEngine {
 
 	public static final String ENGINE_NAME = "velocity";
 	
-	private VelocityEngine engine;
+	private RuntimeInstance engine;
 
 	public VelocityGenerationEngine() {
-		engine = new VelocityEngine();
+		engine = new RuntimeInstance();
 		try {
 			engine.init();
 		} catch (Throwable e) {
@@ -55,25 +61,55 @@ public class VelocityGenerationEngine implements IGenerationEngine {
 	@Override
 	public byte[] generate(Map<String, Object> parameters, String location, byte[] input, String sm, String em)
 			throws IOException {
-		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		ByteArrayOutputStream baos = new ByteArrayOutputStream(Math.max(input.length, 32));
 		Writer writer = new OutputStreamWriter(baos, StandardCharsets.UTF_8);
-		ByteArrayInputStream in = new ByteArrayInputStream(input);
+		generate(parameters, location, input, sm, em, writer);
+		writer.flush();
+		return baos.toByteArray();
+	}
+
+	@Override
+	public void generate(Map<String, Object> parameters, String location, byte[] input, String sm, String em, Writer writer)
+			throws IOException {
 		try {
 			final VelocityContext context = new VelocityContext();
 			prepareContextData(parameters, context);
-			engine.evaluate(context, writer, location, new InputStreamReader(in, StandardCharsets.UTF_8));
-			writer.flush();
-			return baos.toByteArray();
+			getTemplate(location, input).merge(context, writer);
 		} catch (Exception ex) {
 			ex.printStackTrace();
 			throw new IOException("Could not evaluate template by Velocity: " + location, ex);
-		} finally {
+		}
+	}
+
+	/**
+	 * Every template gets its own context, so that the templates can be rendered in parallel.
+	 */
+	@Override
+	public List<byte[]> generate(Map<String, Object> parameters, List<GenerationTemplate> templates) throws IOException {
+		return GenerationBatch.generate(templates,
+				(template, writer) -> generate(parameters, template.getLocation(), template.getInput(), template.getSm(), template.getEm(), writer));
+	}
+
+	/**
+	 * Gets the parsed template from the shared cache, as parsing is the costly part of the evaluation
+	 *
+	 * @param location
+	 * @param input
+	 * @return the template
+	 */
+	private Template getTemplate(String location, byte[] input) {
+		return GenerationTemplateCache.get(ENGINE_NAME, input, null, null, text -> {
 			try {
-				in.close();
-			} catch (IOException e) {
-				// do nothing
+				Template template = new Template();
+				template.setRuntimeServices(engine);
+				template.setName(location);
+				template.setData(engine.parse(new StringReader(text), location));
+				template.initDocument();
+				return template;
+			} catch (ParseException e) {
+				throw new GenerationException("Could not parse template by Velocity: " + location, e);
 			}
-		}
+		});
 	}
 	
 	/**
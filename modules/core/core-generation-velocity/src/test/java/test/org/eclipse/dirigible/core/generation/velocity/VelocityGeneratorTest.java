@@ -14,9 +14,13 @@ package test.org.eclipse.dirigible.core.generation.velocity;
 import static org.junit.Assert.assertEquals;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.eclipse.dirigible.core.generation.api.GenerationTemplate;
 import org.eclipse.dirigible.core.generation.api.IGenerationEngine;
 import org.eclipse.dirigible.core.generation.velocity.VelocityGenerationEngine;
 import org.junit.Test;
@@ -32,4 +36,32 @@ public class VelocityGeneratorTest {
 		assertEquals("test testValue", new String(result));
 	}
 
+	@Test
+	public void generateWriter() throws IOException {
+		IGenerationEngine generationEngine = new VelocityGenerationEngine();
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		for (int i = 0; i < 3; i++) {
+			parameters.put("testParameter", "testValue" + i);
+			StringWriter writer = new StringWriter();
+			generationEngine.generate(parameters, "/location", "#set($suffix = '!')test $testParameter$suffix".getBytes(), null, null, writer);
+			assertEquals("test testValue" + i + "!", writer.toString());
+		}
+	}
+
+	@Test
+	public void generateBatch() throws IOException {
+		IGenerationEngine generationEngine = new VelocityGenerationEngine();
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put("testParameter", "testValue");
+		List<GenerationTemplate> templates = new ArrayList<GenerationTemplate>();
+		for (int i = 0; i < 50; i++) {
+			templates.add(new GenerationTemplate("/location" + i, ("#set($index = " + i + ")$index $testParameter").getBytes()));
+		}
+		List<byte[]> results = generationEngine.generate(parameters, templates);
+		for (int i = 0; i < results.size(); i++) {
+			assertEquals(i + " testValue", new String(results.get(i)));
+		}
+		assertEquals(false, parameters.containsKey("index"));
+	}
+
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.generation.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+
+/**
+ * Renders the templates of a batch in parallel on a shared pool of DIRIGIBLE_GENERATION_THREADS workers.
+ *
+ * A batch started from a worker itself is rendered in the calling thread, so that nested batches cannot exhaust the
+ * pool.
+ */
+public class GenerationBatch {
+
+	/** The number of the workers rendering the templates of the batches. */
+	public static final String DIRIGIBLE_GENERATION_THREADS = "DIRIGIBLE_GENERATION_THREADS"; //$NON-NLS-1$
+
+	private static final String THREAD_PREFIX = "dirigible-generation-"; //$NON-NLS-1$
+
+	private static final int THREADS = getThreads();
+
+	private static final ExecutorService WORKERS = Executors.newFixedThreadPool(THREADS, new GenerationThreadFactory());
+
+	/**
+	 * Renders a template into a writer.
+	 */
+	@FunctionalInterface
+	public interface Renderer {
+
+		/**
+		 * Renders the template.
+		 *
+		 * @param template
+		 *            the template
+		 * @param writer
+		 *            the writer
+		 * @throws IOException
+		 *             Signals that an I/O exception has occurred.
+		 */
+		void render(GenerationTemplate template, Writer writer) throws IOException;
+	}
+
+	private GenerationBatch() {
+	}
+
+	/**
+	 * Renders the templates and waits for all of them.
+	 *
+	 * @param templates
+	 *            the templates
+	 * @param renderer
+	 *            the renderer, which has to be safe to call concurrently
+	 * @return the results in UTF-8 in the order of the templates
+	 * @throws IOException
+	 *             the exception of the first failed template
+	 */
+	public static List<byte[]> generate(List<GenerationTemplate> templates, Renderer renderer) throws IOException {
+		List<byte[]> results = new ArrayList<byte[]>(templates.size());
+		if ((THREADS <= 1) || (templates.size() <= 1) || Thread.currentThread().getName().startsWith(THREAD_PREFIX)) {
+			for (GenerationTemplate template : templates) {
+				results.add(render(template, renderer));
+			}
+			return results;
+		}
+		List<Future<byte[]>> futures = new ArrayList<Future<byte[]>>(templates.size());
+		for (GenerationTemplate template : templates) {
+			futures.add(WORKERS.submit(() -> render(template, renderer)));
+		}
+		try {
+			for (Future<byte[]> future : futures) {
+				results.add(future.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Generation has been interrupted", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new GenerationException(e.getCause());
+		} finally {
+			for (Future<byte[]> future : futures) {
+				future.cancel(false);
+			}
+		}
+		return results;
+	}
+
+	private static byte[] render(GenerationTemplate template, Renderer renderer) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(template.getInput().length, 32));
+		Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+		renderer.render(template, writer);
+		writer.flush();
+		return output.toByteArray();
+	}
+
+	private static int getThreads() {
+		String defaultThreads = Integer.toString(Runtime.getRuntime().availableProcessors());
+		return Integer.parseInt(Configuration.get(DIRIGIBLE_GENERATION_THREADS, defaultThreads));
+	}
+
+	/**
+	 * Creates the daemon threads of the workers.
+	 */
+	private static class GenerationThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, THREAD_PREFIX + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+}
@@ -12,23 +12,32 @@
 package org.eclipse.dirigible.core.generation.api;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.ServiceLoader;
 
 public class GenerationEnginesManager {
 	
-	private static final ServiceLoader<IGenerationEngine> GENERATION_ENGINES = ServiceLoader.load(IGenerationEngine.class);
+	private static final List<IGenerationEngine> GENERATION_ENGINES = loadGenerationEngines();
 	
 	/**
-	 * Returns the registered Generation Engines
+	 * Loads the engines once, as a service loader cannot be iterated concurrently
 	 * @return the list of Generation Engines
 	 */
-	public static final List<IGenerationEngine> getGenerationEngines() {
+	private static List<IGenerationEngine> loadGenerationEngines() {
 		List<IGenerationEngine> list = new ArrayList<>();
-		for (IGenerationEngine next : GENERATION_ENGINES) {
+		for (IGenerationEngine next : ServiceLoader.load(IGenerationEngine.class)) {
 			list.add(next);
 		}
-		return list;
+		return Collections.unmodifiableList(list);
+	}
+	
+	/**
+	 * Returns the registered Generation Engines
+	 * @return the list of Generation Engines
+	 */
+	public static final List<IGenerationEngine> getGenerationEngines() {
+		return new ArrayList<>(GENERATION_ENGINES);
 	}
 	
 	/**
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.generation.api;
+
+/**
+ * A template to be rendered as a part of a batch.
+ */
+public class GenerationTemplate {
+
+	private final String location;
+
+	private final byte[] input;
+
+	private final String sm;
+
+	private final String em;
+
+	/**
+	 * Instantiates a new template with the default delimiters of the engine.
+	 *
+	 * @param location
+	 *            the location
+	 * @param input
+	 *            the template
+	 */
+	public GenerationTemplate(String location, byte[] input) {
+		this(location, input, null, null);
+	}
+
+	/**
+	 * Instantiates a new template.
+	 *
+	 * @param location
+	 *            the location
+	 * @param input
+	 *            the template
+	 * @param sm
+	 *            the start delimiter, or null for the default one
+	 * @param em
+	 *            the end delimiter, or null for the default one
+	 */
+	public GenerationTemplate(String location, byte[] input, String sm, String em) {
+		this.location = location;
+		this.input = input;
+		this.sm = sm;
+		this.em = em;
+	}
+
+	/**
+	 * Gets the location.
+	 *
+	 * @return the location
+	 */
+	public String getLocation() {
+		return location;
+	}
+
+	/**
+	 * Gets the template.
+	 *
+	 * @return the input
+	 */
+	public byte[] getInput() {
+		return input;
+	}
+
+	/**
+	 * Gets the start delimiter.
+	 *
+	 * @return the start delimiter, or null
+	 */
+	public String getSm() {
+		return sm;
+	}
+
+	/**
+	 * Gets the end delimiter.
+	 *
+	 * @return the end delimiter, or null
+	 */
+	public String getEm() {
+		return em;
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.generation.api;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.function.Function;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * The compiled templates shared by the generation engines.
+ *
+ * The templates are keyed by the engine, the delimiters and the SHA-256 hash of their content, so the same template
+ * is compiled once regardless of its location, and a changed template never gets a stale compiled one. The number of
+ * the cached templates is bounded by DIRIGIBLE_GENERATION_TEMPLATE_CACHE_SIZE.
+ */
+public class GenerationTemplateCache {
+
+	/** The maximum number of the cached compiled templates. */
+	public static final String DIRIGIBLE_GENERATION_TEMPLATE_CACHE_SIZE = "DIRIGIBLE_GENERATION_TEMPLATE_CACHE_SIZE"; //$NON-NLS-1$
+
+	private static final String DEFAULT_CACHE_SIZE = "1000"; //$NON-NLS-1$
+
+	private static final char SEPARATOR = '\u0000';
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray(); //$NON-NLS-1$
+
+	private static final Cache<String, Object> TEMPLATES = Caffeine.newBuilder()
+			.maximumSize(Long.parseLong(Configuration.get(DIRIGIBLE_GENERATION_TEMPLATE_CACHE_SIZE, DEFAULT_CACHE_SIZE)))
+			.build();
+
+	private GenerationTemplateCache() {
+	}
+
+	/**
+	 * Gets the compiled template, compiling it on first use.
+	 *
+	 * @param <T>
+	 *            the type of the compiled template
+	 * @param engine
+	 *            the name of the engine
+	 * @param input
+	 *            the template
+	 * @param sm
+	 *            the start delimiter, or null
+	 * @param em
+	 *            the end delimiter, or null
+	 * @param compiler
+	 *            compiles the text of the template, throwing a {@link GenerationException} on failure
+	 * @return the compiled template
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T get(String engine, byte[] input, String sm, String em, Function<String, T> compiler) {
+		String key = new StringBuilder().append(engine).append(SEPARATOR).append(sm).append(SEPARATOR).append(em).append(SEPARATOR)
+				.append(hash(input)).toString();
+		return (T) TEMPLATES.get(key, k -> compiler.apply(new String(input, StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Gets the number of the cached templates.
+	 *
+	 * @return the size
+	 */
+	public static long size() {
+		TEMPLATES.cleanUp();
+		return TEMPLATES.estimatedSize();
+	}
+
+	/**
+	 * Removes all the compiled templates.
+	 */
+	public static void clear() {
+		TEMPLATES.invalidateAll();
+	}
+
+	private static String hash(byte[] input) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(input); //$NON-NLS-1$
+			char[] hex = new char[digest.length * 2];
+			for (int i = 0; i < digest.length; i++) {
+				hex[i * 2] = HEX[(digest[i] >> 4) & 0x0f];
+				hex[(i * 2) + 1] = HEX[digest[i] & 0x0f];
+			}
+			return new String(hex);
+		} catch (NoSuchAlgorithmException e) {
+			throw new GenerationException(e);
+		}
+	}
+
+}
@@ -12,6 +12,10 @@
 package org.eclipse.dirigible.core.generation.api;
 
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public interface IGenerationEngine {
@@ -27,5 +31,36 @@ public interface IGenerationEngine {
 	public byte[] generate(Map<String, Object> parameters, String location, byte[] input) throws IOException;
 	
 	public byte[] generate(Map<String, Object> parameters, String location, byte[] input, String sm, String em) throws IOException;
+	
+	/**
+	 * Renders the template directly into the writer.
+	 *
+	 * @param parameters the parameters
+	 * @param location the location
+	 * @param input the template
+	 * @param sm the start delimiter, or null for the default one
+	 * @param em the end delimiter, or null for the default one
+	 * @param writer the writer
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public default void generate(Map<String, Object> parameters, String location, byte[] input, String sm, String em, Writer writer) throws IOException {
+		writer.write(new String(generate(parameters, location, input, sm, em), StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Renders many templates with the same parameters, e.g. all the files generated from a model.
+	 *
+	 * @param parameters the parameters
+	 * @param templates the templates
+	 * @return the results in the order of the templates
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public default List<byte[]> generate(Map<String, Object> parameters, List<GenerationTemplate> templates) throws IOException {
+		List<byte[]> results = new ArrayList<byte[]>(templates.size());
+		for (GenerationTemplate template : templates) {
+			results.add(generate(parameters, template.getLocation(), template.getInput(), template.getSm(), template.getEm()));
+		}
+		return results;
+	}
 
 }
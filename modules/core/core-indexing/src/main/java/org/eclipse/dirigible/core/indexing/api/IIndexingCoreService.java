@@ -11,6 +11,7 @@
  */
 package org.eclipse.dirigible.core.indexing.api;
 
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.dirigible.commons.api.service.ICoreService;
@@ -38,6 +39,18 @@ public interface IIndexingCoreService extends ICoreService {
 	 */
 	public void add(String index, String location, byte[] contents, long lastModified, Map<String, String> parameters) throws IndexingException;
 
+	/**
+	 * Adds documents to an index in bulk.
+	 *
+	 * @param index
+	 *            the index
+	 * @param documents
+	 *            the documents
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	public void addAll(String index, List<IndexingDocument> documents) throws IndexingException;
+
 	/**
 	 * Search an index by term.
 	 *
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.indexing.api;
+
+import java.util.Map;
+
+/**
+ * A document to be added to an index.
+ */
+public class IndexingDocument {
+
+	/** The location. */
+	private String location;
+
+	/** The contents. */
+	private byte[] contents;
+
+	/** The last modified. */
+	private long lastModified;
+
+	/** The parameters. */
+	private Map<String, String> parameters;
+
+	/**
+	 * Instantiates a new indexing document.
+	 */
+	public IndexingDocument() {
+	}
+
+	/**
+	 * Instantiates a new indexing document.
+	 *
+	 * @param location
+	 *            the location
+	 * @param contents
+	 *            the contents
+	 * @param lastModified
+	 *            the last modified
+	 * @param parameters
+	 *            the parameters
+	 */
+	public IndexingDocument(String location, byte[] contents, long lastModified, Map<String, String> parameters) {
+		this.location = location;
+		this.contents = contents;
+		this.lastModified = lastModified;
+		this.parameters = parameters;
+	}
+
+	/**
+	 * Gets the location.
+	 *
+	 * @return the location
+	 */
+	public String getLocation() {
+		return location;
+	}
+
+	/**
+	 * Sets the location.
+	 *
+	 * @param location
+	 *            the new location
+	 */
+	public void setLocation(String location) {
+		this.location = location;
+	}
+
+	/**
+	 * Gets the contents.
+	 *
+	 * @return the contents
+	 */
+	public byte[] getContents() {
+		return contents;
+	}
+
+	/**
+	 * Sets the contents.
+	 *
+	 * @param contents
+	 *            the new contents
+	 */
+	public void setContents(byte[] contents) {
+		this.contents = contents;
+	}
+
+	/**
+	 * Gets the last modified.
+	 *
+	 * @return the last modified
+	 */
+	public long getLastModified() {
+		return lastModified;
+	}
+
+	/**
+	 * Sets the last modified.
+	 *
+	 * @param lastModified
+	 *            the new last modified
+	 */
+	public void setLastModified(long lastModified) {
+		this.lastModified = lastModified;
+	}
+
+	/**
+	 * Gets the parameters.
+	 *
+	 * @return the parameters
+	 */
+	public Map<String, String> getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * Sets the parameters.
+	 *
+	 * @param parameters
+	 *            the new parameters
+	 */
+	public void setParameters(Map<String, String> parameters) {
+		this.parameters = parameters;
+	}
+
+}
@@ -19,23 +19,18 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.IndexWriter;
-import org.apache.lucene.index.IndexWriterConfig;
-import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.ParseException;
@@ -44,11 +39,10 @@ import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.store.Directory;
-import org.apache.lucene.store.FSDirectory;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.core.indexing.api.IIndexingCoreService;
+import org.eclipse.dirigible.core.indexing.api.IndexingDocument;
 import org.eclipse.dirigible.core.indexing.api.IndexingException;
 
 /**
@@ -58,6 +52,8 @@ public class IndexingCoreService implements IIndexingCoreService {
 
 	private static final String DIRIGIBLE_INDEXING_ROOT_FOLDER = "DIRIGIBLE_INDEXING_ROOT_FOLDER";
 	private static final String DIRIGIBLE_INDEXING_MAX_RESULTS = "DIRIGIBLE_INDEXING_MAX_RESULTS";
+	private static final String DIRIGIBLE_INDEXING_COMMIT_INTERVAL = "DIRIGIBLE_INDEXING_COMMIT_INTERVAL";
+	private static final String DIRIGIBLE_INDEXING_REFRESH_INTERVAL = "DIRIGIBLE_INDEXING_REFRESH_INTERVAL";
 	private static final String FIELD_CONTENTS = "contents";
 	private static final String FIELD_MODIFIED = "modified";
 	private static final String FIELD_LOCATION = "location";
@@ -68,11 +64,15 @@ public class IndexingCoreService implements IIndexingCoreService {
 
 	private static String ROOT_FOLDER;
 	private static int MAX_RESULTS;
+	private static long COMMIT_INTERVAL;
+	private static long REFRESH_INTERVAL;
 
 	static {
 		Configuration.loadModuleConfig("/dirigible-indexing.properties");
 		ROOT_FOLDER = Configuration.get(DIRIGIBLE_INDEXING_ROOT_FOLDER);
 		MAX_RESULTS = Integer.parseInt(Configuration.get(DIRIGIBLE_INDEXING_MAX_RESULTS, "100"));
+		COMMIT_INTERVAL = Long.parseLong(Configuration.get(DIRIGIBLE_INDEXING_COMMIT_INTERVAL, "5000"));
+		REFRESH_INTERVAL = Long.parseLong(Configuration.get(DIRIGIBLE_INDEXING_REFRESH_INTERVAL, "0"));
 	}
 
 	/*
@@ -82,37 +82,31 @@ public class IndexingCoreService implements IIndexingCoreService {
 	 */
 	@Override
 	public void add(String index, String location, byte[] contents, long lastModified, Map<String, String> parameters) throws IndexingException {
-		String indexName = index;
-		if (index != null) {
-			indexName = flattenizeIndexName(indexName);
-		} else {
-			throw new IndexingException("Index name may not be null");
-		}
+		addAll(index, Collections.singletonList(new IndexingDocument(location, contents, lastModified, parameters)));
+	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.indexing.api.IIndexingCoreService#addAll(java.lang.String, java.util.List)
+	 */
+	@Override
+	public void addAll(String index, List<IndexingDocument> documents) throws IndexingException {
+		NearRealTimeIndex nearRealTimeIndex = getIndex(index);
 		try {
-			Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-			Analyzer analyzer = new StandardAnalyzer();
-			IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
-			iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
-			IndexWriter writer = null;
-			try {
-				writer = new IndexWriter(dir, iwc);
+			for (IndexingDocument indexingDocument : documents) {
 				Document doc = new Document();
-				Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
+				Field pathField = new StringField(FIELD_LOCATION, indexingDocument.getLocation(), Field.Store.YES);
 				doc.add(pathField);
-				doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
+				doc.add(new LongPoint(FIELD_MODIFIED, indexingDocument.getLastModified()));
+				Map<String, String> parameters = indexingDocument.getParameters();
 				if (parameters != null) {
 					for (String key : parameters.keySet()) {
 						doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
 					}
 				}
-				doc.add(new TextField(FIELD_CONTENTS,
-						new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
-				writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
-			} finally {
-				if (writer != null) {
-					writer.close();
-				}
+				doc.add(new TextField(FIELD_CONTENTS, new BufferedReader(
+						new InputStreamReader(new ByteArrayInputStream(indexingDocument.getContents()), StandardCharsets.UTF_8))));
+				nearRealTimeIndex.update(new Term(FIELD_LOCATION, indexingDocument.getLocation()), doc);
 			}
 		} catch (IOException e) {
 			throw new IndexingException(e);
@@ -125,39 +119,11 @@ public class IndexingCoreService implements IIndexingCoreService {
 	 */
 	@Override
 	public String search(String index, String term) throws IndexingException {
-		List<Map<String, String>> results = new ArrayList<Map<String, String>>();
-		String indexName = index;
-		if (index != null) {
-			indexName = flattenizeIndexName(indexName);
-		} else {
-			throw new IndexingException("Index name may not be null");
-		}
 		try {
-			Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-			IndexReader reader = null;
-			try {
-				reader = DirectoryReader.open(dir);
-				IndexSearcher searcher = new IndexSearcher(reader);
-				Analyzer analyzer = new StandardAnalyzer();
-				String field = FIELD_CONTENTS;
-				QueryParser parser = new QueryParser(field, analyzer);
-				Query query = parser.parse(term);
-				TopDocs topDocs = searcher.search(query, MAX_RESULTS);
-				for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-					Document document = searcher.doc(scoreDoc.doc);
-					Map<String, String> map = new HashMap<String, String>();
-					for (IndexableField indexableField : document.getFields()) {
-						map.put(indexableField.name(), indexableField.stringValue());
-					}
-					results.add(map);
-				}
-			} finally {
-				if (reader != null) {
-					reader.close();
-				}
-			}
-			return GsonHelper.GSON.toJson(results);
-		} catch (IOException | ParseException e) {
+			QueryParser parser = new QueryParser(FIELD_CONTENTS, new StandardAnalyzer());
+			Query query = parser.parse(term);
+			return search(index, query);
+		} catch (ParseException e) {
 			throw new IndexingException(e);
 		}
 	}
@@ -186,20 +152,27 @@ public class IndexingCoreService implements IIndexingCoreService {
 	 */
 	@Override
 	public String between(String index, long lower, long upper) throws IndexingException {
+		Query query = LongPoint.newRangeQuery(FIELD_MODIFIED, lower, upper);
+		return search(index, query);
+	}
+
+	/**
+	 * Search an index by query.
+	 *
+	 * @param index
+	 *            the index
+	 * @param query
+	 *            the query
+	 * @return the values as JSON
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	private String search(String index, Query query) throws IndexingException {
 		List<Map<String, String>> results = new ArrayList<Map<String, String>>();
-		String indexName = index;
-		if (index != null) {
-			indexName = flattenizeIndexName(indexName);
-		} else {
-			throw new IndexingException("Index name may not be null");
-		}
+		NearRealTimeIndex nearRealTimeIndex = getIndex(index);
 		try {
-			Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-			IndexReader reader = null;
+			IndexSearcher searcher = nearRealTimeIndex.acquire();
 			try {
-				reader = DirectoryReader.open(dir);
-				IndexSearcher searcher = new IndexSearcher(reader);
-				Query query = LongPoint.newRangeQuery(FIELD_MODIFIED, lower, upper);
 				TopDocs topDocs = searcher.search(query, MAX_RESULTS);
 				for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
 					Document document = searcher.doc(scoreDoc.doc);
@@ -210,9 +183,7 @@ public class IndexingCoreService implements IIndexingCoreService {
 					results.add(map);
 				}
 			} finally {
-				if (reader != null) {
-					reader.close();
-				}
+				nearRealTimeIndex.release(searcher);
 			}
 			return GsonHelper.GSON.toJson(results);
 		} catch (IOException e) {
@@ -220,6 +191,27 @@ public class IndexingCoreService implements IIndexingCoreService {
 		}
 	}
 
+	/**
+	 * Gets the shared index by name.
+	 *
+	 * @param index
+	 *            the index
+	 * @return the index
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	private NearRealTimeIndex getIndex(String index) throws IndexingException {
+		if (index == null) {
+			throw new IndexingException("Index name may not be null");
+		}
+		String indexName = flattenizeIndexName(index);
+		try {
+			return NearRealTimeIndex.get(Paths.get(ROOT_FOLDER + File.separator + indexName), COMMIT_INTERVAL, REFRESH_INTERVAL);
+		} catch (IOException e) {
+			throw new IndexingException(e);
+		}
+	}
+
 	/**
 	 * Flattenize index name.
 	 *
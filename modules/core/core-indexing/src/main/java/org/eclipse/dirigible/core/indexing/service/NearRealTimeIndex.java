@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.indexing.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Lucene index with a long-lived writer and near-real-time searchers.
+ *
+ * The writer of an index is opened once and shared by all the callers. The changes are committed periodically instead
+ * of on every update, and the searchers are acquired from a {@link SearcherManager}, which reopens them from the writer
+ * without a commit. When no refresh interval is set, a search after an update refreshes the searcher first, so that the
+ * updates are always visible to the following searches.
+ */
+class NearRealTimeIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(NearRealTimeIndex.class);
+
+	private static final Map<Path, NearRealTimeIndex> INDEXES = new ConcurrentHashMap<Path, NearRealTimeIndex>();
+
+	private static volatile ScheduledExecutorService scheduler;
+
+	private final IndexWriter writer;
+
+	private final SearcherManager searcherManager;
+
+	private final boolean refreshOnSearch;
+
+	private final AtomicBoolean uncommitted = new AtomicBoolean(false);
+
+	private final AtomicBoolean unrefreshed = new AtomicBoolean(false);
+
+	private NearRealTimeIndex(Path path, boolean refreshOnSearch) throws IOException {
+		IndexWriterConfig config = new IndexWriterConfig(new StandardAnalyzer());
+		config.setOpenMode(OpenMode.CREATE_OR_APPEND);
+		this.writer = new IndexWriter(FSDirectory.open(path), config);
+		this.searcherManager = new SearcherManager(writer, new SearcherFactory());
+		this.refreshOnSearch = refreshOnSearch;
+	}
+
+	/**
+	 * Gets the index at the given location, opening its writer on first use.
+	 *
+	 * @param path
+	 *            the location of the index
+	 * @param commitInterval
+	 *            the interval in milliseconds between the commits of the changes
+	 * @param refreshInterval
+	 *            the interval in milliseconds between the refreshes of the searchers, or 0 to refresh them on search
+	 * @return the index
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	static NearRealTimeIndex get(Path path, long commitInterval, long refreshInterval) throws IOException {
+		Path key = path.toAbsolutePath().normalize();
+		NearRealTimeIndex index = INDEXES.get(key);
+		if (index == null) {
+			synchronized (INDEXES) {
+				index = INDEXES.get(key);
+				if (index == null) {
+					startScheduler(commitInterval, refreshInterval);
+					index = new NearRealTimeIndex(key, refreshInterval <= 0);
+					INDEXES.put(key, index);
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Adds or replaces a document.
+	 *
+	 * @param term
+	 *            the term identifying the document
+	 * @param document
+	 *            the document
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	void update(Term term, Document document) throws IOException {
+		writer.updateDocument(term, document);
+		uncommitted.set(true);
+		unrefreshed.set(true);
+	}
+
+	/**
+	 * Acquires a searcher, which has to be released after the search.
+	 *
+	 * @return the searcher
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	IndexSearcher acquire() throws IOException {
+		if (refreshOnSearch && unrefreshed.compareAndSet(true, false)) {
+			searcherManager.maybeRefreshBlocking();
+		}
+		return searcherManager.acquire();
+	}
+
+	/**
+	 * Releases a searcher.
+	 *
+	 * @param searcher
+	 *            the searcher
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	void release(IndexSearcher searcher) throws IOException {
+		searcherManager.release(searcher);
+	}
+
+	private void refresh() throws IOException {
+		if (unrefreshed.compareAndSet(true, false)) {
+			searcherManager.maybeRefresh();
+		}
+	}
+
+	private void commit() throws IOException {
+		if (uncommitted.compareAndSet(true, false)) {
+			writer.commit();
+		}
+	}
+
+	private static void startScheduler(long commitInterval, long refreshInterval) {
+		if (scheduler != null) {
+			return;
+		}
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "dirigible-indexing-commit"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleWithFixedDelay(NearRealTimeIndex::commitAll, commitInterval, commitInterval, TimeUnit.MILLISECONDS);
+		if (refreshInterval > 0) {
+			scheduler.scheduleWithFixedDelay(NearRealTimeIndex::refreshAll, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS);
+		}
+		Runtime.getRuntime().addShutdownHook(new Thread(NearRealTimeIndex::commitAll));
+	}
+
+	private static void commitAll() {
+		for (Map.Entry<Path, NearRealTimeIndex> entry : INDEXES.entrySet()) {
+			try {
+				entry.getValue().commit();
+			} catch (IOException | RuntimeException e) {
+				logger.error("Committing the index at [" + entry.getKey() + "] failed", e);
+			}
+		}
+	}
+
+	private static void refreshAll() {
+		for (Map.Entry<Path, NearRealTimeIndex> entry : INDEXES.entrySet()) {
+			try {
+				entry.getValue().refresh();
+			} catch (IOException | RuntimeException e) {
+				logger.error("Refreshing the searcher of the index at [" + entry.getKey() + "] failed", e);
+			}
+		}
+	}
+
+}
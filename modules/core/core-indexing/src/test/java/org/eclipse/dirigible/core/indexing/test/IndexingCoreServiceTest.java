@@ -14,6 +14,7 @@ package org.eclipse.dirigible.core.indexing.test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -23,6 +24,7 @@ import javax.inject.Inject;
 
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.core.indexing.api.IIndexingCoreService;
+import org.eclipse.dirigible.core.indexing.api.IndexingDocument;
 import org.eclipse.dirigible.core.indexing.api.IndexingException;
 import org.eclipse.dirigible.core.indexing.service.IndexingCoreService;
 import org.eclipse.dirigible.core.test.AbstractGuiceTest;
@@ -115,4 +117,30 @@ public class IndexingCoreServiceTest extends AbstractGuiceTest {
 		assertEquals(1, matches.size());
 	}
 
+	/**
+	 * Bulk add test.
+	 *
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void addAllTest() throws IndexingException {
+
+		List<IndexingDocument> documents = new ArrayList<IndexingDocument>();
+		for (int i = 0; i < 1000; i++) {
+			documents.add(new IndexingDocument("/root/bulk/file" + i + ".txt", ("Bulk document number" + i + " of the batch").getBytes(),
+					new Date().getTime(), null));
+		}
+		indexingCoreService.addAll("test_bulk_index", documents);
+		indexingCoreService.addAll("test_bulk_index", documents.subList(0, 10));
+
+		List matches = GsonHelper.GSON.fromJson(indexingCoreService.search("test_bulk_index", "batch"), List.class);
+		assertNotNull(matches);
+		assertEquals(100, matches.size());
+
+		matches = GsonHelper.GSON.fromJson(indexingCoreService.search("test_bulk_index", "number7"), List.class);
+		assertEquals(1, matches.size());
+	}
+
 }
@@ -48,6 +48,32 @@ public interface IMessagingCoreService extends ICoreService {
 	 */
 	public ListenerDefinition createListener(String location, String name, char type, String handler, String description) throws MessagingException;
 
+	/**
+	 * Creates the listener with the given consumption settings.
+	 *
+	 * @param location
+	 *            the location
+	 * @param name
+	 *            the name
+	 * @param type
+	 *            the type
+	 * @param handler
+	 *            the handler
+	 * @param description
+	 *            the description
+	 * @param concurrency
+	 *            the number of the workers consuming the messages in parallel
+	 * @param batchSize
+	 *            the maximum number of the messages handed to the handler at once
+	 * @param batchTimeout
+	 *            the time in milliseconds to wait for more messages after the first one of a batch
+	 * @return the listener definition
+	 * @throws MessagingException
+	 *             the messaging exception
+	 */
+	public ListenerDefinition createListener(String location, String name, char type, String handler, String description, int concurrency,
+			int batchSize, int batchTimeout) throws MessagingException;
+
 	/**
 	 * Gets the listener.
 	 *
@@ -109,6 +135,31 @@ public interface IMessagingCoreService extends ICoreService {
 	 */
 	public void updateListener(String location, String name, char type, String handler, String description) throws MessagingException;
 
+	/**
+	 * Update listener with the given consumption settings.
+	 *
+	 * @param location
+	 *            the location
+	 * @param name
+	 *            the name
+	 * @param type
+	 *            the type
+	 * @param handler
+	 *            the handler
+	 * @param description
+	 *            the description
+	 * @param concurrency
+	 *            the number of the workers consuming the messages in parallel
+	 * @param batchSize
+	 *            the maximum number of the messages handed to the handler at once
+	 * @param batchTimeout
+	 *            the time in milliseconds to wait for more messages after the first one of a batch
+	 * @throws MessagingException
+	 *             the messaging exception
+	 */
+	public void updateListener(String location, String name, char type, String handler, String description, int concurrency, int batchSize,
+			int batchTimeout) throws MessagingException;
+
 	/**
 	 * Gets the listeners.
 	 *
@@ -41,6 +41,15 @@ public class ListenerDefinition {
 	@Column(name = "LISTENER_DESCRIPTION", columnDefinition = "VARCHAR", nullable = true, length = 1024)
 	private String description;
 
+	@Column(name = "LISTENER_CONCURRENCY", columnDefinition = "INTEGER", nullable = true)
+	private int concurrency = 1;
+
+	@Column(name = "LISTENER_BATCH_SIZE", columnDefinition = "INTEGER", nullable = true)
+	private int batchSize = 1;
+
+	@Column(name = "LISTENER_BATCH_TIMEOUT", columnDefinition = "INTEGER", nullable = true)
+	private int batchTimeout;
+
 	@Column(name = "LISTENER_CREATED_BY", columnDefinition = "VARCHAR", nullable = false, length = 32)
 	private String createdBy;
 
@@ -142,6 +151,64 @@ public class ListenerDefinition {
 		this.description = description;
 	}
 
+	/**
+	 * Gets the number of the workers consuming the messages in parallel. A topic is always consumed by a single worker,
+	 * so that every message is handled once.
+	 *
+	 * @return the concurrency
+	 */
+	public int getConcurrency() {
+		return concurrency;
+	}
+
+	/**
+	 * Sets the number of the workers consuming the messages in parallel.
+	 *
+	 * @param concurrency
+	 *            the new concurrency
+	 */
+	public void setConcurrency(int concurrency) {
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Gets the maximum number of the messages handed to the handler in a single execution.
+	 *
+	 * @return the batch size
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Sets the maximum number of the messages handed to the handler in a single execution.
+	 *
+	 * @param batchSize
+	 *            the new batch size
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Gets the time in milliseconds to wait for more messages after the first one of a batch.
+	 *
+	 * @return the batch timeout
+	 */
+	public int getBatchTimeout() {
+		return batchTimeout;
+	}
+
+	/**
+	 * Sets the time in milliseconds to wait for more messages after the first one of a batch.
+	 *
+	 * @param batchTimeout
+	 *            the new batch timeout
+	 */
+	public void setBatchTimeout(int batchTimeout) {
+		this.batchTimeout = batchTimeout;
+	}
+
 	/**
 	 * Gets the created by.
 	 *
@@ -229,6 +296,9 @@ public class ListenerDefinition {
 		result = (prime * result) + ((handler == null) ? 0 : handler.hashCode());
 		result = (prime * result) + ((name == null) ? 0 : name.hashCode());
 		result = (prime * result) + type;
+		result = (prime * result) + concurrency;
+		result = (prime * result) + batchSize;
+		result = (prime * result) + batchTimeout;
 		return result;
 	}
 
@@ -279,6 +349,9 @@ public class ListenerDefinition {
 		if (type != other.type) {
 			return false;
 		}
+		if ((concurrency != other.concurrency) || (batchSize != other.batchSize) || (batchTimeout != other.batchTimeout)) {
+			return false;
+		}
 		return true;
 	}
 
@@ -13,8 +13,11 @@ package org.eclipse.dirigible.core.messaging.service;
 
 import static java.text.MessageFormat.format;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.jms.Connection;
 import javax.jms.Destination;
@@ -26,6 +29,7 @@ import javax.jms.Session;
 import javax.jms.TextMessage;
 
 import org.apache.activemq.ActiveMQConnectionFactory;
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
 import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
 import org.eclipse.dirigible.core.messaging.api.MessagingException;
@@ -36,19 +40,28 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The Class MessagingConsumer.
+ *
+ * A consumer with a handler receives the messages of its destination with a number of workers sharing a single
+ * connection. Every worker has its own session and hands the received messages to the handler either one by one, or
+ * in batches of up to the batch size, waiting up to the batch timeout for more messages after the first one. The
+ * messages are acknowledged only after the handler completes - when it fails they are delivered again.
  */
 public class MessagingConsumer implements Runnable, ExceptionListener {
 
 	private static final Logger logger = LoggerFactory.getLogger(MessagingConsumer.class);
 
 	private static final String DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGE = "messaging/wrappers/onMessage";
+	private static final String DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGES = "messaging/wrappers/onMessages";
 	private static final String DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_ERROR = "messaging/wrappers/onError";
 
 	private String name;
 	private char type;
 	private String handler;
 	private int timeout = 1000;
-	private boolean stopped;
+	private int concurrency = 1;
+	private int batchSize = 1;
+	private int batchTimeout;
+	private volatile boolean stopped;
 
 	/**
 	 * Instantiates a new messaging consumer.
@@ -69,6 +82,36 @@ public class MessagingConsumer implements Runnable, ExceptionListener {
 		this.timeout = timeout;
 	}
 
+	/**
+	 * Instantiates a new messaging consumer with multiple workers and batches.
+	 *
+	 * @param name
+	 *            the name
+	 * @param type
+	 *            the type
+	 * @param handler
+	 *            the handler
+	 * @param timeout
+	 *            the timeout
+	 * @param concurrency
+	 *            the number of the workers, a topic is always consumed by a single one
+	 * @param batchSize
+	 *            the maximum number of the messages handed to the handler at once
+	 * @param batchTimeout
+	 *            the time in milliseconds to wait for more messages after the first one of a batch
+	 */
+	public MessagingConsumer(String name, char type, String handler, int timeout, int concurrency, int batchSize, int batchTimeout) {
+		this(name, type, handler, timeout);
+		this.concurrency = Math.max(1, concurrency);
+		this.batchSize = Math.max(1, batchSize);
+		this.batchTimeout = Math.max(0, batchTimeout);
+		if ((type == IMessagingCoreService.TOPIC) && (this.concurrency > 1)) {
+			logger.warn(format("Topic [{0}] is consumed by a single worker instead of [{1}], so that every message is handled once", name,
+					this.concurrency));
+			this.concurrency = 1;
+		}
+	}
+
 	/**
 	 * Instantiates a new messaging consumer.
 	 *
@@ -100,7 +143,14 @@ public class MessagingConsumer implements Runnable, ExceptionListener {
 	public void run() {
 		if (this.handler != null) {
 			while (!this.stopped && !Thread.currentThread().isInterrupted()) {
-				receiveMessage();
+				try {
+					consumeMessages();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} catch (Exception e) {
+					logger.error(e.getMessage(), e);
+					sleepBeforeReconnect();
+				}
 			}
 		}
 	}
@@ -112,8 +162,6 @@ public class MessagingConsumer implements Runnable, ExceptionListener {
 	 */
 	public String receiveMessage() {
 		try {
-			logger.info("Starting a message listener for {} ...", this.name);
-
 			ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(SchedulerManager.CONNECTOR_URL_ATTACH);
 
 			Connection connection = connectionFactory.createConnection();
@@ -122,45 +170,16 @@ public class MessagingConsumer implements Runnable, ExceptionListener {
 			connection.setExceptionListener(this);
 
 			Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
-
-			Destination destination = null;
-			if (type == IMessagingCoreService.QUEUE) {
-				destination = session.createQueue(this.name);
-			} else if (type == IMessagingCoreService.TOPIC) {
-				destination = session.createTopic(this.name);
-			} else {
-				throw new MessagingException("Invalid Destination Type: " + this.type);
-			}
-
-			MessageConsumer consumer = session.createConsumer(destination);
+			MessageConsumer consumer = session.createConsumer(createDestination(session));
 			try {
-				Message message = null;
-				if (this.handler != null) {
-					while (!this.stopped) {
-						message = consumer.receive(this.timeout);
-						if (message == null) {
-							continue;
-						}
-						logger.trace(format("Start processing a received message in [{0}] by [{1}] ...", this.name, this.handler));
-						if (message instanceof TextMessage) {
-							Map<Object, Object> context = createMessagingContext();
-							context.put("message", escapeCodeString(((TextMessage) message).getText()));
-							ScriptEngineExecutorsManager.executeServiceModule(IJavascriptEngineExecutor.JAVASCRIPT_TYPE_DEFAULT, DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGE, context);
-						} else {
-							throw new MessagingException(format("Invalid message [{0}] has been received in destination [{1}]", message, this.name));
-						}
-						logger.trace(format("Done processing the received message in [{0}] by [{1}]", this.name, this.handler));
-					}
-				} else {
-					message = consumer.receive(this.timeout);
-					logger.debug(format("Received message in [{0}] by synchronous consumer.", this.name));
-					if (message instanceof TextMessage) {
-						TextMessage textMessage = (TextMessage) message;
-						String text = textMessage.getText();
-						return text;
-					}
-					return null;
+				Message message = consumer.receive(this.timeout);
+				logger.debug(format("Received message in [{0}] by synchronous consumer.", this.name));
+				if (message instanceof TextMessage) {
+					TextMessage textMessage = (TextMessage) message;
+					String text = textMessage.getText();
+					return text;
 				}
+				return null;
 			} finally {
 				consumer.close();
 				session.close();
@@ -174,6 +193,150 @@ public class MessagingConsumer implements Runnable, ExceptionListener {
 		return null;
 	}
 
+	/**
+	 * Opens a connection and consumes the messages with the workers until the consumer is stopped or the connection
+	 * fails.
+	 */
+	private void consumeMessages() throws JMSException, InterruptedException {
+		logger.info("Starting a message listener for {} with {} worker(s) ...", this.name, this.concurrency);
+
+		ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(SchedulerManager.CONNECTOR_URL_ATTACH);
+		Connection connection = connectionFactory.createConnection();
+		try {
+			connection.setExceptionListener(this);
+			connection.start();
+
+			AtomicBoolean failed = new AtomicBoolean();
+			List<Thread> workers = new ArrayList<Thread>();
+			for (int i = 1; i < this.concurrency; i++) {
+				Thread worker = new Thread(() -> consumeMessages(connection, failed), "dirigible-messaging-consumer-" + this.name + "-" + i); //$NON-NLS-1$ //$NON-NLS-2$
+				worker.setDaemon(true);
+				worker.start();
+				workers.add(worker);
+			}
+			consumeMessages(connection, failed);
+			for (Thread worker : workers) {
+				worker.join();
+			}
+			if (failed.get() && !this.stopped) {
+				sleepBeforeReconnect();
+			}
+		} finally {
+			connection.close();
+		}
+	}
+
+	/**
+	 * The loop of a single worker.
+	 */
+	private void consumeMessages(Connection connection, AtomicBoolean failed) {
+		try {
+			Session session = connection.createSession(false, Session.CLIENT_ACKNOWLEDGE);
+			try {
+				MessageConsumer consumer = session.createConsumer(createDestination(session));
+				while (!this.stopped && !failed.get()) {
+					List<String> messages = new ArrayList<String>();
+					Message last = receiveMessages(consumer, messages);
+					if (last == null) {
+						continue;
+					}
+					try {
+						if (!messages.isEmpty()) {
+							logger.trace(format("Start processing {0} received message(s) in [{1}] by [{2}] ...", messages.size(), this.name, this.handler));
+							handleMessages(messages);
+							logger.trace(format("Done processing the received message(s) in [{0}] by [{1}]", this.name, this.handler));
+						}
+						last.acknowledge();
+					} catch (Exception e) {
+						logger.error(format("Processing of the received message(s) in [{0}] by [{1}] failed, they will be delivered again", this.name,
+								this.handler), e);
+						session.recover();
+					}
+				}
+			} finally {
+				session.close();
+			}
+		} catch (JMSException | MessagingException e) {
+			if (!this.stopped) {
+				logger.error(e.getMessage(), e);
+				failed.set(true);
+			}
+		}
+	}
+
+	/**
+	 * Receives the next message and, when batches are enabled, the messages following it.
+	 *
+	 * @return the last received message, or null if there is no message before the timeout
+	 */
+	private Message receiveMessages(MessageConsumer consumer, List<String> messages) throws JMSException {
+		Message last = consumer.receive(this.timeout);
+		if (last == null) {
+			return null;
+		}
+		addMessage(last, messages);
+		if (this.batchSize > 1) {
+			long deadline = System.currentTimeMillis() + this.batchTimeout;
+			for (int received = 1; received < this.batchSize; received++) {
+				long remaining = deadline - System.currentTimeMillis();
+				Message next = remaining > 0 ? consumer.receive(remaining) : consumer.receiveNoWait();
+				if (next == null) {
+					break;
+				}
+				addMessage(next, messages);
+				last = next;
+			}
+		}
+		return last;
+	}
+
+	private void addMessage(Message message, List<String> messages) throws JMSException {
+		if (message instanceof TextMessage) {
+			messages.add(((TextMessage) message).getText());
+		} else {
+			logger.error(format("Invalid message [{0}] has been received in destination [{1}]", message, this.name));
+		}
+	}
+
+	/**
+	 * Hands the received messages to the handler in a single execution. The batch is passed as a JSON array of the raw
+	 * messages, as the JSON serialization escapes them.
+	 *
+	 * @param messages
+	 *            the messages
+	 * @throws ScriptingException
+	 *             in case the handler fails
+	 */
+	protected void handleMessages(List<String> messages) throws ScriptingException {
+		Map<Object, Object> context = createMessagingContext();
+		if (this.batchSize > 1) {
+			context.put("messages", GsonHelper.GSON.toJson(messages));
+			ScriptEngineExecutorsManager.executeServiceModule(IJavascriptEngineExecutor.JAVASCRIPT_TYPE_DEFAULT, DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGES, context);
+		} else {
+			for (String message : messages) {
+				context.put("message", escapeCodeString(message));
+				ScriptEngineExecutorsManager.executeServiceModule(IJavascriptEngineExecutor.JAVASCRIPT_TYPE_DEFAULT, DIRIGIBLE_MESSAGING_WRAPPER_MODULE_ON_MESSAGE, context);
+			}
+		}
+	}
+
+	private Destination createDestination(Session session) throws JMSException, MessagingException {
+		if (type == IMessagingCoreService.QUEUE) {
+			return session.createQueue(this.name);
+		} else if (type == IMessagingCoreService.TOPIC) {
+			return session.createTopic(this.name);
+		}
+		throw new MessagingException("Invalid Destination Type: " + this.type);
+	}
+
+	private void sleepBeforeReconnect() {
+		try {
+			Thread.sleep(this.timeout);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see javax.jms.ExceptionListener#onException(javax.jms.JMSException)
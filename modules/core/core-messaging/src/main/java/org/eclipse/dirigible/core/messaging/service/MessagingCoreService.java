@@ -17,6 +17,9 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Arrays;
@@ -33,6 +36,8 @@ import org.eclipse.dirigible.core.messaging.api.MessagingException;
 import org.eclipse.dirigible.core.messaging.definition.ListenerDefinition;
 import org.eclipse.dirigible.database.persistence.PersistenceManager;
 import org.eclipse.dirigible.database.sql.SqlFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The Class MessagingCoreService.
@@ -40,6 +45,18 @@ import org.eclipse.dirigible.database.sql.SqlFactory;
 @Singleton
 public class MessagingCoreService implements IMessagingCoreService {
 
+	private static final Logger logger = LoggerFactory.getLogger(MessagingCoreService.class);
+
+	private static final String LISTENERS_TABLE = "DIRIGIBLE_LISTENERS"; //$NON-NLS-1$
+
+	private static final String LISTENERS_COLUMN_CONCURRENCY = "LISTENER_CONCURRENCY"; //$NON-NLS-1$
+
+	private static final String LISTENERS_COLUMN_BATCH_SIZE = "LISTENER_BATCH_SIZE"; //$NON-NLS-1$
+
+	private static final String LISTENERS_COLUMN_BATCH_TIMEOUT = "LISTENER_BATCH_TIMEOUT"; //$NON-NLS-1$
+
+	private static volatile boolean listenersTableUpgraded;
+
 	@Inject
 	private DataSource dataSource;
 
@@ -55,19 +72,33 @@ public class MessagingCoreService implements IMessagingCoreService {
 	 */
 	@Override
 	public ListenerDefinition createListener(String location, String name, char type, String handler, String description) throws MessagingException {
+		return createListener(location, name, type, handler, description, 1, 1, 0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.messaging.api.IMessagingCoreService#createListener(java.lang.String,
+	 * java.lang.String, char, java.lang.String, java.lang.String, int, int, int)
+	 */
+	@Override
+	public ListenerDefinition createListener(String location, String name, char type, String handler, String description, int concurrency,
+			int batchSize, int batchTimeout) throws MessagingException {
 		ListenerDefinition listenerDefinition = new ListenerDefinition();
 		listenerDefinition.setLocation(location);
 		listenerDefinition.setName(name);
 		listenerDefinition.setType(type);
 		listenerDefinition.setHandler(handler);
 		listenerDefinition.setDescription(description);
+		listenerDefinition.setConcurrency(concurrency);
+		listenerDefinition.setBatchSize(batchSize);
+		listenerDefinition.setBatchTimeout(batchTimeout);
 		listenerDefinition.setCreatedBy(UserFacade.getName());
 		listenerDefinition.setCreatedAt(new Timestamp(new java.util.Date().getTime()));
 
 		try {
 			Connection connection = null;
 			try {
-				connection = dataSource.getConnection();
+				connection = getConnection();
 				listenerPersistenceManager.insert(connection, listenerDefinition);
 				return listenerDefinition;
 			} finally {
@@ -89,7 +120,7 @@ public class MessagingCoreService implements IMessagingCoreService {
 		try {
 			Connection connection = null;
 			try {
-				connection = dataSource.getConnection();
+				connection = getConnection();
 				return listenerPersistenceManager.find(connection, ListenerDefinition.class, location);
 			} finally {
 				if (connection != null) {
@@ -110,7 +141,7 @@ public class MessagingCoreService implements IMessagingCoreService {
 		try {
 			Connection connection = null;
 			try {
-				connection = dataSource.getConnection();
+				connection = getConnection();
 				String sql = SqlFactory.getNative(connection).select().column("*").from("DIRIGIBLE_LISTENERS").where("LISTENER_NAME = ?").toString();
 				List<ListenerDefinition> listenerDefinitions = listenerPersistenceManager.query(connection, ListenerDefinition.class, sql,
 						Arrays.asList(name));
@@ -141,7 +172,7 @@ public class MessagingCoreService implements IMessagingCoreService {
 		try {
 			Connection connection = null;
 			try {
-				connection = dataSource.getConnection();
+				connection = getConnection();
 				listenerPersistenceManager.delete(connection, ListenerDefinition.class, location);
 			} finally {
 				if (connection != null) {
@@ -160,15 +191,29 @@ public class MessagingCoreService implements IMessagingCoreService {
 	 */
 	@Override
 	public void updateListener(String location, String name, char type, String handler, String description) throws MessagingException {
+		updateListener(location, name, type, handler, description, 1, 1, 0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.messaging.api.IMessagingCoreService#updateListener(java.lang.String,
+	 * java.lang.String, char, java.lang.String, java.lang.String, int, int, int)
+	 */
+	@Override
+	public void updateListener(String location, String name, char type, String handler, String description, int concurrency, int batchSize,
+			int batchTimeout) throws MessagingException {
 		try {
 			Connection connection = null;
 			try {
-				connection = dataSource.getConnection();
+				connection = getConnection();
 				ListenerDefinition listenerDefinition = getListener(location);
 				listenerDefinition.setName(name);
 				listenerDefinition.setType(type);
 				listenerDefinition.setHandler(handler);
 				listenerDefinition.setDescription(description);
+				listenerDefinition.setConcurrency(concurrency);
+				listenerDefinition.setBatchSize(batchSize);
+				listenerDefinition.setBatchTimeout(batchTimeout);
 				listenerPersistenceManager.update(connection, listenerDefinition);
 			} finally {
 				if (connection != null) {
@@ -189,7 +234,7 @@ public class MessagingCoreService implements IMessagingCoreService {
 		try {
 			Connection connection = null;
 			try {
-				connection = dataSource.getConnection();
+				connection = getConnection();
 				return listenerPersistenceManager.findAll(connection, ListenerDefinition.class);
 			} finally {
 				if (connection != null) {
@@ -238,4 +283,55 @@ public class MessagingCoreService implements IMessagingCoreService {
 		return GsonHelper.GSON.toJson(listenerDefinition);
 	}
 
+	private Connection getConnection() throws SQLException {
+		Connection connection = dataSource.getConnection();
+		if (!listenersTableUpgraded) {
+			upgradeListenersTable(connection);
+		}
+		return connection;
+	}
+
+	/**
+	 * Adds the consumption settings columns to a listeners table created by a previous version.
+	 */
+	private static synchronized void upgradeListenersTable(Connection connection) throws SQLException {
+		if (listenersTableUpgraded) {
+			return;
+		}
+		if (SqlFactory.getNative(connection).exists(connection, LISTENERS_TABLE)) {
+			if (!columnExists(connection.getMetaData(), LISTENERS_TABLE, LISTENERS_COLUMN_CONCURRENCY)) {
+				logger.info("Adding the consumption settings columns to the table {}", LISTENERS_TABLE);
+				for (String column : new String[] {LISTENERS_COLUMN_CONCURRENCY, LISTENERS_COLUMN_BATCH_SIZE, LISTENERS_COLUMN_BATCH_TIMEOUT}) {
+					String alter = SqlFactory.getNative(connection).alter().table(LISTENERS_TABLE).add().columnInteger(column, false, true).build();
+					try (PreparedStatement statement = connection.prepareStatement(alter)) {
+						statement.executeUpdate();
+					}
+				}
+				String update = SqlFactory.getNative(connection).update().table(LISTENERS_TABLE).set(LISTENERS_COLUMN_CONCURRENCY, "1") //$NON-NLS-1$
+						.set(LISTENERS_COLUMN_BATCH_SIZE, "1").set(LISTENERS_COLUMN_BATCH_TIMEOUT, "0").build(); //$NON-NLS-1$ //$NON-NLS-2$
+				try (PreparedStatement statement = connection.prepareStatement(update)) {
+					statement.executeUpdate();
+				}
+			}
+		}
+		listenersTableUpgraded = true;
+	}
+
+	/**
+	 * Checks whether the table has the column, looking the table up as given, in upper case and in lower case, as the
+	 * databases folding the unquoted identifiers to lower case, e.g. PostgreSQL, keep them in lower case.
+	 */
+	private static boolean columnExists(DatabaseMetaData metaData, String table, String column) throws SQLException {
+		for (String name : new String[] { table, table.toUpperCase(), table.toLowerCase() }) {
+			try (ResultSet resultSet = metaData.getColumns(null, null, name, null)) {
+				while (resultSet.next()) {
+					if (column.equalsIgnoreCase(resultSet.getString("COLUMN_NAME"))) { //$NON-NLS-1$
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
 }
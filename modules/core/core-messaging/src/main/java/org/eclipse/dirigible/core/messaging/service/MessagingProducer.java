@@ -11,23 +11,11 @@
  */
 package org.eclipse.dirigible.core.messaging.service;
 
-import static java.text.MessageFormat.format;
-
-import javax.jms.Connection;
-import javax.jms.DeliveryMode;
-import javax.jms.Destination;
-import javax.jms.MessageProducer;
-import javax.jms.Session;
-import javax.jms.TextMessage;
-
-import org.apache.activemq.ActiveMQConnectionFactory;
-import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
-import org.eclipse.dirigible.core.messaging.api.MessagingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The Class MessagingProducer.
+ * The Class MessagingProducer. Hands the message over to the {@link MessagingProducerPool}.
  */
 public class MessagingProducer implements Runnable {
 
@@ -60,33 +48,7 @@ public class MessagingProducer implements Runnable {
 	@Override
 	public void run() {
 		try {
-			ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(SchedulerManager.CONNECTOR_URL_ATTACH);
-
-			Connection connection = connectionFactory.createConnection();
-			connection.start();
-
-			Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
-			try {
-				Destination destination = null;
-				if (type == IMessagingCoreService.QUEUE) {
-					destination = session.createQueue(this.name);
-				} else if (type == IMessagingCoreService.TOPIC) {
-					destination = session.createTopic(this.name);
-				} else {
-					throw new MessagingException(format("Invalid Destination Type [{0}] for destination [{1}]", this.type, this.name));
-				}
-
-				MessageProducer producer = session.createProducer(destination);
-				producer.setDeliveryMode(DeliveryMode.PERSISTENT);
-
-				TextMessage textMessage = session.createTextMessage(this.message);
-
-				producer.send(textMessage);
-				logger.trace(format("Message sent in [{0}]", this.name));
-			} finally {
-				session.close();
-				connection.close();
-			}
+			MessagingProducerPool.send(this.name, this.type, this.message);
 		} catch (Exception e) {
 			logger.error(e.getMessage(), e);
 		}
@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.messaging.service;
+
+import static java.text.MessageFormat.format;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.jms.Connection;
+import javax.jms.DeliveryMode;
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
+import org.eclipse.dirigible.core.messaging.api.MessagingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends the messages asynchronously through a single shared connection to the broker.
+ *
+ * The messages are put in a bounded queue, which blocks the senders when it is full, and are sent by a fixed number
+ * of workers. Every worker keeps its own session with the producers of the recently used destinations. When the batch
+ * size is greater than one, a worker sends all the messages waiting in the queue, up to the batch size, in a single
+ * transaction. Sending takes no lock once the pool is started.
+ */
+public class MessagingProducerPool {
+
+	/** The number of the workers sending the messages. */
+	public static final String DIRIGIBLE_MESSAGING_PRODUCER_THREADS = "DIRIGIBLE_MESSAGING_PRODUCER_THREADS"; //$NON-NLS-1$
+
+	/** The maximum number of the messages waiting to be sent. */
+	public static final String DIRIGIBLE_MESSAGING_PRODUCER_QUEUE_SIZE = "DIRIGIBLE_MESSAGING_PRODUCER_QUEUE_SIZE"; //$NON-NLS-1$
+
+	/** The maximum number of the messages sent in a single transaction. */
+	public static final String DIRIGIBLE_MESSAGING_PRODUCER_BATCH_SIZE = "DIRIGIBLE_MESSAGING_PRODUCER_BATCH_SIZE"; //$NON-NLS-1$
+
+	private static final Logger logger = LoggerFactory.getLogger(MessagingProducerPool.class);
+
+	private static final int MAX_CACHED_PRODUCERS = 100;
+
+	private static final AtomicReference<Pool> POOL = new AtomicReference<Pool>();
+
+	/**
+	 * Sends a persistent message.
+	 *
+	 * @param name
+	 *            the name of the destination
+	 * @param type
+	 *            the type of the destination - {@link IMessagingCoreService#QUEUE} or
+	 *            {@link IMessagingCoreService#TOPIC}
+	 * @param message
+	 *            the message
+	 * @throws MessagingException
+	 *             if the destination type is invalid or the sender is interrupted
+	 */
+	public static void send(String name, char type, String message) throws MessagingException {
+		send(name, type, message, true);
+	}
+
+	/**
+	 * Sends a message. A non persistent message is not stored by the broker and is lost if the broker stops before
+	 * delivering it.
+	 *
+	 * @param name
+	 *            the name of the destination
+	 * @param type
+	 *            the type of the destination - {@link IMessagingCoreService#QUEUE} or
+	 *            {@link IMessagingCoreService#TOPIC}
+	 * @param message
+	 *            the message
+	 * @param persistent
+	 *            whether the message is persistent
+	 * @throws MessagingException
+	 *             if the destination type is invalid or the sender is interrupted
+	 */
+	public static void send(String name, char type, String message, boolean persistent) throws MessagingException {
+		if ((type != IMessagingCoreService.QUEUE) && (type != IMessagingCoreService.TOPIC)) {
+			throw new MessagingException(format("Invalid Destination Type [{0}] for destination [{1}]", type, name));
+		}
+		OutgoingMessage outgoing = new OutgoingMessage(name, type, message, persistent);
+		while (true) {
+			Pool pool = POOL.get();
+			if (pool == null) {
+				pool = start();
+			}
+			// counted before the check, so that a shutdown either waits for the message or the message goes to the next pool
+			pool.pending.incrementAndGet();
+			if (pool.closed) {
+				pool.pending.decrementAndGet();
+				continue;
+			}
+			try {
+				pool.queue.put(outgoing);
+				return;
+			} catch (InterruptedException e) {
+				pool.pending.decrementAndGet();
+				Thread.currentThread().interrupt();
+				throw new MessagingException(format("Interrupted while sending a message to [{0}]", name), e);
+			}
+		}
+	}
+
+	/**
+	 * Waits until all the messages accepted so far are sent.
+	 *
+	 * @param timeout
+	 *            the timeout
+	 * @param unit
+	 *            the time unit of the timeout
+	 * @return true, if all the messages are sent, false if the timeout elapsed before that
+	 * @throws InterruptedException
+	 *             the interrupted exception
+	 */
+	public static boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+		Pool pool = POOL.get();
+		return (pool == null) || pool.flush(timeout, unit);
+	}
+
+	/**
+	 * Sends the waiting messages, stops the workers and closes the connection. The pool is started again by the next
+	 * message.
+	 *
+	 * @throws InterruptedException
+	 *             the interrupted exception
+	 */
+	public static void shutdown() throws InterruptedException {
+		Pool pool;
+		synchronized (MessagingProducerPool.class) {
+			pool = POOL.getAndSet(null);
+			if (pool == null) {
+				return;
+			}
+			pool.closed = true;
+		}
+		pool.flush(10, TimeUnit.SECONDS);
+		pool.stop();
+	}
+
+	private static synchronized Pool start() {
+		Pool pool = POOL.get();
+		if (pool == null) {
+			pool = new Pool();
+			POOL.set(pool);
+		}
+		return pool;
+	}
+
+	/**
+	 * The queue, the workers and the connection of a started pool.
+	 */
+	private static class Pool {
+
+		private final BlockingQueue<OutgoingMessage> queue;
+
+		private final List<Thread> workers = new ArrayList<Thread>();
+
+		private final int batchSize;
+
+		private final AtomicInteger pending = new AtomicInteger();
+
+		private volatile boolean closed;
+
+		private volatile Connection connection;
+
+		Pool() {
+			int threads = Integer.parseInt(Configuration.get(DIRIGIBLE_MESSAGING_PRODUCER_THREADS, "2")); //$NON-NLS-1$
+			int queueSize = Integer.parseInt(Configuration.get(DIRIGIBLE_MESSAGING_PRODUCER_QUEUE_SIZE, "10000")); //$NON-NLS-1$
+			batchSize = Math.max(1, Integer.parseInt(Configuration.get(DIRIGIBLE_MESSAGING_PRODUCER_BATCH_SIZE, "1"))); //$NON-NLS-1$
+			queue = new ArrayBlockingQueue<OutgoingMessage>(queueSize);
+			for (int i = 1; i <= Math.max(1, threads); i++) {
+				Thread worker = new Thread(new ProducerWorker(this), "dirigible-messaging-producer-" + i); //$NON-NLS-1$
+				worker.setDaemon(true);
+				worker.start();
+				workers.add(worker);
+			}
+		}
+
+		boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+			long deadline = System.nanoTime() + unit.toNanos(timeout);
+			while (pending.get() > 0) {
+				if (System.nanoTime() > deadline) {
+					return false;
+				}
+				Thread.sleep(10);
+			}
+			return true;
+		}
+
+		void stop() throws InterruptedException {
+			for (Thread worker : workers) {
+				worker.interrupt();
+			}
+			for (Thread worker : workers) {
+				worker.join(TimeUnit.SECONDS.toMillis(5));
+			}
+			List<OutgoingMessage> remaining = new ArrayList<OutgoingMessage>();
+			queue.drainTo(remaining);
+			if (!remaining.isEmpty()) {
+				logger.warn(format("{0} message(s) have not been sent before the shutdown", remaining.size()));
+				pending.addAndGet(-remaining.size());
+			}
+			closeConnection();
+		}
+
+		Connection getConnection() throws JMSException {
+			Connection current = connection;
+			if (current != null) {
+				return current;
+			}
+			synchronized (this) {
+				if (connection == null) {
+					ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(SchedulerManager.CONNECTOR_URL_ATTACH);
+					Connection newConnection = connectionFactory.createConnection();
+					newConnection.setExceptionListener(exception -> {
+						logger.error(exception.getMessage(), exception);
+						resetConnection(newConnection);
+					});
+					newConnection.start();
+					connection = newConnection;
+				}
+				return connection;
+			}
+		}
+
+		synchronized void resetConnection(Connection failed) {
+			if (connection == failed) {
+				closeConnection();
+			}
+		}
+
+		synchronized void closeConnection() {
+			if (connection != null) {
+				try {
+					connection.close();
+				} catch (JMSException e) {
+					logger.warn(e.getMessage(), e);
+				}
+				connection = null;
+			}
+		}
+	}
+
+	/**
+	 * A message waiting to be sent.
+	 */
+	private static class OutgoingMessage {
+
+		private final String name;
+
+		private final char type;
+
+		private final String message;
+
+		private final boolean persistent;
+
+		OutgoingMessage(String name, char type, String message, boolean persistent) {
+			this.name = name;
+			this.type = type;
+			this.message = message;
+			this.persistent = persistent;
+		}
+	}
+
+	/**
+	 * Sends the messages from the queue through its own session.
+	 */
+	private static class ProducerWorker implements Runnable {
+
+		private final Pool pool;
+
+		private Connection sessionConnection;
+
+		private Session session;
+
+		private final Map<String, MessageProducer> producers = new LinkedHashMap<String, MessageProducer>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, MessageProducer> eldest) {
+				if (size() > MAX_CACHED_PRODUCERS) {
+					closeQuietly(eldest.getValue());
+					return true;
+				}
+				return false;
+			}
+		};
+
+		ProducerWorker(Pool pool) {
+			this.pool = pool;
+		}
+
+		@Override
+		public void run() {
+			List<OutgoingMessage> batch = new ArrayList<OutgoingMessage>();
+			try {
+				while (!Thread.currentThread().isInterrupted()) {
+					batch.add(pool.queue.take());
+					if (pool.batchSize > 1) {
+						pool.queue.drainTo(batch, pool.batchSize - 1);
+					}
+					try {
+						send(batch);
+					} finally {
+						pool.pending.addAndGet(-batch.size());
+						batch.clear();
+					}
+				}
+			} catch (InterruptedException e) {
+				// stopped
+			} finally {
+				closeSession();
+			}
+		}
+
+		private void send(List<OutgoingMessage> batch) {
+			try {
+				Session current = getSession();
+				for (OutgoingMessage outgoing : batch) {
+					getProducer(current, outgoing).send(current.createTextMessage(outgoing.message),
+							outgoing.persistent ? DeliveryMode.PERSISTENT : DeliveryMode.NON_PERSISTENT, Message.DEFAULT_PRIORITY,
+							Message.DEFAULT_TIME_TO_LIVE);
+					if (logger.isTraceEnabled()) {
+						logger.trace(format("Message sent in [{0}]", outgoing.name));
+					}
+				}
+				if (current.getTransacted()) {
+					current.commit();
+				}
+			} catch (JMSException | RuntimeException e) {
+				logger.error(format("Failed to send {0} message(s): {1}", batch.size(), e.getMessage()), e);
+				closeSession();
+			}
+		}
+
+		private Session getSession() throws JMSException {
+			Connection current = pool.getConnection();
+			if ((session == null) || (sessionConnection != current)) {
+				closeSession();
+				boolean transacted = pool.batchSize > 1;
+				session = current.createSession(transacted, transacted ? Session.SESSION_TRANSACTED : Session.AUTO_ACKNOWLEDGE);
+				sessionConnection = current;
+			}
+			return session;
+		}
+
+		private MessageProducer getProducer(Session current, OutgoingMessage outgoing) throws JMSException {
+			String key = outgoing.type + outgoing.name;
+			MessageProducer producer = producers.get(key);
+			if (producer == null) {
+				Destination destination = outgoing.type == IMessagingCoreService.QUEUE ? current.createQueue(outgoing.name)
+						: current.createTopic(outgoing.name);
+				producer = current.createProducer(destination);
+				producers.put(key, producer);
+			}
+			return producer;
+		}
+
+		private void closeSession() {
+			for (MessageProducer producer : producers.values()) {
+				closeQuietly(producer);
+			}
+			producers.clear();
+			if (session != null) {
+				try {
+					session.close();
+				} catch (JMSException e) {
+					logger.warn(e.getMessage(), e);
+				}
+				session = null;
+				sessionConnection = null;
+			}
+		}
+
+		private static void closeQuietly(MessageProducer producer) {
+			try {
+				producer.close();
+			} catch (JMSException e) {
+				logger.warn(e.getMessage(), e);
+			}
+		}
+	}
+
+}
@@ -100,6 +100,7 @@ public class SchedulerManager {
 		for (MessagingConsumer consumer : LISTENERS.values()) {
 			consumer.stop();
 		}
+		MessagingProducerPool.shutdown();
 		if (broker != null) {
 			broker.stop();
 		}
@@ -126,7 +127,8 @@ public class SchedulerManager {
 			if (!resource.exists()) {
 				logger.error("Listener {} cannot be started, because the handler {} does not exist!", listener.getLocation(), listener.getHandler());
 			}
-			MessagingConsumer consumer = new MessagingConsumer(listener.getName(), listener.getType(), listener.getHandler(), 1000);
+			MessagingConsumer consumer = new MessagingConsumer(listener.getName(), listener.getType(), listener.getHandler(), 1000,
+					listener.getConcurrency(), listener.getBatchSize(), listener.getBatchTimeout());
 			Thread consumerThread = new Thread(consumer);
 			consumerThread.setDaemon(false);
 			consumerThread.start();
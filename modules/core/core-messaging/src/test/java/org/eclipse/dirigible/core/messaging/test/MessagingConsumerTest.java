@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.messaging.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
+import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
+import org.eclipse.dirigible.core.messaging.service.MessagingConsumer;
+import org.eclipse.dirigible.core.messaging.service.MessagingProducerPool;
+import org.eclipse.dirigible.core.messaging.service.SchedulerManager;
+import org.eclipse.dirigible.core.test.AbstractGuiceTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The concurrent and batched consumption of the messages against the embedded broker.
+ */
+public class MessagingConsumerTest extends AbstractGuiceTest {
+
+	private MessagingConsumer consumer;
+
+	private Thread consumerThread;
+
+	@Before
+	public void setUp() throws Exception {
+		getInjector().getInstance(SchedulerManager.class).initialize();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (consumer != null) {
+			consumer.stop();
+			consumerThread.join(5000);
+		}
+		MessagingProducerPool.shutdown();
+	}
+
+	@Test
+	public void batchesWithWorkers() throws Exception {
+		List<List<String>> batches = Collections.synchronizedList(new ArrayList<List<String>>());
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		CountDownLatch received = new CountDownLatch(40);
+		start(new MessagingConsumer("test_consumer_batches", IMessagingCoreService.QUEUE, "test_handler", 100, 2, 5, 200) {
+			@Override
+			protected void handleMessages(List<String> messages) {
+				batches.add(messages);
+				threads.add(Thread.currentThread().getName());
+				for (int i = 0; i < messages.size(); i++) {
+					received.countDown();
+				}
+			}
+		});
+
+		for (int i = 0; i < 40; i++) {
+			MessagingProducerPool.send("test_consumer_batches", IMessagingCoreService.QUEUE, "message '" + i + "'");
+		}
+		assertTrue(received.await(10, TimeUnit.SECONDS));
+
+		Set<String> messages = new HashSet<String>();
+		for (List<String> batch : batches) {
+			assertTrue(batch.size() <= 5);
+			messages.addAll(batch);
+		}
+		assertEquals(40, messages.size());
+		assertTrue(messages.contains("message '0'"));
+		assertTrue(batches.size() < 40);
+	}
+
+	@Test
+	public void redeliveredAfterFailure() throws Exception {
+		AtomicBoolean failed = new AtomicBoolean();
+		List<String> handled = Collections.synchronizedList(new ArrayList<String>());
+		CountDownLatch received = new CountDownLatch(1);
+		start(new MessagingConsumer("test_consumer_redelivery", IMessagingCoreService.QUEUE, "test_handler", 100) {
+			@Override
+			protected void handleMessages(List<String> messages) throws ScriptingException {
+				if (failed.compareAndSet(false, true)) {
+					throw new ScriptingException("Handler failed");
+				}
+				handled.addAll(messages);
+				received.countDown();
+			}
+		});
+
+		MessagingProducerPool.send("test_consumer_redelivery", IMessagingCoreService.QUEUE, "message");
+		assertTrue(received.await(10, TimeUnit.SECONDS));
+		assertEquals(Collections.singletonList("message"), handled);
+	}
+
+	private void start(MessagingConsumer messagingConsumer) {
+		consumer = messagingConsumer;
+		consumerThread = new Thread(consumer);
+		consumerThread.start();
+	}
+
+}
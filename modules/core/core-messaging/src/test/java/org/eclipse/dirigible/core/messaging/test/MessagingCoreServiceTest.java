@@ -98,6 +98,32 @@ public class MessagingCoreServiceTest extends AbstractGuiceTest {
 		messagingCoreService.removeListener("/test_listener1");
 	}
 
+	/**
+	 * Consumption settings test.
+	 *
+	 * @throws MessagingException
+	 *             the messaging exception
+	 */
+	@Test
+	public void consumptionSettingsTest() throws MessagingException {
+		messagingCoreService.removeListener("/test_listener1");
+		messagingCoreService.createListener("/test_listener1", "test_listener1", IMessagingCoreService.QUEUE, "test_handler1", "Test", 4, 50, 200);
+		ListenerDefinition listenerDefinition = messagingCoreService.getListener("/test_listener1");
+		assertEquals(4, listenerDefinition.getConcurrency());
+		assertEquals(50, listenerDefinition.getBatchSize());
+		assertEquals(200, listenerDefinition.getBatchTimeout());
+		messagingCoreService.updateListener("/test_listener1", "test_listener1", IMessagingCoreService.QUEUE, "test_handler1", "Test");
+		listenerDefinition = messagingCoreService.getListener("/test_listener1");
+		assertEquals(1, listenerDefinition.getConcurrency());
+		assertEquals(1, listenerDefinition.getBatchSize());
+		assertEquals(0, listenerDefinition.getBatchTimeout());
+		messagingCoreService.removeListener("/test_listener1");
+
+		listenerDefinition = messagingCoreService.parseListener("{\"name\":\"test_listener1\",\"type\":\"Q\",\"handler\":\"test_handler1\"}");
+		assertEquals(1, listenerDefinition.getConcurrency());
+		assertEquals(1, listenerDefinition.getBatchSize());
+	}
+
 	/**
 	 * Removes the listener test.
 	 *
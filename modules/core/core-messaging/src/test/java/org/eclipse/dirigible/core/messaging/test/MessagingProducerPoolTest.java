@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.messaging.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.Connection;
+import javax.jms.DeliveryMode;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
+import org.eclipse.dirigible.core.messaging.api.MessagingException;
+import org.eclipse.dirigible.core.messaging.service.MessagingProducerPool;
+import org.eclipse.dirigible.core.messaging.service.SchedulerManager;
+import org.eclipse.dirigible.core.test.AbstractGuiceTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The messages sent through the producer pool against the embedded broker.
+ */
+public class MessagingProducerPoolTest extends AbstractGuiceTest {
+
+	private Connection connection;
+
+	@Before
+	public void setUp() throws Exception {
+		getInjector().getInstance(SchedulerManager.class).initialize();
+		connection = new ActiveMQConnectionFactory("vm://localhost?create=false").createConnection();
+		connection.start();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		connection.close();
+		MessagingProducerPool.shutdown();
+	}
+
+	@Test
+	public void sendToQueue() throws Exception {
+		for (int i = 0; i < 100; i++) {
+			MessagingProducerPool.send("test_producer_pool_queue", IMessagingCoreService.QUEUE, "message" + i);
+		}
+		assertTrue(MessagingProducerPool.flush(10, TimeUnit.SECONDS));
+
+		Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+		MessageConsumer consumer = session.createConsumer(session.createQueue("test_producer_pool_queue"));
+		Set<String> received = new HashSet<String>();
+		for (int i = 0; i < 100; i++) {
+			Message message = consumer.receive(5000);
+			assertNotNull(message);
+			assertEquals(DeliveryMode.PERSISTENT, message.getJMSDeliveryMode());
+			received.add(((TextMessage) message).getText());
+		}
+		assertEquals(100, received.size());
+		session.close();
+	}
+
+	@Test
+	public void sendNonPersistentToTopic() throws Exception {
+		Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+		MessageConsumer consumer = session.createConsumer(session.createTopic("test_producer_pool_topic"));
+		MessagingProducerPool.send("test_producer_pool_topic", IMessagingCoreService.TOPIC, "fire-and-forget", false);
+
+		Message message = consumer.receive(5000);
+		assertNotNull(message);
+		assertEquals("fire-and-forget", ((TextMessage) message).getText());
+		assertEquals(DeliveryMode.NON_PERSISTENT, message.getJMSDeliveryMode());
+		session.close();
+	}
+
+	@Test
+	public void shutdownSendsQueuedMessages() throws Exception {
+		for (int i = 0; i < 500; i++) {
+			MessagingProducerPool.send("test_producer_pool_shutdown", IMessagingCoreService.QUEUE, "message" + i);
+		}
+		long start = System.currentTimeMillis();
+		MessagingProducerPool.shutdown();
+		assertTrue(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(10));
+
+		Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+		MessageConsumer consumer = session.createConsumer(session.createQueue("test_producer_pool_shutdown"));
+		Set<String> received = new HashSet<String>();
+		for (int i = 0; i < 500; i++) {
+			Message message = consumer.receive(5000);
+			assertNotNull(message);
+			received.add(((TextMessage) message).getText());
+		}
+		assertEquals(500, received.size());
+		session.close();
+	}
+
+	@Test(expected = MessagingException.class)
+	public void invalidDestinationType() throws MessagingException {
+		MessagingProducerPool.send("test_producer_pool_invalid", 'X', "message");
+	}
+
+}
@@ -73,7 +73,7 @@ public class MigrationsSynchronizer extends AbstractSynchronizer {
 			if (beforeSynchronizing()) {
 				logger.trace("Synchronizing Migrations artifacts...");
 				try {
-					if (isSynchronizerSuccessful("org.eclipse.dirigible.database.ds.synchronizer.DataStructuresSynchronizer")) {
+					if (isSynchronizerSuccessful(DATA_STRUCTURES_SYNCHRONIZER)) {
 						startSynchronization(SYNCHRONIZER_NAME);
 						clearCache();
 						synchronizePredelivered();
@@ -85,7 +85,7 @@ public class MigrationsSynchronizer extends AbstractSynchronizer {
 						clearCache();
 						successfulSynchronization(SYNCHRONIZER_NAME, format("Immutable: {0}, Mutable: {1}", immutableCount, mutableCount));
 					} else {
-						failedSynchronization(SYNCHRONIZER_NAME, "Skipped due to dependency: org.eclipse.dirigible.database.ds.synchronizer.DataStructuresSynchronizer");
+						failedSynchronization(SYNCHRONIZER_NAME, "Skipped due to dependency: " + DATA_STRUCTURES_SYNCHRONIZER);
 					}
 				} catch (Exception e) {
 					logger.error("Synchronizing process for Migrations artifacts failed.", e);
@@ -200,6 +200,15 @@ public class MigrationsSynchronizer extends AbstractSynchronizer {
 		logger.trace("Done synchronizing Migrations from Registry.");
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#getFileExtensions()
+	 */
+	@Override
+	protected String[] getFileExtensions() {
+		return new String[] { IMigrationsCoreService.FILE_EXTENSION_MIGRATE };
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#synchronizeResource(org.eclipse.dirigible.
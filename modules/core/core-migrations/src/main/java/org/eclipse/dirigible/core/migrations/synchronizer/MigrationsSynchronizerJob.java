@@ -41,4 +41,13 @@ public class MigrationsSynchronizerJob extends AbstractSynchronizerJob {
 		return MigrationsSynchronizerJobDefinitionProvider.MIGRATIONS_SYNCHRONIZER_JOB;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizerJob#getDependencies()
+	 */
+	@Override
+	protected String[] getDependencies() {
+		return new String[] { ISynchronizer.DATA_STRUCTURES_SYNCHRONIZER };
+	}
+
 }
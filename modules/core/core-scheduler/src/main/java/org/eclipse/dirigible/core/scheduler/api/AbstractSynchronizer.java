@@ -13,7 +13,10 @@ package org.eclipse.dirigible.core.scheduler.api;
 
 import static java.text.MessageFormat.format;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -26,11 +29,17 @@ import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryChange;
+import org.eclipse.dirigible.repository.api.RepositoryChangeJournal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The AbstractSynchronizer.
+ *
+ * The synchronizers declaring the file extensions they process via {@link #getFileExtensions()} are triggered only by
+ * the changes of such files in the registry, as recorded in the {@link RepositoryChangeJournal} of the repository. The
+ * ones supporting incremental synchronization process only these changes instead of the whole registry.
  */
 public abstract class AbstractSynchronizer implements ISynchronizer {
 
@@ -46,9 +55,36 @@ public abstract class AbstractSynchronizer implements ISynchronizer {
 	
 	private final AtomicBoolean forcedSynchronization = new AtomicBoolean(false);
 	
+	/** The sequence of the last change in the journal, which has been synchronized. */
+	private final AtomicLong journalCursor = new AtomicLong(-1);
+	
+	private volatile long pendingJournalCursor = -1;
+	
+	private volatile List<RepositoryChange> pendingChanges;
+	
 	@Override
 	public boolean beforeSynchronizing() {
-		if (forcedSynchronization.get() || getLastSynchronized() < getRepository().getLastModified()) {
+		pendingChanges = null;
+		RepositoryChangeJournal changeJournal = getRepository().getChangeJournal();
+		pendingJournalCursor = changeJournal != null ? changeJournal.getSequence() : -1;
+		if (forcedSynchronization.get()) {
+			return true;
+		}
+		String[] fileExtensions = getFileExtensions();
+		long cursor = journalCursor.get();
+		if ((changeJournal != null) && (fileExtensions != null) && (cursor >= 0)) {
+			List<RepositoryChange> changes = changeJournal.getChangesSince(cursor);
+			if (changes != null) {
+				List<RepositoryChange> relevantChanges = getRelevantChanges(changes, fileExtensions);
+				if (relevantChanges.isEmpty()) {
+					journalCursor.set(pendingJournalCursor);
+					return false;
+				}
+				pendingChanges = relevantChanges;
+			}
+			return true;
+		}
+		if (getLastSynchronized() < getRepository().getLastModified()) {
 			return true;
 		}
 		return false;
@@ -57,6 +93,10 @@ public abstract class AbstractSynchronizer implements ISynchronizer {
 	@Override
 	public void afterSynchronizing() {
 		setLastSynchronized(System.currentTimeMillis());
+		if (pendingJournalCursor >= 0) {
+			journalCursor.set(pendingJournalCursor);
+		}
+		pendingChanges = null;
 	}
 	
 	@Override
@@ -72,6 +112,73 @@ public abstract class AbstractSynchronizer implements ISynchronizer {
 		lastSynchronized.set(time);
 	}
 
+	/**
+	 * Gets the extensions of the files processed by the synchronizer. When declared, the synchronizer is triggered only
+	 * by the changes of such files in the registry.
+	 *
+	 * @return the file extensions, or null if the synchronizer is triggered by any change
+	 */
+	protected String[] getFileExtensions() {
+		return null;
+	}
+
+	/**
+	 * Checks whether the synchronizer can process only the changed resources, removing the artifacts of the deleted
+	 * ones in {@link #cleanupResource(String)}.
+	 *
+	 * @return true, if incremental synchronization is supported
+	 */
+	protected boolean isIncrementalSynchronizationSupported() {
+		return false;
+	}
+
+	/**
+	 * Checks whether the current run processes only the changed resources. In this case the cleanup of the artifacts,
+	 * which were not synchronized during the run, has to be skipped.
+	 *
+	 * @return true, if the current run is incremental
+	 */
+	protected boolean isIncrementalSynchronization() {
+		List<RepositoryChange> changes = pendingChanges;
+		if ((changes == null) || !isIncrementalSynchronizationSupported()) {
+			return false;
+		}
+		for (RepositoryChange change : changes) {
+			if (change.isCollection()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static List<RepositoryChange> getRelevantChanges(List<RepositoryChange> changes, String[] fileExtensions) {
+		Map<String, RepositoryChange> relevantChanges = new LinkedHashMap<String, RepositoryChange>();
+		for (RepositoryChange change : changes) {
+			String path = change.getPath();
+			boolean relevant;
+			if (change.isCollection()) {
+				relevant = path.startsWith(IRepositoryStructure.PATH_REGISTRY_PUBLIC) || IRepositoryStructure.PATH_REGISTRY_PUBLIC.startsWith(path);
+			} else {
+				relevant = path.startsWith(IRepositoryStructure.PATH_REGISTRY_PUBLIC) && hasFileExtension(path, fileExtensions);
+			}
+			if (relevant) {
+				// only the last change of a path matters
+				relevantChanges.remove(path);
+				relevantChanges.put(path, change);
+			}
+		}
+		return new ArrayList<RepositoryChange>(relevantChanges.values());
+	}
+
+	private static boolean hasFileExtension(String path, String[] fileExtensions) {
+		for (String fileExtension : fileExtensions) {
+			if (path.endsWith(fileExtension)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Gets the repository.
 	 *
@@ -88,6 +195,10 @@ public abstract class AbstractSynchronizer implements ISynchronizer {
 	 *             the synchronization exception
 	 */
 	protected void synchronizeRegistry() throws SynchronizationException {
+		if (isIncrementalSynchronization()) {
+			synchronizeChanges(pendingChanges);
+			return;
+		}
 		ICollection collection = getRepository().getCollection(IRepositoryStructure.PATH_REGISTRY_PUBLIC);
 		if (collection.exists()) {
 			synchronizeCollection(collection);
@@ -117,6 +228,31 @@ public abstract class AbstractSynchronizer implements ISynchronizer {
 		}
 	}
 
+	/**
+	 * Synchronize only the changed resources.
+	 *
+	 * @param changes
+	 *            the changes
+	 * @throws SynchronizationException
+	 *             the synchronization exception
+	 */
+	protected void synchronizeChanges(List<RepositoryChange> changes) throws SynchronizationException {
+		for (RepositoryChange change : changes) {
+			try {
+				if (change.getType() == RepositoryChange.Type.DELETED) {
+					cleanupResource(getRegistryPath(change.getPath()));
+				} else {
+					IResource resource = getRepository().getResource(change.getPath());
+					if (resource.exists()) {
+						synchronizeResource(resource);
+					}
+				}
+			} catch (Exception e) {
+				logger.error(format("Resource [{0}] skipped due to an error: {1}", change.getPath(), e.getMessage()), e);
+			}
+		}
+	}
+
 	/**
 	 * Gets the registry path.
 	 *
@@ -127,7 +263,10 @@ public abstract class AbstractSynchronizer implements ISynchronizer {
 	 *             the synchronization exception
 	 */
 	protected String getRegistryPath(IResource resource) throws SynchronizationException {
-		String resourcePath = resource.getPath();
+		return getRegistryPath(resource.getPath());
+	}
+
+	private String getRegistryPath(String resourcePath) {
 		if (resourcePath.startsWith(IRepositoryStructure.PATH_REGISTRY_PUBLIC)) {
 			return resourcePath.substring(IRepositoryStructure.PATH_REGISTRY_PUBLIC.length());
 		}
@@ -144,6 +283,18 @@ public abstract class AbstractSynchronizer implements ISynchronizer {
 	 */
 	protected abstract void synchronizeResource(IResource resource) throws SynchronizationException;
 
+	/**
+	 * Removes the artifacts of a deleted resource during incremental synchronization.
+	 *
+	 * @param registryPath
+	 *            the registry path of the deleted resource
+	 * @throws SynchronizationException
+	 *             the synchronization exception
+	 */
+	protected void cleanupResource(String registryPath) throws SynchronizationException {
+		// nothing to clean up by default
+	}
+
 	/**
 	 * Cleanup.
 	 *
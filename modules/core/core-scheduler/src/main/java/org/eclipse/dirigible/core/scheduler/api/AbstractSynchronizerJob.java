@@ -19,6 +19,7 @@ import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.commons.config.health.HealthStatus;
 import org.eclipse.dirigible.commons.config.health.HealthStatus.Jobs.JobStatus;
 import org.eclipse.dirigible.commons.config.timeout.TimeLimited;
+import org.eclipse.dirigible.core.scheduler.manager.SynchronizerScheduler;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
@@ -47,14 +48,14 @@ public abstract class AbstractSynchronizerJob implements Job {
 		final long startTime = System.currentTimeMillis();
 		logger.trace("Synchronizer [{}] started execution at: {}...", getName(), new Date(startTime));
 		try {
-	      TimeLimited.runWithTimeout(new Runnable() {
-	        @Override
-	        public void run() {
-	        	getSynchronizer().synchronize();
-	      		HealthStatus.getInstance().getJobs().setStatus(getName(), JobStatus.Succeeded); // context.getJobDetail().getKey().getName()
-	      		logger.trace("Synchronizer [{}] execution passed successfully for {} ms...", getName(), System.currentTimeMillis() - startTime);
-	        }
-	      }, getTimeout(), getTimeoutUnit());
+			SynchronizerScheduler.run(getSynchronizer().getClass().getCanonicalName(), getDependencies(), new Runnable() {
+				@Override
+				public void run() {
+					getSynchronizer().synchronize();
+					HealthStatus.getInstance().getJobs().setStatus(getName(), JobStatus.Succeeded); // context.getJobDetail().getKey().getName()
+					logger.trace("Synchronizer [{}] execution passed successfully for {} ms...", getName(), System.currentTimeMillis() - startTime);
+				}
+			}, getTimeout(), getTimeoutUnit());
 	    } catch (TimeoutException e) {
 	    	logger.error("Synchronizer [{}] got timeout during execution at: {}", getName(), new Date(System.currentTimeMillis()));
 	    	logger.error(e.getMessage(), e);
@@ -75,6 +76,16 @@ public abstract class AbstractSynchronizerJob implements Job {
 		return TimeUnit.MINUTES;
 	}
 
+	/**
+	 * Gets the canonical class names of the synchronizers, which have to finish their running synchronization before
+	 * this one starts.
+	 *
+	 * @return the dependencies
+	 */
+	protected String[] getDependencies() {
+		return new String[] {};
+	}
+
 	/**
 	 * Gets the synchronizer.
 	 *
@@ -18,6 +18,9 @@ public interface ISynchronizer {
 	
 	public static final String DIRIGIBLE_SYNCHRONIZER_IGNORE_DEPENDENCIES = "DIRIGIBLE_SYNCHRONIZER_IGNORE_DEPENDENCIES";
 
+	/** The canonical class name of the data structures synchronizer, which the synchronizers using the tables depend on. */
+	public static final String DATA_STRUCTURES_SYNCHRONIZER = "org.eclipse.dirigible.database.ds.synchronizer.DataStructuresSynchronizer"; //$NON-NLS-1$
+
 	/**
 	 * Synchronize.
 	 */
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.scheduler.manager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.core.scheduler.api.ISynchronizer;
+
+/**
+ * Runs the synchronizations on a bounded pool of workers shared by all the synchronizers.
+ *
+ * The independent synchronizers run concurrently, while a synchronizer declaring dependencies starts only after the
+ * runs of its dependencies, which are in progress at the time, have finished. A synchronization requested while the
+ * previous one of the same synchronizer is still in progress joins it instead of being queued again. A
+ * synchronization exceeding its timeout is reported as failed and cancelled by interrupting its worker, but it stays
+ * in progress until the worker has actually exited, so that a synchronizer never occupies more than one worker.
+ */
+public class SynchronizerScheduler {
+
+	/** The number of the workers running the synchronizations. */
+	public static final String DIRIGIBLE_SYNCHRONIZER_POOL_SIZE = "DIRIGIBLE_SYNCHRONIZER_POOL_SIZE"; //$NON-NLS-1$
+
+	private static final Map<String, Run> RUNS = new ConcurrentHashMap<String, Run>();
+
+	private static final ExecutorService WORKERS = Executors.newFixedThreadPool(getPoolSize(), new SynchronizerThreadFactory("dirigible-synchronizer-")); //$NON-NLS-1$
+
+	private static final ScheduledExecutorService WATCHDOG = Executors
+			.newSingleThreadScheduledExecutor(new SynchronizerThreadFactory("dirigible-synchronizer-watchdog-")); //$NON-NLS-1$
+
+	private SynchronizerScheduler() {
+	}
+
+	/**
+	 * Runs a synchronization and waits for it to finish.
+	 *
+	 * @param name
+	 *            the name of the synchronizer
+	 * @param dependencies
+	 *            the names of the synchronizers, which have to finish first
+	 * @param synchronization
+	 *            the synchronization
+	 * @param timeout
+	 *            the timeout
+	 * @param timeUnit
+	 *            the time unit of the timeout
+	 * @throws Exception
+	 *             the exception thrown by the synchronization, or a {@link TimeoutException} if it has been cancelled
+	 */
+	public static void run(String name, String[] dependencies, Runnable synchronization, long timeout, TimeUnit timeUnit) throws Exception {
+		CompletableFuture<Void> run = submit(name, dependencies, synchronization, timeout, timeUnit);
+		try {
+			run.get();
+		} catch (ExecutionException e) {
+			Throwable t = e.getCause();
+			if (t instanceof Error) {
+				throw (Error) t;
+			} else if (t instanceof Exception) {
+				throw (Exception) t;
+			} else {
+				throw new IllegalStateException(t);
+			}
+		}
+	}
+
+	/**
+	 * Submits a synchronization.
+	 *
+	 * @param name
+	 *            the name of the synchronizer
+	 * @param dependencies
+	 *            the names of the synchronizers, which have to finish first
+	 * @param synchronization
+	 *            the synchronization
+	 * @param timeout
+	 *            the timeout
+	 * @param timeUnit
+	 *            the time unit of the timeout
+	 * @return the result of the run, completed when the synchronization finishes or exceeds its timeout
+	 */
+	public static CompletableFuture<Void> submit(String name, String[] dependencies, Runnable synchronization, long timeout, TimeUnit timeUnit) {
+		synchronized (RUNS) {
+			Run previous = RUNS.get(name);
+			if (previous != null && !previous.exited.isDone()) {
+				return previous.result;
+			}
+			List<CompletableFuture<Void>> pending = new ArrayList<CompletableFuture<Void>>();
+			if (dependencies != null && !Boolean.parseBoolean(Configuration.get(ISynchronizer.DIRIGIBLE_SYNCHRONIZER_IGNORE_DEPENDENCIES, "false"))) {
+				for (String dependency : dependencies) {
+					Run dependencyRun = RUNS.get(dependency);
+					if (dependencyRun != null && !dependencyRun.exited.isDone()) {
+						pending.add(dependencyRun.exited);
+					}
+				}
+			}
+			Run run = new Run();
+			// the failures of the dependencies are checked by the synchronizers themselves
+			CompletableFuture.allOf(pending.toArray(new CompletableFuture[pending.size()]))
+					.whenComplete((result, error) -> execute(name, synchronization, timeout, timeUnit, run));
+			RUNS.put(name, run);
+			return run.result;
+		}
+	}
+
+	private static void execute(String name, Runnable synchronization, long timeout, TimeUnit timeUnit, Run run) {
+		WORKERS.execute(() -> {
+			Thread worker = Thread.currentThread();
+			ScheduledFuture<?> watchdog = WATCHDOG.schedule(() -> {
+				if (run.result.completeExceptionally(new TimeoutException("Synchronizer [" + name + "] exceeded the timeout of " + timeout + " " + timeUnit))) {
+					worker.interrupt();
+				}
+			}, timeout, timeUnit);
+			try {
+				synchronization.run();
+				run.result.complete(null);
+			} catch (Throwable t) {
+				run.result.completeExceptionally(t);
+			} finally {
+				watchdog.cancel(false);
+				run.exited.complete(null);
+			}
+		});
+	}
+
+	private static int getPoolSize() {
+		int defaultPoolSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+		return Integer.parseInt(Configuration.get(DIRIGIBLE_SYNCHRONIZER_POOL_SIZE, Integer.toString(defaultPoolSize)));
+	}
+
+	/**
+	 * A run of a synchronizer. The result is reported to the callers as soon as the synchronization finishes or
+	 * exceeds its timeout, while the run stays in progress until its worker has exited.
+	 */
+	private static class Run {
+
+		private final CompletableFuture<Void> result = new CompletableFuture<Void>();
+
+		private final CompletableFuture<Void> exited = new CompletableFuture<Void>();
+
+	}
+
+	/**
+	 * Creates the daemon threads of the scheduler.
+	 */
+	private static class SynchronizerThreadFactory implements ThreadFactory {
+
+		private final String prefix;
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		SynchronizerThreadFactory(String prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+}
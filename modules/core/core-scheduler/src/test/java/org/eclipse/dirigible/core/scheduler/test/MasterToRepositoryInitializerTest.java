@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.scheduler.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.dirigible.core.scheduler.repository.MasterToRepositoryInitializer;
+import org.eclipse.dirigible.repository.api.IMasterRepository;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.local.LocalRepository;
+import org.eclipse.dirigible.repository.master.zip.ZipArchiveMasterRepository;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+/**
+ * The initial copy from a read-through zip master repository.
+ */
+public class MasterToRepositoryInitializerTest {
+
+	@Test
+	public void copyFromZipArchive() throws Exception {
+		File zip = new File("target/tests/initializer-master.zip");
+		zip.getParentFile().mkdirs();
+		try (ZipOutputStream output = new ZipOutputStream(new FileOutputStream(zip))) {
+			putEntry(output, "project1/a.txt", "Hello".getBytes(StandardCharsets.UTF_8));
+			putEntry(output, "project1/nested/b.png", new byte[] { 0, 1, 2 });
+		}
+		File target = new File("target/tests/initializer-repository");
+		FileUtils.deleteDirectory(target);
+		IMasterRepository masterRepository = new ZipArchiveMasterRepository(zip.getPath());
+		IRepository repository = new LocalRepository(target.getPath());
+
+		MasterToRepositoryInitializer initializer = Guice.createInjector(binder -> {
+			binder.bind(IMasterRepository.class).toInstance(masterRepository);
+			binder.bind(IRepository.class).toInstance(repository);
+		}).getInstance(MasterToRepositoryInitializer.class);
+		initializer.initialize();
+
+		assertTrue(repository.hasCollection("/project1/nested"));
+		assertEquals("Hello", new String(repository.getResource("/project1/a.txt").getContent(), StandardCharsets.UTF_8));
+		assertArrayEquals(new byte[] { 0, 1, 2 }, repository.getResource("/project1/nested/b.png").getContent());
+	}
+
+	private static void putEntry(ZipOutputStream output, String name, byte[] content) throws IOException {
+		output.putNextEntry(new ZipEntry(name));
+		output.write(content);
+		output.closeEntry();
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.scheduler.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.dirigible.core.scheduler.manager.SynchronizerScheduler;
+import org.junit.Test;
+
+/**
+ * The parallel runs of the synchronizers.
+ */
+public class SynchronizerSchedulerTest {
+
+	@Test
+	public void independentRunsInParallel() throws Exception {
+		CountDownLatch started = new CountDownLatch(2);
+		Runnable synchronization = () -> {
+			started.countDown();
+			try {
+				if (!started.await(10, TimeUnit.SECONDS)) {
+					throw new IllegalStateException("The synchronizations did not run in parallel");
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		CompletableFuture<Void> first = SynchronizerScheduler.submit("parallel.First", null, synchronization, 1, TimeUnit.MINUTES);
+		CompletableFuture<Void> second = SynchronizerScheduler.submit("parallel.Second", null, synchronization, 1, TimeUnit.MINUTES);
+		first.get(20, TimeUnit.SECONDS);
+		second.get(20, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void dependencyFinishesFirst() throws Exception {
+		List<String> order = new CopyOnWriteArrayList<String>();
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Void> dependency = SynchronizerScheduler.submit("order.Dependency", null, () -> {
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			order.add("dependency");
+		}, 1, TimeUnit.MINUTES);
+		CompletableFuture<Void> dependent = SynchronizerScheduler.submit("order.Dependent", new String[] { "order.Dependency" },
+				() -> order.add("dependent"), 1, TimeUnit.MINUTES);
+		release.countDown();
+		dependent.get(20, TimeUnit.SECONDS);
+		dependency.get(20, TimeUnit.SECONDS);
+		assertEquals("dependency", order.get(0));
+		assertEquals("dependent", order.get(1));
+	}
+
+	@Test
+	public void pendingRunIsJoined() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		Runnable synchronization = () -> {
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		CompletableFuture<Void> first = SynchronizerScheduler.submit("join.Synchronizer", null, synchronization, 1, TimeUnit.MINUTES);
+		CompletableFuture<Void> second = SynchronizerScheduler.submit("join.Synchronizer", null, synchronization, 1, TimeUnit.MINUTES);
+		assertSame(first, second);
+		release.countDown();
+		first.get(20, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void timeoutInterruptsTheRun() throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		try {
+			SynchronizerScheduler.run("timeout.Synchronizer", null, () -> {
+				try {
+					Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+				} catch (InterruptedException e) {
+					interrupted.countDown();
+				}
+			}, 100, TimeUnit.MILLISECONDS);
+			fail("The synchronization should have timed out");
+		} catch (TimeoutException e) {
+			assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	public void timedOutRunStaysPendingUntilItExits() throws Exception {
+		AtomicInteger executions = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		Runnable synchronization = () -> {
+			executions.incrementAndGet();
+			boolean released = false;
+			while (!released) {
+				try {
+					released = release.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					// keeps running after the interruption, as a synchronizer blocked outside of the interruptible calls
+				}
+			}
+		};
+		try {
+			SynchronizerScheduler.run("exit.Synchronizer", null, synchronization, 100, TimeUnit.MILLISECONDS);
+			fail("The synchronization should have timed out");
+		} catch (TimeoutException e) {
+			// expected
+		}
+		CompletableFuture<Void> again = SynchronizerScheduler.submit("exit.Synchronizer", null, synchronization, 1, TimeUnit.MINUTES);
+		assertTrue(again.isCompletedExceptionally());
+		CompletableFuture<Void> dependent = SynchronizerScheduler.submit("exit.Dependent", new String[] { "exit.Synchronizer" }, () -> {
+		}, 1, TimeUnit.MINUTES);
+		Thread.sleep(200);
+		assertFalse(dependent.isDone());
+		assertEquals(1, executions.get());
+		release.countDown();
+		dependent.get(20, TimeUnit.SECONDS);
+		assertEquals(1, executions.get());
+	}
+
+}
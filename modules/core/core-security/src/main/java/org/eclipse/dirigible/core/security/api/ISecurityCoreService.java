@@ -16,6 +16,7 @@ import java.util.List;
 import org.eclipse.dirigible.commons.api.service.ICoreService;
 import org.eclipse.dirigible.core.security.definition.AccessDefinition;
 import org.eclipse.dirigible.core.security.definition.RoleDefinition;
+import org.eclipse.dirigible.core.security.verifier.AccessIndex;
 
 /**
  * The Security Core Service interface.
@@ -34,6 +35,9 @@ public interface ISecurityCoreService extends ICoreService {
 	
 	public static final String ROLE_PUBLIC = "Public";
 
+	/** The maximum number of the cached access decisions */
+	public static final String DIRIGIBLE_SECURITY_ACCESS_DECISION_CACHE_SIZE = "DIRIGIBLE_SECURITY_ACCESS_DECISION_CACHE_SIZE"; //$NON-NLS-1$
+
 	// Roles
 
 	/**
@@ -250,6 +254,15 @@ public interface ISecurityCoreService extends ICoreService {
 	 */
 	public List<AccessDefinition> getAccessDefinitions() throws AccessException;
 
+	/**
+	 * Gets the compiled index of all the access definitions.
+	 *
+	 * @return the access index
+	 * @throws AccessException
+	 *             the access exception
+	 */
+	public AccessIndex getAccessIndex() throws AccessException;
+
 	/**
 	 * Gets the access definitions by path.
 	 *
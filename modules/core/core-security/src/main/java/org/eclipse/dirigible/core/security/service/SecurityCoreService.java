@@ -21,20 +21,22 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.sql.DataSource;
 
 import org.eclipse.dirigible.api.v3.security.UserFacade;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.core.security.api.AccessException;
 import org.eclipse.dirigible.core.security.api.ISecurityCoreService;
 import org.eclipse.dirigible.core.security.definition.AccessArtifact;
 import org.eclipse.dirigible.core.security.definition.AccessDefinition;
 import org.eclipse.dirigible.core.security.definition.RoleDefinition;
+import org.eclipse.dirigible.core.security.verifier.AccessIndex;
 import org.eclipse.dirigible.database.persistence.PersistenceManager;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 
@@ -53,8 +55,10 @@ public class SecurityCoreService implements ISecurityCoreService {
 	@Inject
 	private PersistenceManager<AccessDefinition> accessPersistenceManager;
 
+	private static final String DEFAULT_ACCESS_DECISION_CACHE_SIZE = "10000";
+
 	// used by the access security filter to minimize the performance implications on getting the whole list
-	private static final List<AccessDefinition> CACHE = Collections.synchronizedList(new ArrayList<AccessDefinition>());
+	private static final AtomicReference<CachedAccessIndex> ACCESS_INDEX = new AtomicReference<CachedAccessIndex>(new CachedAccessIndex(0, null));
 
 	// Roles
 
@@ -385,6 +389,7 @@ public class SecurityCoreService implements ISecurityCoreService {
 			try {
 				connection = dataSource.getConnection();
 				accessPersistenceManager.delete(connection, AccessDefinition.class, id);
+				clearCache();
 			} finally {
 				if (connection != null) {
 					connection.close();
@@ -489,23 +494,42 @@ public class SecurityCoreService implements ISecurityCoreService {
 	 */
 	@Override
 	public List<AccessDefinition> getAccessDefinitions() throws AccessException {
-		if (!CACHE.isEmpty()) {
-			return Collections.unmodifiableList(CACHE);
+		return getAccessIndex().getAccessDefinitions();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.security.api.ISecurityCoreService#getAccessIndex()
+	 */
+	@Override
+	public AccessIndex getAccessIndex() throws AccessException {
+		CachedAccessIndex cached = ACCESS_INDEX.get();
+		if (cached.index != null) {
+			return cached.index;
 		}
-		try {
-			Connection connection = null;
+		synchronized (SecurityCoreService.class) {
+			cached = ACCESS_INDEX.get();
+			if (cached.index != null) {
+				return cached.index;
+			}
 			try {
-				connection = dataSource.getConnection();
-				List<AccessDefinition> accessDefinitions = accessPersistenceManager.findAll(connection, AccessDefinition.class);
-				CACHE.addAll(accessDefinitions);
-				return Collections.unmodifiableList(accessDefinitions);
-			} finally {
-				if (connection != null) {
-					connection.close();
+				Connection connection = null;
+				try {
+					connection = dataSource.getConnection();
+					List<AccessDefinition> accessDefinitions = accessPersistenceManager.findAll(connection, AccessDefinition.class);
+					AccessIndex accessIndex = new AccessIndex(accessDefinitions,
+							Long.parseLong(Configuration.get(DIRIGIBLE_SECURITY_ACCESS_DECISION_CACHE_SIZE, DEFAULT_ACCESS_DECISION_CACHE_SIZE)));
+					// not published if the cache has been cleared meanwhile, as the definitions may have been read before the change
+					ACCESS_INDEX.compareAndSet(cached, new CachedAccessIndex(cached.generation, accessIndex));
+					return accessIndex;
+				} finally {
+					if (connection != null) {
+						connection.close();
+					}
 				}
+			} catch (SQLException e) {
+				throw new AccessException(e);
 			}
-		} catch (SQLException e) {
-			throw new AccessException(e);
 		}
 	}
 
@@ -515,21 +539,7 @@ public class SecurityCoreService implements ISecurityCoreService {
 	 */
 	@Override
 	public List<AccessDefinition> getAccessDefinitionsByPath(String scope, String path) throws AccessException {
-		try {
-			Connection connection = null;
-			try {
-				connection = dataSource.getConnection();
-				String sql = SqlFactory.getNative(connection).select().column("*").from("DIRIGIBLE_SECURITY_ACCESS").where("ACCESS_SCOPE = ?").where("ACCESS_PATH = ?")
-						.toString();
-				return accessPersistenceManager.query(connection, AccessDefinition.class, sql, scope, path);
-			} finally {
-				if (connection != null) {
-					connection.close();
-				}
-			}
-		} catch (SQLException e) {
-			throw new AccessException(e);
-		}
+		return getAccessIndex().getAccessDefinitionsByPath(scope, path);
 	}
 
 	/*
@@ -540,21 +550,13 @@ public class SecurityCoreService implements ISecurityCoreService {
 	 */
 	@Override
 	public List<AccessDefinition> getAccessDefinitionsByPathAndMethod(String scope, String path, String method) throws AccessException {
-		try {
-			Connection connection = null;
-			try {
-				connection = dataSource.getConnection();
-				String sql = SqlFactory.getNative(connection).select().column("*").from("DIRIGIBLE_SECURITY_ACCESS").where("ACCESS_SCOPE = ?").where("ACCESS_PATH = ?")
-						.where(SqlFactory.getNative(connection).expression().and("ACCESS_METHOD = ?").or("ACCESS_METHOD = ?").toString()).toString();
-				return accessPersistenceManager.query(connection, AccessDefinition.class, sql, scope, path, method, AccessDefinition.METHOD_ANY);
-			} finally {
-				if (connection != null) {
-					connection.close();
-				}
+		List<AccessDefinition> accessDefinitions = new ArrayList<AccessDefinition>();
+		for (AccessDefinition accessDefinition : getAccessDefinitionsByPath(scope, path)) {
+			if (AccessDefinition.METHOD_ANY.equals(accessDefinition.getMethod()) || ((method != null) && method.equals(accessDefinition.getMethod()))) {
+				accessDefinitions.add(accessDefinition);
 			}
-		} catch (SQLException e) {
-			throw new AccessException(e);
 		}
+		return accessDefinitions;
 	}
 
 	/*
@@ -564,24 +566,12 @@ public class SecurityCoreService implements ISecurityCoreService {
 	 */
 	@Override
 	public boolean isAccessAllowed(String scope, String path, String method, String role) throws AccessException {
-		try {
-			Connection connection = null;
-			try {
-				connection = dataSource.getConnection();
-				String sql = SqlFactory.getNative(connection).select().column("*").from("DIRIGIBLE_SECURITY_ACCESS").where("ACCESS_SCOPE = ?").where("ACCESS_PATH = ?")
-						.where("ACCESS_ROLE = ?")
-						.where(SqlFactory.getNative(connection).expression().and("ACCESS_METHOD = ?").or("ACCESS_METHOD = ?").toString()).toString();
-				List<AccessDefinition> access = accessPersistenceManager.query(connection, AccessDefinition.class, sql, scope, path, role, method,
-						AccessDefinition.METHOD_ANY);
-				return !access.isEmpty();
-			} finally {
-				if (connection != null) {
-					connection.close();
-				}
+		for (AccessDefinition accessDefinition : getAccessDefinitionsByPathAndMethod(scope, path, method)) {
+			if ((role != null) && role.equals(accessDefinition.getRole())) {
+				return true;
 			}
-		} catch (SQLException e) {
-			throw new AccessException(e);
 		}
+		return false;
 	}
 
 	/*
@@ -618,7 +608,10 @@ public class SecurityCoreService implements ISecurityCoreService {
 	 * Clear cache.
 	 */
 	public void clearCache() {
-		CACHE.clear();
+		CachedAccessIndex cached;
+		do {
+			cached = ACCESS_INDEX.get();
+		} while (!ACCESS_INDEX.compareAndSet(cached, new CachedAccessIndex(cached.generation + 1, null)));
 	}
 
 	/*
@@ -650,4 +643,21 @@ public class SecurityCoreService implements ISecurityCoreService {
 		}
 	}
 
+	/**
+	 * The access index together with the generation of the cache it has been built in. Every clearing of the cache
+	 * starts a new generation.
+	 */
+	private static class CachedAccessIndex {
+
+		private final long generation;
+
+		private final AccessIndex index;
+
+		CachedAccessIndex(long generation, AccessIndex index) {
+			this.generation = generation;
+			this.index = index;
+		}
+
+	}
+
 }
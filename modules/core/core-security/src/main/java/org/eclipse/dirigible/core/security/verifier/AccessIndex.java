@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.security.verifier;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.dirigible.core.security.definition.AccessDefinition;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Immutable index of the access definitions, compiled once after every change of the definitions.
+ *
+ * The definitions are kept in a radix tree per scope, keyed by the characters of the path, so that the most specific
+ * definitions for a request path are found by a single walk over the path instead of a scan of all the definitions.
+ * As the paths of the definitions are matched as plain prefixes (e.g. /a/b also secures /a/bc), the edges of the tree
+ * are not limited to whole path segments. The resolved definitions are remembered in a bounded decision cache.
+ */
+public class AccessIndex {
+
+	private static final String SEPARATOR = "\u0000";
+
+	private final List<AccessDefinition> accessDefinitions;
+
+	private final Map<String, Node> roots = new HashMap<String, Node>();
+
+	private final Map<String, List<AccessDefinition>> byPath = new HashMap<String, List<AccessDefinition>>();
+
+	private final Cache<String, List<AccessDefinition>> decisions;
+
+	/**
+	 * Compiles the index of the given access definitions.
+	 *
+	 * @param accessDefinitions
+	 *            the access definitions
+	 * @param decisionCacheSize
+	 *            the maximum number of the cached decisions
+	 */
+	public AccessIndex(List<AccessDefinition> accessDefinitions, long decisionCacheSize) {
+		this.accessDefinitions = Collections.unmodifiableList(new ArrayList<AccessDefinition>(accessDefinitions));
+		Map<Node, List<AccessDefinition>> nodes = new LinkedHashMap<Node, List<AccessDefinition>>();
+		for (AccessDefinition accessDefinition : this.accessDefinitions) {
+			if ((accessDefinition.getScope() == null) || (accessDefinition.getPath() == null)) {
+				continue;
+			}
+			String scope = accessDefinition.getScope().toLowerCase(Locale.ENGLISH);
+			Node root = roots.computeIfAbsent(scope, key -> new Node(""));
+			nodes.computeIfAbsent(root.insert(accessDefinition.getPath()), key -> new ArrayList<AccessDefinition>()).add(accessDefinition);
+			byPath.computeIfAbsent(accessDefinition.getScope() + SEPARATOR + accessDefinition.getPath(), key -> new ArrayList<AccessDefinition>())
+					.add(accessDefinition);
+		}
+		for (Map.Entry<Node, List<AccessDefinition>> entry : nodes.entrySet()) {
+			entry.getKey().compile(entry.getValue());
+		}
+		this.decisions = Caffeine.newBuilder().maximumSize(Math.max(decisionCacheSize, 0)).build();
+	}
+
+	/**
+	 * Gets all the access definitions.
+	 *
+	 * @return the access definitions
+	 */
+	public List<AccessDefinition> getAccessDefinitions() {
+		return accessDefinitions;
+	}
+
+	/**
+	 * Gets the access definitions registered exactly for the given scope and path.
+	 *
+	 * @param scope
+	 *            the scope
+	 * @param path
+	 *            the path
+	 * @return the access definitions
+	 */
+	public List<AccessDefinition> getAccessDefinitionsByPath(String scope, String path) {
+		List<AccessDefinition> result = byPath.get(scope + SEPARATOR + path);
+		return result != null ? Collections.unmodifiableList(result) : Collections.emptyList();
+	}
+
+	/**
+	 * Gets the most specific access definitions securing the given path, i.e. the ones with the longest path being a
+	 * prefix of the given one and with the same or any method.
+	 *
+	 * @param scope
+	 *            the scope
+	 * @param path
+	 *            the path
+	 * @param method
+	 *            the method
+	 * @return the matching access definitions
+	 */
+	public List<AccessDefinition> getMatchingAccessDefinitions(String scope, String path, String method) {
+		String normalizedScope = scope.toLowerCase(Locale.ENGLISH);
+		Node root = roots.get(normalizedScope);
+		if (root == null) {
+			return Collections.emptyList();
+		}
+		return decisions.get(normalizedScope + SEPARATOR + method + SEPARATOR + path, key -> root.match(path, method));
+	}
+
+	/**
+	 * Gets the number of the cached decisions.
+	 *
+	 * @return the decisions count
+	 */
+	public long getDecisionsCount() {
+		return decisions.estimatedSize();
+	}
+
+	/**
+	 * A node of the radix tree. The label is the part of the path between the parent node and this one.
+	 */
+	private static class Node {
+
+		private String label;
+
+		private Map<Character, Node> children = Collections.emptyMap();
+
+		/** The definitions per concrete method, each including the ones for any method. */
+		private Map<String, List<AccessDefinition>> byMethod = Collections.emptyMap();
+
+		/** The definitions for any method. */
+		private List<AccessDefinition> anyMethod = Collections.emptyList();
+
+		Node(String label) {
+			this.label = label;
+		}
+
+		/**
+		 * Finds or creates the node for the given path.
+		 */
+		Node insert(String path) {
+			Node node = this;
+			int index = 0;
+			while (index < path.length()) {
+				Node child = node.children.get(path.charAt(index));
+				if (child == null) {
+					child = new Node(path.substring(index));
+					node.addChild(child);
+					return child;
+				}
+				int common = 0;
+				int max = Math.min(child.label.length(), path.length() - index);
+				while ((common < max) && (child.label.charAt(common) == path.charAt(index + common))) {
+					common++;
+				}
+				if (common < child.label.length()) {
+					Node split = new Node(child.label.substring(0, common));
+					child.label = child.label.substring(common);
+					split.addChild(child);
+					node.children.put(split.label.charAt(0), split);
+					child = split;
+				}
+				node = child;
+				index += common;
+			}
+			return node;
+		}
+
+		private void addChild(Node child) {
+			if (children.isEmpty()) {
+				children = new HashMap<Character, Node>();
+			}
+			children.put(child.label.charAt(0), child);
+		}
+
+		/**
+		 * Groups the definitions of this node by method, keeping their original order.
+		 */
+		void compile(List<AccessDefinition> accessDefinitions) {
+			List<AccessDefinition> any = new ArrayList<AccessDefinition>();
+			Map<String, List<AccessDefinition>> methods = new HashMap<String, List<AccessDefinition>>();
+			for (AccessDefinition accessDefinition : accessDefinitions) {
+				if (AccessDefinition.METHOD_ANY.equals(accessDefinition.getMethod())) {
+					any.add(accessDefinition);
+				} else if (accessDefinition.getMethod() != null) {
+					methods.put(accessDefinition.getMethod(), new ArrayList<AccessDefinition>());
+				}
+			}
+			for (Map.Entry<String, List<AccessDefinition>> entry : methods.entrySet()) {
+				for (AccessDefinition accessDefinition : accessDefinitions) {
+					if (AccessDefinition.METHOD_ANY.equals(accessDefinition.getMethod()) || entry.getKey().equals(accessDefinition.getMethod())) {
+						entry.getValue().add(accessDefinition);
+					}
+				}
+				entry.setValue(Collections.unmodifiableList(entry.getValue()));
+			}
+			this.anyMethod = Collections.unmodifiableList(any);
+			this.byMethod = methods;
+		}
+
+		private List<AccessDefinition> getDefinitions(String method) {
+			List<AccessDefinition> result = byMethod.get(method);
+			return result != null ? result : anyMethod;
+		}
+
+		/**
+		 * Walks the path and returns the definitions of the deepest node applicable for the method.
+		 */
+		List<AccessDefinition> match(String path, String method) {
+			List<AccessDefinition> result = getDefinitions(method);
+			Node node = this;
+			int index = 0;
+			while (index < path.length()) {
+				Node child = node.children.get(path.charAt(index));
+				if ((child == null) || !path.startsWith(child.label, index)) {
+					break;
+				}
+				node = child;
+				index += child.label.length();
+				List<AccessDefinition> definitions = node.getDefinitions(method);
+				if (!definitions.isEmpty()) {
+					result = definitions;
+				}
+			}
+			return result;
+		}
+	}
+
+}
@@ -11,7 +11,6 @@
  */
 package org.eclipse.dirigible.core.security.verifier;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import javax.servlet.ServletException;
@@ -40,7 +39,7 @@ public class AccessVerifier {
 	 *            the path
 	 * @param method
 	 *            the method
-	 * @return all the most specific AccessDefinition entry matching the URI if any
+	 * @return all the most specific AccessDefinition entry matching the URI if any, as an unmodifiable list
 	 * @throws ServletException
 	 *             the servlet exception
 	 * @throws AccessException
@@ -48,20 +47,11 @@ public class AccessVerifier {
 	 */
 	public static List<AccessDefinition> getMatchingAccessDefinitions(ISecurityCoreService securityCoreService, String scope, String path, String method)
 			throws ServletException, AccessException {
-		List<AccessDefinition> accessDefinitions = new ArrayList<AccessDefinition>();
-		AccessDefinition current = null;
-		for (AccessDefinition accessDefinition : securityCoreService.getAccessDefinitions()) {
-			if (scope.equalsIgnoreCase(accessDefinition.getScope()) && path.startsWith(accessDefinition.getPath())
-					&& (accessDefinition.getMethod().equals("*") || method.equals(accessDefinition.getMethod()))) {
+		List<AccessDefinition> accessDefinitions = securityCoreService.getAccessIndex().getMatchingAccessDefinitions(scope, path, method);
+		if (!accessDefinitions.isEmpty() && logger.isDebugEnabled()) {
+			for (AccessDefinition accessDefinition : accessDefinitions) {
 				logger.debug(String.format("URI [%s] with HTTP method [%s] is secured because of definition: %s", path, method,
 						accessDefinition.getLocation()));
-				if ((current == null) || (accessDefinition.getPath().length() > current.getPath().length())) {
-					current = accessDefinition;
-					accessDefinitions.clear();
-					accessDefinitions.add(accessDefinition);
-				} else if (accessDefinition.getPath().length() == current.getPath().length()) {
-					accessDefinitions.add(accessDefinition);
-				}
 			}
 		}
 		if (accessDefinitions.isEmpty()) {
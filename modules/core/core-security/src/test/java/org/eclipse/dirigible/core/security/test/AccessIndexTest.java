@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.security.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.dirigible.core.security.definition.AccessDefinition;
+import org.eclipse.dirigible.core.security.verifier.AccessIndex;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class AccessIndexTest.
+ */
+public class AccessIndexTest {
+
+	private AccessIndex accessIndex;
+
+	/**
+	 * Sets the up.
+	 */
+	@Before
+	public void setUp() {
+		List<AccessDefinition> accessDefinitions = new ArrayList<AccessDefinition>();
+		accessDefinitions.add(createAccessDefinition("HTTP", "/a/b", "*", "role1"));
+		accessDefinitions.add(createAccessDefinition("HTTP", "/a/b/c", "POST", "role2"));
+		accessDefinitions.add(createAccessDefinition("HTTP", "/a/b/c", "*", "role3"));
+		accessDefinitions.add(createAccessDefinition("HTTP", "/a/x", "GET", "role4"));
+		accessDefinitions.add(createAccessDefinition("HTTP", "/a/b/c/d", "POST", "role5"));
+		accessDefinitions.add(createAccessDefinition("CMIS", "/a", "READ", "role6"));
+		accessIndex = new AccessIndex(accessDefinitions, 100);
+	}
+
+	private AccessDefinition createAccessDefinition(String scope, String path, String method, String role) {
+		AccessDefinition accessDefinition = new AccessDefinition();
+		accessDefinition.setScope(scope);
+		accessDefinition.setPath(path);
+		accessDefinition.setMethod(method);
+		accessDefinition.setRole(role);
+		return accessDefinition;
+	}
+
+	private void assertRoles(List<AccessDefinition> accessDefinitions, String... roles) {
+		assertEquals(roles.length, accessDefinitions.size());
+		for (int i = 0; i < roles.length; i++) {
+			assertEquals(roles[i], accessDefinitions.get(i).getRole());
+		}
+	}
+
+	/**
+	 * The longest matching path wins, with all the definitions for the same or any method.
+	 */
+	@Test
+	public void mostSpecific() {
+		assertRoles(accessIndex.getMatchingAccessDefinitions("HTTP", "/a/b/c", "POST"), "role2", "role3");
+		assertRoles(accessIndex.getMatchingAccessDefinitions("HTTP", "/a/b/c/e", "GET"), "role3");
+		assertRoles(accessIndex.getMatchingAccessDefinitions("HTTP", "/a/b/c/d", "GET"), "role3");
+		assertRoles(accessIndex.getMatchingAccessDefinitions("HTTP", "/a/b/c/d/e", "POST"), "role5");
+		assertRoles(accessIndex.getMatchingAccessDefinitions("HTTP", "/a/b", "GET"), "role1");
+		assertRoles(accessIndex.getMatchingAccessDefinitions("HTTP", "/a/x/y", "GET"), "role4");
+		assertTrue(accessIndex.getMatchingAccessDefinitions("HTTP", "/a/x/y", "POST").isEmpty());
+		assertTrue(accessIndex.getMatchingAccessDefinitions("HTTP", "/a", "GET").isEmpty());
+		assertTrue(accessIndex.getMatchingAccessDefinitions("HTTP", "/z", "GET").isEmpty());
+	}
+
+	/**
+	 * The paths are matched as prefixes and the scopes ignoring the case.
+	 */
+	@Test
+	public void prefixAndScope() {
+		assertRoles(accessIndex.getMatchingAccessDefinitions("HTTP", "/a/bc", "GET"), "role1");
+		assertRoles(accessIndex.getMatchingAccessDefinitions("http", "/a/b/cd", "PUT"), "role3");
+		assertRoles(accessIndex.getMatchingAccessDefinitions("cmis", "/a/b", "READ"), "role6");
+		assertTrue(accessIndex.getMatchingAccessDefinitions("CMIS", "/a/b", "WRITE").isEmpty());
+		assertTrue(accessIndex.getMatchingAccessDefinitions("OTHER", "/a/b", "GET").isEmpty());
+	}
+
+	/**
+	 * The definitions are found by their exact path and the decisions are cached.
+	 */
+	@Test
+	public void exactPathAndDecisions() {
+		assertRoles(accessIndex.getAccessDefinitionsByPath("HTTP", "/a/b/c"), "role2", "role3");
+		assertTrue(accessIndex.getAccessDefinitionsByPath("HTTP", "/a/b/c/e").isEmpty());
+		accessIndex.getMatchingAccessDefinitions("HTTP", "/a/b/c/e", "GET");
+		accessIndex.getMatchingAccessDefinitions("HTTP", "/a/b/c/e", "GET");
+		accessIndex.getMatchingAccessDefinitions("HTTP", "/a/b/c/e", "POST");
+		assertEquals(2, accessIndex.getDecisionsCount());
+	}
+
+}
@@ -31,6 +31,10 @@ public class ProjectDescriptor {
 
 	private List<FileDescriptor> files = new ArrayList<FileDescriptor>();
 
+	private Integer total;
+
+	private Boolean loaded;
+
 	/**
 	 * Gets the name.
 	 *
@@ -124,7 +128,43 @@ public class ProjectDescriptor {
 	public void setGit(boolean git) {
 		this.git = git;
 	}
-	
-	
+
+	/**
+	 * Gets the total number of the children, set when the children are listed page by page.
+	 *
+	 * @return the total
+	 */
+	public Integer getTotal() {
+		return total;
+	}
+
+	/**
+	 * Sets the total number of the children.
+	 *
+	 * @param total
+	 *            the new total
+	 */
+	public void setTotal(Integer total) {
+		this.total = total;
+	}
+
+	/**
+	 * Checks if the children are loaded, set to false when they are left out because of the depth limit.
+	 *
+	 * @return the loaded
+	 */
+	public Boolean getLoaded() {
+		return loaded;
+	}
+
+	/**
+	 * Sets whether the children are loaded.
+	 *
+	 * @param loaded
+	 *            the new loaded
+	 */
+	public void setLoaded(Boolean loaded) {
+		this.loaded = loaded;
+	}
 
 }
@@ -34,6 +34,10 @@ public class WorkspaceDescriptor {
 
 	private List<ProjectDescriptor> projects = new ArrayList<ProjectDescriptor>();
 
+	private Integer total;
+
+	private Boolean loaded;
+
 	/**
 	 * Gets the name.
 	 *
@@ -109,4 +113,42 @@ public class WorkspaceDescriptor {
 		return null;
 	}
 
+	/**
+	 * Gets the total number of the children, set when the children are listed page by page.
+	 *
+	 * @return the total
+	 */
+	public Integer getTotal() {
+		return total;
+	}
+
+	/**
+	 * Sets the total number of the children.
+	 *
+	 * @param total
+	 *            the new total
+	 */
+	public void setTotal(Integer total) {
+		this.total = total;
+	}
+
+	/**
+	 * Checks if the children are loaded, set to false when they are left out because of the depth limit.
+	 *
+	 * @return the loaded
+	 */
+	public Boolean getLoaded() {
+		return loaded;
+	}
+
+	/**
+	 * Sets whether the children are loaded.
+	 *
+	 * @param loaded
+	 *            the new loaded
+	 */
+	public void setLoaded(Boolean loaded) {
+		this.loaded = loaded;
+	}
+
 }
@@ -12,18 +12,24 @@
 package org.eclipse.dirigible.core.workspace.json;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.fs.FileSystemRepository;
 import org.eclipse.dirigible.repository.local.LocalWorkspaceMapper;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 public class WorkspaceGitHelper {
 	
 	private static final String DOT_GIT = ".git";
+
+	/** The git flags of the projects, refreshed now and then as the projects can be shared or cloned meanwhile. */
+	private static final Cache<String, Boolean> GIT_AWARE = Caffeine.newBuilder().maximumSize(10000).expireAfterWrite(10, TimeUnit.SECONDS).build();
 	
 	/**
 	 * Get the git flag
@@ -34,8 +40,21 @@ public class WorkspaceGitHelper {
 	 * @return if the project is git aware
 	 */
 	public static boolean getGitAware(IRepository repository, String repositoryPath) {
-		File gitFolder = getGitFolderForProject(repository, repositoryPath);
-		return gitFolder != null && gitFolder.exists();
+		if (!(repository instanceof FileSystemRepository)) {
+			return false;
+		}
+		String key = ((FileSystemRepository) repository).getRepositoryPath() + repositoryPath;
+		return GIT_AWARE.get(key, k -> {
+			File gitFolder = getGitFolderForProject(repository, repositoryPath);
+			return gitFolder != null && gitFolder.exists();
+		});
+	}
+
+	/**
+	 * Clears the cached git flags, after a project has been cloned, shared or deleted
+	 */
+	public static void clearGitAware() {
+		GIT_AWARE.invalidateAll();
 	}
 	
 	/**
@@ -72,23 +91,7 @@ public class WorkspaceGitHelper {
 		project.setName(rootFolder.getName());
 		project.setPath(rootFolder.getPath());
 		project.setGit(true);
-
-		List<File> allFiles = Arrays.asList(rootFolder.listFiles());
-		List<File> folders = allFiles.stream().filter(e -> !e.isFile()).collect(Collectors.toList());
-		List<File> files = allFiles.stream().filter(e -> e.isFile()).collect(Collectors.toList());
-		for (File next : folders) {
-			if (!next.isFile() && !next.getName().equals(DOT_GIT)) {				
-				project.getFolders().add(describeFolder(next));
-			}
-		}
-
-		for (File next : files) {
-			FileDescriptor file = new FileDescriptor();
-			file.setName(next.getName());
-			file.setPath(next.getPath());
-			project.getFiles().add(file);
-		}
-
+		describeChildren(rootFolder.toPath(), project.getFolders(), project.getFiles(), true);
 		return project;
 	}
 	
@@ -103,20 +106,27 @@ public class WorkspaceGitHelper {
 		FolderDescriptor folder = new FolderDescriptor();
 		folder.setName(rootFolder.getName());
 		folder.setPath(rootFolder.getPath());
-		List<File> allFiles = Arrays.asList(rootFolder.listFiles());
-		List<File> folders = allFiles.stream().filter(e -> !e.isFile()).collect(Collectors.toList());
-		List<File> files = allFiles.stream().filter(e -> e.isFile()).collect(Collectors.toList());
-		for (File next : folders) {
-			folder.getFolders().add(describeFolder(next));
-		}
+		describeChildren(rootFolder.toPath(), folder.getFolders(), folder.getFiles(), false);
+		return folder;
+	}
 
-		for (File next : files) {
-			FileDescriptor file = new FileDescriptor();
-			file.setName(next.getName());
-			file.setPath(next.getPath());
-			folder.getFiles().add(file);
+	/**
+	 * Describe the children of a directory, skipping the git folder when it is the project root.
+	 */
+	private static void describeChildren(Path directory, List<FolderDescriptor> folders, List<FileDescriptor> files,
+			boolean skipGit) {
+		for (WorkspaceTreeHelper.Entry entry : WorkspaceTreeHelper.scan(directory)) {
+			File next = directory.resolve(entry.getName()).toFile();
+			if (entry.isFolder()) {
+				if (!skipGit || !DOT_GIT.equals(entry.getName())) {
+					folders.add(describeFolder(next));
+				}
+			} else {
+				FileDescriptor file = new FileDescriptor();
+				file.setName(next.getName());
+				file.setPath(next.getPath());
+				files.add(file);
+			}
 		}
-
-		return folder;
 	}
 }
@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.workspace.json;
+
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryReadException;
+import org.eclipse.dirigible.repository.fs.FileSystemRepository;
+import org.eclipse.dirigible.repository.local.LocalWorkspaceMapper;
+
+/**
+ * The Workspace Tree Helper.
+ *
+ * Describes the workspace tree down to a given depth and page by page, so that large workspaces can be loaded lazily.
+ * The children of a folder are sorted - the folders first, then the files, each group by name. The children of the
+ * described entity are paged by offset and limit, the children of the nested folders only by limit. The folders at the
+ * depth limit are returned without children and marked as not loaded. On a file system repository each listed folder
+ * is read with a single directory scan, taking the type of the children from the attributes of the scan.
+ */
+public class WorkspaceTreeHelper {
+
+	/** The maximum number of the children listed per folder, when no limit is requested. */
+	public static final String DIRIGIBLE_WORKSPACE_TREE_PAGE_SIZE = "DIRIGIBLE_WORKSPACE_TREE_PAGE_SIZE"; //$NON-NLS-1$
+
+	private static final String DEFAULT_PAGE_SIZE = "1000"; //$NON-NLS-1$
+
+	private static final Comparator<Entry> ENTRY_ORDER = Comparator.comparing((Entry entry) -> !entry.isFolder())
+			.thenComparing(Entry::getName);
+
+	/**
+	 * Describe workspace.
+	 *
+	 * @param collection
+	 *            the collection
+	 * @param removePathPrefix
+	 *            the remove path prefix
+	 * @param addPathPrefix
+	 *            the add path prefix
+	 * @param depth
+	 *            the number of the levels to be loaded, 1 for the projects only
+	 * @param offset
+	 *            the index of the first project
+	 * @param limit
+	 *            the maximum number of the projects and of the children per folder, 0 for the configured page size
+	 * @return the workspace descriptor
+	 */
+	public static WorkspaceDescriptor describeWorkspace(ICollection collection, String removePathPrefix, String addPathPrefix, int depth,
+			int offset, int limit) {
+		WorkspaceDescriptor workspacePojo = new WorkspaceDescriptor();
+		workspacePojo.setName(collection.getName());
+		workspacePojo.setPath(addPathPrefix + collection.getPath().substring(removePathPrefix.length()));
+		if (depth <= 0) {
+			workspacePojo.setLoaded(false);
+			return workspacePojo;
+		}
+		Folder folder = Folder.of(collection);
+		List<Entry> projects = new ArrayList<Entry>();
+		for (Entry entry : folder.list()) {
+			if (entry.isFolder()) {
+				projects.add(entry);
+			}
+		}
+		int pageLimit = getLimit(limit);
+		for (Entry entry : page(projects, offset, pageLimit)) {
+			workspacePojo.getProjects()
+					.add(describeProject(folder.getFolder(entry.getName()), removePathPrefix, addPathPrefix, depth - 1, 0, pageLimit));
+		}
+		workspacePojo.setTotal(projects.size());
+		workspacePojo.setLoaded(true);
+		return workspacePojo;
+	}
+
+	/**
+	 * Describe project.
+	 *
+	 * @param collection
+	 *            the collection
+	 * @param removePathPrefix
+	 *            the remove path prefix
+	 * @param addPathPrefix
+	 *            the add path prefix
+	 * @param depth
+	 *            the number of the levels to be loaded, 1 for the direct children only
+	 * @param offset
+	 *            the index of the first child
+	 * @param limit
+	 *            the maximum number of the children per folder, 0 for the configured page size
+	 * @return the project descriptor
+	 */
+	public static ProjectDescriptor describeProject(ICollection collection, String removePathPrefix, String addPathPrefix, int depth, int offset,
+			int limit) {
+		return describeProject(Folder.of(collection), removePathPrefix, addPathPrefix, depth, offset, getLimit(limit));
+	}
+
+	/**
+	 * Describe folder.
+	 *
+	 * @param collection
+	 *            the collection
+	 * @param removePathPrefix
+	 *            the remove path prefix
+	 * @param addPathPrefix
+	 *            the add path prefix
+	 * @param depth
+	 *            the number of the levels to be loaded, 1 for the direct children only
+	 * @param offset
+	 *            the index of the first child
+	 * @param limit
+	 *            the maximum number of the children per folder, 0 for the configured page size
+	 * @return the folder descriptor
+	 */
+	public static FolderDescriptor describeFolder(ICollection collection, String removePathPrefix, String addPathPrefix, int depth, int offset,
+			int limit) {
+		return describeFolder(Folder.of(collection), removePathPrefix, addPathPrefix, depth, offset, getLimit(limit));
+	}
+
+	private static ProjectDescriptor describeProject(Folder folder, String removePathPrefix, String addPathPrefix, int depth, int offset,
+			int limit) {
+		ProjectDescriptor projectPojo = new ProjectDescriptor();
+		projectPojo.setName(folder.getName());
+		projectPojo.setPath(addPathPrefix + folder.getPath().substring(removePathPrefix.length()));
+		projectPojo.setGit(WorkspaceGitHelper.getGitAware(folder.getRepository(), folder.getPath()));
+		if (depth <= 0) {
+			projectPojo.setLoaded(false);
+			return projectPojo;
+		}
+		projectPojo.setTotal(
+				describeChildren(folder, removePathPrefix, addPathPrefix, depth, offset, limit, projectPojo.getFolders(), projectPojo.getFiles()));
+		projectPojo.setLoaded(true);
+		return projectPojo;
+	}
+
+	private static FolderDescriptor describeFolder(Folder folder, String removePathPrefix, String addPathPrefix, int depth, int offset,
+			int limit) {
+		FolderDescriptor folderPojo = new FolderDescriptor();
+		folderPojo.setName(folder.getName());
+		folderPojo.setPath(addPathPrefix + folder.getPath().substring(removePathPrefix.length()));
+		if (depth <= 0) {
+			folderPojo.setLoaded(false);
+			return folderPojo;
+		}
+		folderPojo.setTotal(
+				describeChildren(folder, removePathPrefix, addPathPrefix, depth, offset, limit, folderPojo.getFolders(), folderPojo.getFiles()));
+		folderPojo.setLoaded(true);
+		return folderPojo;
+	}
+
+	private static int describeChildren(Folder folder, String removePathPrefix, String addPathPrefix, int depth, int offset, int limit,
+			List<FolderDescriptor> folders, List<FileDescriptor> files) {
+		List<Entry> entries = folder.list();
+		for (Entry entry : page(entries, offset, limit)) {
+			if (entry.isFolder()) {
+				folders.add(describeFolder(folder.getFolder(entry.getName()), removePathPrefix, addPathPrefix, depth - 1, 0, limit));
+			} else {
+				FileDescriptor resourcePojo = new FileDescriptor();
+				resourcePojo.setName(entry.getName());
+				resourcePojo.setPath(addPathPrefix + folder.getChildPath(entry.getName()).substring(removePathPrefix.length()));
+				resourcePojo.setContentType(folder.getContentType(entry.getName()));
+				files.add(resourcePojo);
+			}
+		}
+		return entries.size();
+	}
+
+	private static List<Entry> page(List<Entry> entries, int offset, int limit) {
+		int from = Math.min(Math.max(offset, 0), entries.size());
+		int to = (int) Math.min((long) from + limit, entries.size());
+		return entries.subList(from, to);
+	}
+
+	private static int getLimit(int limit) {
+		return limit > 0 ? limit : Integer.parseInt(Configuration.get(DIRIGIBLE_WORKSPACE_TREE_PAGE_SIZE, DEFAULT_PAGE_SIZE));
+	}
+
+	/**
+	 * Lists the children of a directory with a single scan, in the order of the tree.
+	 *
+	 * @param directory
+	 *            the directory
+	 * @return the children
+	 * @throws RepositoryReadException
+	 *             if the directory cannot be read
+	 */
+	static List<Entry> scan(Path directory) throws RepositoryReadException {
+		List<Entry> entries = new ArrayList<Entry>();
+		try {
+			Files.walkFileTree(directory, EnumSet.of(FileVisitOption.FOLLOW_LINKS), 1, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+					entries.add(new Entry(file.getFileName().toString(), attributes.isDirectory()));
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path file, IOException e) {
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		} catch (IOException e) {
+			throw new RepositoryReadException(e);
+		}
+		Collections.sort(entries, ENTRY_ORDER);
+		return entries;
+	}
+
+	/**
+	 * A child of a folder.
+	 */
+	static class Entry {
+
+		private final String name;
+
+		private final boolean folder;
+
+		Entry(String name, boolean folder) {
+			this.name = name;
+			this.folder = folder;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		boolean isFolder() {
+			return folder;
+		}
+	}
+
+	/**
+	 * A listed folder, read either directly from the file system or through the repository API.
+	 */
+	private abstract static class Folder {
+
+		private final IRepository repository;
+
+		private final String path;
+
+		Folder(IRepository repository, String path) {
+			this.repository = repository;
+			this.path = path;
+		}
+
+		static Folder of(ICollection collection) {
+			IRepository repository = collection.getRepository();
+			if (repository instanceof FileSystemRepository) {
+				Path directory = Paths.get(LocalWorkspaceMapper.getMappedName((FileSystemRepository) repository, collection.getPath()));
+				return new FileSystemFolder(repository, collection.getPath(), directory);
+			}
+			return new RepositoryFolder(collection);
+		}
+
+		IRepository getRepository() {
+			return repository;
+		}
+
+		String getPath() {
+			return path;
+		}
+
+		String getName() {
+			return path.substring(path.lastIndexOf(IRepository.SEPARATOR) + 1);
+		}
+
+		String getChildPath(String name) {
+			return path + IRepository.SEPARATOR + name;
+		}
+
+		abstract List<Entry> list();
+
+		abstract Folder getFolder(String name);
+
+		abstract String getContentType(String name);
+	}
+
+	private static class FileSystemFolder extends Folder {
+
+		private final Path directory;
+
+		FileSystemFolder(IRepository repository, String path, Path directory) {
+			super(repository, path);
+			this.directory = directory;
+		}
+
+		@Override
+		List<Entry> list() {
+			return scan(directory);
+		}
+
+		@Override
+		Folder getFolder(String name) {
+			return new FileSystemFolder(getRepository(), getChildPath(name), directory.resolve(name));
+		}
+
+		@Override
+		String getContentType(String name) {
+			return ContentTypeHelper.getContentType(ContentTypeHelper.getExtension(name));
+		}
+	}
+
+	private static class RepositoryFolder extends Folder {
+
+		private final ICollection collection;
+
+		RepositoryFolder(ICollection collection) {
+			super(collection.getRepository(), collection.getPath());
+			this.collection = collection;
+		}
+
+		@Override
+		String getName() {
+			return collection.getName();
+		}
+
+		@Override
+		List<Entry> list() {
+			List<Entry> entries = new ArrayList<Entry>();
+			for (String name : collection.getCollectionsNames()) {
+				entries.add(new Entry(name, true));
+			}
+			for (String name : collection.getResourcesNames()) {
+				entries.add(new Entry(name, false));
+			}
+			Collections.sort(entries, ENTRY_ORDER);
+			return entries;
+		}
+
+		@Override
+		Folder getFolder(String name) {
+			return new RepositoryFolder(collection.getCollection(name));
+		}
+
+		@Override
+		String getContentType(String name) {
+			IResource resource = collection.getResource(name);
+			return resource.getContentType();
+		}
+	}
+
+}
@@ -11,6 +11,7 @@
  */
 package org.eclipse.dirigible.core.workspace.service;
 
+import java.io.InputStream;
 import java.util.List;
 
 import org.eclipse.dirigible.core.workspace.api.IFile;
@@ -67,6 +68,15 @@ public class File implements IFile {
 		return internal.getContent();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#getContentAsStream()
+	 */
+	@Override
+	public InputStream getContentAsStream() throws RepositoryReadException {
+		return internal.getContentAsStream();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.repository.api.IEntity#getName()
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.core.workspace.service.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import javax.inject.Inject;
+
+import org.eclipse.dirigible.core.test.AbstractGuiceTest;
+import org.eclipse.dirigible.core.workspace.api.IProject;
+import org.eclipse.dirigible.core.workspace.api.IWorkspace;
+import org.eclipse.dirigible.core.workspace.api.IWorkspacesCoreService;
+import org.eclipse.dirigible.core.workspace.json.FolderDescriptor;
+import org.eclipse.dirigible.core.workspace.json.ProjectDescriptor;
+import org.eclipse.dirigible.core.workspace.json.WorkspaceDescriptor;
+import org.eclipse.dirigible.core.workspace.json.WorkspaceTreeHelper;
+import org.eclipse.dirigible.core.workspace.service.WorkspacesCoreService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class WorkspaceTreeTest.
+ */
+public class WorkspaceTreeTest extends AbstractGuiceTest {
+
+	private static final String PREFIX = "/users/guest";
+
+	/** The workspaces core service. */
+	@Inject
+	private IWorkspacesCoreService workspacesCoreService;
+
+	private IWorkspace workspace;
+
+	/**
+	 * Sets the up.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		this.workspacesCoreService = getInjector().getInstance(WorkspacesCoreService.class);
+		workspace = workspacesCoreService.createWorkspace("TreeWorkspace");
+		IProject project1 = workspace.createProject("Project1");
+		project1.createFolder("B");
+		project1.createFolder("A/Deep").createFile("x.txt", "x".getBytes());
+		project1.createFile("c.txt", "c".getBytes());
+		project1.createFile("a.js", "a".getBytes());
+		project1.createFile("b.txt", "b".getBytes());
+		workspace.createProject("Project2");
+	}
+
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		workspace.deleteProject("Project1");
+		workspace.deleteProject("Project2");
+		workspacesCoreService.deleteWorkspace("TreeWorkspace");
+	}
+
+	/**
+	 * The projects only.
+	 */
+	@Test
+	public void workspaceProjectsTest() {
+		WorkspaceDescriptor workspacePojo = WorkspaceTreeHelper.describeWorkspace(workspace, PREFIX, "", 1, 0, 0);
+		assertEquals("/TreeWorkspace", workspacePojo.getPath());
+		assertEquals(Integer.valueOf(2), workspacePojo.getTotal());
+		assertEquals(2, workspacePojo.getProjects().size());
+		ProjectDescriptor projectPojo = workspacePojo.getProjects().get(0);
+		assertEquals("Project1", projectPojo.getName());
+		assertEquals("/TreeWorkspace/Project1", projectPojo.getPath());
+		assertFalse(projectPojo.getLoaded());
+		assertTrue(projectPojo.getFolders().isEmpty());
+
+		workspacePojo = WorkspaceTreeHelper.describeWorkspace(workspace, PREFIX, "", 1, 1, 1);
+		assertEquals(1, workspacePojo.getProjects().size());
+		assertEquals("Project2", workspacePojo.getProjects().get(0).getName());
+	}
+
+	/**
+	 * The children of a project page by page.
+	 */
+	@Test
+	public void projectPagesTest() {
+		IProject project1 = workspace.getProject("Project1");
+		ProjectDescriptor projectPojo = WorkspaceTreeHelper.describeProject(project1, PREFIX, "", 1, 0, 2);
+		assertTrue(projectPojo.getLoaded());
+		assertEquals(Integer.valueOf(5), projectPojo.getTotal());
+		assertEquals(2, projectPojo.getFolders().size());
+		assertEquals("A", projectPojo.getFolders().get(0).getName());
+		assertEquals("B", projectPojo.getFolders().get(1).getName());
+		assertFalse(projectPojo.getFolders().get(0).getLoaded());
+		assertTrue(projectPojo.getFiles().isEmpty());
+
+		projectPojo = WorkspaceTreeHelper.describeProject(project1, PREFIX, "", 1, 2, 2);
+		assertTrue(projectPojo.getFolders().isEmpty());
+		assertEquals(2, projectPojo.getFiles().size());
+		assertEquals("a.js", projectPojo.getFiles().get(0).getName());
+		assertEquals("/TreeWorkspace/Project1/a.js", projectPojo.getFiles().get(0).getPath());
+		assertEquals("application/javascript", projectPojo.getFiles().get(0).getContentType());
+		assertEquals("b.txt", projectPojo.getFiles().get(1).getName());
+
+		projectPojo = WorkspaceTreeHelper.describeProject(project1, PREFIX, "", 1, 4, 2);
+		assertEquals(1, projectPojo.getFiles().size());
+		assertEquals("c.txt", projectPojo.getFiles().get(0).getName());
+	}
+
+	/**
+	 * The nested folders down to the depth limit.
+	 */
+	@Test
+	public void folderDepthTest() {
+		FolderDescriptor folderPojo = WorkspaceTreeHelper.describeFolder(workspace.getProject("Project1").getFolder("A"), PREFIX, "", 2, 0, 0);
+		assertEquals(Integer.valueOf(1), folderPojo.getTotal());
+		FolderDescriptor deepPojo = folderPojo.getFolders().get(0);
+		assertEquals("/TreeWorkspace/Project1/A/Deep", deepPojo.getPath());
+		assertTrue(deepPojo.getLoaded());
+		assertEquals(1, deepPojo.getFiles().size());
+		assertEquals("/TreeWorkspace/Project1/A/Deep/x.txt", deepPojo.getFiles().get(0).getPath());
+
+		folderPojo = WorkspaceTreeHelper.describeFolder(workspace.getProject("Project1").getFolder("A"), PREFIX, "", 0, 0, 0);
+		assertFalse(folderPojo.getLoaded());
+		assertTrue(folderPojo.getFolders().isEmpty());
+	}
+
+}
@@ -39,6 +39,20 @@ public interface IDatabase {
 
 	public static final String DIRIGIBLE_DATABASE_DEFAULT_WAIT_COUNT = "DIRIGIBLE_DATABASE_DEFAULT_WAIT_COUNT"; //$NON-NLS-1$
 
+	public static final String DIRIGIBLE_DATABASE_POOL_ENABLED = "DIRIGIBLE_DATABASE_POOL_ENABLED"; //$NON-NLS-1$
+
+	public static final String DIRIGIBLE_DATABASE_POOL_MIN_IDLE = "DIRIGIBLE_DATABASE_POOL_MIN_IDLE"; //$NON-NLS-1$
+
+	public static final String DIRIGIBLE_DATABASE_POOL_MAX_SIZE = "DIRIGIBLE_DATABASE_POOL_MAX_SIZE"; //$NON-NLS-1$
+
+	public static final String DIRIGIBLE_DATABASE_POOL_IDLE_TIMEOUT = "DIRIGIBLE_DATABASE_POOL_IDLE_TIMEOUT"; //$NON-NLS-1$
+
+	public static final String DIRIGIBLE_DATABASE_POOL_CONNECTION_TIMEOUT = "DIRIGIBLE_DATABASE_POOL_CONNECTION_TIMEOUT"; //$NON-NLS-1$
+
+	public static final String DIRIGIBLE_DATABASE_POOL_LEAK_DETECTION_THRESHOLD = "DIRIGIBLE_DATABASE_POOL_LEAK_DETECTION_THRESHOLD"; //$NON-NLS-1$
+
+	public static final String DIRIGIBLE_DATABASE_POOL_LEAK_DETECTION_SAMPLING = "DIRIGIBLE_DATABASE_POOL_LEAK_DETECTION_SAMPLING"; //$NON-NLS-1$
+
 	public static final String DIRIGIBLE_DATABASE_DATASOURCE_NAME_DEFAULT = "DIRIGIBLE_DATABASE_DATASOURCE_NAME_DEFAULT"; //$NON-NLS-1$
 
 	public static final String DIRIGIBLE_DATABASE_DATASOURCE_DEFAULT = "DefaultDB"; //$NON-NLS-1$
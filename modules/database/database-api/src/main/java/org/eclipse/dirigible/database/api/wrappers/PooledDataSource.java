@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.api.wrappers;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.database.api.IDatabase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * The PooledDataSource keeps the physical connections in a HikariCP pool instead of opening a new one for every
+ * {@link #getConnection()} and tracking all of them as the {@link WrappedDataSource} does.
+ * The connections are still handed out as {@link WrappedConnection}, so they are committed on close when the auto
+ * commit is disabled. The leak detection records the stack trace of only every n-th acquired connection.
+ */
+public class PooledDataSource extends WrappedDataSource {
+
+	private static final Logger logger = LoggerFactory.getLogger(PooledDataSource.class);
+
+	private static final String DEFAULT_MIN_IDLE = "1";
+
+	private static final String DEFAULT_MAX_SIZE = "16";
+
+	private static final String DEFAULT_IDLE_TIMEOUT = "600000";
+
+	private static final String DEFAULT_CONNECTION_TIMEOUT = "30000";
+
+	private static final String DEFAULT_LEAK_DETECTION_THRESHOLD = "60000";
+
+	private static final String DEFAULT_LEAK_DETECTION_SAMPLING = "100";
+
+	private static final ScheduledExecutorService LEAK_DETECTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "Dirigible DataSource Leak Detector");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final HikariDataSource pool;
+
+	private final long leakDetectionThreshold;
+
+	private final int leakDetectionSampling;
+
+	private final Map<WrappedConnection, Boolean> sampledConnections = new ConcurrentHashMap<WrappedConnection, Boolean>();
+
+	private final ScheduledFuture<?> leakDetection;
+
+	private final AtomicLong acquired = new AtomicLong();
+
+	private final LongAdder waitTime = new LongAdder();
+
+	private final AtomicLong maxWaitTime = new AtomicLong();
+
+	private final LongAdder leaks = new LongAdder();
+
+	/**
+	 * Creates a pool of connections opened by the given JDBC driver.
+	 *
+	 * @param name
+	 *            the name of the pool
+	 * @param driver
+	 *            the driver class name
+	 * @param url
+	 *            the url
+	 * @param username
+	 *            the username
+	 * @param password
+	 *            the password
+	 * @param connectionProperties
+	 *            the connection properties passed to the driver or null
+	 */
+	public PooledDataSource(String name, String driver, String url, String username, String password, Properties connectionProperties) {
+		this(createPool(name, config -> {
+			config.setDriverClassName(driver);
+			config.setJdbcUrl(url);
+			config.setUsername(username);
+			config.setPassword(password);
+			if (connectionProperties != null) {
+				config.setDataSourceProperties(connectionProperties);
+			}
+		}));
+	}
+
+	/**
+	 * Creates a pool of connections opened by the given non-pooling data source.
+	 *
+	 * @param name
+	 *            the name of the pool
+	 * @param dataSource
+	 *            the data source
+	 */
+	public PooledDataSource(String name, DataSource dataSource) {
+		this(createPool(name, config -> config.setDataSource(dataSource)));
+	}
+
+	private PooledDataSource(HikariDataSource pool) {
+		super(pool);
+		this.pool = pool;
+		this.leakDetectionThreshold = Long.parseLong(
+				Configuration.get(IDatabase.DIRIGIBLE_DATABASE_POOL_LEAK_DETECTION_THRESHOLD, DEFAULT_LEAK_DETECTION_THRESHOLD));
+		this.leakDetectionSampling = Math.max(1, Integer.parseInt(
+				Configuration.get(IDatabase.DIRIGIBLE_DATABASE_POOL_LEAK_DETECTION_SAMPLING, DEFAULT_LEAK_DETECTION_SAMPLING)));
+		if (leakDetectionThreshold > 0) {
+			long period = Math.max(leakDetectionThreshold / 2, 1000);
+			this.leakDetection = LEAK_DETECTOR.scheduleWithFixedDelay(this::detectLeaks, period, period, TimeUnit.MILLISECONDS);
+		} else {
+			this.leakDetection = null;
+		}
+	}
+
+	/**
+	 * Checks whether the pooled mode is enabled.
+	 *
+	 * @return true, if enabled
+	 */
+	public static boolean isEnabled() {
+		return Boolean.parseBoolean(Configuration.get(IDatabase.DIRIGIBLE_DATABASE_POOL_ENABLED, "false"));
+	}
+
+	private static HikariDataSource createPool(String name, Consumer<HikariConfig> target) {
+		HikariConfig config = new HikariConfig();
+		config.setPoolName(name);
+		target.accept(config);
+		config.setAutoCommit(Boolean.parseBoolean(Configuration.get(IDatabase.DIRIGIBLE_DATABASE_DEFAULT_SET_AUTO_COMMIT, "false")));
+		config.setMinimumIdle(Integer.parseInt(Configuration.get(IDatabase.DIRIGIBLE_DATABASE_POOL_MIN_IDLE, DEFAULT_MIN_IDLE)));
+		config.setMaximumPoolSize(Integer.parseInt(Configuration.get(IDatabase.DIRIGIBLE_DATABASE_POOL_MAX_SIZE, DEFAULT_MAX_SIZE)));
+		config.setIdleTimeout(Long.parseLong(Configuration.get(IDatabase.DIRIGIBLE_DATABASE_POOL_IDLE_TIMEOUT, DEFAULT_IDLE_TIMEOUT)));
+		config.setConnectionTimeout(
+				Long.parseLong(Configuration.get(IDatabase.DIRIGIBLE_DATABASE_POOL_CONNECTION_TIMEOUT, DEFAULT_CONNECTION_TIMEOUT)));
+		logger.info("Creating a connection pool [{}] with minimum idle {} and maximum size {}", name, config.getMinimumIdle(),
+				config.getMaximumPoolSize());
+		return new HikariDataSource(config);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.database.api.wrappers.WrappedDataSource#getConnection()
+	 */
+	@Override
+	public Connection getConnection() throws SQLException {
+		long start = System.nanoTime();
+		Connection connection = pool.getConnection();
+		return wrap(connection, System.nanoTime() - start);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.database.api.wrappers.WrappedDataSource#getConnection(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		long start = System.nanoTime();
+		Connection connection = pool.getConnection(username, password);
+		return wrap(connection, System.nanoTime() - start);
+	}
+
+	private WrappedConnection wrap(Connection connection, long waited) {
+		waitTime.add(waited);
+		maxWaitTime.accumulateAndGet(waited, Math::max);
+		WrappedConnection wrappedConnection = new WrappedConnection(connection, this);
+		long count = acquired.incrementAndGet();
+		if (leakDetection != null && count % leakDetectionSampling == 0) {
+			wrappedConnection.setOperationalInfo(getOperationalInfo());
+			sampledConnections.put(wrappedConnection, Boolean.TRUE);
+		}
+		return wrappedConnection;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.database.api.wrappers.WrappedDataSource#closedConnection(org.eclipse.dirigible.database.
+	 * api.wrappers.WrappedConnection)
+	 */
+	@Override
+	public void closedConnection(WrappedConnection wrappedConnection) {
+		sampledConnections.remove(wrappedConnection);
+	}
+
+	private void detectLeaks() {
+		Iterator<WrappedConnection> iterator = sampledConnections.keySet().iterator();
+		while (iterator.hasNext()) {
+			WrappedConnection connection = iterator.next();
+			if (connection.getTimeUsed() > leakDetectionThreshold) {
+				iterator.remove();
+				leaks.increment();
+				logger.error("Potential connection leak in pool [" + pool.getPoolName() + "]; connection: " + connection.hashCode()
+						+ ", used (ms): " + connection.getTimeUsed());
+				logger.error(connection.getOperationalInfo());
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of the connections in use.
+	 *
+	 * @return the active connections
+	 */
+	public int getActiveConnections() {
+		HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+		return bean != null ? bean.getActiveConnections() : 0;
+	}
+
+	/**
+	 * Gets the number of the connections waiting in the pool.
+	 *
+	 * @return the idle connections
+	 */
+	public int getIdleConnections() {
+		HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+		return bean != null ? bean.getIdleConnections() : 0;
+	}
+
+	/**
+	 * Gets the number of the threads waiting for a connection.
+	 *
+	 * @return the waiting threads
+	 */
+	public int getThreadsAwaitingConnection() {
+		HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+		return bean != null ? bean.getThreadsAwaitingConnection() : 0;
+	}
+
+	/**
+	 * Gets the number of the acquired connections.
+	 *
+	 * @return the acquired count
+	 */
+	public long getAcquiredCount() {
+		return acquired.get();
+	}
+
+	/**
+	 * Gets the total time in milliseconds spent waiting for a connection.
+	 *
+	 * @return the wait time
+	 */
+	public long getWaitTime() {
+		return TimeUnit.NANOSECONDS.toMillis(waitTime.sum());
+	}
+
+	/**
+	 * Gets the longest time in milliseconds spent waiting for a connection.
+	 *
+	 * @return the max wait time
+	 */
+	public long getMaxWaitTime() {
+		return TimeUnit.NANOSECONDS.toMillis(maxWaitTime.get());
+	}
+
+	/**
+	 * Gets the number of the detected potential leaks.
+	 *
+	 * @return the leaks count
+	 */
+	public long getLeaksCount() {
+		return leaks.sum();
+	}
+
+	/**
+	 * Closes the pool and all of its connections.
+	 */
+	public void close() {
+		if (leakDetection != null) {
+			leakDetection.cancel(false);
+		}
+		pool.close();
+	}
+
+}
@@ -31,13 +31,14 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
 
+import org.eclipse.dirigible.database.sql.IDataSourceAware;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The Wrapped Connection of the standard JDBC {@link Connection} object with added some additional capabilities.
  */
-public class WrappedConnection implements Connection {
+public class WrappedConnection implements Connection, IDataSourceAware {
 
 	private static final Logger logger = LoggerFactory.getLogger(WrappedConnection.class);
 
@@ -74,6 +75,15 @@ public class WrappedConnection implements Connection {
 		return timeAcquired;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.database.sql.IDataSourceAware#getDataSource()
+	 */
+	@Override
+	public WrappedDataSource getDataSource() {
+		return dataSource;
+	}
+
 	/**
 	 * Gets the time used.
 	 *
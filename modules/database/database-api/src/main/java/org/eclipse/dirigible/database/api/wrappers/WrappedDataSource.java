@@ -220,7 +220,7 @@ public class WrappedDataSource implements DataSource {
 	 *
 	 * @return the operational info
 	 */
-	private String getOperationalInfo() {
+	protected String getOperationalInfo() {
 		StringBuilder buff = new StringBuilder();
 		for (StackTraceElement element : Thread.currentThread().getStackTrace()) {
 			buff.append(element.toString()).append(System.getProperty("line.separator"));
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.NavigableMap;
 import java.util.TreeMap;
 
+import org.eclipse.dirigible.database.sql.DatabaseMetadataCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -124,6 +125,7 @@ public class DatabaseQueryHelper {
 				callback.queryDone(resultSet);
 			} else {
 				preparedStatement.executeUpdate();
+				DatabaseMetadataCache.invalidateOnDefinition(connection, sql);
 				callback.updateDone(preparedStatement.getUpdateCount());
 			}
 		} catch (Exception e) {
@@ -11,17 +11,21 @@
  */
 package org.eclipse.dirigible.databases.processor.format;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * The ResultSet Json Writer.
+ *
+ * The records are streamed one by one to the output, so that no intermediate tree of the whole result is built.
  */
 public class ResultSetJsonWriter implements ResultSetWriter<String> {
 
@@ -54,30 +58,106 @@ public class ResultSetJsonWriter implements ResultSetWriter<String> {
 	 */
 	@Override
 	public String write(ResultSet resultSet) throws SQLException {
+		StringWriter output = new StringWriter();
+		try {
+			write(resultSet, output);
+		} catch (IOException e) {
+			throw new SQLException(e);
+		}
+		return output.toString();
+	}
 
-		StringBuilder tableSb = new StringBuilder();
-
-		ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
-
-		JsonArray records = new JsonArray();
+	/**
+	 * Writes the records of the result set as a JSON array to the output.
+	 *
+	 * @param resultSet
+	 *            the result set
+	 * @param output
+	 *            the output
+	 * @throws SQLException
+	 *             the SQL exception
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public void write(ResultSet resultSet, Writer output) throws SQLException, IOException {
+		String[] names = getColumnNames(resultSet);
+		JsonWriter jsonWriter = newJsonWriter(output);
+		jsonWriter.beginArray();
 		int count = 0;
 		while (resultSet.next()) {
-			JsonObject record = new JsonObject();
-			for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-				String name = resultSetMetaData.getColumnName(i);
-				Object value = resultSet.getObject(i);
-				record.add(name, GsonHelper.GSON.toJsonTree(value));
-			}
-
-			records.add(record);
-
+			writeRecord(resultSet, names, jsonWriter);
 			if (this.isLimited() && (++count > LIMIT)) {
-				tableSb.append("..."); //$NON-NLS-1$
 				break;
 			}
 		}
+		jsonWriter.endArray();
+		jsonWriter.flush();
+	}
+
+	/**
+	 * Creates a JSON writer with the same settings as the {@link GsonHelper#GSON} instance.
+	 *
+	 * @param output
+	 *            the output
+	 * @return the JSON writer
+	 */
+	public static JsonWriter newJsonWriter(Writer output) {
+		JsonWriter jsonWriter = new JsonWriter(output);
+		jsonWriter.setHtmlSafe(true);
+		jsonWriter.setSerializeNulls(false);
+		return jsonWriter;
+	}
+
+	/**
+	 * Resolves the names of the columns of the result set, to be used for all of its records.
+	 *
+	 * @param resultSet
+	 *            the result set
+	 * @return the column names
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	public static String[] getColumnNames(ResultSet resultSet) throws SQLException {
+		ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+		String[] names = new String[resultSetMetaData.getColumnCount()];
+		for (int i = 0; i < names.length; i++) {
+			names[i] = resultSetMetaData.getColumnName(i + 1);
+		}
+		return names;
+	}
 
-		return GsonHelper.GSON.toJson(records);
+	/**
+	 * Writes the current record of the result set as a JSON object.
+	 *
+	 * @param resultSet
+	 *            the result set positioned on the record
+	 * @param names
+	 *            the column names as resolved by {@link #getColumnNames(ResultSet)}
+	 * @param jsonWriter
+	 *            the JSON writer
+	 * @throws SQLException
+	 *             the SQL exception
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static void writeRecord(ResultSet resultSet, String[] names, JsonWriter jsonWriter) throws SQLException, IOException {
+		jsonWriter.beginObject();
+		for (int i = 0; i < names.length; i++) {
+			Object value = resultSet.getObject(i + 1);
+			jsonWriter.name(names[i]);
+			if (value == null) {
+				jsonWriter.nullValue();
+			} else if (value instanceof String) {
+				jsonWriter.value((String) value);
+			} else if (value instanceof Boolean) {
+				jsonWriter.value((Boolean) value);
+			} else if (value instanceof Number) {
+				jsonWriter.value((Number) value);
+			} else {
+				GsonHelper.GSON.toJson(value, value.getClass(), jsonWriter);
+			}
+		}
+		jsonWriter.endObject();
 	}
 
 }
@@ -14,6 +14,7 @@ package org.eclipse.dirigible.database.custom;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 import java.util.StringTokenizer;
 
 import javax.sql.DataSource;
@@ -21,6 +22,7 @@ import javax.sql.DataSource;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.database.api.IDatabase;
+import org.eclipse.dirigible.database.api.wrappers.PooledDataSource;
 import org.eclipse.dirigible.database.api.wrappers.WrappedDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -111,6 +113,12 @@ public class CustomDatabase implements IDatabase {
 		int databaseTimeout = Integer.parseInt(Configuration.get(name + "_TIMEOUT", "60"));
 		String databaseConnectionProperties = Configuration.get(name + "_CONNECTION_PROPERTIES");
 		if ((databaseDriver != null) && (databaseUrl != null) && (databaseUsername != null) && (databasePassword != null)) {
+			if (PooledDataSource.isEnabled()) {
+				PooledDataSource pooledDataSource = new PooledDataSource(name, databaseDriver, databaseUrl, databaseUsername, databasePassword,
+						parseConnectionProperties(databaseConnectionProperties));
+				DATASOURCES.put(name, pooledDataSource);
+				return pooledDataSource;
+			}
 			BasicDataSource basicDataSource = new BasicDataSource();
 			basicDataSource.setDriverClassName(databaseDriver);
 			basicDataSource.setUrl(databaseUrl);
@@ -129,6 +137,29 @@ public class CustomDatabase implements IDatabase {
 		throw new IllegalArgumentException("Invalid configuration for the custom datasource: " + name);
 	}
 
+	/**
+	 * Parses the connection properties given in the format [propertyName=property;]*
+	 *
+	 * @param connectionProperties
+	 *            the connection properties
+	 * @return the properties or null if none are given
+	 */
+	private Properties parseConnectionProperties(String connectionProperties) {
+		if (connectionProperties == null || connectionProperties.isEmpty()) {
+			return null;
+		}
+		Properties properties = new Properties();
+		for (String entry : connectionProperties.split(";")) {
+			int index = entry.indexOf('=');
+			if (index > 0) {
+				properties.setProperty(entry.substring(0, index).trim(), entry.substring(index + 1));
+			} else if (!entry.trim().isEmpty()) {
+				properties.setProperty(entry.trim(), "");
+			}
+		}
+		return properties;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.database.api.IDatabase#getName()
@@ -22,6 +22,7 @@ import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.database.ds.model.DataStructureTableConstraintForeignKeyModel;
 import org.eclipse.dirigible.database.ds.model.DataStructureTableModel;
 import org.eclipse.dirigible.database.ds.model.IDataStructureModel;
+import org.eclipse.dirigible.database.sql.DatabaseMetadataCache;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -84,6 +85,7 @@ public class TableDropProcessor {
 
 			sql = SqlFactory.getNative(connection).drop().table(tableName).build();
 			executeUpdate(connection, sql);
+			DatabaseMetadataCache.invalidate(connection, tableName);
 		}
 	}
 
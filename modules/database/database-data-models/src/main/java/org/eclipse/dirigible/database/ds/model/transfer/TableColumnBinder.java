@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.ds.model.transfer;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.eclipse.dirigible.commons.api.helpers.DateTimeUtils;
+
+/**
+ * Binds a value of the imported data to a parameter of the insert statement. The binder is resolved once per column
+ * from its JDBC type, instead of per value.
+ */
+@FunctionalInterface
+public interface TableColumnBinder {
+
+	/**
+	 * Binds the value.
+	 *
+	 * @param statement
+	 *            the statement
+	 * @param index
+	 *            the index of the parameter
+	 * @param value
+	 *            the value, may be null
+	 * @throws SQLException
+	 *             in case the parameter cannot be set
+	 */
+	void bind(PreparedStatement statement, int index, String value) throws SQLException;
+
+	/**
+	 * Resolves the binder of the given JDBC type.
+	 *
+	 * @param type
+	 *            the type
+	 * @return the binder
+	 */
+	static TableColumnBinder forType(int type) {
+		TableColumnBinder binder;
+		switch (type) {
+			case Types.INTEGER:
+				binder = (statement, index, value) -> statement.setInt(index, Integer.parseInt(value));
+				break;
+			case Types.BIGINT:
+				binder = (statement, index, value) -> statement.setLong(index, Long.parseLong(value));
+				break;
+			case Types.SMALLINT:
+				binder = (statement, index, value) -> statement.setShort(index, Short.parseShort(value));
+				break;
+			case Types.TINYINT:
+				binder = (statement, index, value) -> statement.setByte(index, Byte.parseByte(value));
+				break;
+			case Types.BOOLEAN:
+			case Types.BIT:
+				binder = (statement, index, value) -> statement.setBoolean(index, Boolean.parseBoolean(value));
+				break;
+			case Types.DOUBLE:
+				binder = (statement, index, value) -> statement.setDouble(index, Double.parseDouble(value));
+				break;
+			case Types.FLOAT:
+			case Types.REAL:
+				binder = (statement, index, value) -> statement.setFloat(index, Float.parseFloat(value));
+				break;
+			case Types.DECIMAL:
+				binder = (statement, index, value) -> statement.setBigDecimal(index, new BigDecimal(value));
+				break;
+			case Types.DATE:
+				binder = (statement, index, value) -> statement.setDate(index, DateTimeUtils.parseDate(value));
+				break;
+			case Types.TIME:
+				binder = (statement, index, value) -> statement.setTime(index, DateTimeUtils.parseTime(value));
+				break;
+			case Types.TIMESTAMP:
+				binder = (statement, index, value) -> statement.setTimestamp(index, DateTimeUtils.parseDateTime(value));
+				break;
+			default:
+				return (statement, index, value) -> statement.setString(index, value);
+		}
+		TableColumnBinder typedBinder = binder;
+		return (statement, index, value) -> {
+			if (value == null) {
+				statement.setNull(index, type);
+			} else {
+				typedBinder.bind(statement, index, value);
+			}
+		};
+	}
+
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.ds.model.transfer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming parser of the delimited table data.
+ *
+ * The records are read one by one straight from the buffer of the reader, without splitting lines first. A value may
+ * be quoted with double quotes, in which case it can contain delimiters and line breaks, and a double quote is escaped
+ * by doubling it. An empty unquoted value is null, while an empty quoted value is an empty string. A value which only
+ * starts with a quoted part on a single line, e.g. "quoted" text, is taken as it is, as it was written before the
+ * values were quoted on export. Blank lines are skipped and all the records must have the same number of values as the
+ * first one.
+ */
+public class TableDataParser implements Closeable {
+
+	private static final String INVALID_NUMBER_D_OF_ELEMENTS_AT_LINE_D_INITIAL_COLUMNS_NUMBER_D = "Invalid number (%d) of elements at line: %d. Initial columns number: %d.";
+
+	private static final char QUOTE = '"';
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final Reader reader;
+
+	private final char delimiter;
+
+	private final char[] buffer = new char[BUFFER_SIZE];
+
+	private int position;
+
+	private int limit;
+
+	private final StringBuilder pending = new StringBuilder();
+
+	private final List<String> values = new ArrayList<String>();
+
+	private int lineNumber;
+
+	private int columnsCount = -1;
+
+	/**
+	 * Instantiates a new parser of data delimited with {@link TableExporter#DATA_DELIMETER}.
+	 *
+	 * @param reader
+	 *            the reader
+	 */
+	public TableDataParser(Reader reader) {
+		this(reader, TableExporter.DATA_DELIMETER.charAt(0));
+	}
+
+	/**
+	 * Instantiates a new parser.
+	 *
+	 * @param reader
+	 *            the reader
+	 * @param delimiter
+	 *            the delimiter of the values
+	 */
+	public TableDataParser(Reader reader, char delimiter) {
+		this.reader = reader;
+		this.delimiter = delimiter;
+	}
+
+	/**
+	 * Reads the next record.
+	 *
+	 * @return the values of the record, or null at the end of the data
+	 * @throws IOException
+	 *             in case the data cannot be read
+	 * @throws InvalidNumberOfElementsException
+	 *             in case the record has a different number of values than the first one
+	 */
+	public String[] next() throws IOException, InvalidNumberOfElementsException {
+		while (true) {
+			if (!fill()) {
+				return null;
+			}
+			char c = buffer[position];
+			if ((c != '\n') && (c != '\r')) {
+				break;
+			}
+			position++;
+			if (c == '\r') {
+				skipLineFeed();
+			}
+			lineNumber++;
+		}
+		lineNumber++;
+		values.clear();
+		while (readValue()) {
+			// the values are collected until the end of the line
+		}
+		if (columnsCount == -1) {
+			columnsCount = values.size();
+		} else if (columnsCount != values.size()) {
+			throw new InvalidNumberOfElementsException(
+					String.format(INVALID_NUMBER_D_OF_ELEMENTS_AT_LINE_D_INITIAL_COLUMNS_NUMBER_D, values.size(), lineNumber, columnsCount));
+		}
+		return values.toArray(new String[values.size()]);
+	}
+
+	/**
+	 * Gets the number of the line of the last record.
+	 *
+	 * @return the line number
+	 */
+	public int getLineNumber() {
+		return lineNumber;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	/**
+	 * Reads a value into the values of the current record.
+	 *
+	 * @return true, if a delimiter follows the value
+	 */
+	private boolean readValue() throws IOException {
+		if (fill() && (buffer[position] == QUOTE)) {
+			position++;
+			return readQuotedValue();
+		}
+		pending.setLength(0);
+		return readUnquotedValue(false);
+	}
+
+	/**
+	 * Reads an unquoted value, appending it to the pending characters.
+	 *
+	 * @param spilled
+	 *            whether the pending characters already hold the beginning of the value
+	 * @return true, if a delimiter follows the value
+	 */
+	private boolean readUnquotedValue(boolean spilled) throws IOException {
+		int start = position;
+		while (true) {
+			if (position == limit) {
+				pending.append(buffer, start, limit - start);
+				spilled = true;
+				if (!fill()) {
+					addValue(pending.toString());
+					return false;
+				}
+				start = position;
+			}
+			char c = buffer[position];
+			if ((c == delimiter) || (c == '\n') || (c == '\r')) {
+				if (spilled) {
+					pending.append(buffer, start, position - start);
+					addValue(pending.toString());
+				} else {
+					addValue(new String(buffer, start, position - start));
+				}
+				position++;
+				if (c == '\r') {
+					skipLineFeed();
+				}
+				return c == delimiter;
+			}
+			position++;
+		}
+	}
+
+	private boolean readQuotedValue() throws IOException {
+		pending.setLength(0);
+		while (true) {
+			if (!fill()) {
+				throw new IOException(String.format("Unterminated quoted value at line: %d", lineNumber));
+			}
+			int start = position;
+			while ((position < limit) && (buffer[position] != QUOTE)) {
+				position++;
+			}
+			pending.append(buffer, start, position - start);
+			if (position == limit) {
+				continue;
+			}
+			position++;
+			if (fill() && (buffer[position] == QUOTE)) {
+				pending.append(QUOTE);
+				position++;
+				continue;
+			}
+			break;
+		}
+		if (!fill()) {
+			values.add(pending.toString());
+			return false;
+		}
+		char c = buffer[position];
+		if ((c != delimiter) && (c != '\n') && (c != '\r')) {
+			if ((pending.indexOf("\n") >= 0) || (pending.indexOf("\r") >= 0)) {
+				throw new IOException(String.format("Unexpected character '%c' after a quoted value at line: %d", c, lineNumber));
+			}
+			String quoted = pending.toString().replace(String.valueOf(QUOTE), String.valueOf(QUOTE) + QUOTE);
+			pending.setLength(0);
+			pending.append(QUOTE).append(quoted).append(QUOTE);
+			return readUnquotedValue(true);
+		}
+		values.add(pending.toString());
+		position++;
+		if (c == '\r') {
+			skipLineFeed();
+		}
+		return c == delimiter;
+	}
+
+	private void addValue(String value) {
+		values.add(value.isEmpty() ? null : value);
+	}
+
+	private void skipLineFeed() throws IOException {
+		if (fill() && (buffer[position] == '\n')) {
+			position++;
+		}
+	}
+
+	private boolean fill() throws IOException {
+		if (position < limit) {
+			return true;
+		}
+		int read;
+		do {
+			read = reader.read(buffer, 0, buffer.length);
+		} while (read == 0);
+		if (read < 0) {
+			return false;
+		}
+		position = 0;
+		limit = read;
+		return true;
+	}
+
+}
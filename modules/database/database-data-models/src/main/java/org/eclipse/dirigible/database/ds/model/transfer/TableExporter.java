@@ -32,6 +32,8 @@ public class TableExporter {
 
 	public static final String DATA_DELIMETER = "|";
 
+	private static final String QUOTE = "\"";
+
 	private String tableName;
 	private String tableType;
 	private TableColumn[] tableColumns;
@@ -91,7 +93,7 @@ public class TableExporter {
 
 			while (resultSet.next()) {
 				for (TableColumn column : columns) {
-					sb.append(resultSet.getString(column.getName()));
+					sb.append(formatValue(resultSet.getString(column.getName())));
 					sb.append(DATA_DELIMETER);
 				}
 				sb.deleteCharAt(sb.length() - 1);
@@ -123,6 +125,25 @@ public class TableExporter {
 		}
 	}
 
+	/**
+	 * Formats a value to be read back by {@link TableDataParser}. A null value is written as empty, an empty value and a
+	 * value containing the delimiter, a quote or a line break are quoted, with the quotes inside doubled.
+	 *
+	 * @param value
+	 *            the value
+	 * @return the formatted value
+	 */
+	public static String formatValue(String value) {
+		if (value == null) {
+			return "";
+		}
+		if (value.isEmpty() || value.contains(DATA_DELIMETER) || value.contains(QUOTE) || (value.indexOf('\n') >= 0)
+				|| (value.indexOf('\r') >= 0)) {
+			return QUOTE + value.replace(QUOTE, QUOTE + QUOTE) + QUOTE;
+		}
+		return value;
+	}
+
 	private boolean exists(List<TableColumn> availableTableColumns, TableColumn tableColumn) {
 		if (getTableName() == null) {
 			return false;
@@ -12,129 +12,378 @@
 package org.eclipse.dirigible.database.ds.model.transfer;
 
 import java.io.ByteArrayInputStream;
-import java.math.BigDecimal;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.Types;
-import java.text.ParseException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.sql.DataSource;
 
 import org.eclipse.dirigible.commons.api.helpers.DataStructuresUtils;
-import org.eclipse.dirigible.commons.api.helpers.DateTimeUtils;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.database.sql.ISqlDialect;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.eclipse.dirigible.database.sql.builders.records.InsertBuilder;
+import org.eclipse.dirigible.database.sql.dialects.SqlDialectFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Imports delimited data into a table.
+ *
+ * The data is parsed while it is being read and inserted in batches, so the memory used does not depend on its size.
+ * The batches can be loaded in parallel over several connections, and on H2 and PostgreSQL the native bulk load of
+ * the database can be used instead, falling back to the batches if it fails.
+ */
 public class TableImporter {
-	
+
+	/** The number of records inserted with a single batch. */
+	public static final String DIRIGIBLE_DATABASE_DATA_IMPORT_BATCH_SIZE = "DIRIGIBLE_DATABASE_DATA_IMPORT_BATCH_SIZE"; //$NON-NLS-1$
+
+	/** The number of connections loading the batches in parallel. */
+	public static final String DIRIGIBLE_DATABASE_DATA_IMPORT_THREADS = "DIRIGIBLE_DATABASE_DATA_IMPORT_THREADS"; //$NON-NLS-1$
+
+	/** Whether the native bulk load of the database is used where available. */
+	public static final String DIRIGIBLE_DATABASE_DATA_IMPORT_NATIVE = "DIRIGIBLE_DATABASE_DATA_IMPORT_NATIVE"; //$NON-NLS-1$
+
 	private static final Logger logger = LoggerFactory.getLogger(TableImporter.class);
 
-	private static final int BATCH_SIZE = 500;
+	private static final String DEFAULT_BATCH_SIZE = "500"; //$NON-NLS-1$
 
-	private byte[] content;
+	private static final String DEFAULT_THREADS = "1"; //$NON-NLS-1$
+
+	private static final String H2_CSV_OPTIONS = "charset=UTF-8 fieldSeparator=| fieldDelimiter=\" null="; //$NON-NLS-1$
+
+	private static final String POSTGRES_COPY_OPTIONS = " FROM STDIN WITH (FORMAT csv, DELIMITER '|', NULL '')"; //$NON-NLS-1$
+
+	/** Marks the end of the batches for the loading threads. */
+	private static final List<String[]> END_OF_DATA = new ArrayList<String[]>();
+
+	private InputStream content;
 	private String tableName;
 	private DataSource dataSource;
+	private int batchSize;
+	private int threads;
+	private boolean nativeImport;
+	private boolean importedNatively;
 
 	public TableImporter(DataSource dataSource, byte[] content, String tableName) {
+		this(dataSource, new ByteArrayInputStream(content), tableName);
+	}
+
+	/**
+	 * Instantiates a new table importer with the configured batch size, threads and native bulk load.
+	 *
+	 * @param dataSource
+	 *            the data source
+	 * @param content
+	 *            the UTF-8 encoded data, closed once imported
+	 * @param tableName
+	 *            the table name
+	 */
+	public TableImporter(DataSource dataSource, InputStream content, String tableName) {
 		this.content = content;
 		this.tableName = DataStructuresUtils.getCaseSensitiveTableName(tableName);
 		this.dataSource = dataSource;
+		this.batchSize = Math.max(Integer.parseInt(Configuration.get(DIRIGIBLE_DATABASE_DATA_IMPORT_BATCH_SIZE, DEFAULT_BATCH_SIZE)), 1);
+		this.threads = Integer.parseInt(Configuration.get(DIRIGIBLE_DATABASE_DATA_IMPORT_THREADS, DEFAULT_THREADS));
+		this.nativeImport = Boolean.parseBoolean(Configuration.get(DIRIGIBLE_DATABASE_DATA_IMPORT_NATIVE, Boolean.FALSE.toString()));
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = Math.max(batchSize, 1);
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	public boolean isNativeImport() {
+		return nativeImport;
+	}
+
+	public void setNativeImport(boolean nativeImport) {
+		this.nativeImport = nativeImport;
+	}
+
+	/**
+	 * Checks whether the last import has been loaded with the native bulk load, rather than falling back to the batches.
+	 *
+	 * @return true, if imported natively
+	 */
+	public boolean isImportedNatively() {
+		return importedNatively;
 	}
 
 	public void insert() throws Exception {
-		Connection connection = null;
+		logger.debug("Start importing data for the table: {} ...", tableName);
+		importedNatively = false;
+		Path staged = null;
 		try {
-			connection = getConnection();
+			InputStream input = content;
+			List<TableColumn> availableTableColumns;
+			String sql;
+			Connection connection = null;
+			try {
+				connection = getConnection();
+				availableTableColumns = TableMetadataHelper.getColumns(connection, tableName);
+				ISqlDialect dialect = SqlFactory.deriveDialect(connection);
+				sql = createInsert(dialect, availableTableColumns);
+				if (nativeImport && ((dialect == SqlDialectFactory.DATABASE_TYPE_H2) || (dialect == SqlDialectFactory.DATABASE_TYPE_POSTGRES))) {
+					staged = Files.createTempFile("dirigible-table-import", ".csv"); //$NON-NLS-1$ //$NON-NLS-2$
+					try (InputStream in = content) {
+						Files.copy(in, staged, StandardCopyOption.REPLACE_EXISTING);
+					}
+					if (insertNative(connection, dialect, availableTableColumns, staged)) {
+						importedNatively = true;
+						return;
+					}
+					input = Files.newInputStream(staged);
+				}
+				if (threads <= 1) {
+					insertRecords(connection, sql, getBinders(availableTableColumns), input);
+					return;
+				}
+			} finally {
+				closeConnection(connection);
+			}
+			insertRecordsInParallel(sql, getBinders(availableTableColumns), input);
+		} finally {
+			if (staged != null) {
+				Files.deleteIfExists(staged);
+			}
+		}
+	}
 
-			List<String[]> records = TableDataReader.readRecords(new ByteArrayInputStream(content));
+	private String createInsert(ISqlDialect dialect, List<TableColumn> availableTableColumns) {
+		InsertBuilder insertBuilder = new InsertBuilder(dialect);
+		insertBuilder.into(tableName);
+		for (TableColumn tableColumn : availableTableColumns) {
+			insertBuilder.column("\"" + tableColumn.getName() + "\"").value("?");
+		}
+		return insertBuilder.build();
+	}
 
-			insertRecords(connection, records, tableName);
-		} finally {
-			closeConnection(connection);
+	private TableColumnBinder[] getBinders(List<TableColumn> availableTableColumns) {
+		TableColumnBinder[] binders = new TableColumnBinder[availableTableColumns.size()];
+		for (int i = 0; i < binders.length; i++) {
+			binders[i] = TableColumnBinder.forType(availableTableColumns.get(i).getType());
 		}
+		return binders;
 	}
 
-	private void insertRecords(Connection connection, List<String[]> records, String tableName) throws SQLException, ParseException {
-		logger.debug("Start importing data for the table: {} ...", tableName);
-		InsertBuilder insertBuilder = new InsertBuilder(SqlFactory.deriveDialect(connection));
-	    insertBuilder.into(tableName);
-	    
-	    List<TableColumn> availableTableColumns = TableMetadataHelper.getColumns(connection, tableName);
-	    for (int i = 0; i < availableTableColumns.size(); i++) {
-	    	String columnName = availableTableColumns.get(i).getName();
-			insertBuilder.column("\"" + columnName + "\"").value("?");
+	private void insertRecords(Connection connection, String sql, TableColumnBinder[] binders, InputStream input) throws Exception {
+		int rn = 0;
+		boolean autoCommit = connection.getAutoCommit();
+		try (TableDataParser parser = createParser(input); PreparedStatement insertStatement = connection.prepareStatement(sql)) {
+			connection.setAutoCommit(false);
+			int recordsInBatch = 0;
+			String[] record;
+			while ((record = nextRecord(parser, binders.length)) != null) {
+				bindRecord(insertStatement, binders, record);
+				rn++;
+				if (++recordsInBatch == batchSize) {
+					executeBatch(connection, insertStatement);
+					recordsInBatch = 0;
+				}
+			}
+			if (recordsInBatch != 0) {
+				executeBatch(connection, insertStatement);
+			}
+		} finally {
+			connection.setAutoCommit(autoCommit);
 		}
-	        
-		PreparedStatement insertStatement = connection
-				.prepareStatement(insertBuilder.build());
+		logger.debug("Done importing data for the table: {}, records: {}", tableName, rn);
+	}
 
-		int recordsInBatch = 0;
+	private void insertRecordsInParallel(String sql, TableColumnBinder[] binders, InputStream input) throws Exception {
+		BlockingQueue<List<String[]>> batches = new ArrayBlockingQueue<List<String[]>>(threads * 2);
+		AtomicReference<Exception> failure = new AtomicReference<Exception>();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
 		int rn = 0;
-		for (String[] record : records) {
-			rn++;
-			if (record.length > availableTableColumns.size()) {
-				logger.error("Columns count in the provided data record is bigger than the available columns number in the target table: {}. Skipped record number: {}", tableName, rn);
+		try (TableDataParser parser = createParser(input)) {
+			for (int i = 0; i < threads; i++) {
+				executor.execute(() -> loadBatches(sql, binders, batches, failure));
 			}
-			for (int i = 0; i < record.length; i++) {
-				TableColumn tableColumn = availableTableColumns.get(i);
-				switch (tableColumn.getType()) {
-					case Types.INTEGER:
-						insertStatement.setInt(i + 1, Integer.parseInt(record[i]));
-						break;
-					case Types.BIGINT:
-						insertStatement.setLong(i + 1, Long.parseLong(record[i]));
-						break;
-					case Types.SMALLINT:
-						insertStatement.setShort(i + 1, Short.parseShort(record[i]));
-						break;
-					case Types.TINYINT:
-						insertStatement.setByte(i + 1, Byte.parseByte(record[i]));
-						break;
-					case Types.BOOLEAN:
-					case Types.BIT:
-						insertStatement.setBoolean(i + 1, Boolean.parseBoolean(record[i]));
-						break;
-					case Types.DOUBLE:
-						insertStatement.setDouble(i + 1, Double.parseDouble(record[i]));
-						break;
-					case Types.FLOAT:
-					case Types.REAL:
-						insertStatement.setFloat(i + 1, Float.parseFloat(record[i]));
-						break;
-					case Types.DECIMAL:
-						insertStatement.setBigDecimal(i + 1, new BigDecimal(record[i]));
-						break;
-					case Types.DATE:
-						insertStatement.setDate(i + 1, DateTimeUtils.parseDate(record[i]));
-						break;
-					case Types.TIME:
-						insertStatement.setTime(i + 1,DateTimeUtils.parseTime(record[i]));
-						break;
-					case Types.TIMESTAMP:
-						insertStatement.setTimestamp(i + 1, DateTimeUtils.parseDateTime(record[i]));
-						break;
-					default:
-						insertStatement.setString(i + 1, record[i]);
-						break;
+			List<String[]> batch = new ArrayList<String[]>(batchSize);
+			String[] record;
+			while ((failure.get() == null) && ((record = nextRecord(parser, binders.length)) != null)) {
+				batch.add(record);
+				rn++;
+				if (batch.size() == batchSize) {
+					batches.put(batch);
+					batch = new ArrayList<String[]>(batchSize);
 				}
-				
 			}
-			insertStatement.addBatch();
-			recordsInBatch++;
+			if (!batch.isEmpty()) {
+				batches.put(batch);
+			}
+		} finally {
+			for (int i = 0; i < threads; i++) {
+				batches.put(END_OF_DATA);
+			}
+			executor.shutdown();
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		}
+		if (failure.get() != null) {
+			throw failure.get();
+		}
+		logger.debug("Done importing data for the table: {}, records: {}, threads: {}", tableName, rn, threads);
+	}
 
-			if (recordsInBatch == BATCH_SIZE) {
-				insertStatement.executeBatch();
-				recordsInBatch = 0;
+	/**
+	 * Loads the batches from the queue over a connection of its own until the end of the data. After a failure of any
+	 * of the threads the remaining batches are only consumed, so that the parsing thread is never blocked.
+	 */
+	private void loadBatches(String sql, TableColumnBinder[] binders, BlockingQueue<List<String[]>> batches, AtomicReference<Exception> failure) {
+		Connection connection = null;
+		PreparedStatement insertStatement = null;
+		boolean autoCommit = true;
+		try {
+			List<String[]> batch;
+			while ((batch = batches.take()) != END_OF_DATA) {
+				if (failure.get() != null) {
+					continue;
+				}
+				try {
+					if (connection == null) {
+						connection = getConnection();
+						autoCommit = connection.getAutoCommit();
+						connection.setAutoCommit(false);
+						insertStatement = connection.prepareStatement(sql);
+					}
+					for (String[] record : batch) {
+						bindRecord(insertStatement, binders, record);
+					}
+					executeBatch(connection, insertStatement);
+				} catch (Exception e) {
+					failure.compareAndSet(null, e);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			failure.compareAndSet(null, e);
+		} finally {
+			try {
+				if (insertStatement != null) {
+					insertStatement.close();
+				}
+				if (connection != null) {
+					connection.setAutoCommit(autoCommit);
+				}
+				closeConnection(connection);
+			} catch (SQLException e) {
+				logger.error(e.getMessage(), e);
 			}
 		}
-		if (recordsInBatch != 0) {
+	}
+
+	private TableDataParser createParser(InputStream input) {
+		return new TableDataParser(new InputStreamReader(input, StandardCharsets.UTF_8));
+	}
+
+	private String[] nextRecord(TableDataParser parser, int columnsCount) throws Exception {
+		String[] record;
+		while (((record = parser.next()) != null) && (record.length > columnsCount)) {
+			logger.error("Columns count in the provided data record is bigger than the available columns number in the target table: {}. Skipped record at line: {}", tableName, parser.getLineNumber());
+		}
+		return record;
+	}
+
+	private void bindRecord(PreparedStatement insertStatement, TableColumnBinder[] binders, String[] record) throws SQLException {
+		for (int i = 0; i < binders.length; i++) {
+			binders[i].bind(insertStatement, i + 1, i < record.length ? record[i] : null);
+		}
+		insertStatement.addBatch();
+	}
+
+	private void executeBatch(Connection connection, PreparedStatement insertStatement) throws SQLException {
+		try {
 			insertStatement.executeBatch();
+			connection.commit();
+		} catch (SQLException e) {
+			connection.rollback();
+			throw e;
 		}
-		logger.debug("Done importing data for the table: {}, records: {}", tableName, rn);
+	}
+
+	/**
+	 * Loads the staged data with CSVREAD on H2 or COPY on PostgreSQL.
+	 *
+	 * @return true, if the data has been loaded, or false if the batches have to be used instead
+	 */
+	private boolean insertNative(Connection connection, ISqlDialect dialect, List<TableColumn> availableTableColumns, Path staged) {
+		StringBuilder columns = new StringBuilder();
+		StringBuilder names = new StringBuilder();
+		for (TableColumn tableColumn : availableTableColumns) {
+			columns.append(columns.length() > 0 ? "," : "").append("\"").append(tableColumn.getName()).append("\"");
+			names.append(names.length() > 0 ? TableExporter.DATA_DELIMETER : "").append(tableColumn.getName());
+		}
+		try {
+			long count;
+			if (dialect == SqlDialectFactory.DATABASE_TYPE_H2) {
+				// the arguments of a table function are evaluated on prepare, so they cannot be parameters
+				String sql = "INSERT INTO " + tableName + " (" + columns + ") SELECT * FROM CSVREAD(" + quote(staged.toAbsolutePath().toString()) + ", "
+						+ quote(names.toString()) + ", " + quote(H2_CSV_OPTIONS) + ")";
+				try (Statement statement = connection.createStatement()) {
+					count = statement.executeUpdate(sql);
+				}
+			} else {
+				String sql = "COPY " + tableName + " (" + columns + ")" + POSTGRES_COPY_OPTIONS;
+				Object pgConnection = connection.unwrap(Class.forName("org.postgresql.PGConnection"));
+				Object copyManager = pgConnection.getClass().getMethod("getCopyAPI").invoke(pgConnection);
+				try (Reader reader = Files.newBufferedReader(staged, StandardCharsets.UTF_8)) {
+					count = (Long) copyManager.getClass().getMethod("copyIn", String.class, Reader.class).invoke(copyManager, sql, reader);
+				}
+			}
+			logger.debug("Done importing data for the table: {}, records: {}, native", tableName, count);
+			return true;
+		} catch (Exception e) {
+			logger.warn("Native import of the data for the table: {} failed, falling back to batches. {}", tableName, e.getMessage());
+			rollback(connection);
+			return false;
+		}
+	}
+
+	/**
+	 * Rolls back the failed native load, as some databases, e.g. PostgreSQL, reject any further statement in a
+	 * transaction with a failed one.
+	 */
+	private void rollback(Connection connection) {
+		try {
+			if (!connection.getAutoCommit()) {
+				connection.rollback();
+			}
+		} catch (SQLException e) {
+			logger.warn("Rollback of the native import of the data for the table: {} failed. {}", tableName, e.getMessage());
+		}
+	}
+
+	private static String quote(String value) {
+		return "'" + value.replace("'", "''") + "'";
 	}
 
 	private void closeConnection(Connection con) throws SQLException {
@@ -143,7 +392,7 @@ public class TableImporter {
 		}
 	}
 
-	private Connection getConnection() throws Exception {
+	private Connection getConnection() throws SQLException {
 		Connection con = dataSource.getConnection();
 		return con;
 	}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.ds.model.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+
+import org.eclipse.dirigible.database.ds.model.transfer.InvalidNumberOfElementsException;
+import org.eclipse.dirigible.database.ds.model.transfer.TableDataParser;
+import org.junit.Test;
+
+/**
+ * The Class TableDataParserTest.
+ */
+public class TableDataParserTest {
+
+	/**
+	 * Empty values are null, quoted ones may contain delimiters, quotes and line breaks.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void parseValues() throws Exception {
+		String data = "1|John||x\r\n\n2|\"Jane|\"\"J\"\"\nDoe\"|\"\"|y\n3|Joe|z|";
+		try (TableDataParser parser = new TableDataParser(new StringReader(data))) {
+			assertArrayEquals(new String[] {"1", "John", null, "x"}, parser.next());
+			assertArrayEquals(new String[] {"2", "Jane|\"J\"\nDoe", "", "y"}, parser.next());
+			assertArrayEquals(new String[] {"3", "Joe", "z", null}, parser.next());
+			assertNull(parser.next());
+		}
+	}
+
+	/**
+	 * A value which only starts with a quoted part is taken as it is, as written before the values were quoted on export.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void parsePartlyQuotedValues() throws Exception {
+		try (TableDataParser parser = new TableDataParser(new StringReader("1|\"quoted\" text|x\n2|\"a\"\"b\"c|y\n"))) {
+			assertArrayEquals(new String[] {"1", "\"quoted\" text", "x"}, parser.next());
+			assertArrayEquals(new String[] {"2", "\"a\"\"b\"c", "y"}, parser.next());
+			assertNull(parser.next());
+		}
+	}
+
+	/**
+	 * The values spanning the internal buffer are read completely.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void parseLargeValues() throws Exception {
+		StringBuilder data = new StringBuilder();
+		for (int i = 0; i < 20000; i++) {
+			data.append(i).append("|value").append(i).append("|\"quoted ").append(i).append("\"\n");
+		}
+		try (TableDataParser parser = new TableDataParser(new StringReader(data.toString()))) {
+			for (int i = 0; i < 20000; i++) {
+				assertArrayEquals(new String[] {"" + i, "value" + i, "quoted " + i}, parser.next());
+			}
+			assertNull(parser.next());
+		}
+	}
+
+	/**
+	 * The records must have the same number of values.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void invalidNumberOfElements() throws Exception {
+		try (TableDataParser parser = new TableDataParser(new StringReader("1|a\n2|b|c\n"))) {
+			parser.next();
+			parser.next();
+			fail("The record with more values has been accepted");
+		} catch (InvalidNumberOfElementsException e) {
+			assertEquals("Invalid number (3) of elements at line: 2. Initial columns number: 2.", e.getMessage());
+		}
+	}
+
+}
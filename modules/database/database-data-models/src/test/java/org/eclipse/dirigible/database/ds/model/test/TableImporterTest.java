@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.ds.model.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.apache.derby.jdbc.EmbeddedDataSource;
+import org.eclipse.dirigible.database.ds.model.transfer.TableExporter;
+import org.eclipse.dirigible.database.ds.model.transfer.TableImporter;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.Test;
+
+/**
+ * The Class TableImporterTest.
+ */
+public class TableImporterTest {
+
+	private static final int RECORDS = 2345;
+
+	/**
+	 * Loads the batches in parallel over several connections.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void importInParallel() throws Exception {
+		new File("target/tests").mkdirs();
+		EmbeddedDataSource dataSource = new EmbeddedDataSource();
+		dataSource.setDatabaseName("target/tests/derby-import");
+		dataSource.setCreateDatabase("create");
+		importRecords(dataSource, false);
+	}
+
+	/**
+	 * Loads the data with CSVREAD on H2.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void importNative() throws Exception {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:import;DB_CLOSE_DELAY=-1");
+		importRecords(dataSource, true);
+	}
+
+	/**
+	 * The batches load the data when the native load fails.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void importNativeFallback() throws Exception {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:fallback;DB_CLOSE_DELAY=-1");
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			// the separator in the column name breaks the column list of CSVREAD, but not the quoted columns of the batches
+			statement.executeUpdate("CREATE TABLE IMPORTED (ID INTEGER NOT NULL PRIMARY KEY, \"NA|ME\" VARCHAR(50))");
+			try {
+				TableImporter tableImporter = new TableImporter(dataSource, "1|first\n2|second\n".getBytes(StandardCharsets.UTF_8), "IMPORTED");
+				tableImporter.setThreads(1);
+				tableImporter.setNativeImport(true);
+				tableImporter.insert();
+				assertFalse(tableImporter.isImportedNatively());
+
+				try (ResultSet rs = statement.executeQuery("SELECT \"NA|ME\" FROM IMPORTED ORDER BY ID")) {
+					rs.next();
+					assertEquals("first", rs.getString(1));
+					rs.next();
+					assertEquals("second", rs.getString(1));
+				}
+			} finally {
+				dropTable(statement);
+			}
+		}
+	}
+
+	/**
+	 * The exported values containing delimiters, quotes and line breaks are imported back unchanged.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void exportAndImport() throws Exception {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:roundtrip;DB_CLOSE_DELAY=-1");
+		String[] names = {"plain", "a|b", "\"quoted\" text", "multi\nline", "", null};
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.executeUpdate("CREATE TABLE EXPORTED (ID INTEGER NOT NULL PRIMARY KEY, NAME VARCHAR(50))");
+			statement.executeUpdate("CREATE TABLE IMPORTED (ID INTEGER NOT NULL PRIMARY KEY, NAME VARCHAR(50))");
+			try {
+				try (PreparedStatement insert = connection.prepareStatement("INSERT INTO EXPORTED VALUES (?, ?)")) {
+					for (int i = 0; i < names.length; i++) {
+						insert.setInt(1, i);
+						insert.setString(2, names[i]);
+						insert.executeUpdate();
+					}
+				}
+				TableExporter tableExporter = new TableExporter(dataSource);
+				tableExporter.setTableName("EXPORTED");
+				String data = tableExporter.getTableData();
+
+				TableImporter tableImporter = new TableImporter(dataSource, data.getBytes(StandardCharsets.UTF_8), "IMPORTED");
+				tableImporter.setNativeImport(false);
+				tableImporter.insert();
+
+				try (ResultSet rs = statement.executeQuery("SELECT ID, NAME FROM IMPORTED ORDER BY ID")) {
+					for (int i = 0; i < names.length; i++) {
+						rs.next();
+						assertEquals(i, rs.getInt(1));
+						assertEquals(names[i], rs.getString(2));
+					}
+				}
+			} finally {
+				statement.executeUpdate("DROP TABLE EXPORTED");
+				dropTable(statement);
+			}
+		}
+	}
+
+	private void importRecords(DataSource dataSource, boolean nativeImport) throws Exception {
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.executeUpdate("CREATE TABLE IMPORTED (ID INTEGER NOT NULL PRIMARY KEY, NAME VARCHAR(50), AMOUNT DOUBLE)");
+			try {
+				StringBuilder data = new StringBuilder();
+				for (int i = 0; i < RECORDS; i++) {
+					data.append(i).append("|\"Name|").append(i).append("\"|").append(i % 2 == 0 ? "" : i + ".5").append("\n");
+				}
+				TableImporter tableImporter = new TableImporter(dataSource, new ByteArrayInputStream(data.toString().getBytes(StandardCharsets.UTF_8)), "IMPORTED");
+				tableImporter.setBatchSize(100);
+				tableImporter.setThreads(nativeImport ? 1 : 4);
+				tableImporter.setNativeImport(nativeImport);
+				tableImporter.insert();
+				assertEquals(nativeImport, tableImporter.isImportedNatively());
+
+				try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM IMPORTED")) {
+					rs.next();
+					assertEquals(RECORDS, rs.getInt(1));
+				}
+				try (ResultSet rs = statement.executeQuery("SELECT NAME, AMOUNT FROM IMPORTED WHERE ID = 7")) {
+					rs.next();
+					assertEquals("Name|7", rs.getString(1));
+					assertEquals(7.5, rs.getDouble(2), 0);
+				}
+				try (ResultSet rs = statement.executeQuery("SELECT AMOUNT FROM IMPORTED WHERE ID = 8")) {
+					rs.next();
+					assertNull(rs.getObject(1));
+				}
+			} finally {
+				dropTable(statement);
+			}
+		}
+	}
+
+	private void dropTable(Statement statement) throws SQLException {
+		statement.executeUpdate("DROP TABLE IMPORTED");
+	}
+
+}
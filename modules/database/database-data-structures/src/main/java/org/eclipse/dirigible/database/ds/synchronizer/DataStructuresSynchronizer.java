@@ -626,6 +626,17 @@ public class DataStructuresSynchronizer extends AbstractSynchronizer {
 		logger.trace("Done synchronizing Data Structures from Registry.");
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#getFileExtensions()
+	 */
+	@Override
+	protected String[] getFileExtensions() {
+		return new String[] { IDataStructureModel.FILE_EXTENSION_TABLE, IDataStructureModel.FILE_EXTENSION_VIEW, IDataStructureModel.FILE_EXTENSION_REPLACE,
+				IDataStructureModel.FILE_EXTENSION_APPEND, IDataStructureModel.FILE_EXTENSION_DELETE, IDataStructureModel.FILE_EXTENSION_UPDATE,
+				IDataStructureModel.FILE_EXTENSION_SCHEMA };
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#synchronizeResource(org.eclipse.dirigible.
@@ -1289,7 +1300,7 @@ public class DataStructuresSynchronizer extends AbstractSynchronizer {
 					if (!rs.next()) {
 						StringBuffer buff = new StringBuffer();
 						for (String value : record) {
-							buff.append(value).append(TableExporter.DATA_DELIMETER);
+							buff.append(TableExporter.formatValue(value)).append(TableExporter.DATA_DELIMETER);
 						}
 						buff.deleteCharAt(buff.length() - 1);
 						buff.append("\n");
@@ -24,6 +24,7 @@ import javax.sql.DataSource;
 import org.apache.derby.jdbc.EmbeddedDataSource;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.database.api.IDatabase;
+import org.eclipse.dirigible.database.api.wrappers.PooledDataSource;
 import org.eclipse.dirigible.database.api.wrappers.WrappedDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -157,6 +158,11 @@ public class DerbyDatabase implements IDatabase {
 				((EmbeddedDataSource) dataSource).setCreateDatabase("create");
 				logger.warn(String.format("Embedded Derby at: %s", derbyRoot));
 
+				if (PooledDataSource.isEnabled()) {
+					PooledDataSource pooledDataSource = new PooledDataSource(name, dataSource);
+					DATASOURCES.put(name, pooledDataSource);
+					return pooledDataSource;
+				}
 				WrappedDataSource wrappedDataSource = new WrappedDataSource(dataSource);
 				DATASOURCES.put(name, wrappedDataSource);
 				return wrappedDataSource;
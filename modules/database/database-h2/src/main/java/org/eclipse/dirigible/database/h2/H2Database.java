@@ -24,6 +24,7 @@ import javax.sql.DataSource;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.database.api.IDatabase;
+import org.eclipse.dirigible.database.api.wrappers.PooledDataSource;
 import org.eclipse.dirigible.database.api.wrappers.WrappedDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -155,6 +156,13 @@ public class H2Database implements IDatabase {
 				String databaseUsername = Configuration.get("DIRIGIBLE_DATABASE_H2_USERNAME");
 				String databasePassword = Configuration.get("DIRIGIBLE_DATABASE_H2_PASSWORD");
 				if ((databaseDriver != null) && (databaseUrl != null) && (databaseUsername != null) && (databasePassword != null)) {
+					if (PooledDataSource.isEnabled()) {
+						logger.warn(String.format("Embedded H2 at: %s", h2Root));
+						PooledDataSource pooledDataSource = new PooledDataSource(name, databaseDriver, databaseUrl + "/" + name, databaseUsername,
+								databasePassword, null);
+						DATASOURCES.put(name, pooledDataSource);
+						return pooledDataSource;
+					}
 					BasicDataSource basicDataSource = new BasicDataSource();
 					basicDataSource.setDriverClassName(databaseDriver);
 					basicDataSource.setUrl(databaseUrl + "/" + name);
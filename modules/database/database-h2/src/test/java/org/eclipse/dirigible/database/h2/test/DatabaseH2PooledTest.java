@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.h2.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.eclipse.dirigible.database.api.wrappers.PooledDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class DatabaseH2PooledTest.
+ */
+public class DatabaseH2PooledTest {
+
+	/** The pooled data source. */
+	private PooledDataSource dataSource;
+
+	/**
+	 * Sets the up.
+	 */
+	@Before
+	public void setUp() {
+		dataSource = new PooledDataSource("PooledTestDB", "org.h2.Driver", "jdbc:h2:mem:pooled;DB_CLOSE_DELAY=-1", "sa", "", null);
+	}
+
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		dataSource.close();
+	}
+
+	/**
+	 * The changes are committed on close and the connections are returned to the pool.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void commitOnCloseAndReuse() throws SQLException {
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.executeUpdate("CREATE TABLE POOLED_TEST (ID INT PRIMARY KEY)");
+			statement.executeUpdate("INSERT INTO POOLED_TEST VALUES (1)");
+			assertEquals(1, dataSource.getActiveConnections());
+		}
+		assertEquals(0, dataSource.getActiveConnections());
+		assertTrue(dataSource.getIdleConnections() > 0);
+
+		for (int i = 0; i < 100; i++) {
+			try (Connection connection = dataSource.getConnection();
+					Statement statement = connection.createStatement();
+					ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM POOLED_TEST")) {
+				resultSet.next();
+				assertEquals(1, resultSet.getInt(1));
+			}
+		}
+		assertEquals(101, dataSource.getAcquiredCount());
+		assertEquals(0, dataSource.getLeaksCount());
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.h2.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.databases.processor.format.ResultSetJsonWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+
+/**
+ * The Class ResultSetJsonWriterTest.
+ */
+public class ResultSetJsonWriterTest {
+
+	private Connection connection;
+
+	/**
+	 * Sets the up.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Before
+	public void setUp() throws SQLException {
+		connection = DriverManager.getConnection("jdbc:h2:mem:jsonwriter", "sa", "");
+		try (Statement statement = connection.createStatement()) {
+			statement.executeUpdate("CREATE TABLE JSON_TEST (ID INT PRIMARY KEY, NAME VARCHAR(20), ACTIVE BOOLEAN, PRICE DECIMAL(10,2))");
+			statement.executeUpdate("INSERT INTO JSON_TEST VALUES (1, 'first <a>', TRUE, 1.50)");
+			statement.executeUpdate("INSERT INTO JSON_TEST VALUES (2, NULL, FALSE, NULL)");
+			for (int i = 3; i <= 150; i++) {
+				statement.executeUpdate("INSERT INTO JSON_TEST VALUES (" + i + ", 'name', TRUE, 10)");
+			}
+		}
+	}
+
+	/**
+	 * Tear down.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@After
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	/**
+	 * The streamed records are the same as serialized by Gson, with the null values omitted.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void writeRecords() throws SQLException {
+		ResultSetJsonWriter writer = new ResultSetJsonWriter();
+		writer.setLimited(false);
+		try (Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery("SELECT * FROM JSON_TEST WHERE ID < 3 ORDER BY ID")) {
+			assertEquals("[{\"ID\":1,\"NAME\":\"first \\u003ca\\u003e\",\"ACTIVE\":true,\"PRICE\":1.50},{\"ID\":2,\"ACTIVE\":false}]",
+					writer.write(resultSet));
+		}
+	}
+
+	/**
+	 * The limited output stops after the limit.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void writeLimited() throws SQLException {
+		ResultSetJsonWriter writer = new ResultSetJsonWriter();
+		try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("SELECT * FROM JSON_TEST")) {
+			JsonArray records = GsonHelper.PARSER.parse(writer.write(resultSet)).getAsJsonArray();
+			assertEquals(101, records.size());
+		}
+		writer.setLimited(false);
+		try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("SELECT * FROM JSON_TEST")) {
+			JsonArray records = GsonHelper.PARSER.parse(writer.write(resultSet)).getAsJsonArray();
+			assertEquals(150, records.size());
+		}
+	}
+
+}
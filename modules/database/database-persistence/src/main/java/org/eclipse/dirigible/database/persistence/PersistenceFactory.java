@@ -20,6 +20,9 @@ import org.eclipse.dirigible.database.persistence.parser.PersistenceJsonParser;
  */
 public class PersistenceFactory {
 
+	/** The parser is stateless and keeps the models of the parsed classes, so it is shared. */
+	private static final PersistenceAnnotationsParser ANNOTATIONS_PARSER = new PersistenceAnnotationsParser();
+
 	/**
 	 * Creates a new Persistence object.
 	 *
@@ -30,8 +33,7 @@ public class PersistenceFactory {
 	 *             the persistence exception
 	 */
 	public static PersistenceTableModel createModel(Object pojo) throws PersistenceException {
-		PersistenceAnnotationsParser parser = new PersistenceAnnotationsParser();
-		PersistenceTableModel persistenceModel = parser.parsePojo(pojo);
+		PersistenceTableModel persistenceModel = ANNOTATIONS_PARSER.parsePojo(pojo);
 		return persistenceModel;
 	}
 
@@ -45,8 +47,7 @@ public class PersistenceFactory {
 	 *             the persistence exception
 	 */
 	public static PersistenceTableModel createModel(Class<? extends Object> clazz) throws PersistenceException {
-		PersistenceAnnotationsParser parser = new PersistenceAnnotationsParser();
-		PersistenceTableModel persistenceModel = parser.parsePojo(clazz);
+		PersistenceTableModel persistenceModel = ANNOTATIONS_PARSER.parsePojo(clazz);
 		return persistenceModel;
 	}
 
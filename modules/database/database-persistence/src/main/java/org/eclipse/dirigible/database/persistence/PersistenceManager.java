@@ -14,10 +14,7 @@ package org.eclipse.dirigible.database.persistence;
 import static java.text.MessageFormat.format;
 
 import java.sql.Connection;
-import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 
@@ -36,6 +33,7 @@ import org.eclipse.dirigible.database.persistence.processors.sequence.Persistenc
 import org.eclipse.dirigible.database.persistence.processors.sequence.PersistenceDropSequenceProcessor;
 import org.eclipse.dirigible.database.persistence.processors.table.PersistenceCreateTableProcessor;
 import org.eclipse.dirigible.database.persistence.processors.table.PersistenceDropTableProcessor;
+import org.eclipse.dirigible.database.sql.DatabaseMetadataCache;
 import org.eclipse.dirigible.database.sql.ISqlDialect;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.slf4j.Logger;
@@ -57,11 +55,6 @@ public class PersistenceManager<T> {
 
 	private static final Logger logger = LoggerFactory.getLogger(PersistenceManager.class);
 
-	private static final String CONNECTION_ID_SEPARATOR = ":";
-
-	/** The Constant EXISTING_TABLES_CACHE. */
-	private static final List<String> EXISTING_TABLES_CACHE = Collections.synchronizedList(new ArrayList<String>());
-
 	/** The entity manager interceptor. */
 	private IEntityManagerInterceptor entityManagerInterceptor;
 
@@ -159,48 +152,43 @@ public class PersistenceManager<T> {
 	 */
 	public void tableCheck(Connection connection, Class clazz) {
 		logger.trace("tableCheck -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName());
-		String id = getConnectionIdentity(connection);
-		if (!EXISTING_TABLES_CACHE.contains(id + CONNECTION_ID_SEPARATOR + clazz.getCanonicalName())) {
-			if (!tableExists(connection, clazz)) {
-				String auto = System.getProperty("DIRIGIBLE_PERSISTENCE_CREATE_TABLE_ON_USE");
-				if ((auto != null) && !"true".equals(auto.toLowerCase(Locale.getDefault()))) {
-					throw new IllegalStateException(
-							"The parameter DIRIGIBLE_PERSISTENCE_CREATE_TABLE_ON_USE is off, but the table for the POJO has not been previousely created: "
-									+ clazz.getCanonicalName());
-				}
-				try {
-					tableCreate(connection, clazz);
-					EXISTING_TABLES_CACHE.add(id + CONNECTION_ID_SEPARATOR + clazz.getCanonicalName());
-				} catch (Exception e) {
-					if (!tableExists(connection, clazz)) {
-						throw e;
-					}
+		// the existing tables are cached per data source by the SQL factory
+		if (!tableExists(connection, clazz)) {
+			String auto = System.getProperty("DIRIGIBLE_PERSISTENCE_CREATE_TABLE_ON_USE");
+			if ((auto != null) && !"true".equals(auto.toLowerCase(Locale.getDefault()))) {
+				throw new IllegalStateException(
+						"The parameter DIRIGIBLE_PERSISTENCE_CREATE_TABLE_ON_USE is off, but the table for the POJO has not been previousely created: "
+								+ clazz.getCanonicalName());
+			}
+			try {
+				tableCreate(connection, clazz);
+			} catch (Exception e) {
+				if (!tableExists(connection, clazz)) {
+					throw e;
 				}
 			}
 		}
 	}
 
-	private String getConnectionIdentity(Connection connection) {
-		try {
-			String url = connection.getMetaData().getURL();
-			return url.hashCode() + "";
-		} catch (SQLException e) {
-			logger.error(e.getMessage(), e);
-		}
-		return "";
-	}
-
 	/**
 	 * Clean up the existing tables cache.
 	 */
 	public void reset() {
-		EXISTING_TABLES_CACHE.clear();
+		DatabaseMetadataCache.clear();
 	}
 
+	/**
+	 * Clean up the cached existence of the table of a POJO.
+	 *
+	 * @param connection
+	 *            the database connection
+	 * @param clazz
+	 *            the POJO's Class
+	 */
 	public void reset(Connection connection, Class<T> clazz) {
-		String id = getConnectionIdentity(connection);
-		EXISTING_TABLES_CACHE.remove(id + CONNECTION_ID_SEPARATOR + clazz.getCanonicalName());
+		DatabaseMetadataCache.invalidate(connection, PersistenceFactory.createModel(clazz).getTableName());
 	}
+
 	/**
 	 * Insert a single record in the table representing the POJO instance.
 	 *
@@ -211,7 +199,9 @@ public class PersistenceManager<T> {
 	 * @return the id of the pojo just inserted
 	 */
 	public Object insert(Connection connection, T pojo) {
-		logger.trace("tableCheck -> connection: " + connection.hashCode() + ", pojo: " + Serializer.serializePojo(pojo));
+		if (logger.isTraceEnabled()) {
+			logger.trace("tableCheck -> connection: " + connection.hashCode() + ", pojo: " + Serializer.serializePojo(pojo));
+		}
 		tableCheck(connection, pojo.getClass());
 		PersistenceTableModel tableModel = PersistenceFactory.createModel(pojo);
 		PersistenceInsertProcessor<T> insertProcessor = new PersistenceInsertProcessor<>(getEntityManagerInterceptor());
@@ -324,7 +314,9 @@ public class PersistenceManager<T> {
 	 * @return a list with the POJO instances
 	 */
 	public int execute(Connection connection, String sql, List<Object> values) {
-		logger.trace("execute -> connection: " + connection.hashCode() + ", sql: " + sql + ", values: " + Serializer.serializeListOfObjects(values));
+		if (logger.isTraceEnabled()) {
+			logger.trace("execute -> connection: " + connection.hashCode() + ", sql: " + sql + ", values: " + Serializer.serializeListOfObjects(values));
+		}
 		PersistenceExecuteProcessor<T> executeProcessor = new PersistenceExecuteProcessor<>(getEntityManagerInterceptor());
 		return executeProcessor.execute(connection, sql, values);
 	}
@@ -373,7 +365,9 @@ public class PersistenceManager<T> {
 	 * @return the result status of the update statement execution
 	 */
 	public int update(Connection connection, T pojo) {
-		logger.trace("update -> connection: " + connection.hashCode() + ", pojo: " + Serializer.serializePojo(pojo));
+		if (logger.isTraceEnabled()) {
+			logger.trace("update -> connection: " + connection.hashCode() + ", pojo: " + Serializer.serializePojo(pojo));
+		}
 		tableCheck(connection, pojo.getClass());
 		PersistenceTableModel tableModel = PersistenceFactory.createModel(pojo);
 		PersistenceUpdateProcessor<T> updateProcessor = new PersistenceUpdateProcessor<>(getEntityManagerInterceptor());
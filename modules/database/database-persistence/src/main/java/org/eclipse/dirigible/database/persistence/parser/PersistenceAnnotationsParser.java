@@ -19,10 +19,9 @@ import java.lang.reflect.Modifier;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.persistence.Column;
 import javax.persistence.EnumType;
@@ -48,7 +47,7 @@ public class PersistenceAnnotationsParser {
 
 	private static final Logger logger = LoggerFactory.getLogger(PersistenceAnnotationsParser.class);
 
-	private static final Map<Class, PersistenceTableModel> MODELS_CACHE = Collections.synchronizedMap(new HashMap<Class, PersistenceTableModel>());
+	private static final Map<Class, PersistenceTableModel> MODELS_CACHE = new ConcurrentHashMap<Class, PersistenceTableModel>();
 
 	/**
 	 * Parses the pojo.
@@ -26,8 +26,6 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 
 import javax.persistence.EnumType;
@@ -37,7 +35,6 @@ import org.eclipse.dirigible.database.persistence.IEntityManagerInterceptor;
 import org.eclipse.dirigible.database.persistence.PersistenceException;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableColumnModel;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
-import org.eclipse.dirigible.database.persistence.parser.PersistenceAnnotationsParser;
 import org.eclipse.dirigible.database.persistence.parser.Serializer;
 import org.eclipse.dirigible.database.sql.DataTypeUtils;
 import org.slf4j.Logger;
@@ -98,8 +95,10 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 	 */
 	protected void setValuesFromPojo(PersistenceTableModel tableModel, Object pojo, PreparedStatement preparedStatement)
 			throws SQLException, NoSuchFieldException, IllegalAccessException {
-		logger.trace("setValuesFromPojo -> tableModel: " + Serializer.serializeTableModel(tableModel) + ", pojo: "
-				+ Serializer.serializePojo(pojo));
+		if (logger.isTraceEnabled()) {
+			logger.trace("setValuesFromPojo -> tableModel: " + Serializer.serializeTableModel(tableModel) + ", pojo: "
+					+ Serializer.serializePojo(pojo));
+		}
 		int i = 1;
 		for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
 			if (!shouldSetColumnValue(columnModel)) {
@@ -108,16 +107,8 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 			if (columnModel.isIdentity()) {
 				continue;
 			}
-			// Field field = pojo.getClass().getDeclaredField(columnModel.getField());
-			Field field = getFieldFromClass(pojo.getClass(), columnModel.getField());
 			String dataType = columnModel.getType();
-			Object valueObject = null;
-			boolean oldAccessible = setAccessible(field);
-			try {
-				valueObject = field.get(pojo);
-			} finally {
-				resetAccessible(field, oldAccessible);
-			}
+			Object valueObject = PersistenceFieldAccessor.getAccessor(pojo.getClass(), columnModel.getField()).get(pojo);
 			try {
 				if ((columnModel.getEnumerated() != null) && (valueObject != null)) {
 					if (EnumType.valueOf(columnModel.getEnumerated()).equals(EnumType.ORDINAL)) {
@@ -147,31 +138,6 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 		return true;
 	}
 
-	/**
-	 * Reset accessible.
-	 *
-	 * @param field
-	 *            the field
-	 * @param oldAccessible
-	 *            the old accessible
-	 */
-	private void resetAccessible(Field field, boolean oldAccessible) {
-		field.setAccessible(oldAccessible);
-	}
-
-	/**
-	 * Sets the accessible.
-	 *
-	 * @param field
-	 *            the field
-	 * @return true, if successful
-	 */
-	private boolean setAccessible(Field field) {
-		boolean oldAccessible = field.isAccessible();
-		field.setAccessible(true);
-		return oldAccessible;
-	}
-
 	/**
 	 * Sets the value primary key.
 	 *
@@ -190,7 +156,9 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 	 */
 	protected void setValuePrimaryKey(PersistenceTableModel tableModel, Object id, PreparedStatement preparedStatement)
 			throws SQLException, NoSuchFieldException, IllegalAccessException {
-		logger.trace("setValuePrimaryKey -> tableModel: " + Serializer.serializeTableModel(tableModel) + ", id: " + id);
+		if (logger.isTraceEnabled()) {
+			logger.trace("setValuePrimaryKey -> tableModel: " + Serializer.serializeTableModel(tableModel) + ", id: " + id);
+		}
 		for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
 			if (columnModel.isPrimaryKey()) {
 				String dataType = columnModel.getType();
@@ -353,49 +321,47 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 	 */
 	protected void setValueToPojo(Object pojo, Object value, PersistenceTableColumnModel columnModel)
 			throws NoSuchFieldException, SQLException, IllegalAccessException, IOException {
-		logger.trace("setValueToPojo -> pojo: " + Serializer.serializePojo(pojo) + ", value: " + value
-				+ ", columnModel: " + Serializer.serializeColumnModel(columnModel));
-		Field field = getFieldFromClass(pojo.getClass(), columnModel.getField());
-		boolean oldAccessible = setAccessible(field);
-		try {
-			if (columnModel.getEnumerated() != null) {
-				if (EnumType.valueOf(columnModel.getEnumerated()).equals(EnumType.ORDINAL)
-						&& (value instanceof Integer)) {
-					if (field.getType().isEnum()) {
-						value = field.getType().getEnumConstants()[(Integer) value];
-					} else {
-						throw new IllegalStateException(
-								"The annotation @Enumerated is set to a field with a type, which is not an enum type.");
-					}
-				} else if (EnumType.valueOf(columnModel.getEnumerated()).equals(EnumType.STRING)
-						&& (value instanceof String)) {
-					if (field.getType().isEnum()) {
-						value = Enum.valueOf((Class<Enum>) field.getType(), (String) value);
-					} else {
-						throw new IllegalStateException(
-								"The annotation @Enumerated is set to a field with a type, which is not an enum type.");
-					}
-				} else if (value != null) {
-					throw new IllegalStateException("The annotation @Enumerated is misused, the value is unknown.");
+		if (logger.isTraceEnabled()) {
+			logger.trace("setValueToPojo -> pojo: " + Serializer.serializePojo(pojo) + ", value: " + value
+					+ ", columnModel: " + Serializer.serializeColumnModel(columnModel));
+		}
+		PersistenceFieldAccessor accessor = PersistenceFieldAccessor.getAccessor(pojo.getClass(), columnModel.getField());
+		Field field = accessor.getField();
+		if (columnModel.getEnumerated() != null) {
+			if (EnumType.valueOf(columnModel.getEnumerated()).equals(EnumType.ORDINAL)
+					&& (value instanceof Integer)) {
+				if (field.getType().isEnum()) {
+					value = field.getType().getEnumConstants()[(Integer) value];
+				} else {
+					throw new IllegalStateException(
+							"The annotation @Enumerated is set to a field with a type, which is not an enum type.");
 				}
+			} else if (EnumType.valueOf(columnModel.getEnumerated()).equals(EnumType.STRING)
+					&& (value instanceof String)) {
+				if (field.getType().isEnum()) {
+					value = Enum.valueOf((Class<Enum>) field.getType(), (String) value);
+				} else {
+					throw new IllegalStateException(
+							"The annotation @Enumerated is set to a field with a type, which is not an enum type.");
+				}
+			} else if (value != null) {
+				throw new IllegalStateException("The annotation @Enumerated is misused, the value is unknown.");
 			}
-			value = byteAdaptation(value, field);
-			value = intAdaptation(value, field);
-			value = blobAdaptation(value);
-			value = charAdaptation(value, field);
-			value = booleanAdaptation(value, field);
-			value = bigIntegerAdaptation(value, field);
-			value = shortAdaptation(value, field);
-			value = floatAdaptation(value, field);
-
-			if (getEntityManagerInterceptor() != null) {
-				value = getEntityManagerInterceptor().onSetValueAfterQuery(pojo, field, value);
-			}
+		}
+		value = byteAdaptation(value, field);
+		value = intAdaptation(value, field);
+		value = blobAdaptation(value);
+		value = charAdaptation(value, field);
+		value = booleanAdaptation(value, field);
+		value = bigIntegerAdaptation(value, field);
+		value = shortAdaptation(value, field);
+		value = floatAdaptation(value, field);
 
-			field.set(pojo, value);
-		} finally {
-			resetAccessible(field, oldAccessible);
+		if (getEntityManagerInterceptor() != null) {
+			value = getEntityManagerInterceptor().onSetValueAfterQuery(pojo, field, value);
 		}
+
+		accessor.set(pojo, value);
 	}
 
 	private Object floatAdaptation(Object value, Field field) {
@@ -499,43 +465,11 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 	 */
 	protected Object getValueFromPojo(Object pojo, PersistenceTableColumnModel columnModel)
 			throws NoSuchFieldException, SQLException, IllegalAccessException {
-		logger.trace("getValueFromPojo -> pojo: " + Serializer.serializePojo(pojo) + ", columnModel: "
-				+ Serializer.serializeColumnModel(columnModel));
-		// Field field = pojo.getClass().getDeclaredField(columnModel.getField());
-		Field field = getFieldFromClass(pojo.getClass(), columnModel.getField());
-		boolean oldAccessible = setAccessible(field);
-		try {
-			return field.get(pojo);
-		} finally {
-			resetAccessible(field, oldAccessible);
-		}
-	}
-
-	/**
-	 * Gets the field from class.
-	 *
-	 * @param clazz
-	 *            the clazz
-	 * @param fieldName
-	 *            the field name
-	 * @return the field from class
-	 * @throws NoSuchFieldException
-	 *             the no such field exception
-	 */
-	private Field getFieldFromClass(Class clazz, String fieldName) throws NoSuchFieldException {
-		Field field = null;
-		List<Field> fields = Arrays.asList(PersistenceAnnotationsParser.collectFields(clazz));
-		for (Field next : fields) {
-			if (next.getName().equals(fieldName)) {
-				field = next;
-				break;
-			}
-		}
-		if (field == null) {
-			throw new NoSuchFieldException(format("There is no a Field named [{0}] in the POJO of Class [{1}]",
-					fieldName, clazz.getCanonicalName()));
+		if (logger.isTraceEnabled()) {
+			logger.trace("getValueFromPojo -> pojo: " + Serializer.serializePojo(pojo) + ", columnModel: "
+					+ Serializer.serializeColumnModel(columnModel));
 		}
-		return field;
+		return PersistenceFieldAccessor.getAccessor(pojo.getClass(), columnModel.getField()).get(pojo);
 	}
 
 	/**
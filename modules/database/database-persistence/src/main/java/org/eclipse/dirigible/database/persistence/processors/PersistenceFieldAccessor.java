@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.persistence.processors;
+
+import static java.text.MessageFormat.format;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.dirigible.database.persistence.PersistenceException;
+import org.eclipse.dirigible.database.persistence.parser.PersistenceAnnotationsParser;
+
+/**
+ * Reads and writes a field of a POJO through method handles.
+ *
+ * The accessors of a class are created once, on its first use, so that reading and writing a column value neither
+ * looks up the field nor changes its accessibility anymore.
+ */
+public class PersistenceFieldAccessor {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private static final Map<Class<?>, Map<String, PersistenceFieldAccessor>> ACCESSORS_CACHE = new ConcurrentHashMap<Class<?>, Map<String, PersistenceFieldAccessor>>();
+
+	private final Field field;
+
+	private final MethodHandle getter;
+
+	private final MethodHandle setter;
+
+	/**
+	 * Instantiates a new accessor.
+	 *
+	 * @param field
+	 *            the field
+	 * @throws IllegalAccessException
+	 *             the illegal access exception
+	 */
+	private PersistenceFieldAccessor(Field field) throws IllegalAccessException {
+		this.field = field;
+		field.setAccessible(true);
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+		this.setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+	}
+
+	/**
+	 * Gets the accessor of a field of a class, declared by the class itself or by one of its superclasses.
+	 *
+	 * @param clazz
+	 *            the clazz
+	 * @param fieldName
+	 *            the field name
+	 * @return the accessor
+	 * @throws NoSuchFieldException
+	 *             the no such field exception
+	 */
+	public static PersistenceFieldAccessor getAccessor(Class<?> clazz, String fieldName) throws NoSuchFieldException {
+		PersistenceFieldAccessor accessor = ACCESSORS_CACHE.computeIfAbsent(clazz, PersistenceFieldAccessor::createAccessors).get(fieldName);
+		if (accessor == null) {
+			throw new NoSuchFieldException(
+					format("There is no a Field named [{0}] in the POJO of Class [{1}]", fieldName, clazz.getCanonicalName()));
+		}
+		return accessor;
+	}
+
+	/**
+	 * Creates the accessors of all the fields of a class. A field hides the fields with the same name in the
+	 * superclasses.
+	 *
+	 * @param clazz
+	 *            the clazz
+	 * @return the accessors by field name
+	 */
+	private static Map<String, PersistenceFieldAccessor> createAccessors(Class<?> clazz) {
+		Map<String, PersistenceFieldAccessor> accessors = new HashMap<String, PersistenceFieldAccessor>();
+		for (Field field : PersistenceAnnotationsParser.collectFields(clazz)) {
+			if (!accessors.containsKey(field.getName()) && !Modifier.isStatic(field.getModifiers())) {
+				try {
+					accessors.put(field.getName(), new PersistenceFieldAccessor(field));
+				} catch (IllegalAccessException | RuntimeException e) {
+					throw new PersistenceException(format("Cannot access the Field [{0}] in the POJO of Class [{1}]", field.getName(),
+							clazz.getCanonicalName()), e);
+				}
+			}
+		}
+		return Collections.unmodifiableMap(accessors);
+	}
+
+	/**
+	 * Gets the field.
+	 *
+	 * @return the field
+	 */
+	public Field getField() {
+		return field;
+	}
+
+	/**
+	 * Gets the value of the field.
+	 *
+	 * @param pojo
+	 *            the pojo
+	 * @return the value
+	 */
+	public Object get(Object pojo) {
+		try {
+			return (Object) getter.invokeExact(pojo);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new PersistenceException(t);
+		}
+	}
+
+	/**
+	 * Sets the value of the field.
+	 *
+	 * @param pojo
+	 *            the pojo
+	 * @param value
+	 *            the value
+	 */
+	public void set(Object pojo, Object value) {
+		if ((value == null) && field.getType().isPrimitive()) {
+			throw new IllegalArgumentException(format("Cannot set a null value to the primitive Field [{0}]", field.getName()));
+		}
+		try {
+			setter.invokeExact(pojo, value);
+		} catch (ClassCastException e) {
+			throw new IllegalArgumentException(format("Cannot set a value of type [{0}] to the Field [{1}] of type [{2}]",
+					value.getClass().getName(), field.getName(), field.getType().getName()), e);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new PersistenceException(t);
+		}
+	}
+
+}
@@ -19,6 +19,7 @@ import org.eclipse.dirigible.database.persistence.PersistenceException;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
 import org.eclipse.dirigible.database.persistence.parser.Serializer;
 import org.eclipse.dirigible.database.persistence.processors.AbstractPersistenceProcessor;
+import org.eclipse.dirigible.database.sql.DatabaseMetadataCache;
 import org.eclipse.dirigible.database.sql.ISqlKeywords;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.eclipse.dirigible.database.sql.builders.sequence.DropSequenceBuilder;
@@ -77,6 +78,7 @@ public class PersistenceDropSequenceProcessor extends AbstractPersistenceProcess
 			sql = generateScript(connection, tableModel);
 			preparedStatement = openPreparedStatement(connection, sql);
 			result = preparedStatement.executeUpdate();
+			DatabaseMetadataCache.invalidate(connection, tableModel.getTableName() + ISqlKeywords.UNDERSCROE + ISqlKeywords.KEYWORD_SEQUENCE);
 		} catch (Exception e) {
 			logger.error(sql);
 			logger.error(e.getMessage(), e);
@@ -19,6 +19,7 @@ import org.eclipse.dirigible.database.persistence.PersistenceException;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
 import org.eclipse.dirigible.database.persistence.parser.Serializer;
 import org.eclipse.dirigible.database.persistence.processors.AbstractPersistenceProcessor;
+import org.eclipse.dirigible.database.sql.DatabaseMetadataCache;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.eclipse.dirigible.database.sql.builders.table.DropTableBuilder;
 import org.slf4j.Logger;
@@ -75,6 +76,7 @@ public class PersistenceDropTableProcessor extends AbstractPersistenceProcessor
 			sql = generateScript(connection, tableModel);
 			preparedStatement = openPreparedStatement(connection, sql);
 			result = preparedStatement.executeUpdate();
+			DatabaseMetadataCache.invalidate(connection, tableModel.getTableName());
 		} catch (Exception e) {
 			logger.error(sql);
 			logger.error(e.getMessage(), e);
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.persistence.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.dirigible.database.persistence.processors.PersistenceFieldAccessor;
+import org.junit.Test;
+
+/**
+ * The Persistence Field Accessor Test.
+ */
+public class PersistenceFieldAccessorTest {
+
+	/**
+	 * Reads and writes the fields declared by the class and by its superclass.
+	 *
+	 * @throws NoSuchFieldException
+	 *             the no such field exception
+	 */
+	@Test
+	public void accessInheritedFields() throws NoSuchFieldException {
+		GoldCustomer customer = new GoldCustomer();
+		PersistenceFieldAccessor firstName = PersistenceFieldAccessor.getAccessor(GoldCustomer.class, "firstName");
+		PersistenceFieldAccessor age = PersistenceFieldAccessor.getAccessor(GoldCustomer.class, "age");
+		firstName.set(customer, "John");
+		age.set(customer, 42);
+		assertEquals("John", customer.getFirstName());
+		assertEquals(42, customer.getAge());
+		assertEquals("John", firstName.get(customer));
+		assertEquals(42, age.get(customer));
+		assertSame(firstName, PersistenceFieldAccessor.getAccessor(GoldCustomer.class, "firstName"));
+	}
+
+	/**
+	 * A missing field.
+	 *
+	 * @throws NoSuchFieldException
+	 *             the no such field exception
+	 */
+	@Test(expected = NoSuchFieldException.class)
+	public void missingField() throws NoSuchFieldException {
+		PersistenceFieldAccessor.getAccessor(Customer.class, "missing");
+	}
+
+	/**
+	 * A value of a wrong type.
+	 *
+	 * @throws NoSuchFieldException
+	 *             the no such field exception
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void wrongType() throws NoSuchFieldException {
+		PersistenceFieldAccessor.getAccessor(Customer.class, "age").set(new Customer(), "42");
+	}
+
+	/**
+	 * A null value of a primitive field.
+	 *
+	 * @throws NoSuchFieldException
+	 *             the no such field exception
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void nullPrimitive() throws NoSuchFieldException {
+		PersistenceFieldAccessor.getAccessor(Customer.class, "age").set(new Customer(), null);
+	}
+
+}
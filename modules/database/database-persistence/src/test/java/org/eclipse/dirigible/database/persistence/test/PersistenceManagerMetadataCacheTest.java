@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.persistence.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.eclipse.dirigible.database.persistence.PersistenceManager;
+import org.eclipse.dirigible.database.sql.DatabaseArtifactTypes;
+import org.eclipse.dirigible.database.sql.DatabaseMetadataCache;
+import org.eclipse.dirigible.database.sql.SqlFactory;
+import org.junit.Test;
+
+/**
+ * The cached metadata used by the Persistence Manager.
+ */
+public class PersistenceManagerMetadataCacheTest extends AbstractPersistenceManagerTest {
+
+	/**
+	 * The existence of a table is cached until the table is dropped.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void tableExistenceIsInvalidatedOnDrop() throws SQLException {
+		PersistenceManager<Customer> persistenceManager = new PersistenceManager<Customer>();
+		try (Connection connection = getDataSource().getConnection()) {
+			persistenceManager.tableCheck(connection, Customer.class);
+			assertTrue(SqlFactory.getNative(connection).exists(connection, "CUSTOMERS"));
+			assertTrue(DatabaseMetadataCache.isExisting(connection, "CUSTOMERS", DatabaseArtifactTypes.TABLE));
+
+			persistenceManager.tableDrop(connection, Customer.class);
+			assertFalse(DatabaseMetadataCache.isExisting(connection, "CUSTOMERS", DatabaseArtifactTypes.TABLE));
+			assertFalse(persistenceManager.tableExists(connection, Customer.class));
+		}
+	}
+
+	/**
+	 * A table dropped by an arbitrary statement.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void tableExistenceIsInvalidatedOnDefinition() throws SQLException {
+		PersistenceManager<Customer> persistenceManager = new PersistenceManager<Customer>();
+		try (Connection connection = getDataSource().getConnection()) {
+			persistenceManager.tableCheck(connection, Customer.class);
+			assertTrue(persistenceManager.tableExists(connection, Customer.class));
+
+			String sql = "DROP TABLE CUSTOMERS";
+			try (PreparedStatement statement = connection.prepareStatement(sql)) {
+				statement.executeUpdate();
+			}
+			DatabaseMetadataCache.invalidateOnDefinition(connection, sql);
+			assertFalse(persistenceManager.tableExists(connection, Customer.class));
+		}
+	}
+
+	/**
+	 * The product name of the database.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void productName() throws SQLException {
+		try (Connection connection = getDataSource().getConnection()) {
+			assertEquals(connection.getMetaData().getDatabaseProductName(), DatabaseMetadataCache.getDatabaseProductName(connection));
+			assertEquals(connection.getMetaData().getDatabaseProductName(), DatabaseMetadataCache.getDatabaseProductName(connection));
+		}
+	}
+
+}
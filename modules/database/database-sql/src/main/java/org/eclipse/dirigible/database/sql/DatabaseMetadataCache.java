@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.sql;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+
+/**
+ * Cache of the database metadata, which is needed on every statement build - the product name of the database and
+ * the database artifacts known to exist.
+ *
+ * The metadata is kept per data source, when the connection is {@link IDataSourceAware}, or else per connection URL
+ * and user. Only the existence of an artifact is cached, so the processors dropping or renaming artifacts have to
+ * invalidate them.
+ */
+public class DatabaseMetadataCache {
+
+	/** Whether the metadata is cached. */
+	public static final String DIRIGIBLE_DATABASE_METADATA_CACHE_ENABLED = "DIRIGIBLE_DATABASE_METADATA_CACHE_ENABLED"; //$NON-NLS-1$
+
+	private static final Map<Object, DatabaseMetadata> DATA_SOURCES_METADATA = Collections.synchronizedMap(new WeakHashMap<Object, DatabaseMetadata>());
+
+	private static final Map<String, DatabaseMetadata> URLS_METADATA = new ConcurrentHashMap<String, DatabaseMetadata>();
+
+	private static final String SEPARATOR = ":"; //$NON-NLS-1$
+
+	private static final String KEYWORD_RENAME = "RENAME"; //$NON-NLS-1$
+
+	/**
+	 * Gets the product name of the database.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @return the database product name
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	public static String getDatabaseProductName(Connection connection) throws SQLException {
+		if (!isEnabled()) {
+			return connection.getMetaData().getDatabaseProductName();
+		}
+		DatabaseMetadata metadata = getMetadata(connection);
+		String productName = metadata.productName;
+		if (productName == null) {
+			productName = connection.getMetaData().getDatabaseProductName();
+			metadata.productName = productName;
+		}
+		return productName;
+	}
+
+	/**
+	 * Checks if an artifact is known to exist.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param name
+	 *            the name of the artifact
+	 * @param type
+	 *            the type of the artifact
+	 * @return true, if the artifact is known to exist
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	public static boolean isExisting(Connection connection, String name, int type) throws SQLException {
+		return isEnabled() && getMetadata(connection).artifacts.contains(type + SEPARATOR + normalizeName(name));
+	}
+
+	/**
+	 * Records that an artifact exists.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param name
+	 *            the name of the artifact
+	 * @param type
+	 *            the type of the artifact
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	public static void setExisting(Connection connection, String name, int type) throws SQLException {
+		if (isEnabled()) {
+			getMetadata(connection).artifacts.add(type + SEPARATOR + normalizeName(name));
+		}
+	}
+
+	/**
+	 * Invalidates an artifact of any type, which has been dropped or renamed. The name is compared case insensitively.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param name
+	 *            the name of the artifact
+	 */
+	public static void invalidate(Connection connection, String name) {
+		try {
+			String normalizedName = normalizeName(name);
+			getMetadata(connection).artifacts
+					.removeIf(artifact -> artifact.substring(artifact.indexOf(SEPARATOR) + 1).equalsIgnoreCase(normalizedName));
+		} catch (SQLException e) {
+			clear();
+		}
+	}
+
+	/**
+	 * Invalidates all the artifacts of the database of the connection.
+	 *
+	 * @param connection
+	 *            the connection
+	 */
+	public static void invalidate(Connection connection) {
+		try {
+			getMetadata(connection).artifacts.clear();
+		} catch (SQLException e) {
+			clear();
+		}
+	}
+
+	/**
+	 * Invalidates all the artifacts of the database of the connection, if an arbitrary statement executed against it
+	 * may have dropped or renamed some of them.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param sql
+	 *            the executed statement
+	 */
+	public static void invalidateOnDefinition(Connection connection, String sql) {
+		if (sql != null) {
+			String statement = sql.trim().toUpperCase(Locale.ENGLISH);
+			if (statement.startsWith(ISqlKeywords.KEYWORD_DROP) || statement.startsWith(ISqlKeywords.KEYWORD_ALTER)
+					|| statement.startsWith(KEYWORD_RENAME)) {
+				invalidate(connection);
+			}
+		}
+	}
+
+	/**
+	 * Clears the whole cache.
+	 */
+	public static void clear() {
+		DATA_SOURCES_METADATA.clear();
+		URLS_METADATA.clear();
+	}
+
+	/**
+	 * Normalizes the name of an artifact the same way the dialects do before looking it up.
+	 *
+	 * @param name
+	 *            the name
+	 * @return the normalized name
+	 */
+	static String normalizeName(String name) {
+		if ((name != null) && name.startsWith("\"") && name.endsWith("\"")) { //$NON-NLS-1$ //$NON-NLS-2$
+			return name.substring(1, name.length() - 1);
+		}
+		return name;
+	}
+
+	private static DatabaseMetadata getMetadata(Connection connection) throws SQLException {
+		if (connection instanceof IDataSourceAware) {
+			Object dataSource = ((IDataSourceAware) connection).getDataSource();
+			if (dataSource != null) {
+				synchronized (DATA_SOURCES_METADATA) {
+					return DATA_SOURCES_METADATA.computeIfAbsent(dataSource, k -> new DatabaseMetadata());
+				}
+			}
+		}
+		DatabaseMetaData databaseMetaData = connection.getMetaData();
+		String key = databaseMetaData.getURL() + SEPARATOR + databaseMetaData.getUserName();
+		return URLS_METADATA.computeIfAbsent(key, k -> new DatabaseMetadata());
+	}
+
+	private static boolean isEnabled() {
+		return Boolean.parseBoolean(Configuration.get(DIRIGIBLE_DATABASE_METADATA_CACHE_ENABLED, "true")); //$NON-NLS-1$
+	}
+
+	/**
+	 * The cached metadata of a single database.
+	 */
+	private static class DatabaseMetadata {
+
+		private volatile String productName;
+
+		private final Set<String> artifacts = ConcurrentHashMap.newKeySet();
+
+	}
+
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.sql;
+
+import javax.sql.DataSource;
+
+/**
+ * A connection, which knows the data source it has been obtained from.
+ */
+public interface IDataSourceAware {
+
+	/**
+	 * Gets the data source.
+	 *
+	 * @return the data source
+	 */
+	public DataSource getDataSource();
+
+}
@@ -225,7 +225,14 @@ public class SqlFactory<SELECT extends SelectBuilder, INSERT extends InsertBuild
 	 */
 	@Override
 	public boolean exists(Connection connection, String table) throws SQLException {
-		return this.dialect.exists(connection, table);
+		if (DatabaseMetadataCache.isExisting(connection, table, DatabaseArtifactTypes.TABLE)) {
+			return true;
+		}
+		boolean exists = this.dialect.exists(connection, table);
+		if (exists) {
+			DatabaseMetadataCache.setExisting(connection, table, DatabaseArtifactTypes.TABLE);
+		}
+		return exists;
 	}
 	
 	/*
@@ -234,7 +241,14 @@ public class SqlFactory<SELECT extends SelectBuilder, INSERT extends InsertBuild
 	 */
 	@Override
 	public boolean exists(Connection connection, String name, int type) throws SQLException {
-		return this.dialect.exists(connection, name, type);
+		if (DatabaseMetadataCache.isExisting(connection, name, type)) {
+			return true;
+		}
+		boolean exists = this.dialect.exists(connection, name, type);
+		if (exists) {
+			DatabaseMetadataCache.setExisting(connection, name, type);
+		}
+		return exists;
 	}
 
 	/*
@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.dirigible.database.sql.DatabaseMetadataCache;
 import org.eclipse.dirigible.database.sql.ISqlDialect;
 import org.eclipse.dirigible.database.sql.dialects.derby.DerbySqlDialect;
 import org.eclipse.dirigible.database.sql.dialects.h2.H2SqlDialect;
@@ -40,7 +41,7 @@ public class SqlDialectFactory {
 	 *             the SQL exception
 	 */
 	public static final ISqlDialect getDialect(Connection connection) throws SQLException {
-		String productName = connection.getMetaData().getDatabaseProductName();
+		String productName = DatabaseMetadataCache.getDatabaseProductName(connection);
 		return databaseTypeMappings.get(productName);
 	}
 
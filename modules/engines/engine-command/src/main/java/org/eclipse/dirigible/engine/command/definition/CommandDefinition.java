@@ -21,6 +21,7 @@ public class CommandDefinition {
 	
 	private String description;
 	private String contentType;
+	private boolean stream;
 	private List<CommandLine> commands = new ArrayList<CommandLine>();
 	private Map<String, String> set = new HashMap<String, String>();
 	private List<String> unset = new ArrayList<String>();
@@ -43,6 +44,19 @@ public class CommandDefinition {
 		this.contentType = contentType;
 	}
 
+	/**
+	 * Whether the output is sent to the response as the command produces it, instead of after the command has exited.
+	 *
+	 * @return true, if the output is streamed
+	 */
+	public boolean isStream() {
+		return stream;
+	}
+
+	public void setStream(boolean stream) {
+		this.stream = stream;
+	}
+
 	public List<CommandLine> getCommands() {
 		return commands;
 	}
@@ -13,7 +13,7 @@ package org.eclipse.dirigible.engine.command.processor;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
@@ -21,7 +21,8 @@ import org.eclipse.dirigible.api.v3.http.HttpRequestFacade;
 import org.eclipse.dirigible.api.v3.http.HttpResponseFacade;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
-import org.eclipse.dirigible.commons.process.Piper;
+import org.eclipse.dirigible.commons.process.ProcessResult;
+import org.eclipse.dirigible.commons.process.ProcessRunner;
 import org.eclipse.dirigible.commons.process.ProcessUtils;
 import org.eclipse.dirigible.engine.api.resource.ResourcePath;
 import org.eclipse.dirigible.engine.api.script.AbstractScriptExecutor;
@@ -148,7 +149,11 @@ public class CommandEngineExecutor extends AbstractScriptExecutor implements ISc
 
 		logger.debug("executing command=" + commandLine); //$NON-NLS-1$
 
-		ByteArrayOutputStream out;
+		boolean stream = commandDefinition.isStream() && HttpResponseFacade.isValid();
+		if (stream) {
+			setContentType(commandDefinition);
+		}
+		ByteArrayOutputStream out = null;
 		try {
 			ProcessBuilder processBuilder = ProcessUtils.createProcess(args);
 
@@ -163,45 +168,41 @@ public class CommandEngineExecutor extends AbstractScriptExecutor implements ISc
 			
 			processBuilder.redirectErrorStream(true);
 
-			out = new ByteArrayOutputStream();
-			Process process = ProcessUtils.startProcess(args, processBuilder);
-			Piper pipe = new Piper(process.getInputStream(), out);
-			new Thread(pipe).start();
-			try {
-				int i = 0;
-				boolean deadYet = false;
-				do {
-					Thread.sleep(ProcessUtils.DEFAULT_WAIT_TIME);
-					try {
-						process.exitValue();
-						deadYet = true;
-					} catch (IllegalThreadStateException e) {
-						if (++i >= ProcessUtils.DEFAULT_LOOP_COUNT) {
-							process.destroy();
-							throw new RuntimeException(
-									"Exeeds timeout - " + ((ProcessUtils.DEFAULT_WAIT_TIME / 1000) * ProcessUtils.DEFAULT_LOOP_COUNT));
-						}
-					}
-				} while (!deadYet);
-
-			} catch (Exception e) {
-				logger.error(e.getMessage(), e);
-				throw new IOException(e);
+			OutputStream output;
+			if (stream) {
+				output = HttpResponseFacade.getOutputStream();
+			} else {
+				out = new ByteArrayOutputStream();
+				output = out;
 			}
+			ProcessResult processResult = ProcessRunner.run(processBuilder, output);
+			logger.debug("command exited with value=" + processResult.getExitValue()); //$NON-NLS-1$
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ScriptingException(e);
 		} catch (Exception e) {
 			logger.error(e.getMessage(), e);
 			throw new ScriptingException(e);
 		}
+		if (stream) {
+			// the output has already been sent
+			logger.trace("exiting: executeServiceModule()");
+			return null;
+		}
 		result = new String(out.toByteArray());
 
+		setContentType(commandDefinition);
+		
+		logger.trace("exiting: executeServiceModule()");
+		return result;
+	}
+
+	private void setContentType(CommandDefinition commandDefinition) {
 		try {
 			HttpResponseFacade.setContentType(commandDefinition.getContentType());
 		} catch (Exception e) {
 			logger.error(e.getMessage(), e);
 		}
-		
-		logger.trace("exiting: executeServiceModule()");
-		return result;
 	}
 
 	private String loadSource(String module) throws ScriptingException {
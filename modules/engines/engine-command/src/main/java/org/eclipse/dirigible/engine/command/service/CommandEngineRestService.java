@@ -71,7 +71,11 @@ public class CommandEngineRestService extends AbstractRestService implements IRe
 	public Response executeCommandServiceGet(@PathParam("path") String path) {
 		try {
 			Object result = processor.executeService(path);
-			return Response.ok(result == null ? "null" : result.toString()).type(HttpResponseFacade.getContentType()).build();
+			if (result == null) {
+				// the output has been streamed to the response
+				return Response.ok().build();
+			}
+			return Response.ok(result.toString()).type(HttpResponseFacade.getContentType()).build();
 		} catch (ScriptingDependencyException e) {
 			logger.error(e.getMessage());
 			return Response.status(Response.Status.ACCEPTED).entity(e.getMessage()).build();
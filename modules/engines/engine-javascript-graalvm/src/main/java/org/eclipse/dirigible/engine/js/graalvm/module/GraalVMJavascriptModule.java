@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.engine.js.graalvm.module;
+
+import org.eclipse.dirigible.commons.api.module.AbstractDirigibleModule;
+import org.eclipse.dirigible.engine.js.graalvm.processor.GraalVMJavascriptContextPool;
+import org.eclipse.dirigible.engine.js.graalvm.processor.GraalVMJavascriptEngineExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The GraalVM Javascript Module.
+ *
+ * Owns the context pool shared by the GraalVM executors. The pool is created on first use and closed together with
+ * its engine when the platform shuts down.
+ */
+public class GraalVMJavascriptModule extends AbstractDirigibleModule {
+
+	private static final Logger logger = LoggerFactory.getLogger(GraalVMJavascriptModule.class);
+
+	private static final String MODULE_NAME = "GraalVM Javascript Module";
+
+	private static GraalVMJavascriptContextPool contextPool;
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.google.inject.AbstractModule#configure()
+	 */
+	@Override
+	protected void configure() {
+		// the context pool is created on first use
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.commons.api.module.AbstractDirigibleModule#getName()
+	 */
+	@Override
+	public String getName() {
+		return MODULE_NAME;
+	}
+
+	/**
+	 * Gets the shared context pool, creating it on first use.
+	 *
+	 * @return the context pool
+	 */
+	public static synchronized GraalVMJavascriptContextPool getContextPool() {
+		if (contextPool == null) {
+			contextPool = GraalVMJavascriptEngineExecutor.createContextPool();
+		}
+		return contextPool;
+	}
+
+	/**
+	 * Closes the shared context pool and its engine.
+	 */
+	public static synchronized void closeContextPool() {
+		if (contextPool != null) {
+			logger.info("Closing GraalVM context pool");
+			contextPool.close();
+			contextPool = null;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.commons.api.module.AbstractDirigibleModule#destroy()
+	 */
+	@Override
+	public void destroy() {
+		closeContextPool();
+	}
+
+}
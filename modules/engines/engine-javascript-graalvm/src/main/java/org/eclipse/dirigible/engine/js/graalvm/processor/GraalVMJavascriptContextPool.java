@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.engine.js.graalvm.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The GraalVM Javascript Context Pool.
+ *
+ * Keeps a bounded number of pre-initialized contexts, all of them bound to a single shared {@link Engine}, so that
+ * the sources parsed once (e.g. the require() code) are taken from the engine's code cache by every other context.
+ * A context is handed out only once - after the execution it is closed and a fresh one is prepared in the
+ * background, so that every request starts with a clean global scope. Prepared contexts which stay unused
+ * longer than the idle timeout are closed, until the pool shrinks back to the warmup count.
+ */
+public class GraalVMJavascriptContextPool {
+
+	private static final Logger logger = LoggerFactory.getLogger(GraalVMJavascriptContextPool.class);
+
+	private final Engine engine;
+
+	private final Function<Engine, Context> contextFactory;
+
+	private final int poolSize;
+
+	private final long idleTimeout;
+
+	private final int warmupCount;
+
+	private final ConcurrentLinkedDeque<PooledContext> idle = new ConcurrentLinkedDeque<PooledContext>();
+
+	private final AtomicInteger idleCount = new AtomicInteger();
+
+	private final AtomicBoolean replenishing = new AtomicBoolean();
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final ScheduledExecutorService maintainer;
+
+	private volatile boolean closed;
+
+	/**
+	 * Instantiates a new context pool.
+	 *
+	 * @param engine
+	 *            the shared engine
+	 * @param contextFactory
+	 *            creates and initializes a new context for the given engine
+	 * @param poolSize
+	 *            the maximum number of prepared contexts
+	 * @param idleTimeout
+	 *            the time in milliseconds after which an unused prepared context is closed
+	 * @param warmupCount
+	 *            the number of contexts prepared on start and kept after idle periods
+	 */
+	public GraalVMJavascriptContextPool(Engine engine, Function<Engine, Context> contextFactory, int poolSize, long idleTimeout,
+			int warmupCount) {
+		this.engine = engine;
+		this.contextFactory = contextFactory;
+		this.poolSize = Math.max(poolSize, 1);
+		this.idleTimeout = idleTimeout;
+		this.warmupCount = Math.min(Math.max(warmupCount, 0), this.poolSize);
+		this.maintainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "GraalVM Javascript Context Pool");
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (this.warmupCount > 0) {
+			this.maintainer.execute(() -> fill(this.warmupCount));
+		}
+		if (idleTimeout > 0) {
+			long period = Math.max(idleTimeout / 2, 1000);
+			this.maintainer.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Takes a prepared context from the pool or creates a new one if there is no such.
+	 *
+	 * @return the context
+	 */
+	public Context borrow() {
+		PooledContext pooled = idle.pollFirst();
+		Context context;
+		if (pooled != null) {
+			idleCount.decrementAndGet();
+			hits.incrementAndGet();
+			context = pooled.context;
+		} else {
+			misses.incrementAndGet();
+			context = contextFactory.apply(engine);
+		}
+		replenish();
+		return context;
+	}
+
+	/**
+	 * Gives back a context obtained by {@link #borrow()}. The context is closed, as it is not reused.
+	 *
+	 * @param context
+	 *            the context
+	 */
+	public void release(Context context) {
+		try {
+			context.close();
+		} catch (RuntimeException e) {
+			logger.warn("Error while closing a pooled GraalVM context: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Gets the shared engine.
+	 *
+	 * @return the engine
+	 */
+	public Engine getEngine() {
+		return engine;
+	}
+
+	/**
+	 * Gets the number of the prepared contexts.
+	 *
+	 * @return the idle count
+	 */
+	public int getIdleCount() {
+		return idleCount.get();
+	}
+
+	/**
+	 * Gets the number of the borrows served by a prepared context.
+	 *
+	 * @return the hit count
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Gets the number of the borrows which had to create a context in place.
+	 *
+	 * @return the miss count
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Closes all the prepared contexts and the shared engine, cancelling the executions still in progress.
+	 */
+	public void close() {
+		closed = true;
+		maintainer.shutdownNow();
+		PooledContext pooled;
+		while ((pooled = idle.pollFirst()) != null) {
+			idleCount.decrementAndGet();
+			pooled.close();
+		}
+		try {
+			engine.close(true);
+		} catch (RuntimeException e) {
+			logger.warn("Error while closing the shared GraalVM engine: " + e.getMessage(), e);
+		}
+	}
+
+	private void replenish() {
+		if (closed || !replenishing.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			maintainer.execute(() -> {
+				try {
+					fill(poolSize);
+				} finally {
+					replenishing.set(false);
+				}
+			});
+		} catch (RuntimeException e) {
+			replenishing.set(false);
+		}
+	}
+
+	private void fill(int target) {
+		while (!closed && idleCount.get() < target) {
+			try {
+				idle.offerFirst(new PooledContext(contextFactory.apply(engine)));
+				idleCount.incrementAndGet();
+			} catch (RuntimeException e) {
+				logger.error("Error while preparing a GraalVM context: " + e.getMessage(), e);
+				return;
+			}
+		}
+	}
+
+	private void evictIdle() {
+		long threshold = System.currentTimeMillis() - idleTimeout;
+		Iterator<PooledContext> iterator = idle.descendingIterator();
+		while (iterator.hasNext() && idleCount.get() > warmupCount) {
+			PooledContext pooled = iterator.next();
+			if (pooled.created < threshold && idle.removeLastOccurrence(pooled)) {
+				idleCount.decrementAndGet();
+				pooled.close();
+			}
+		}
+	}
+
+	private static class PooledContext {
+
+		private final Context context;
+
+		private final long created = System.currentTimeMillis();
+
+		PooledContext(Context context) {
+			this.context = context;
+		}
+
+		void close() {
+			try {
+				context.close();
+			} catch (RuntimeException e) {
+				logger.warn("Error while closing an idle GraalVM context: " + e.getMessage(), e);
+			}
+		}
+	}
+
+}
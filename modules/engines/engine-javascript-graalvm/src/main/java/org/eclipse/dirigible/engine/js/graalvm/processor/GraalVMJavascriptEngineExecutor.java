@@ -14,12 +14,6 @@ package org.eclipse.dirigible.engine.js.graalvm.processor;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.Map;
-import java.util.function.Predicate;
-
-import javax.script.Bindings;
-import javax.script.ScriptContext;
-import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
 
 import org.eclipse.dirigible.api.v3.core.ConsoleFacade;
 import org.eclipse.dirigible.api.v3.http.HttpRequestFacade;
@@ -31,17 +25,18 @@ import org.eclipse.dirigible.engine.js.api.AbstractJavascriptExecutor;
 import org.eclipse.dirigible.engine.js.api.IJavascriptModuleSourceProvider;
 import org.eclipse.dirigible.engine.js.graalvm.callbacks.Require;
 import org.eclipse.dirigible.engine.js.graalvm.debugger.GraalVMJavascriptDebugProcessor;
+import org.eclipse.dirigible.engine.js.graalvm.module.GraalVMJavascriptModule;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Context.Builder;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.EnvironmentAccess;
 import org.graalvm.polyglot.HostAccess;
+import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.oracle.truffle.js.scriptengine.GraalJSScriptEngine;
-
 /**
  * The GraalVM Javascript Engine Executor.
  */
@@ -57,6 +52,9 @@ public class GraalVMJavascriptEngineExecutor extends AbstractJavascriptExecutor
 	private static final String BUILDER_OPTION_INSPECT_PATH = "inspect.Path";
 	private static final String SOURCE_PROVIDER = "SourceProvider";
 	private static final String CODE_DEBUGGER = "debugger;\n\n";
+	private static final String SOURCE_NAME_REQUIRE = "require.js";
+	private static final String SOURCE_NAME_CODE = "code.js";
+	private static final String CODE_MOZILLA_COMPAT = "load(\"nashorn:mozilla_compat.js\")";
 	
 	public static final String ENGINE_NAME = "GraalVM JavaScript Engine";
 
@@ -68,8 +66,18 @@ public class GraalVMJavascriptEngineExecutor extends AbstractJavascriptExecutor
 	public static final String DIRIGBLE_JAVASCRIPT_GRAALVM_ALLOW_IO = "DIRIGBLE_JAVASCRIPT_GRAALVM_ALLOW_IO";
 	public static final String DIRIGBLE_JAVASCRIPT_GRAALVM_COMPATIBILITY_MODE_NASHORN = "DIRIGBLE_JAVASCRIPT_GRAALVM_COMPATIBILITY_MODE_NASHORN";
 	public static final String DIRIGBLE_JAVASCRIPT_GRAALVM_COMPATIBILITY_MODE_MOZILLA = "DIRIGBLE_JAVASCRIPT_GRAALVM_COMPATIBILITY_MODE_MOZILLA";
+	public static final String DIRIGBLE_JAVASCRIPT_GRAALVM_CONTEXT_POOL_ENABLED = "DIRIGBLE_JAVASCRIPT_GRAALVM_CONTEXT_POOL_ENABLED";
+	public static final String DIRIGBLE_JAVASCRIPT_GRAALVM_CONTEXT_POOL_SIZE = "DIRIGBLE_JAVASCRIPT_GRAALVM_CONTEXT_POOL_SIZE";
+	public static final String DIRIGBLE_JAVASCRIPT_GRAALVM_CONTEXT_POOL_IDLE_TIMEOUT = "DIRIGBLE_JAVASCRIPT_GRAALVM_CONTEXT_POOL_IDLE_TIMEOUT";
+	public static final String DIRIGBLE_JAVASCRIPT_GRAALVM_CONTEXT_POOL_WARMUP = "DIRIGBLE_JAVASCRIPT_GRAALVM_CONTEXT_POOL_WARMUP";
 	
 	public static final String DEFAULT_DEBUG_PORT = "8081";
+	public static final String DEFAULT_CONTEXT_POOL_SIZE = "8";
+	public static final String DEFAULT_CONTEXT_POOL_IDLE_TIMEOUT = "300000";
+	public static final String DEFAULT_CONTEXT_POOL_WARMUP = "2";
+
+	private static final Source REQUIRE_SOURCE = Source.newBuilder(ENGINE_JAVA_SCRIPT, Require.CODE, SOURCE_NAME_REQUIRE).buildLiteral();
+	private static final Source MOZILLA_COMPAT_SOURCE = Source.newBuilder(ENGINE_JAVA_SCRIPT, CODE_MOZILLA_COMPAT, "mozilla_compat.js").buildLiteral();
 
 	private GraalVMRepositoryModuleSourceProvider sourceProvider = new GraalVMRepositoryModuleSourceProvider(this, IRepositoryStructure.PATH_REGISTRY_PUBLIC);
 
@@ -125,17 +133,60 @@ public class GraalVMJavascriptEngineExecutor extends AbstractJavascriptExecutor
 
 		Object result = null;
 
-
 		boolean isDebugEnabled = isDebugEnabled();
+		GraalVMJavascriptContextPool pool = isDebugEnabled ? null : getContextPool();
 
-//		Builder contextBuilder = Context.newBuilder().allowAllAccess(true);
-		
-		ScriptEngine engine = new ScriptEngineManager().getEngineByName("JavaScript");
-		Bindings engineBindings = engine.getBindings(ScriptContext.ENGINE_SCOPE);
-		engineBindings.put("polyglot.js.allowHostAccess", true);
-		engineBindings.put("polyglot.js.allowHostClassLookup", (Predicate<String>) s -> true);
-		
-		Builder contextBuilder = Context.newBuilder("js")
+		Context context = null;
+		try {
+			if (pool != null) {
+				context = pool.borrow();
+			} else {
+				Builder contextBuilder = createContextBuilder();
+				if (isDebugEnabled) {
+					contextBuilder.option(BUILDER_OPTION_INSPECT, Configuration.get(DIRIGBLE_JAVASCRIPT_GRAALVM_DEBUGGER_PORT, DEFAULT_DEBUG_PORT));
+					contextBuilder.option(BUILDER_OPTION_INSPECT_SECURE, Boolean.FALSE.toString());
+					contextBuilder.option(BUILDER_OPTION_INSPECT_PATH, moduleOrCode);
+				}
+				context = contextBuilder.build();
+				initializeContext(context);
+			}
+
+			String code = (isModule ? loadSource(moduleOrCode) : moduleOrCode);
+			Value bindings = context.getBindings(ENGINE_JAVA_SCRIPT);
+			bindings.putMember(CONTEXT, executionContext);
+
+			beforeEval(context);
+			if (isDebugEnabled) {
+				code = CODE_DEBUGGER + code;
+			}
+			Source source = Source.newBuilder(ENGINE_JAVA_SCRIPT, code, isModule ? moduleOrCode : SOURCE_NAME_CODE).buildLiteral();
+			result = context.eval(source).as(Object.class);
+		} catch (IOException e) {
+			logger.error(e.getMessage(), e);
+		} catch (URISyntaxException e) {
+			logger.error(e.getMessage(), e);
+		} finally {
+			if (context != null) {
+				if (pool != null) {
+					pool.release(context);
+				} else {
+					context.close();
+				}
+			}
+		}
+
+		logger.trace("exiting: executeServiceModule()");
+
+		return result;
+	}
+
+	/**
+	 * Creates the context builder configured according to the current settings.
+	 *
+	 * @return the context builder
+	 */
+	protected Builder createContextBuilder() {
+		Builder contextBuilder = Context.newBuilder(ENGINE_JAVA_SCRIPT)
 				.allowEnvironmentAccess(EnvironmentAccess.INHERIT)
 				.option("js.ecmascript-version", "2021");
 		
@@ -156,40 +207,57 @@ public class GraalVMJavascriptEngineExecutor extends AbstractJavascriptExecutor
 		if (Boolean.parseBoolean(Configuration.get(DIRIGBLE_JAVASCRIPT_GRAALVM_COMPATIBILITY_MODE_NASHORN, "true"))) {
 			contextBuilder.option("js.nashorn-compat", "true");
 		}
-		
-		if (isDebugEnabled) {
-			contextBuilder.option(BUILDER_OPTION_INSPECT, Configuration.get(DIRIGBLE_JAVASCRIPT_GRAALVM_DEBUGGER_PORT, DEFAULT_DEBUG_PORT));
-			contextBuilder.option(BUILDER_OPTION_INSPECT_SECURE, Boolean.FALSE.toString());
-			contextBuilder.option(BUILDER_OPTION_INSPECT_PATH, moduleOrCode);
-		}
+		return contextBuilder;
+	}
 
-		try (Context context = contextBuilder.build()) {
-			String code = (isModule ? loadSource(moduleOrCode) : moduleOrCode);
-			Value bindings = context.getBindings(ENGINE_JAVA_SCRIPT);
-			bindings.putMember(SOURCE_PROVIDER, getSourceProvider());
-			bindings.putMember(JAVASCRIPT_ENGINE_TYPE, JAVASCRIPT_TYPE_GRAALVM);
-			bindings.putMember(CONTEXT, executionContext);
-			bindings.putMember(CONSOLE, ConsoleFacade.getConsole());
-			
-            context.eval(ENGINE_JAVA_SCRIPT, Require.CODE);
-            if (Boolean.parseBoolean(Configuration.get(DIRIGBLE_JAVASCRIPT_GRAALVM_COMPATIBILITY_MODE_MOZILLA, "false"))) {
-            	context.eval(ENGINE_JAVA_SCRIPT, "load(\"nashorn:mozilla_compat.js\")");
-            }
-            
-            beforeEval(context);
-            if (isDebugEnabled) {
-            	code = CODE_DEBUGGER + code;
-            }
-            result = context.eval(ENGINE_JAVA_SCRIPT, code).as(Object.class);
-        } catch (IOException e) {
-        	logger.error(e.getMessage(), e);
-        } catch (URISyntaxException e) {
-        	logger.error(e.getMessage(), e);
-        }
+	/**
+	 * Puts the common bindings and evaluates the require() code, before the context is used for an execution.
+	 *
+	 * @param context
+	 *            the context
+	 */
+	protected void initializeContext(Context context) {
+		Value bindings = context.getBindings(ENGINE_JAVA_SCRIPT);
+		bindings.putMember(SOURCE_PROVIDER, getSourceProvider());
+		bindings.putMember(JAVASCRIPT_ENGINE_TYPE, JAVASCRIPT_TYPE_GRAALVM);
+		bindings.putMember(CONSOLE, ConsoleFacade.getConsole());
 
-		logger.trace("exiting: executeServiceModule()");
+		context.eval(REQUIRE_SOURCE);
+		if (Boolean.parseBoolean(Configuration.get(DIRIGBLE_JAVASCRIPT_GRAALVM_COMPATIBILITY_MODE_MOZILLA, "false"))) {
+			context.eval(MOZILLA_COMPAT_SOURCE);
+		}
+	}
 
-		return result;
+	/**
+	 * Gets the context pool, if enabled. The pool is shared by all the executors and owned by the
+	 * {@link GraalVMJavascriptModule}, which closes it on shutdown.
+	 *
+	 * @return the context pool or null if the pooling is disabled
+	 */
+	protected GraalVMJavascriptContextPool getContextPool() {
+		if (!Boolean.parseBoolean(Configuration.get(DIRIGBLE_JAVASCRIPT_GRAALVM_CONTEXT_POOL_ENABLED, "false"))) {
+			return null;
+		}
+		return GraalVMJavascriptModule.getContextPool();
+	}
+
+	/**
+	 * Creates a context pool with a new shared engine. The contexts are prepared by a dedicated executor, so that they
+	 * do not depend on the executor which happens to create the pool.
+	 *
+	 * @return the context pool
+	 */
+	public static GraalVMJavascriptContextPool createContextPool() {
+		int poolSize = Integer.parseInt(Configuration.get(DIRIGBLE_JAVASCRIPT_GRAALVM_CONTEXT_POOL_SIZE, DEFAULT_CONTEXT_POOL_SIZE));
+		long idleTimeout = Long.parseLong(Configuration.get(DIRIGBLE_JAVASCRIPT_GRAALVM_CONTEXT_POOL_IDLE_TIMEOUT, DEFAULT_CONTEXT_POOL_IDLE_TIMEOUT));
+		int warmupCount = Integer.parseInt(Configuration.get(DIRIGBLE_JAVASCRIPT_GRAALVM_CONTEXT_POOL_WARMUP, DEFAULT_CONTEXT_POOL_WARMUP));
+		logger.info("Starting GraalVM context pool with size {}, idle timeout {} ms and warmup count {}", poolSize, idleTimeout, warmupCount);
+		GraalVMJavascriptEngineExecutor template = new GraalVMJavascriptEngineExecutor();
+		return new GraalVMJavascriptContextPool(Engine.create(), engine -> {
+			Context context = template.createContextBuilder().engine(engine).build();
+			template.initializeContext(context);
+			return context;
+		}, poolSize, idleTimeout, warmupCount);
 	}
 
 	protected String loadSource(String module) throws IOException, URISyntaxException {
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.engine.js.graalvm.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class GraalVMJavascriptContextPoolTest.
+ */
+public class GraalVMJavascriptContextPoolTest {
+
+	private GraalVMJavascriptContextPool pool;
+
+	@Before
+	public void setUp() {
+		pool = new GraalVMJavascriptContextPool(Engine.create(), engine -> {
+			Context context = Context.newBuilder("js").engine(engine).build();
+			context.eval("js", "var initialized = true;");
+			return context;
+		}, 2, 0, 2);
+	}
+
+	@After
+	public void tearDown() {
+		pool.close();
+	}
+
+	/**
+	 * Borrowed contexts are initialized and do not share globals.
+	 */
+	@Test
+	public void borrowInitializedAndIsolated() {
+		Context first = pool.borrow();
+		try {
+			assertTrue(first.eval("js", "initialized").asBoolean());
+			first.eval("js", "var leaked = 1;");
+		} finally {
+			pool.release(first);
+		}
+
+		Context second = pool.borrow();
+		try {
+			assertTrue(second.eval("js", "initialized").asBoolean());
+			assertFalse(second.eval("js", "typeof leaked !== 'undefined'").asBoolean());
+		} finally {
+			pool.release(second);
+		}
+		assertEquals(2, pool.getHitCount() + pool.getMissCount());
+	}
+
+	/**
+	 * The pool is replenished up to its size after a borrow.
+	 *
+	 * @throws InterruptedException the interrupted exception
+	 */
+	@Test
+	public void replenish() throws InterruptedException {
+		pool.release(pool.borrow());
+		long deadline = System.currentTimeMillis() + 30000;
+		while (pool.getIdleCount() < 2 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		assertEquals(2, pool.getIdleCount());
+		pool.release(pool.borrow());
+		assertTrue(pool.getHitCount() >= 1);
+	}
+
+}
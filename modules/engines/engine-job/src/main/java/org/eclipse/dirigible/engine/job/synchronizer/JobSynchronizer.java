@@ -142,6 +142,15 @@ public class JobSynchronizer extends AbstractSynchronizer {
 		logger.trace("Done synchronizing Jobs from Registry.");
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#getFileExtensions()
+	 */
+	@Override
+	protected String[] getFileExtensions() {
+		return new String[] { ISchedulerCoreService.FILE_EXTENSION_JOB };
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#synchronizeResource(org.eclipse.dirigible.
@@ -143,6 +143,15 @@ public class MessagingSynchronizer extends AbstractSynchronizer {
 		logger.trace("Done synchronizing Listeners from Registry.");
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#getFileExtensions()
+	 */
+	@Override
+	protected String[] getFileExtensions() {
+		return new String[] { IMessagingCoreService.FILE_EXTENSION_LISTENER };
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#synchronizeResource(org.eclipse.dirigible.
@@ -245,13 +254,15 @@ public class MessagingSynchronizer extends AbstractSynchronizer {
 		try {
 			if (!messagingCoreService.existsListener(listenerDefinition.getLocation())) {
 				messagingCoreService.createListener(listenerDefinition.getLocation(), listenerDefinition.getName(), listenerDefinition.getType(),
-						listenerDefinition.getHandler(), listenerDefinition.getDescription());
+						listenerDefinition.getHandler(), listenerDefinition.getDescription(), listenerDefinition.getConcurrency(),
+						listenerDefinition.getBatchSize(), listenerDefinition.getBatchTimeout());
 				logger.info("Synchronized a new Listener [{}] from location: {}", listenerDefinition.getName(), listenerDefinition.getLocation());
 			} else {
 				ListenerDefinition existing = messagingCoreService.getListener(listenerDefinition.getLocation());
 				if (!listenerDefinition.equals(existing)) {
 					messagingCoreService.updateListener(listenerDefinition.getLocation(), listenerDefinition.getName(), listenerDefinition.getType(),
-							listenerDefinition.getHandler(), listenerDefinition.getDescription());
+							listenerDefinition.getHandler(), listenerDefinition.getDescription(), listenerDefinition.getConcurrency(),
+							listenerDefinition.getBatchSize(), listenerDefinition.getBatchTimeout());
 					logger.info("Synchronized a modified Listener [{}] from location: {}", listenerDefinition.getName(),
 							listenerDefinition.getLocation());
 					LISTENERS_MODIFIED.add(listenerDefinition.getLocation());
@@ -99,7 +99,7 @@ public class ODataSynchronizer extends AbstractSynchronizer {
 			if (beforeSynchronizing()) {
 				logger.trace("Synchronizing OData Schemas and Mappings...");
 				try {
-					if (isSynchronizerSuccessful("org.eclipse.dirigible.database.ds.synchronizer.DataStructuresSynchronizer")) {
+					if (isSynchronizerSuccessful(DATA_STRUCTURES_SYNCHRONIZER)) {
 						startSynchronization(SYNCHRONIZER_NAME);
 						clearCache();
 						synchronizePredelivered();
@@ -117,7 +117,7 @@ public class ODataSynchronizer extends AbstractSynchronizer {
 								+ "Mutable: [Schemas: {3}, Mappings: {4}, OData: {5}]", 
 								immutableSchemasCount, immutableMappingsCount, immutableODataCount, mutableSchemasCount, mutableMappingsCount, mutableODataCount));
 					} else {
-						failedSynchronization(SYNCHRONIZER_NAME, "Skipped due to dependency: org.eclipse.dirigible.database.ds.synchronizer.DataStructuresSynchronizer");
+						failedSynchronization(SYNCHRONIZER_NAME, "Skipped due to dependency: " + DATA_STRUCTURES_SYNCHRONIZER);
 					}
 				} catch (Exception e) {
 					logger.error("Synchronizing process for OData Schemas and Mappings failed.", e);
@@ -40,4 +40,13 @@ public class ODataSynchronizerJob extends AbstractSynchronizerJob {
 		return ODataSynchronizerJobDefinitionProvider.ODATA_SYNCHRONIZER_JOB;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizerJob#getDependencies()
+	 */
+	@Override
+	protected String[] getDependencies() {
+		return new String[] { ISynchronizer.DATA_STRUCTURES_SYNCHRONIZER };
+	}
+
 }
@@ -15,7 +15,9 @@ import static java.util.Collections.EMPTY_MAP;
 import static org.eclipse.dirigible.engine.odata2.sql.test.util.OData2TestUtils.fqns;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.net.URI;
 import java.sql.ResultSet;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -27,6 +29,8 @@ import java.util.Map;
 import org.apache.olingo.odata2.annotation.processor.core.edm.AnnotationEdmProvider;
 import org.apache.olingo.odata2.api.edm.EdmException;
 import org.apache.olingo.odata2.api.exception.ODataException;
+import org.apache.olingo.odata2.api.processor.ODataContext;
+import org.apache.olingo.odata2.api.uri.PathInfo;
 import org.apache.olingo.odata2.api.uri.PathSegment;
 import org.apache.olingo.odata2.api.uri.UriInfo;
 import org.apache.olingo.odata2.api.uri.UriParser;
@@ -35,6 +39,8 @@ import org.apache.olingo.odata2.core.edm.provider.EdmImplProv;
 import org.apache.olingo.odata2.core.uri.UriParserImpl;
 import org.easymock.Capture;
 import org.easymock.EasyMock;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.engine.odata2.sql.api.OData2Exception;
 import org.eclipse.dirigible.engine.odata2.sql.binding.EdmTableBindingProvider;
 import org.eclipse.dirigible.engine.odata2.sql.builder.SQLContext;
 import org.eclipse.dirigible.engine.odata2.sql.builder.SQLQuery;
@@ -46,6 +52,7 @@ import org.eclipse.dirigible.engine.odata2.sql.edm.Entity2;
 import org.eclipse.dirigible.engine.odata2.sql.edm.Entity3;
 import org.eclipse.dirigible.engine.odata2.sql.mapping.DefaultEdmTableMappingProvider;
 import org.eclipse.dirigible.engine.odata2.sql.test.util.OData2TestUtils;
+import org.eclipse.dirigible.engine.odata2.sql.utils.OData2Utils;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -261,6 +268,105 @@ public class SQLQueryTest {
                 q.buildSelect(context));
     }
 
+    @Test
+    public void testGetMessageProcessingLogsWithSelectSkipTop() throws Exception {
+        PathSegment ps1 = createPathSegment();
+        Map<String, String> params = new HashMap<>();
+        params.put("$select", "MessageGuid");
+        params.put("$orderby", "Status");
+        params.put("$skip", "3");
+        params.put("$top", "2");
+        UriInfo uriInfo = uriParser.parse(Arrays.asList(ps1), params);
+        SQLQuery q = builder.buildSelectEntitySetQuery(uriInfo);
+
+        //The skip is pushed down to the database
+        assertEquals("SELECT T0.MESSAGEGUID AS MESSAGEGUID_T0 FROM MPLHEADER AS T0 ORDER BY T0.STATUS"
+                + " OFFSET 3 ROWS FETCH NEXT 2 ROWS ONLY", q.buildSelect(context));
+        assertTrue(q.getSelectExpression().isSkipApplied());
+        assertEquals("SELECT T0.MESSAGEGUID AS MESSAGEGUID_T0 FROM MPLHEADER AS T0 ORDER BY T0.STATUS" + " LIMIT 2 OFFSET 3",
+                q.buildSelect(new SQLContext(DatabaseProduct.POSTGRE_SQL)));
+        assertEquals("SELECT T0.MESSAGEGUID AS MESSAGEGUID_T0 FROM MPLHEADER AS T0 ORDER BY T0.STATUS" + " LIMIT 2 OFFSET 3",
+                q.buildSelect(new SQLContext(DatabaseProduct.MYSQL)));
+    }
+
+    @Test
+    public void testKeysetPagingWithSkiptoken() throws Exception {
+        PathSegment ps1 = createPathSegment();
+        Map<String, String> params = new HashMap<>();
+        params.put("$select", "MessageGuid");
+        params.put("$skiptoken", SQLQueryBuilder.KEYSET_SKIP_TOKEN_PREFIX + "MSG-1000");
+        UriInfo uriInfo = uriParser.parse(Arrays.asList(ps1), params);
+        Configuration.set(SQLQueryBuilder.DIRIGIBLE_ODATA_KEYSET_PAGING_ENABLED, "true");
+        try {
+            SQLQuery q = builder.buildSelectEntitySetQuery(uriInfo);
+
+            //The previous pages are not skipped, but the key of the last entity is sought
+            assertTrue(q.isKeysetPaging());
+            assertEquals("MessageGuid", q.getKeysetProperty().getName());
+            assertEquals(SQLExpressionSelect.NOT_SET, q.getSelectExpression().getSkip());
+            assertEquals("T0.MESSAGEGUID > ?", q.getWhereClause());
+            assertEquals("MSG-1000", q.getParams().get(0).getValue());
+            assertEquals("SELECT T0.MESSAGEGUID AS MESSAGEGUID_T0 FROM MPLHEADER AS T0 WHERE T0.MESSAGEGUID > ? ORDER BY T0.MESSAGEGUID"
+                    + SERVER_SIDE_PAGING_DEFAULT_SUFFIX, q.buildSelect(context));
+        } finally {
+            Configuration.remove(SQLQueryBuilder.DIRIGIBLE_ODATA_KEYSET_PAGING_ENABLED);
+        }
+    }
+
+    @Test
+    public void testKeysetPagingWithFilter() throws Exception {
+        PathSegment ps1 = new ODataPathSegmentImpl("Entities2", Collections.<String, List<String>> emptyMap());
+        Map<String, String> params = new HashMap<>();
+        params.put("$filter", "Name eq 'attribute'");
+        params.put("$skiptoken", SQLQueryBuilder.KEYSET_SKIP_TOKEN_PREFIX + "42");
+        UriInfo uriInfo = uriParser.parse(Arrays.asList(ps1), params);
+        Configuration.set(SQLQueryBuilder.DIRIGIBLE_ODATA_KEYSET_PAGING_ENABLED, "true");
+        try {
+            SQLQuery q = builder.buildSelectEntitySetQuery(uriInfo);
+
+            //The key predicate is added to the filter and the number key is bound as a number
+            assertEquals("T0.NAME = ? AND T0.ID > ?", q.getWhereClause());
+            assertEquals("attribute", q.getParams().get(0).getValue());
+            assertEquals(Long.valueOf(42), q.getParams().get(1).getValue());
+            assertTrue(q.buildSelect(context).endsWith(" FROM ITOP_MPLUSERDEFINEDATTRIBUTE AS T0 WHERE T0.NAME = ? AND T0.ID > ? ORDER BY T0.ID"
+                    + SERVER_SIDE_PAGING_DEFAULT_SUFFIX));
+        } finally {
+            Configuration.remove(SQLQueryBuilder.DIRIGIBLE_ODATA_KEYSET_PAGING_ENABLED);
+        }
+    }
+
+    @Test
+    public void testKeysetPagingWithMalformedSkiptoken() throws Exception {
+        PathSegment ps1 = new ODataPathSegmentImpl("Entities2", Collections.<String, List<String>> emptyMap());
+        Map<String, String> params = new HashMap<>();
+        params.put("$skiptoken", SQLQueryBuilder.KEYSET_SKIP_TOKEN_PREFIX + "not-a-number");
+        UriInfo uriInfo = uriParser.parse(Arrays.asList(ps1), params);
+        Configuration.set(SQLQueryBuilder.DIRIGIBLE_ODATA_KEYSET_PAGING_ENABLED, "true");
+        try {
+            builder.buildSelectEntitySetQuery(uriInfo);
+            fail("The skiptoken of a number key must contain a number");
+        } catch (OData2Exception e) {
+            //expected
+        } finally {
+            Configuration.remove(SQLQueryBuilder.DIRIGIBLE_ODATA_KEYSET_PAGING_ENABLED);
+        }
+    }
+
+    @Test
+    public void testKeysetPagingNextLink() throws Exception {
+        PathInfo pathInfo = EasyMock.createNiceMock(PathInfo.class);
+        EasyMock.expect(pathInfo.getServiceRoot()).andReturn(new URI("http://localhost/odata/")).anyTimes();
+        EasyMock.expect(pathInfo.getRequestUri())
+                .andReturn(new URI("http://localhost/odata/Entities1?$select=MessageGuid&$skiptoken=key:MSG-1000")).anyTimes();
+        ODataContext odataContext = EasyMock.createNiceMock(ODataContext.class);
+        EasyMock.expect(odataContext.getPathInfo()).andReturn(pathInfo).anyTimes();
+        EasyMock.replay(pathInfo, odataContext);
+
+        //The skiptoken of the previous page is replaced with the key of the last entity of the current page
+        assertEquals("Entities1?$select=MessageGuid&$skiptoken=key%3AMSG-2000",
+                OData2Utils.generateNextLink(odataContext, SQLQueryBuilder.KEYSET_SKIP_TOKEN_PREFIX + "MSG-2000"));
+    }
+
     @Test
     public void testCalculateEffectiveSkipFromSkipAndSkiptoken() throws EdmException, ODataException {
         PathSegment ps1 = createPathSegment();
@@ -11,7 +11,9 @@
  */
 package org.eclipse.dirigible.engine.web.service;
 
-import java.nio.charset.StandardCharsets;
+import java.io.ByteArrayInputStream;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
@@ -19,6 +21,7 @@ import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.Response.Status;
 
 import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
@@ -36,15 +39,41 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Front facing REST service serving the raw web content from the registry/public space.
+ *
+ * The content is sent with a strong entity tag derived from its hash, compressed with brotli (precompressed *.br
+ * files in the registry only) or gzip when accepted by the client, and partially for a single byte range. The paths matching
+ * DIRIGIBLE_WEB_CACHE_IMMUTABLE_PATHS, e.g. fingerprinted bundles, are cached by the clients without revalidation.
  */
 public abstract class AbstractWebEngineRestService extends AbstractRestService implements IRestService {
 
+	/** Whether the text content is sent compressed to the clients accepting it. */
+	public static final String DIRIGIBLE_WEB_COMPRESSION_ENABLED = "DIRIGIBLE_WEB_COMPRESSION_ENABLED"; //$NON-NLS-1$
+
+	/** The minimum size in bytes of the content to be compressed. */
+	public static final String DIRIGIBLE_WEB_COMPRESSION_MIN_SIZE = "DIRIGIBLE_WEB_COMPRESSION_MIN_SIZE"; //$NON-NLS-1$
+
+	/** The regular expression for the paths of the content, which never changes under the same path. */
+	public static final String DIRIGIBLE_WEB_CACHE_IMMUTABLE_PATHS = "DIRIGIBLE_WEB_CACHE_IMMUTABLE_PATHS"; //$NON-NLS-1$
+
+	/** The time in seconds the clients keep the immutable content. */
+	public static final String DIRIGIBLE_WEB_CACHE_IMMUTABLE_MAX_AGE = "DIRIGIBLE_WEB_CACHE_IMMUTABLE_MAX_AGE"; //$NON-NLS-1$
+
 	private static final Cache WEB_CACHE = ResourcesCache.getWebCache();
 
+	private static final CompressedContentCache COMPRESSED_CACHE = new CompressedContentCache();
+
 	private static final Logger logger = LoggerFactory.getLogger(AbstractWebEngineRestService.class);
 
 	private static final String INDEX_HTML = "index.html";
 
+	private static final String ENCODING_BROTLI = "br"; //$NON-NLS-1$
+
+	private static final String ENCODING_GZIP = "gzip"; //$NON-NLS-1$
+
+	private static final String CACHE_CONTROL_REVALIDATE = "public, must-revalidate, max-age=0"; //$NON-NLS-1$
+
+	private static volatile Pattern immutablePaths;
+
 	@Inject
 	private WebEngineProcessor processor;
 
@@ -90,8 +119,9 @@ public abstract class AbstractWebEngineRestService extends AbstractRestService i
 	 * @return the resource by path
 	 */
 	private Response getResourceByPath(String path) {
-		if (isCached(path)) {
-			return sendResourceNotModified();
+		String cachedTag = WEB_CACHE.getTag(path);
+		if (isCached(cachedTag)) {
+			return sendResourceNotModified(path, cachedTag);
 		}
 
 		if (processor.existResource(path)) {
@@ -112,39 +142,168 @@ public abstract class AbstractWebEngineRestService extends AbstractRestService i
 		return createErrorResponseNotFound(path);
 	}
 
-	private Response sendResourceNotModified() {
+	private Response sendResourceNotModified(String path, String tag) {
 		return Response
 				.notModified()
-				.header("ETag", getTag())
+				.header("Cache-Control", getCacheControl(path))
+				.header("ETag", tag)
 				.build();
 	}
 
 	private Response sendResource(String path, boolean isBinary, byte[] content, String contentType) {
-		String tag = cacheResource(path);
-		Object responseContent = isBinary ? content : new String(content, StandardCharsets.UTF_8);
-		return Response
-				.ok(responseContent)
+		String tag = WEB_CACHE.generateTag(content);
+		WEB_CACHE.setTag(path, tag);
+		if (isCached(tag)) {
+			return sendResourceNotModified(path, tag);
+		}
+
+		boolean compressible = isCompressible(isBinary, contentType, content.length);
+		String rangeHeader = getRequest().getHeader("Range");
+		if (rangeHeader != null && isRangeApplicable(tag)) {
+			ByteRange range = ByteRange.parse(rangeHeader, content.length);
+			if (range == ByteRange.UNSATISFIABLE) {
+				return Response
+						.status(Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+						.header("Content-Range", range.toContentRange(content.length))
+						.build();
+			}
+			if (range != null) {
+				ResponseBuilder builder = Response
+						.status(Status.PARTIAL_CONTENT)
+						.entity(new ByteArrayInputStream(content, (int) range.getStart(), (int) range.getLength()))
+						.header("Content-Range", range.toContentRange(content.length))
+						.header("Content-Length", range.getLength());
+				return sendHeaders(builder, path, contentType, tag, compressible);
+			}
+		}
+
+		if (compressible) {
+			String acceptEncoding = getRequest().getHeader("Accept-Encoding");
+			if (isEncodingAccepted(acceptEncoding, ENCODING_BROTLI)) {
+				byte[] brotli = COMPRESSED_CACHE.get(path, tag, ENCODING_BROTLI, () -> getVariantContent(path + ".br"));
+				if (brotli != null) {
+					return sendEncodedResource(path, contentType, tag, brotli, ENCODING_BROTLI);
+				}
+			}
+			if (isEncodingAccepted(acceptEncoding, ENCODING_GZIP)) {
+				byte[] gzip = COMPRESSED_CACHE.get(path, tag, ENCODING_GZIP, () -> {
+					byte[] precompressed = getVariantContent(path + ".gz");
+					return precompressed != null ? precompressed : CompressedContentCache.gzip(content);
+				});
+				return sendEncodedResource(path, contentType, tag, gzip, ENCODING_GZIP);
+			}
+		}
+		return sendHeaders(Response.ok(content), path, contentType, tag, compressible);
+	}
+
+	private Response sendEncodedResource(String path, String contentType, String tag, byte[] content, String encoding) {
+		// the variants of the same content get different strong tags
+		String encodedTag = tag.substring(0, tag.length() - 1) + "-" + encoding + "\"";
+		ResponseBuilder builder = Response
+				.ok(content)
+				.header("Content-Encoding", encoding);
+		return sendHeaders(builder, path, contentType, encodedTag, true);
+	}
+
+	private Response sendHeaders(ResponseBuilder builder, String path, String contentType, String tag, boolean compressible) {
+		builder
 				.type(contentType)
-				.header("Cache-Control", "public, must-revalidate, max-age=0")
+				.header("Cache-Control", getCacheControl(path))
 				.header("ETag", tag)
-				.build();
+				.header("Accept-Ranges", "bytes");
+		if (compressible) {
+			builder.header("Vary", "Accept-Encoding");
+		}
+		return builder.build();
 	}
 
-	private String cacheResource(String path) {
-		String tag = WEB_CACHE.generateTag();
-		WEB_CACHE.setTag(path, tag);
-		return tag;
+	private byte[] getVariantContent(String path) {
+		// only the precompressed files published in the registry are looked up
+		if (processor.existResource(path)) {
+			return processor.getResource(path).getContent();
+		}
+		return null;
 	}
 
-	private boolean isCached(String path) {
-		String tag = getTag();
-		String cachedTag = WEB_CACHE.getTag(path);
-		return tag == null || cachedTag == null ? false : tag.equals(cachedTag); 
-		
+	private boolean isCompressible(boolean isBinary, String contentType, int length) {
+		if (!Boolean.parseBoolean(Configuration.get(DIRIGIBLE_WEB_COMPRESSION_ENABLED, Boolean.TRUE.toString()))) {
+			return false;
+		}
+		if (length < Integer.parseInt(Configuration.get(DIRIGIBLE_WEB_COMPRESSION_MIN_SIZE, "1024"))) {
+			return false;
+		}
+		return !isBinary || ContentTypeHelper.IMAGE_SVG_XML.equals(contentType);
+	}
+
+	private boolean isRangeApplicable(String tag) {
+		// a range of a changed content is not applicable, the whole content has to be sent instead
+		String ifRange = getRequest().getHeader("If-Range");
+		return ifRange == null || ifRange.trim().equals(tag);
+	}
+
+	private static boolean isEncodingAccepted(String acceptEncoding, String encoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String element : acceptEncoding.split(",")) {
+			String[] parameters = element.split(";");
+			String name = parameters[0].trim().toLowerCase(Locale.ENGLISH);
+			if (name.equals(encoding) || name.equals("*")) {
+				for (int i = 1; i < parameters.length; i++) {
+					String parameter = parameters[i].trim();
+					if (parameter.startsWith("q=")) {
+						try {
+							return Double.parseDouble(parameter.substring(2)) > 0;
+						} catch (NumberFormatException e) {
+							return false;
+						}
+					}
+				}
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private String getCacheControl(String path) {
+		String immutablePathsExpression = Configuration.get(DIRIGIBLE_WEB_CACHE_IMMUTABLE_PATHS);
+		if (immutablePathsExpression != null && !immutablePathsExpression.isEmpty()) {
+			Pattern pattern = immutablePaths;
+			if (pattern == null || !pattern.pattern().equals(immutablePathsExpression)) {
+				pattern = Pattern.compile(immutablePathsExpression);
+				immutablePaths = pattern;
+			}
+			if (pattern.matcher(path).matches()) {
+				return "public, max-age=" + Configuration.get(DIRIGIBLE_WEB_CACHE_IMMUTABLE_MAX_AGE, "31536000") + ", immutable";
+			}
+		}
+		return CACHE_CONTROL_REVALIDATE;
 	}
 
-	private String getTag() {
-		return getRequest().getHeader("If-None-Match");
+	private boolean isCached(String tag) {
+		String ifNoneMatch = getRequest().getHeader("If-None-Match");
+		if (tag == null || ifNoneMatch == null) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			candidate = candidate.trim();
+			if (candidate.equals("*")) {
+				return true;
+			}
+			// weak comparison, as the proxies may weaken the tags of the content they transform
+			if (candidate.startsWith("W/")) {
+				candidate = candidate.substring(2);
+			}
+			if (candidate.endsWith("-" + ENCODING_GZIP + "\"")) {
+				candidate = candidate.substring(0, candidate.length() - ENCODING_GZIP.length() - 2) + "\"";
+			} else if (candidate.endsWith("-" + ENCODING_BROTLI + "\"")) {
+				candidate = candidate.substring(0, candidate.length() - ENCODING_BROTLI.length() - 2) + "\"";
+			}
+			if (candidate.equals(tag)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/*
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.engine.web.service;
+
+/**
+ * A single byte range of a resource requested with the HTTP Range header.
+ */
+public class ByteRange {
+
+	/** The returned range, when the requested one cannot be satisfied. */
+	public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+	private static final String BYTES_UNIT = "bytes="; //$NON-NLS-1$
+
+	private final long start;
+
+	private final long end;
+
+	/**
+	 * Instantiates a new byte range.
+	 *
+	 * @param start
+	 *            the first byte position
+	 * @param end
+	 *            the last byte position, inclusive
+	 */
+	public ByteRange(long start, long end) {
+		this.start = start;
+		this.end = end;
+	}
+
+	/**
+	 * Parses the value of a Range header against the length of the content. Only a single range is supported - a
+	 * header with multiple ranges, another unit or an invalid syntax is ignored and the whole content is to be sent.
+	 *
+	 * @param header
+	 *            the value of the Range header
+	 * @param length
+	 *            the length of the content
+	 * @return the range, {@link #UNSATISFIABLE} if the range is out of the content, or null if the header is ignored
+	 */
+	public static ByteRange parse(String header, long length) {
+		if ((header == null) || !header.startsWith(BYTES_UNIT) || (header.indexOf(',') >= 0)) {
+			return null;
+		}
+		String spec = header.substring(BYTES_UNIT.length()).trim();
+		int dash = spec.indexOf('-');
+		if (dash < 0) {
+			return null;
+		}
+		try {
+			String first = spec.substring(0, dash).trim();
+			String last = spec.substring(dash + 1).trim();
+			if (first.isEmpty()) {
+				// suffix range - the last N bytes
+				if (last.isEmpty()) {
+					return null;
+				}
+				long suffix = Long.parseLong(last);
+				if (suffix <= 0 || length == 0) {
+					return UNSATISFIABLE;
+				}
+				return new ByteRange(Math.max(length - suffix, 0), length - 1);
+			}
+			long start = Long.parseLong(first);
+			long end = length - 1;
+			if (!last.isEmpty()) {
+				long lastPosition = Long.parseLong(last);
+				if (lastPosition < start) {
+					return null;
+				}
+				end = Math.min(lastPosition, end);
+			}
+			if (start >= length) {
+				return UNSATISFIABLE;
+			}
+			return new ByteRange(start, end);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Gets the first byte position.
+	 *
+	 * @return the start
+	 */
+	public long getStart() {
+		return start;
+	}
+
+	/**
+	 * Gets the last byte position, inclusive.
+	 *
+	 * @return the end
+	 */
+	public long getEnd() {
+		return end;
+	}
+
+	/**
+	 * Gets the number of bytes in the range.
+	 *
+	 * @return the length
+	 */
+	public long getLength() {
+		return end - start + 1;
+	}
+
+	/**
+	 * Formats the value of the Content-Range header.
+	 *
+	 * @param length
+	 *            the length of the whole content
+	 * @return the content range
+	 */
+	public String toContentRange(long length) {
+		if (this == UNSATISFIABLE) {
+			return "bytes */" + length; //$NON-NLS-1$
+		}
+		return "bytes " + start + "-" + end + "/" + length; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+}
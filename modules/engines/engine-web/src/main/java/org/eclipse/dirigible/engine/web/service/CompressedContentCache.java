@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.engine.web.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * The compressed variants of the web content.
+ *
+ * The variants are keyed by the path and the entity tag of the content, so that a changed content never gets a stale
+ * variant. The cache is bounded by the total size of the variants in bytes (DIRIGIBLE_WEB_COMPRESSION_CACHE_MAX_SIZE).
+ * The missing variants are cached as well, so that a precompressed file is looked up only once.
+ */
+public class CompressedContentCache {
+
+	/** The maximum size of the cached variants in bytes. */
+	public static final String DIRIGIBLE_WEB_COMPRESSION_CACHE_MAX_SIZE = "DIRIGIBLE_WEB_COMPRESSION_CACHE_MAX_SIZE"; //$NON-NLS-1$
+
+	/** The default maximum size of the cached variants in bytes. */
+	public static final String DEFAULT_CACHE_MAX_SIZE = "33554432"; //$NON-NLS-1$
+
+	private static final byte[] MISSING = new byte[0];
+
+	private final Cache<String, byte[]> cache;
+
+	/**
+	 * Instantiates a new cache with the configured maximum size.
+	 */
+	public CompressedContentCache() {
+		this(Long.parseLong(Configuration.get(DIRIGIBLE_WEB_COMPRESSION_CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_SIZE)));
+	}
+
+	/**
+	 * Instantiates a new cache.
+	 *
+	 * @param maxSize
+	 *            the maximum size of the cached variants in bytes
+	 */
+	public CompressedContentCache(long maxSize) {
+		this.cache = Caffeine.newBuilder()
+				.maximumWeight(maxSize)
+				.weigher((String key, byte[] content) -> key.length() + content.length)
+				.build();
+	}
+
+	/**
+	 * Gets a variant of the content, loading it on first use.
+	 *
+	 * @param path
+	 *            the path of the content
+	 * @param tag
+	 *            the entity tag of the content
+	 * @param encoding
+	 *            the content encoding of the variant
+	 * @param loader
+	 *            loads the variant, or returns null if there is no such variant
+	 * @return the variant, or null if there is no such variant
+	 */
+	public byte[] get(String path, String tag, String encoding, Supplier<byte[]> loader) {
+		byte[] variant = cache.get(encoding + ":" + tag + ":" + path, key -> { //$NON-NLS-1$ //$NON-NLS-2$
+			byte[] loaded = loader.get();
+			return loaded != null ? loaded : MISSING;
+		});
+		return variant == MISSING ? null : variant;
+	}
+
+	/**
+	 * Removes all the variants.
+	 */
+	public void clear() {
+		cache.invalidateAll();
+	}
+
+	/**
+	 * Compresses the content with gzip at the best compression level, as the result is cached.
+	 *
+	 * @param content
+	 *            the content
+	 * @return the compressed content
+	 */
+	public static byte[] gzip(byte[] content) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(content.length / 4, 64));
+		try (GZIPOutputStream gzip = new GZIPOutputStream(output) {
+			{
+				def.setLevel(Deflater.BEST_COMPRESSION);
+			}
+		}) {
+			gzip.write(content);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+		return output.toByteArray();
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.engine.web.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+/**
+ * The Class ByteRangeTest.
+ */
+public class ByteRangeTest {
+
+	/**
+	 * Test the ranges.
+	 */
+	@Test
+	public void ranges() {
+		ByteRange range = ByteRange.parse("bytes=0-99", 1000);
+		assertEquals(0, range.getStart());
+		assertEquals(99, range.getEnd());
+		assertEquals(100, range.getLength());
+		assertEquals("bytes 0-99/1000", range.toContentRange(1000));
+
+		range = ByteRange.parse("bytes=900-", 1000);
+		assertEquals(900, range.getStart());
+		assertEquals(999, range.getEnd());
+
+		range = ByteRange.parse("bytes=-100", 1000);
+		assertEquals(900, range.getStart());
+		assertEquals(999, range.getEnd());
+
+		range = ByteRange.parse("bytes=500-5000", 1000);
+		assertEquals(999, range.getEnd());
+	}
+
+	/**
+	 * Test the unsatisfiable and the ignored ranges.
+	 */
+	@Test
+	public void invalidRanges() {
+		assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=1000-", 1000));
+		assertEquals("bytes */1000", ByteRange.UNSATISFIABLE.toContentRange(1000));
+		assertNull(ByteRange.parse("bytes=0-1,5-6", 1000));
+		assertNull(ByteRange.parse("bytes=10-5", 1000));
+		assertNull(ByteRange.parse("items=0-1", 1000));
+		assertNull(ByteRange.parse("bytes=a-b", 1000));
+	}
+
+}
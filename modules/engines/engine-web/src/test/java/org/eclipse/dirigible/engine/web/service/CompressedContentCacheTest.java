@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.engine.web.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.dirigible.commons.config.ResourcesCache;
+import org.junit.Test;
+
+/**
+ * The Class CompressedContentCacheTest.
+ */
+public class CompressedContentCacheTest {
+
+	/**
+	 * Test the variants are compressed once.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void compressedOnce() throws IOException {
+		CompressedContentCache cache = new CompressedContentCache(1024 * 1024);
+		byte[] content = "function hello() { return 'Hello World'; }".getBytes(StandardCharsets.UTF_8);
+		String tag = ResourcesCache.getWebCache().generateTag(content);
+		AtomicInteger loads = new AtomicInteger();
+
+		byte[] gzip = cache.get("/test/hello.js", tag, "gzip", () -> {
+			loads.incrementAndGet();
+			return CompressedContentCache.gzip(content);
+		});
+		byte[] again = cache.get("/test/hello.js", tag, "gzip", () -> {
+			loads.incrementAndGet();
+			return CompressedContentCache.gzip(content);
+		});
+		assertEquals(1, loads.get());
+		assertArrayEquals(gzip, again);
+		assertArrayEquals(content, IOUtils.toByteArray(new GZIPInputStream(new ByteArrayInputStream(gzip))));
+
+		assertNull(cache.get("/test/hello.js", tag, "br", () -> null));
+		assertNull(cache.get("/test/hello.js", tag, "br", () -> {
+			loads.incrementAndGet();
+			return null;
+		}));
+		assertEquals(1, loads.get());
+	}
+
+	/**
+	 * Test the tags are derived from the content.
+	 */
+	@Test
+	public void contentTags() {
+		byte[] content = "Hello".getBytes(StandardCharsets.UTF_8);
+		String tag = ResourcesCache.getWebCache().generateTag(content);
+		assertEquals(tag, ResourcesCache.getWebCache().generateTag("Hello".getBytes(StandardCharsets.UTF_8)));
+		assertEquals(34, tag.length());
+	}
+
+}
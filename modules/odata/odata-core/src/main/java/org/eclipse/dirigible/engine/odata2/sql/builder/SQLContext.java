@@ -22,7 +22,7 @@ import org.eclipse.dirigible.engine.odata2.sql.api.OData2Exception;
 public class SQLContext {
 
     public enum DatabaseProduct {
-        DERBY, SYBASE_ASE, POSTGRE_SQL, H2, HANA
+        DERBY, SYBASE_ASE, POSTGRE_SQL, H2, HANA, MYSQL
     }
 
     private final DatabaseProduct databaseProduct;
@@ -47,6 +47,8 @@ public class SQLContext {
             databaseProduct = DatabaseProduct.H2;
         } else if (dbProductName.toLowerCase().contains("hdb")) {
             databaseProduct = DatabaseProduct.HANA;
+        } else if (dbProductName.toLowerCase().contains("mysql") || dbProductName.toLowerCase().contains("mariadb")) {
+            databaseProduct = DatabaseProduct.MYSQL;
         } else
             throw new OData2Exception("Unsupported database " + dbProductName, SERVICE_UNAVAILABLE);
     }
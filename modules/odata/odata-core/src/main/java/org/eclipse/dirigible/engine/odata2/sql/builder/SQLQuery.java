@@ -95,6 +95,8 @@ public final class SQLQuery {
     private final List<SQLExpressionJoin> joinExpressions = new ArrayList<SQLExpressionJoin>();
     private SQLExpressionOrderBy orderByExpressions;
     private boolean serversidePaging;
+    private EdmEntityType keysetTarget;
+    private EdmProperty keysetProperty;
     private int row = 0;
 
     public SQLQuery(final EdmTableBindingProvider tableMappingProvider) {
@@ -524,7 +526,10 @@ public final class SQLQuery {
     }
 
     public void setOffset(final ResultSet resultSet) throws SQLException {
-        if (selectExpression != null && selectExpression.getSkip() >= 1) {
+        if (selectExpression != null && selectExpression.getSkip() >= 1 && selectExpression.isSkipApplied()) {
+            // the rows are already skipped with the OFFSET clause of the statement
+            row += selectExpression.getSkip();
+        } else if (selectExpression != null && selectExpression.getSkip() >= 1) {
             // observation: next() needs to be invoked to get an entry as expected by relative()
             //    the call sequence is not required by the JDBC specification but 
             //    is working with the currently used jConnect JDBC driver 7.07.x
@@ -579,6 +584,8 @@ public final class SQLQuery {
         }
         if (orderByExpressions != null && !orderByExpressions.isEmpty()) {
             builder.append("ORDER BY ").append(orderByExpressions.evaluate(context, ORDERBY)).append(" ");
+        } else if (keysetProperty != null) {
+            builder.append("ORDER BY ").append(getSQLTableColumn(keysetTarget, keysetProperty)).append(" ");
         }
         String selectSuffix = selectExpression.evaluate(context, SELECT_SUFFIX);
         if (!selectSuffix.isEmpty()) {
@@ -603,6 +610,35 @@ public final class SQLQuery {
         this.serversidePaging = serversidePaging;
     }
 
+    /**
+     * Pages the result by seeking on the key property instead of skipping the rows of the previous pages. The result is
+     * ordered by the key property and only the entities with a key greater than the last one of the previous page are
+     * selected.
+     *
+     * @param target the target entity type
+     * @param keyProperty the key property
+     * @param lastKey the key of the last entity of the previous page or null for the first page
+     * @return the query
+     * @throws EdmException in case of an error
+     */
+    public SQLQuery keyset(final EdmEntityType target, final EdmProperty keyProperty, final Object lastKey) throws EdmException {
+        this.keysetTarget = target;
+        this.keysetProperty = keyProperty;
+        if (lastKey != null) {
+            ColumnInfo column = getSQLTableColumnInfo(target, keyProperty);
+            whereExpression.and(new SQLExpressionWhere(column.getColumnName() + " > ?", SQLExpressionWhere.param(lastKey)));
+        }
+        return this;
+    }
+
+    public boolean isKeysetPaging() {
+        return keysetProperty != null;
+    }
+
+    public EdmProperty getKeysetProperty() {
+        return keysetProperty;
+    }
+
     public class EdmTarget {
         private EdmStructuralType edmTargetType;
         private EdmProperty edmProperty;
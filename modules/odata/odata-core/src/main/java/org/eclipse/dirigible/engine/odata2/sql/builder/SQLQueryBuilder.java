@@ -24,7 +24,9 @@ import org.apache.olingo.odata2.api.edm.EdmEntityType;
 import org.apache.olingo.odata2.api.edm.EdmException;
 import org.apache.olingo.odata2.api.edm.EdmProperty;
 import org.apache.olingo.odata2.api.edm.EdmSimpleType;
+import org.apache.olingo.odata2.api.edm.EdmSimpleTypeKind;
 import org.apache.olingo.odata2.api.edm.EdmStructuralType;
+import org.apache.olingo.odata2.api.edm.EdmType;
 import org.apache.olingo.odata2.api.edm.EdmTyped;
 import org.apache.olingo.odata2.api.ep.entry.ODataEntry;
 import org.apache.olingo.odata2.api.exception.ODataException;
@@ -32,10 +34,12 @@ import org.apache.olingo.odata2.api.uri.KeyPredicate;
 import org.apache.olingo.odata2.api.uri.NavigationPropertySegment;
 import org.apache.olingo.odata2.api.uri.SelectItem;
 import org.apache.olingo.odata2.api.uri.UriInfo;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.engine.odata2.sql.api.OData2Exception;
 import org.eclipse.dirigible.engine.odata2.sql.binding.EdmTableBinding.ColumnInfo;
 import org.eclipse.dirigible.engine.odata2.sql.binding.EdmTableBindingProvider;
 import org.eclipse.dirigible.engine.odata2.sql.builder.expression.SQLExpressionWhere;
+import org.eclipse.dirigible.engine.odata2.sql.utils.OData2Utils;
 
 public class SQLQueryBuilder {
 
@@ -44,6 +48,16 @@ public class SQLQueryBuilder {
      */
     public static final int DEFAULT_SERVER_PAGING_SIZE = 1000;
 
+    /**
+     * Enables the keyset paging, in which the $skiptoken of the next link holds the key of the last entity.
+     */
+    public static final String DIRIGIBLE_ODATA_KEYSET_PAGING_ENABLED = "DIRIGIBLE_ODATA_KEYSET_PAGING_ENABLED";
+
+    /**
+     * Prefix of the $skiptoken values holding a key instead of a number of rows to skip.
+     */
+    public static final String KEYSET_SKIP_TOKEN_PREFIX = "key:";
+
     private final EdmTableBindingProvider tableMapping;
 
     public SQLQueryBuilder(EdmTableBindingProvider tableMapping) {
@@ -89,13 +103,17 @@ public class SQLQueryBuilder {
                 effectiveTop = uri.getTop();
             }
 
-            final Integer effectiveSkip = calculateEffectiveSkip(uri);
+            final EdmProperty keysetProperty = getKeysetPagingProperty(uri);
+            final Integer effectiveSkip = keysetProperty != null ? uri.getSkip() : calculateEffectiveSkip(uri);
 
             if (effectiveSkip != null && effectiveTop != null) {
                 effectiveTop += effectiveSkip;
             }
             q.select(uri.getSelect(), uri.getExpand()).top(effectiveTop).skip(effectiveSkip).from(target);
             q.filter(uri.getTargetEntitySet(), uri.getFilter());
+            if (keysetProperty != null) {
+                q.keyset(target, keysetProperty, parseKeysetSkipToken(uri.getSkipToken(), keysetProperty));
+            }
         } else {
             //we have the problem that top does not work for exapnd. Therefore we do 2 queries to select the ids of the target entities (with applied filter),
             //and then we do filter on these IDS with the expand, with no top and skip 
@@ -234,6 +252,51 @@ public class SQLQueryBuilder {
         return needsServersidePaging;
     }
 
+    /**
+     * Gets the key property to seek on, if the keyset paging is enabled and applicable for the request, i.e. there is
+     * no $orderby and no $expand, the entity has a single integer or string key and the $skiptoken is not a number of
+     * rows to skip.
+     */
+    private EdmProperty getKeysetPagingProperty(final UriInfo uri) throws EdmException {
+        if (!Boolean.parseBoolean(Configuration.get(DIRIGIBLE_ODATA_KEYSET_PAGING_ENABLED, "false"))) {
+            return null;
+        }
+        String skipToken = uri.getSkipToken();
+        if (uri.getOrderBy() != null || OData2Utils.hasExpand(uri) || (skipToken != null && !skipToken.startsWith(KEYSET_SKIP_TOKEN_PREFIX))) {
+            return null;
+        }
+        EdmEntityType target = uri.getTargetEntitySet().getEntityType();
+        List<String> keyProperties = target.getKeyPropertyNames();
+        if (keyProperties.size() != 1) {
+            return null;
+        }
+        EdmProperty keyProperty = (EdmProperty) target.getProperty(keyProperties.get(0));
+        if (isKeysetType(keyProperty.getType())) {
+            return keyProperty;
+        }
+        return null;
+    }
+
+    private static boolean isKeysetType(EdmType type) {
+        return type == EdmSimpleTypeKind.String.getEdmSimpleTypeInstance() || type == EdmSimpleTypeKind.Int16.getEdmSimpleTypeInstance()
+                || type == EdmSimpleTypeKind.Int32.getEdmSimpleTypeInstance() || type == EdmSimpleTypeKind.Int64.getEdmSimpleTypeInstance();
+    }
+
+    private static Object parseKeysetSkipToken(final String skipToken, final EdmProperty keyProperty) throws EdmException {
+        if (skipToken == null) {
+            return null;
+        }
+        String key = skipToken.substring(KEYSET_SKIP_TOKEN_PREFIX.length());
+        if (keyProperty.getType() == EdmSimpleTypeKind.String.getEdmSimpleTypeInstance()) {
+            return key;
+        }
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new OData2Exception("$skipToken must contain a number key", REQUESTED_RANGE_NOT_SATISFIABLE, e);
+        }
+    }
+
     /**
      * Calculates the effective value for skip which is based on $skip and
      * $skipToken.
@@ -51,6 +51,7 @@ public final class SQLExpressionSelect implements SQLExpression {
     private final List<ArrayList<NavigationPropertySegment>> expands;
     private int top;
     private int skip;
+    private boolean skipApplied;
     private EdmStructuralType target;
 
     @SuppressWarnings("unchecked")
@@ -136,6 +137,16 @@ public final class SQLExpressionSelect implements SQLExpression {
         return skip;
     }
 
+    /**
+     * Whether the rows to skip are already skipped by the database, as the last built select suffix contains an OFFSET
+     * clause. Otherwise they have to be skipped on the result set.
+     *
+     * @return true, if the skip is part of the SQL statement
+     */
+    public boolean isSkipApplied() {
+        return skipApplied;
+    }
+
     @SuppressWarnings("unchecked")
     public SQLQuery from(final EdmStructuralType target) throws ODataException {
         query.grantTableAliasForStructuralTypeInQuery(target);
@@ -185,16 +196,35 @@ public final class SQLExpressionSelect implements SQLExpression {
     }
 
     private String buildSelectSuffix(final SQLContext context) {
+        skipApplied = false;
         if (isCount)
             return EMPTY_STRING;
+        // the top includes the skipped rows, as they are skipped on the result set by default
+        int fetch = top > 0 && skip > 0 ? top - skip : top;
         String selectPredicate = EMPTY_STRING;
-        if (top > 0) {
-            if (context.getDatabaseProduct() == DatabaseProduct.DERBY) {
-                // Derby: FETCH { FIRST | NEXT } [integer-literal] {ROW | ROWS} ONLY
+        DatabaseProduct product = context.getDatabaseProduct();
+        if (product == DatabaseProduct.DERBY) {
+            // Derby: [OFFSET integer-literal {ROW | ROWS}] [FETCH { FIRST | NEXT } [integer-literal] {ROW | ROWS} ONLY]
+            if (skip > 0) {
+                selectPredicate = fetch > 0 ? String.format("OFFSET %d ROWS FETCH NEXT %d ROWS ONLY", skip, fetch)
+                        : String.format("OFFSET %d ROWS", skip);
+                skipApplied = true;
+            } else if (top > 0) {
                 selectPredicate = String.format("FETCH FIRST %d ROWS ONLY", top);
-            } else if (context.getDatabaseProduct() == DatabaseProduct.POSTGRE_SQL || context.getDatabaseProduct() == DatabaseProduct.H2 || context.getDatabaseProduct() == DatabaseProduct.HANA) {
-                // PostgreSQL: [LIMIT { number | ALL }] [OFFSET number]
-                selectPredicate = String.format("LIMIT %d", top);
+            }
+        } else if (product == DatabaseProduct.POSTGRE_SQL || product == DatabaseProduct.H2 || product == DatabaseProduct.HANA
+                || product == DatabaseProduct.MYSQL) {
+            // PostgreSQL: [LIMIT { number | ALL }] [OFFSET number]
+            if (fetch > 0) {
+                selectPredicate = skip > 0 ? String.format("LIMIT %d OFFSET %d", fetch, skip) : String.format("LIMIT %d", fetch);
+                skipApplied = skip > 0;
+            } else if (skip > 0 && product == DatabaseProduct.MYSQL) {
+                // MySQL does not support OFFSET without LIMIT
+                selectPredicate = String.format("LIMIT %d OFFSET %d", Long.MAX_VALUE, skip);
+                skipApplied = true;
+            } else if (skip > 0 && product != DatabaseProduct.HANA) {
+                selectPredicate = String.format("OFFSET %d ROWS", skip);
+                skipApplied = true;
             }
         }
 
@@ -134,7 +134,7 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
 		String sql = query.buildSelect(createSQLContext(connection));
 		LOG.info(sql);
 		PreparedStatement statement;
-		if (query.getSelectExpression().getSkip() != SQLExpressionSelect.NOT_SET) {
+		if (query.getSelectExpression().getSkip() != SQLExpressionSelect.NOT_SET && !query.getSelectExpression().isSkipApplied()) {
 			statement = connection.prepareStatement(sql, ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
 			/*
 			 * Restrict fetch size to prevent OutOfMemoryErrors for huge page sizes. If no
@@ -320,7 +320,7 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
 						}
 						boolean needsNextLink = query.isServersidePaging() && targetEntitiesResult.size() == this
 								.getSQLQueryBuilder().getEntityPagingSize(targetEntityType);
-						nextLink = needsNextLink ? generateNextLink(query, targetEntityType) : null;
+						nextLink = needsNextLink ? generateNextLink(query, targetEntityType, targetEntitiesResult) : null;
 					} finally {
 						OData2Utils.closeConsumeException(resultSet);
 					}
@@ -375,6 +375,21 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
 		return idsOfLeadingEntitites;
 	}
 
+	/**
+	 * Generates the next link for server-side paging. In the keyset paging the
+	 * {@code $skiptoken} is the key of the last entity of the current page.
+	 */
+	protected String generateNextLink(SQLQuery query, EdmEntityType targetEntityType, List<OData2ResultSetEntity> result)
+			throws ODataException {
+		if (query.isKeysetPaging() && !result.isEmpty()) {
+			Object lastKey = result.get(result.size() - 1).getEntitiyPropertiesData().get(query.getKeysetProperty().getName());
+			if (lastKey != null) {
+				return OData2Utils.generateNextLink(getContext(), SQLQueryBuilder.KEYSET_SKIP_TOKEN_PREFIX + lastKey);
+			}
+		}
+		return generateNextLink(query, targetEntityType);
+	}
+
 	/**
 	 * Generates the next link for server-side paging. The next-link is based on the
 	 * URI of the current request, except that {@code $skip} or {@code $skiptoken}
@@ -13,6 +13,9 @@ package org.eclipse.dirigible.engine.odata2.sql.utils;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -69,8 +72,6 @@ public class OData2Utils {
      * {@code $skiptoken} will be removed.
      */
     public static String generateNextLink(ODataContext context, int top, int pagingSize) throws ODataException {
-        String nextLink;
-
         final int skipToken;
         if (top > 0) {
             // We already have limited the maximum number of results for the current request
@@ -80,14 +81,26 @@ public class OData2Utils {
         } else {
             skipToken = pagingSize;
         }
+        return generateNextLink(context, String.valueOf(skipToken));
+    }
 
+    /**
+     * Generates the next link for server-side paging with the given
+     * {@code $skiptoken}, e.g. the key of the last entity in the keyset paging.
+     */
+    public static String generateNextLink(ODataContext context, String skipToken) throws ODataException {
+        String nextLink;
         final StringBuilder nextLinkBuilder = new StringBuilder();
         String requestUri = percentEncodeNextLink(
                 context.getPathInfo().getServiceRoot().relativize(context.getPathInfo().getRequestUri()).toString());
         nextLinkBuilder.append(requestUri);
         nextLinkBuilder.append(requestUri.contains("?") ? "&" : "?");
         nextLinkBuilder.append("$skiptoken=");
-        nextLinkBuilder.append(skipToken);
+        try {
+            nextLinkBuilder.append(URLEncoder.encode(skipToken, StandardCharsets.UTF_8.name()));
+        } catch (UnsupportedEncodingException e) {
+            throw new ODataException(e);
+        }
         nextLink = nextLinkBuilder.toString();
         return nextLink;
     }
@@ -16,8 +16,10 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.InputStream;
 import java.util.Arrays;
 
+import org.apache.commons.io.IOUtils;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IResource;
 import org.junit.Test;
@@ -75,6 +77,29 @@ public class RepositoryGenericBinaryTest {
 		}
 	}
 
+	/**
+	 * Test get binary as stream.
+	 */
+	@Test
+	public void testGetBinaryAsStream() {
+		if (repository == null) {
+			return;
+		}
+
+		try {
+			repository.createResource("/testCollection/toBeRemoved.bin", //$NON-NLS-1$
+					new byte[] { 0, 1, 1, 0 }, true, "application/bin"); //$NON-NLS-1$
+			IResource resource = repository.getResource("/testCollection/toBeRemoved.bin"); //$NON-NLS-1$
+			try (InputStream input = resource.getContentAsStream()) {
+				assertNotNull(input);
+				assertTrue(Arrays.equals(IOUtils.toByteArray(input), new byte[] { 0, 1, 1, 0 }));
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		}
+	}
+
 	/**
 	 * Test remove binary.
 	 */
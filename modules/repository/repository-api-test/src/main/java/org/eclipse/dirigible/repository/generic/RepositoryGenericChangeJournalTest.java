@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.generic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryChange;
+import org.eclipse.dirigible.repository.api.RepositoryChangeJournal;
+import org.junit.Test;
+
+/**
+ * The Class RepositoryGenericChangeJournalTest.
+ */
+public class RepositoryGenericChangeJournalTest {
+
+	/** The repository. */
+	protected IRepository repository;
+
+	/**
+	 * Test changes.
+	 */
+	@Test
+	public void testChanges() {
+		if (repository == null) {
+			return;
+		}
+
+		try {
+			RepositoryChangeJournal changeJournal = repository.getChangeJournal();
+			assertNotNull(changeJournal);
+			long cursor = changeJournal.getSequence();
+
+			IResource resource = repository.createResource("/testJournal/file.txt", "Some content".getBytes()); //$NON-NLS-1$
+			resource.setContent("Some modified content".getBytes()); //$NON-NLS-1$
+			repository.removeResource("/testJournal/file.txt"); //$NON-NLS-1$
+			repository.removeCollection("/testJournal"); //$NON-NLS-1$
+
+			List<RepositoryChange> changes = changeJournal.getChangesSince(cursor);
+			assertNotNull(changes);
+			RepositoryChange created = findChange(changes, "/testJournal/file.txt", RepositoryChange.Type.CREATED); //$NON-NLS-1$
+			RepositoryChange modified = findChange(changes, "/testJournal/file.txt", RepositoryChange.Type.MODIFIED); //$NON-NLS-1$
+			RepositoryChange deleted = findChange(changes, "/testJournal/file.txt", RepositoryChange.Type.DELETED); //$NON-NLS-1$
+			assertTrue(created.getSequence() < modified.getSequence());
+			assertTrue(modified.getSequence() < deleted.getSequence());
+			assertTrue(findChange(changes, "/testJournal", RepositoryChange.Type.DELETED).isCollection()); //$NON-NLS-1$
+
+			assertTrue(changeJournal.getChangesSince(changeJournal.getSequence()).isEmpty());
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test truncated journal.
+	 */
+	@Test
+	public void testTruncatedJournal() {
+		RepositoryChangeJournal changeJournal = new RepositoryChangeJournal(2);
+		changeJournal.record(RepositoryChange.Type.CREATED, "/a"); //$NON-NLS-1$
+		changeJournal.record(RepositoryChange.Type.CREATED, "/b"); //$NON-NLS-1$
+		changeJournal.record(RepositoryChange.Type.CREATED, "/c"); //$NON-NLS-1$
+		assertEquals(3, changeJournal.getSequence());
+		assertNull(changeJournal.getChangesSince(0));
+		List<RepositoryChange> changes = changeJournal.getChangesSince(1);
+		assertEquals(2, changes.size());
+		assertEquals("/b", changes.get(0).getPath()); //$NON-NLS-1$
+		assertEquals("/c", changes.get(1).getPath()); //$NON-NLS-1$
+	}
+
+	private static RepositoryChange findChange(List<RepositoryChange> changes, String path, RepositoryChange.Type type) {
+		for (RepositoryChange change : changes) {
+			if (change.getPath().equals(path) && (change.getType() == type)) {
+				return change;
+			}
+		}
+		fail("Missing change: " + type + " " + path); //$NON-NLS-1$ //$NON-NLS-2$
+		return null;
+	}
+
+}
@@ -20,11 +20,16 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
+import org.apache.commons.io.IOUtils;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.zip.RepositoryZipExporter;
 import org.junit.Test;
 
 // TODO: Auto-generated Javadoc
@@ -294,4 +299,94 @@ public class RepositoryGenericExportZipTest {
 		}
 
 	}
+
+	/**
+	 * Test export zip to a stream, reading the resources one by one and ahead in parallel.
+	 */
+	@Test
+	public void testExportZipToStream() {
+		if (repository == null) {
+			return;
+		}
+
+		try {
+			for (int i = 0; i < 10; i++) {
+				repository.createResource("/root1/export/folder" + i + "/text" + i + ".txt", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						("text" + i).getBytes()); //$NON-NLS-1$
+			}
+			ByteArrayOutputStream sequential = new ByteArrayOutputStream();
+			repository.exportZip("/root1/export", false, sequential); //$NON-NLS-1$
+			List<String> list = new ArrayList<String>();
+			list.add("/root1/export"); //$NON-NLS-1$
+			ByteArrayOutputStream parallel = new ByteArrayOutputStream();
+			RepositoryZipExporter.exportZip(repository, list, parallel, 4);
+
+			Map<String, String> sequentialEntries = readEntries(sequential.toByteArray());
+			assertEquals(10, sequentialEntries.size());
+			for (int i = 0; i < 10; i++) {
+				assertEquals("text" + i, sequentialEntries.get("folder" + i + "/text" + i + ".txt")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			}
+			Map<String, String> parallelEntries = readEntries(parallel.toByteArray());
+			assertEquals(10, parallelEntries.size());
+			for (int i = 0; i < 10; i++) {
+				assertEquals("text" + i, parallelEntries.get("export/folder" + i + "/text" + i + ".txt")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			}
+			repository.removeCollection("/root1/export/"); //$NON-NLS-1$
+
+		} catch (IOException e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		}
+
+	}
+
+	/**
+	 * Test export zip reading ahead with a limit lower than the size of some of the resources.
+	 */
+	@Test
+	public void testExportZipReadAheadLimit() {
+		if (repository == null) {
+			return;
+		}
+
+		Configuration.set(RepositoryZipExporter.DIRIGIBLE_REPOSITORY_ZIP_EXPORT_READ_AHEAD_SIZE, "1000"); //$NON-NLS-1$
+		try {
+			Map<String, String> expected = new HashMap<String, String>();
+			for (int i = 0; i < 10; i++) {
+				StringBuilder text = new StringBuilder();
+				for (int j = 0; j < (i % 2 == 0 ? 10 : 2000); j++) {
+					text.append((char) ('a' + (i + j) % 26));
+				}
+				repository.createResource("/root1/limited/text" + i + ".txt", text.toString().getBytes()); //$NON-NLS-1$ //$NON-NLS-2$
+				expected.put("limited/text" + i + ".txt", text.toString()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			List<String> list = new ArrayList<String>();
+			list.add("/root1/limited"); //$NON-NLS-1$
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			RepositoryZipExporter.exportZip(repository, list, output, 4);
+
+			assertEquals(expected, readEntries(output.toByteArray()));
+			repository.removeCollection("/root1/limited/"); //$NON-NLS-1$
+
+		} catch (IOException e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		} finally {
+			Configuration.remove(RepositoryZipExporter.DIRIGIBLE_REPOSITORY_ZIP_EXPORT_READ_AHEAD_SIZE);
+		}
+
+	}
+
+	private Map<String, String> readEntries(byte[] bytes) throws IOException {
+		Map<String, String> entries = new HashMap<String, String>();
+		try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(bytes))) {
+			ZipEntry entry;
+			while ((entry = zipInputStream.getNextEntry()) != null) {
+				if (!entry.isDirectory()) {
+					entries.put(entry.getName(), new String(IOUtils.toByteArray(zipInputStream), StandardCharsets.UTF_8));
+				}
+			}
+		}
+		return entries;
+	}
 }
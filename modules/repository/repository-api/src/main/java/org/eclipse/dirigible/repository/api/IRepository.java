@@ -37,6 +37,12 @@ public interface IRepository
 	
 	/** The Constant DIRIGIBLE_REPOSITORY_DISABLE_CACHE. */
 	public static final String DIRIGIBLE_REPOSITORY_DISABLE_CACHE = "DIRIGIBLE_REPOSITORY_DISABLE_CACHE"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_REPOSITORY_CACHE_MAX_SIZE. */
+	public static final String DIRIGIBLE_REPOSITORY_CACHE_MAX_SIZE = "DIRIGIBLE_REPOSITORY_CACHE_MAX_SIZE"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_REPOSITORY_CHANGE_JOURNAL_SIZE. */
+	public static final String DIRIGIBLE_REPOSITORY_CHANGE_JOURNAL_SIZE = "DIRIGIBLE_REPOSITORY_CHANGE_JOURNAL_SIZE"; //$NON-NLS-1$
 	
 	/** Gets the internal named parameter value*/
 	public String getParameter(String key);
@@ -44,4 +50,7 @@ public interface IRepository
 	/** Gets the most recent time when the repository gets changed */
 	public long getLastModified();
 
+	/** Gets the journal of the changes made through the repository, or null if the repository does not keep one */
+	public RepositoryChangeJournal getChangeJournal();
+
 }
@@ -11,6 +11,7 @@
  */
 package org.eclipse.dirigible.repository.api;
 
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -47,4 +48,33 @@ public interface IRepositoryExporter {
 	 */
 	public byte[] exportZip(String relativeRoot, boolean inclusive) throws RepositoryExportException;
 
+	/**
+	 * Export all the content under the given path(s) to the given output, streaming the content of the resources.
+	 * Include the last segment of the relative roots during the archiving. The output is not closed.
+	 *
+	 * @param relativeRoots
+	 *            the list of relative roots
+	 * @param output
+	 *            the output the zip is written to
+	 * @throws RepositoryExportException
+	 *             in case the export cannot be performed
+	 */
+	public void exportZip(List<String> relativeRoots, OutputStream output) throws RepositoryExportException;
+
+	/**
+	 * Export all the content under the given path to the given output, streaming the content of the resources.
+	 * Include or NOT the last segment of the relative root during the archiving. The output is not closed.
+	 *
+	 * @param relativeRoot
+	 *            single root
+	 * @param inclusive
+	 *            whether to include the last segment of the root or to pack its
+	 *            content directly in the archive
+	 * @param output
+	 *            the output the zip is written to
+	 * @throws RepositoryExportException
+	 *             in case the export cannot be performed
+	 */
+	public void exportZip(String relativeRoot, boolean inclusive, OutputStream output) throws RepositoryExportException;
+
 }
@@ -11,6 +11,7 @@
  */
 package org.eclipse.dirigible.repository.api;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -31,6 +32,16 @@ public interface IResource extends IEntity {
 	 */
 	public byte[] getContent() throws RepositoryReadException;
 
+	/**
+	 * Opens this resource's content for reading. The caller is responsible for closing the stream. Implementations
+	 * backed by a file system stream the content without loading it in memory.
+	 *
+	 * @return the content stream
+	 * @throws RepositoryReadException
+	 *             the repository read exception
+	 */
+	public InputStream getContentAsStream() throws RepositoryReadException;
+
 	/**
 	 * Sets this resource's content.
 	 *
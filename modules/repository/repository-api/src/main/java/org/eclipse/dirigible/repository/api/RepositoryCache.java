@@ -11,53 +11,130 @@
  */
 package org.eclipse.dirigible.repository.api;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.File;
 
 import org.eclipse.dirigible.commons.config.Configuration;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * The Repository Cache keeps the content of the recently used files.
+ * The cache is bounded by the total size of the content in bytes (DIRIGIBLE_REPOSITORY_CACHE_MAX_SIZE)
+ * and evicts the entries with W-TinyLFU policy, when the limit is reached.
+ */
 public class RepositoryCache {
 	
-	private static Map<String, byte[]> cache;
+	/** The default maximum size of the cached content in bytes. */
+	public static final String DEFAULT_CACHE_MAX_SIZE = "67108864"; //$NON-NLS-1$
+	
+	private static final String SEPARATOR = "/"; //$NON-NLS-1$
+	
+	private static final char SEPARATOR_CHAR = '/';
+	
+	private static volatile Cache<String, byte[]> cache;
 	
 	public RepositoryCache() {
-		initialize();
+		if (cache == null) {
+			initialize();
+		}
 	}
 
-	private static void initialize() {
+	private static synchronized void initialize() {
 		if (!Boolean.parseBoolean(Configuration.get(IRepository.DIRIGIBLE_REPOSITORY_DISABLE_CACHE, "false"))) {
 			if (cache == null) {
-				cache = Collections.synchronizedMap(new HashMap<String, byte[]>());
+				long maxSize = Long.parseLong(Configuration.get(IRepository.DIRIGIBLE_REPOSITORY_CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_SIZE));
+				cache = Caffeine.newBuilder()
+						.maximumWeight(maxSize)
+						.weigher((String path, byte[] content) -> path.length() + content.length)
+						.recordStats()
+						.build();
 			}
 		} else {
+			if (cache != null) {
+				cache.invalidateAll();
+			}
 			cache = null;
 		}
 	}
 	
 	public byte[] get(String path) {
-		if (cache != null) {
-			return cache.get(path);
+		Cache<String, byte[]> current = cache;
+		if (current != null) {
+			return current.getIfPresent(path);
 		}
 		return null;
 	}
 	
 	public void put(String path, byte[] content) {
-		if (cache != null) {
-			cache.put(path, content);
+		Cache<String, byte[]> current = cache;
+		if (current != null && content != null) {
+			current.put(path, content);
 		}
 	}
 	
 	public void remove(String path) {
-		if (cache != null) {
-			cache.remove(path);
+		Cache<String, byte[]> current = cache;
+		if (current != null) {
+			current.invalidate(path);
+		}
+	}
+	
+	/**
+	 * Removes the entry of the given path and all the entries below it, if it is a folder.
+	 *
+	 * @param path the path
+	 */
+	public void removeTree(String path) {
+		Cache<String, byte[]> current = cache;
+		if (current != null) {
+			current.asMap().keySet().removeIf(key -> isInTree(key, path));
 		}
 	}
 	
+	private static boolean isInTree(String key, String path) {
+		if (!key.startsWith(path)) {
+			return false;
+		}
+		if (key.length() == path.length() || path.endsWith(SEPARATOR) || path.endsWith(File.separator)) {
+			return true;
+		}
+		char next = key.charAt(path.length());
+		return next == SEPARATOR_CHAR || next == File.separatorChar;
+	}
+	
 	public void clear() {
-		if (cache != null) {
-			cache.clear();
+		Cache<String, byte[]> current = cache;
+		if (current != null) {
+			current.invalidateAll();
+		}
+	}
+	
+	/**
+	 * Gets the statistics of the cache.
+	 *
+	 * @return the hit, miss and eviction counts or empty statistics if the cache is disabled
+	 */
+	public static CacheStats getStatistics() {
+		Cache<String, byte[]> current = cache;
+		if (current != null) {
+			return current.stats();
+		}
+		return CacheStats.empty();
+	}
+	
+	/**
+	 * Gets the total size in bytes of the cached entries.
+	 *
+	 * @return the weighted size
+	 */
+	public static long getSize() {
+		Cache<String, byte[]> current = cache;
+		if (current != null) {
+			return current.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
 		}
+		return 0;
 	}
 	
 	public static void enable() {
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.api;
+
+/**
+ * A single entry of the {@link RepositoryChangeJournal}.
+ */
+public class RepositoryChange {
+
+	/**
+	 * The kind of the change.
+	 */
+	public enum Type {
+
+		/** The entity has been created. */
+		CREATED,
+
+		/** The content of the entity has been modified. */
+		MODIFIED,
+
+		/** The entity has been deleted. */
+		DELETED
+	}
+
+	private final long sequence;
+
+	private final Type type;
+
+	private final String path;
+
+	private final boolean collection;
+
+	private final long timestamp;
+
+	/**
+	 * Instantiates a new repository change.
+	 *
+	 * @param sequence
+	 *            the sequence number in the journal
+	 * @param type
+	 *            the type
+	 * @param path
+	 *            the repository path
+	 * @param collection
+	 *            whether the path is a collection
+	 * @param timestamp
+	 *            the time of the change
+	 */
+	public RepositoryChange(long sequence, Type type, String path, boolean collection, long timestamp) {
+		this.sequence = sequence;
+		this.type = type;
+		this.path = path;
+		this.collection = collection;
+		this.timestamp = timestamp;
+	}
+
+	/**
+	 * Gets the sequence number in the journal.
+	 *
+	 * @return the sequence
+	 */
+	public long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * Gets the type.
+	 *
+	 * @return the type
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Gets the repository path.
+	 *
+	 * @return the path
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * Checks if the path is a collection. A change of a collection applies to all of its descendants.
+	 *
+	 * @return true, if is collection
+	 */
+	public boolean isCollection() {
+		return collection;
+	}
+
+	/**
+	 * Gets the time of the change.
+	 *
+	 * @return the timestamp
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return sequence + " " + type + " " + path + (collection ? IRepository.SEPARATOR : "");
+	}
+
+}
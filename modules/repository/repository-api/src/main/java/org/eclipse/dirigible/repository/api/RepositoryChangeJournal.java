@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.api;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+
+/**
+ * Ordered journal of the changes made through a repository.
+ *
+ * Every change gets the next sequence number, so that a consumer can keep the sequence of the last change it has
+ * processed as a cursor and ask only for the changes after it. Only the most recent changes are retained - when the
+ * changes after a cursor are no longer complete, the consumer has to fall back to a full scan of the repository.
+ */
+public class RepositoryChangeJournal {
+
+	private static final String DEFAULT_JOURNAL_SIZE = "10000"; //$NON-NLS-1$
+
+	private final int capacity;
+
+	private final ArrayDeque<RepositoryChange> changes = new ArrayDeque<RepositoryChange>();
+
+	private long sequence;
+
+	/**
+	 * Instantiates a new journal with the configured capacity.
+	 */
+	public RepositoryChangeJournal() {
+		this(Integer.parseInt(Configuration.get(IRepository.DIRIGIBLE_REPOSITORY_CHANGE_JOURNAL_SIZE, DEFAULT_JOURNAL_SIZE)));
+	}
+
+	/**
+	 * Instantiates a new journal.
+	 *
+	 * @param capacity
+	 *            the maximum number of the retained changes
+	 */
+	public RepositoryChangeJournal(int capacity) {
+		this.capacity = Math.max(capacity, 0);
+	}
+
+	/**
+	 * Records a change of a resource.
+	 *
+	 * @param type
+	 *            the type
+	 * @param path
+	 *            the repository path
+	 * @return the sequence number of the change
+	 */
+	public long record(RepositoryChange.Type type, String path) {
+		return record(type, path, false);
+	}
+
+	/**
+	 * Records a change of a resource or a collection.
+	 *
+	 * @param type
+	 *            the type
+	 * @param path
+	 *            the repository path
+	 * @param collection
+	 *            whether the path is a collection
+	 * @return the sequence number of the change
+	 */
+	public synchronized long record(RepositoryChange.Type type, String path, boolean collection) {
+		sequence++;
+		if (capacity > 0) {
+			if (changes.size() == capacity) {
+				changes.removeFirst();
+			}
+			changes.addLast(new RepositoryChange(sequence, type, path, collection, System.currentTimeMillis()));
+		}
+		return sequence;
+	}
+
+	/**
+	 * Gets the sequence number of the last change, to be used as a cursor.
+	 *
+	 * @return the sequence
+	 */
+	public synchronized long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * Gets the changes made after the given cursor in the order they were made.
+	 *
+	 * @param cursor
+	 *            the sequence number of the last processed change
+	 * @return the changes, or null if some of them are no longer retained
+	 */
+	public synchronized List<RepositoryChange> getChangesSince(long cursor) {
+		if (cursor >= sequence) {
+			return Collections.emptyList();
+		}
+		if (changes.isEmpty() || (changes.peekFirst().getSequence() > cursor + 1)) {
+			return null;
+		}
+		List<RepositoryChange> result = new ArrayList<RepositoryChange>();
+		Iterator<RepositoryChange> iterator = changes.descendingIterator();
+		while (iterator.hasNext()) {
+			RepositoryChange change = iterator.next();
+			if (change.getSequence() <= cursor) {
+				break;
+			}
+			result.add(change);
+		}
+		Collections.reverse(result);
+		return result;
+	}
+
+}
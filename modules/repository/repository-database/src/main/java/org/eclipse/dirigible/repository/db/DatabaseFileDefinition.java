@@ -34,6 +34,14 @@ public class DatabaseFileDefinition {
 	@Column(name = "FILE_NAME", columnDefinition = "VARCHAR", nullable = false, length = 255)
 	private String name;
 
+	/** The path of the parent folder. */
+	@Column(name = "FILE_PARENT_PATH", columnDefinition = "VARCHAR", nullable = true, length = 255)
+	private String parentPath;
+
+	/** The number of the path segments. */
+	@Column(name = "FILE_DEPTH", columnDefinition = "INTEGER", nullable = true)
+	private Integer depth;
+
 	/** The type. */
 	@Column(name = "FILE_TYPE", columnDefinition = "TINYINT", nullable = false)
 	private byte type;
@@ -74,6 +82,22 @@ public class DatabaseFileDefinition {
 		this.name = name;
 	}
 
+	public String getParentPath() {
+		return parentPath;
+	}
+
+	public void setParentPath(String parentPath) {
+		this.parentPath = parentPath;
+	}
+
+	public Integer getDepth() {
+		return depth;
+	}
+
+	public void setDepth(Integer depth) {
+		this.depth = depth;
+	}
+
 	public byte getType() {
 		return type;
 	}
@@ -13,6 +13,7 @@ package org.eclipse.dirigible.repository.db;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -30,6 +31,7 @@ import org.eclipse.dirigible.repository.api.IEntity;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IResource;
 import org.eclipse.dirigible.repository.api.IResourceVersion;
+import org.eclipse.dirigible.repository.api.RepositoryChangeJournal;
 import org.eclipse.dirigible.repository.api.RepositoryExportException;
 import org.eclipse.dirigible.repository.api.RepositoryImportException;
 import org.eclipse.dirigible.repository.api.RepositoryPath;
@@ -65,6 +67,8 @@ public class DatabaseRepository implements IRepository {
 	
 	private final AtomicLong lastModified = new AtomicLong(0);
 
+	private final RepositoryChangeJournal changeJournal = new RepositoryChangeJournal();
+
 	/**
 	 * Constructor with default root folder - user.dir and without database initialization
 	 *
@@ -262,6 +266,16 @@ public class DatabaseRepository implements IRepository {
 		return RepositoryZipExporter.exportZip(this, relativeRoot, inclusive);
 	}
 
+	@Override
+	public void exportZip(List<String> relativeRoots, OutputStream output) throws RepositoryExportException {
+		RepositoryZipExporter.exportZip(this, relativeRoots, output);
+	}
+
+	@Override
+	public void exportZip(String relativeRoot, boolean inclusive, OutputStream output) throws RepositoryExportException {
+		RepositoryZipExporter.exportZip(this, relativeRoot, inclusive, output);
+	}
+
 	@Override
 	public List<IEntity> searchName(String parameter, boolean caseInsensitive) throws RepositorySearchException {
 		return databaseRepositoryDao.searchName(parameter, caseInsensitive);
@@ -343,4 +357,9 @@ public class DatabaseRepository implements IRepository {
 	protected void setLastModified(long time) {
 		lastModified.set(time);
 	}
+
+	@Override
+	public RepositoryChangeJournal getChangeJournal() {
+		return changeJournal;
+	}
 }
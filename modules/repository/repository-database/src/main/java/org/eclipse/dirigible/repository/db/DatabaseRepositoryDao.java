@@ -28,6 +28,7 @@ import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
 import org.eclipse.dirigible.repository.api.IEntity;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IResourceVersion;
+import org.eclipse.dirigible.repository.api.RepositoryChange;
 import org.eclipse.dirigible.repository.api.RepositoryPath;
 import org.eclipse.dirigible.repository.api.RepositorySearchException;
 import org.eclipse.dirigible.repository.api.RepositoryVersioningException;
@@ -64,6 +65,8 @@ public class DatabaseRepositoryDao {
 	@Inject
 	private DataSource datasource;
 
+	private volatile boolean schemaUpgraded;
+
 	/**
 	 * Instantiates a new database repository dao.
 	 */
@@ -140,6 +143,7 @@ public class DatabaseRepositoryDao {
 					closeConnection(connection);
 				}
 				((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+				((DatabaseRepository) getRepository()).getChangeJournal().record(RepositoryChange.Type.CREATED, path);
 				createVersion(path, content);
 			}
 		} catch (Exception e) {
@@ -163,7 +167,23 @@ public class DatabaseRepositoryDao {
 	}
 
 	private Connection openConnection() throws SQLException {
-		return datasource.getConnection();
+		Connection connection = datasource.getConnection();
+		if (!schemaUpgraded) {
+			try {
+				upgradeSchema(connection);
+			} catch (SQLException e) {
+				connection.close();
+				throw e;
+			}
+		}
+		return connection;
+	}
+
+	private synchronized void upgradeSchema(Connection connection) throws SQLException {
+		if (!schemaUpgraded) {
+			DatabaseRepositoryUtils.upgradeSchema(connection);
+			schemaUpgraded = true;
+		}
 	}
 
 	/**
@@ -237,6 +257,7 @@ public class DatabaseRepositoryDao {
 				closeConnection(connection);
 			}
 			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			((DatabaseRepository) getRepository()).getChangeJournal().record(RepositoryChange.Type.MODIFIED, databaseFile.getPath());
 			createVersion(workspacePath, content);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
@@ -286,6 +307,8 @@ public class DatabaseRepositoryDao {
 				closeConnection(connection);
 			}
 			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			((DatabaseRepository) getRepository()).getChangeJournal().record(RepositoryChange.Type.DELETED, path);
+			((DatabaseRepository) getRepository()).getChangeJournal().record(RepositoryChange.Type.CREATED, newPath);
 			if (content != null) {
 				createVersion(newPath, content);
 				removeVersions(path);
@@ -317,6 +340,7 @@ public class DatabaseRepositoryDao {
 				closeConnection(connection);
 			}
 			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			((DatabaseRepository) getRepository()).getChangeJournal().record(RepositoryChange.Type.CREATED, newPath);
 			if (content != null) {
 				createVersion(newPath, content);
 			}
@@ -342,6 +366,7 @@ public class DatabaseRepositoryDao {
 				closeConnection(connection);
 			}
 			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			((DatabaseRepository) getRepository()).getChangeJournal().record(RepositoryChange.Type.DELETED, path);
 			removeVersions(path);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
@@ -365,6 +390,7 @@ public class DatabaseRepositoryDao {
 				closeConnection(connection);
 			}
 			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			((DatabaseRepository) getRepository()).getChangeJournal().record(RepositoryChange.Type.DELETED, path, true);
 			removeVersions(path);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
@@ -388,6 +414,7 @@ public class DatabaseRepositoryDao {
 				closeConnection(connection);
 			}
 			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			((DatabaseRepository) getRepository()).getChangeJournal().record(RepositoryChange.Type.CREATED, path, true);
 		} catch (RepositoryWriteException e) {
 			throw new DatabaseRepositoryException(e);
 		}
@@ -412,6 +439,8 @@ public class DatabaseRepositoryDao {
 				closeConnection(connection);
 			}
 			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			((DatabaseRepository) getRepository()).getChangeJournal().record(RepositoryChange.Type.DELETED, path, true);
+			((DatabaseRepository) getRepository()).getChangeJournal().record(RepositoryChange.Type.CREATED, newPath, true);
 			removeVersions(newPath);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
@@ -439,6 +468,7 @@ public class DatabaseRepositoryDao {
 				closeConnection(connection);
 			}
 			((DatabaseRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			((DatabaseRepository) getRepository()).getChangeJournal().record(RepositoryChange.Type.CREATED, newPath, true);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
 		}
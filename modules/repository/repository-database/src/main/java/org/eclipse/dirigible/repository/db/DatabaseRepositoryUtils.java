@@ -12,6 +12,7 @@
 package org.eclipse.dirigible.repository.db;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -23,20 +24,164 @@ import org.eclipse.dirigible.api.v3.security.UserFacade;
 import org.eclipse.dirigible.database.persistence.PersistenceManager;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.eclipse.dirigible.repository.api.IRepository;
-import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.eclipse.dirigible.repository.api.RepositoryPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * Utility helping in Database Repository management of the underlying Database
+ * Utility helping in Database Repository management of the underlying Database.
+ *
+ * Every entry of DIRIGIBLE_FILES keeps the path of its parent folder and its depth, so that the children of a folder
+ * are found with an indexed equality lookup. The entries of a subtree are selected by the prefix of their path, with
+ * the wildcards in the path escaped, so that the selection does not depend on the collation of the database.
  */
 public class DatabaseRepositoryUtils {
 
+	private static final Logger logger = LoggerFactory.getLogger(DatabaseRepositoryUtils.class);
+
 	private static PersistenceManager<DatabaseFileDefinition> persistenceManagerFiles = new PersistenceManager<DatabaseFileDefinition>();
 	private static PersistenceManager<DatabaseFileContentDefinition> persistenceManagerFilesContent = new PersistenceManager<DatabaseFileContentDefinition>();
 	private static PersistenceManager<DatabaseFileVersionDefinition> persistenceManagerFilesVersions = new PersistenceManager<DatabaseFileVersionDefinition>();
 
 	private static final String PERCENT = "%";
 
+	private static final String FILES_TABLE = "DIRIGIBLE_FILES"; //$NON-NLS-1$
+
+	private static final String FILES_COLUMN_PATH = "FILE_PATH"; //$NON-NLS-1$
+
+	private static final String FILES_COLUMN_PARENT_PATH = "FILE_PARENT_PATH"; //$NON-NLS-1$
+
+	private static final String FILES_COLUMN_DEPTH = "FILE_DEPTH"; //$NON-NLS-1$
+
+	private static final String FILES_INDEX_PARENT_PATH = "DIRIGIBLE_FILES_PARENT"; //$NON-NLS-1$
+
+	private static final String FILES_VERSIONS_INDEX_PATH = "DIRIGIBLE_FILES_VERSIONS_PATH"; //$NON-NLS-1$
+
+	/** The escape character of the wildcards in the path prefix of a subtree. */
+	private static final char LIKE_ESCAPE = '!';
+
+	private static final String SUBTREE_CONDITION = "FILE_PATH LIKE ? ESCAPE '" + LIKE_ESCAPE + "'"; //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static final int UPGRADE_BATCH_SIZE = 1000;
+
+	/**
+	 * Brings the repository tables to the current layout. The parent path and depth columns are added to a
+	 * DIRIGIBLE_FILES table created by a previous version and filled in for the existing entries, and the missing
+	 * indexes are created.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @throws SQLException
+	 *             in case of an error
+	 */
+	public static void upgradeSchema(Connection connection) throws SQLException {
+		if (SqlFactory.getNative(connection).exists(connection, FILES_TABLE)) {
+			if (!columnExists(connection.getMetaData(), FILES_TABLE, FILES_COLUMN_PARENT_PATH)) {
+				logger.info("Adding the parent path and depth columns to the table {}", FILES_TABLE);
+				String alter = SqlFactory.getNative(connection).alter().table(FILES_TABLE).add().columnVarchar(FILES_COLUMN_PARENT_PATH, 255, false, true)
+						.build();
+				try (PreparedStatement statement = connection.prepareStatement(alter)) {
+					statement.executeUpdate();
+				}
+				alter = SqlFactory.getNative(connection).alter().table(FILES_TABLE).add().columnInteger(FILES_COLUMN_DEPTH, false, true).build();
+				try (PreparedStatement statement = connection.prepareStatement(alter)) {
+					statement.executeUpdate();
+				}
+			}
+		}
+		persistenceManagerFiles.tableCheck(connection, DatabaseFileDefinition.class);
+		persistenceManagerFilesContent.tableCheck(connection, DatabaseFileContentDefinition.class);
+		persistenceManagerFilesVersions.tableCheck(connection, DatabaseFileVersionDefinition.class);
+		fillParentPaths(connection);
+		createIndexIfMissing(connection, FILES_TABLE, FILES_INDEX_PARENT_PATH, FILES_COLUMN_PARENT_PATH);
+		createIndexIfMissing(connection, "DIRIGIBLE_FILES_VERSIONS", FILES_VERSIONS_INDEX_PATH, FILES_COLUMN_PATH);
+	}
+
+	/**
+	 * Fills in the parent path and depth of the entries left without them, batch by batch until none is left, so that
+	 * the children lookups by parent path see every entry once the upgrade is over.
+	 */
+	private static void fillParentPaths(Connection connection) throws SQLException {
+		String select = SqlFactory.getNative(connection).select().column(FILES_COLUMN_PATH).from(FILES_TABLE)
+				.where(FILES_COLUMN_PARENT_PATH + " IS NULL").build();
+		String update = SqlFactory.getNative(connection).update().table(FILES_TABLE).set(FILES_COLUMN_PARENT_PATH, "?").set(FILES_COLUMN_DEPTH, "?") //$NON-NLS-1$ //$NON-NLS-2$
+				.where(FILES_COLUMN_PATH + " = ?").build();
+		int total = 0;
+		List<String> paths;
+		do {
+			paths = new ArrayList<String>();
+			try (PreparedStatement statement = connection.prepareStatement(select)) {
+				statement.setMaxRows(UPGRADE_BATCH_SIZE);
+				try (ResultSet resultSet = statement.executeQuery()) {
+					while (resultSet.next() && (paths.size() < UPGRADE_BATCH_SIZE)) {
+						paths.add(resultSet.getString(1));
+					}
+				}
+			}
+			if (paths.isEmpty()) {
+				break;
+			}
+			try (PreparedStatement statement = connection.prepareStatement(update)) {
+				for (String path : paths) {
+					statement.setString(1, extractParentPath(path));
+					statement.setInt(2, extractDepth(path));
+					statement.setString(3, path);
+					statement.addBatch();
+				}
+				statement.executeBatch();
+			}
+			if (!connection.getAutoCommit()) {
+				connection.commit();
+			}
+			total += paths.size();
+		} while (paths.size() == UPGRADE_BATCH_SIZE);
+		if (total > 0) {
+			logger.info("Filled in the parent paths of {} entries of the table {}", total, FILES_TABLE);
+		}
+	}
+
+	private static void createIndexIfMissing(Connection connection, String table, String index, String column) throws SQLException {
+		DatabaseMetaData metaData = connection.getMetaData();
+		// the databases folding the unquoted identifiers to lower case, e.g. PostgreSQL, keep the table in lower case
+		if (indexExists(metaData, table, index) || indexExists(metaData, table.toUpperCase(), index)
+				|| indexExists(metaData, table.toLowerCase(), index)) {
+			return;
+		}
+		logger.info("Creating the index {} on the table {}", index, table);
+		String sql = "CREATE INDEX " + index + " ON " + table + " (" + column + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			statement.executeUpdate();
+		}
+	}
+
+	/**
+	 * Checks whether the table has the column, looking the table and the column up as given, in upper case and in lower
+	 * case, as the databases folding the unquoted identifiers to lower case, e.g. PostgreSQL, keep them in lower case.
+	 */
+	private static boolean columnExists(DatabaseMetaData metaData, String table, String column) throws SQLException {
+		for (String name : new String[] { table, table.toUpperCase(), table.toLowerCase() }) {
+			try (ResultSet resultSet = metaData.getColumns(null, null, name, null)) {
+				while (resultSet.next()) {
+					if (column.equalsIgnoreCase(resultSet.getString("COLUMN_NAME"))) { //$NON-NLS-1$
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean indexExists(DatabaseMetaData metaData, String table, String index) throws SQLException {
+		try (ResultSet resultSet = metaData.getIndexInfo(null, null, table, false, true)) {
+			while (resultSet.next()) {
+				if (index.equalsIgnoreCase(resultSet.getString("INDEX_NAME"))) { //$NON-NLS-1$
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * @param connection
 	 *            the underlying connection
@@ -64,6 +209,8 @@ public class DatabaseRepositoryUtils {
 			file = new DatabaseFileDefinition();
 			file.setPath(path);
 			file.setName(name);
+			file.setParentPath(extractParentPath(path));
+			file.setDepth(extractDepth(path));
 			file.setType(isBinary ? DatabaseFileDefinition.OBJECT_TYPE_BINARY : DatabaseFileDefinition.OBJECT_TYPE_TEXT);
 			file.setCreatedAt(System.currentTimeMillis());
 			file.setCreatedBy(username);
@@ -104,6 +251,62 @@ public class DatabaseRepositoryUtils {
 		return path.substring(path.lastIndexOf(IRepository.SEPARATOR) + 1);
 	}
 
+	private static String extractParentPath(String path) {
+		int index = path.lastIndexOf(IRepository.SEPARATOR);
+		return index > 0 ? path.substring(0, index) : IRepository.SEPARATOR;
+	}
+
+	private static int extractDepth(String path) {
+		int depth = 0;
+		for (int i = 0; i < path.length(); i++) {
+			if (path.charAt(i) == IRepository.SEPARATOR.charAt(0)) {
+				depth++;
+			}
+		}
+		return depth;
+	}
+
+	/**
+	 * Removes the trailing separator. The root becomes the empty string, so that the paths below it still start with
+	 * the returned value followed by the separator.
+	 */
+	private static String stripSeparator(String path) {
+		if (path.endsWith(IRepository.SEPARATOR)) {
+			return path.substring(0, path.length() - 1);
+		}
+		return path;
+	}
+
+	/**
+	 * Selects the entry with the given path and all the entries below it, parents before children.
+	 */
+	private static List<DatabaseFileDefinition> findTree(Connection connection, String path) {
+		String sql = SqlFactory.getNative(connection).select().column("*").from(FILES_TABLE)
+				.where("FILE_PATH = ? OR " + SUBTREE_CONDITION).order(FILES_COLUMN_DEPTH).build();
+		return persistenceManagerFiles.query(connection, DatabaseFileDefinition.class, sql, path, subtreePattern(path));
+	}
+
+	private static void deleteTree(Connection connection, String table, String path) {
+		String sql = SqlFactory.getNative(connection).delete().from(table).where("FILE_PATH = ?").build();
+		persistenceManagerFiles.execute(connection, sql, path);
+		sql = SqlFactory.getNative(connection).delete().from(table).where(SUBTREE_CONDITION).build();
+		persistenceManagerFiles.execute(connection, sql, subtreePattern(path));
+	}
+
+	/**
+	 * Creates the LIKE pattern of the paths below the given one, escaping the wildcards in the path.
+	 */
+	private static String subtreePattern(String path) {
+		StringBuilder pattern = new StringBuilder();
+		for (char c : (path + IRepository.SEPARATOR).toCharArray()) {
+			if ((c == LIKE_ESCAPE) || (c == '%') || (c == '_')) {
+				pattern.append(LIKE_ESCAPE);
+			}
+			pattern.append(c);
+		}
+		return pattern.append(PERCENT).toString();
+	}
+
 	/**
 	 * Loads a file
 	 *
@@ -141,9 +344,8 @@ public class DatabaseRepositoryUtils {
 		if (existsFolder(connection, newPath)) {
 			throw new IllegalArgumentException("Cannot move folder on an existing target: " + newPath);
 		}
-		String sql = SqlFactory.getNative(connection).select().column("*").from("DIRIGIBLE_FILES").where("FILE_PATH LIKE ?").build();
-		List<DatabaseFileDefinition> databaseFileDefinitions = persistenceManagerFiles.query(connection, DatabaseFileDefinition.class, sql,
-				path + PERCENT);
+		path = stripSeparator(path);
+		List<DatabaseFileDefinition> databaseFileDefinitions = findTree(connection, path);
 		for (DatabaseFileDefinition databaseFileDefinition : databaseFileDefinitions) {
 			String deepPath = databaseFileDefinition.getPath().substring(path.length());
 			String fullPath = new RepositoryPath(newPath + deepPath).getPath();
@@ -171,12 +373,8 @@ public class DatabaseRepositoryUtils {
 	 */
 	public static void copyFile(Connection connection, String path, String newPath) {
 		persistenceManagerFiles.tableCheck(connection, DatabaseFileDefinition.class);
-		if (path.endsWith(IRepository.SEPARATOR) && !(newPath.endsWith(IRepository.SEPARATOR))) {
-			newPath += IRepository.SEPARATOR;
-		}
-		String sql = SqlFactory.getNative(connection).select().column("*").from("DIRIGIBLE_FILES").where("FILE_PATH LIKE ?").build();
-		List<DatabaseFileDefinition> databaseFileDefinitions = persistenceManagerFiles.query(connection, DatabaseFileDefinition.class, sql,
-				path + PERCENT);
+		path = stripSeparator(path);
+		List<DatabaseFileDefinition> databaseFileDefinitions = findTree(connection, path);
 		for (DatabaseFileDefinition databaseFileDefinition : databaseFileDefinitions) {
 			String deepPath = databaseFileDefinition.getPath().substring(path.length());
 			String fullPath = new RepositoryPath(newPath + deepPath).getPath();
@@ -203,20 +401,10 @@ public class DatabaseRepositoryUtils {
 		persistenceManagerFilesContent.tableCheck(connection, DatabaseFileContentDefinition.class);
 		persistenceManagerFilesVersions.tableCheck(connection, DatabaseFileVersionDefinition.class);
 		
-		String sql = SqlFactory.getNative(connection).delete().from("DIRIGIBLE_FILES").where("FILE_PATH = ?").build();
-		persistenceManagerFiles.execute(connection, sql, path);
-		sql = SqlFactory.getNative(connection).delete().from("DIRIGIBLE_FILES").where("FILE_PATH LIKE ?").build();
-		persistenceManagerFiles.execute(connection, sql, path + IRepositoryStructure.SEPARATOR + PERCENT);
-		
-		sql = SqlFactory.getNative(connection).delete().from("DIRIGIBLE_FILES_CONTENT").where("FILE_PATH = ?").build();
-		persistenceManagerFilesContent.execute(connection, sql, path);
-		sql = SqlFactory.getNative(connection).delete().from("DIRIGIBLE_FILES_CONTENT").where("FILE_PATH LIKE ?").build();
-		persistenceManagerFilesContent.execute(connection, sql, path + IRepositoryStructure.SEPARATOR + PERCENT);
-		
-		sql = SqlFactory.getNative(connection).delete().from("DIRIGIBLE_FILES_VERSIONS").where("FILE_PATH = ?").build();
-		persistenceManagerFilesContent.execute(connection, sql, path);
-		sql = SqlFactory.getNative(connection).delete().from("DIRIGIBLE_FILES_VERSIONS").where("FILE_PATH LIKE ?").build();
-		persistenceManagerFilesContent.execute(connection, sql, path + IRepositoryStructure.SEPARATOR + PERCENT);
+		path = stripSeparator(path);
+		deleteTree(connection, FILES_TABLE, path);
+		deleteTree(connection, "DIRIGIBLE_FILES_CONTENT", path);
+		deleteTree(connection, "DIRIGIBLE_FILES_VERSIONS", path);
 	}
 
 	/**
@@ -235,6 +423,8 @@ public class DatabaseRepositoryUtils {
 			DatabaseFileDefinition folder = new DatabaseFileDefinition();
 			folder.setPath(path);
 			folder.setName(name);
+			folder.setParentPath(extractParentPath(path));
+			folder.setDepth(extractDepth(path));
 			folder.setType(DatabaseFileDefinition.OBJECT_TYPE_FOLDER);
 			folder.setCreatedAt(System.currentTimeMillis());
 			folder.setCreatedBy(username);
@@ -332,13 +522,10 @@ public class DatabaseRepositoryUtils {
 	 */
 	public static List<DatabaseFileDefinition> findChildren(Connection connection, String path) {
 		persistenceManagerFiles.tableCheck(connection, DatabaseFileDefinition.class);
-		String sql = SqlFactory.getNative(connection).select().column("*").from("DIRIGIBLE_FILES").where("FILE_PATH LIKE ? AND FILE_PATH NOT LIKE ?")
-				.build();
-		String param1 = (IRepository.SEPARATOR.equals(path) ? "" : path) //$NON-NLS-1$
-				+ IRepository.SEPARATOR + PERCENT;
-		String param2 = (IRepository.SEPARATOR.equals(path) ? "" : path) //$NON-NLS-1$
-				+ IRepository.SEPARATOR + PERCENT + IRepository.SEPARATOR + PERCENT;
-		return persistenceManagerFiles.query(connection, DatabaseFileDefinition.class, sql, param1, param2);
+		String sql = SqlFactory.getNative(connection).select().column("*").from(FILES_TABLE).where("FILE_PARENT_PATH = ?").build();
+		String parentPath = stripSeparator(path);
+		return persistenceManagerFiles.query(connection, DatabaseFileDefinition.class, sql,
+				parentPath.isEmpty() ? IRepository.SEPARATOR : parentPath);
 
 	}
 
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2020 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.db.DatabaseFileDefinition;
+import org.eclipse.dirigible.repository.db.DatabaseRepository;
+import org.eclipse.dirigible.repository.db.DatabaseRepositoryUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+
+/**
+ * The upgrade of a files table created without the parent path and depth columns.
+ */
+public class DatabaseRepositoryUpgradeTest {
+
+	/** The name of the running test, giving each test its own database. */
+	@Rule
+	public TestName testName = new TestName();
+
+	private DataSource dataSource;
+
+	/**
+	 * Creates the files table in the previous layout.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		dataSource = DatabaseTestHelper.createDataSource("target/tests/derby-upgrade-" + testName.getMethodName());
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			for (String table : new String[] {"DIRIGIBLE_FILES", "DIRIGIBLE_FILES_CONTENT", "DIRIGIBLE_FILES_VERSIONS"}) {
+				try {
+					statement.executeUpdate("DROP TABLE " + table);
+				} catch (SQLException e) {
+					// not created yet
+				}
+			}
+			statement.executeUpdate("CREATE TABLE DIRIGIBLE_FILES (FILE_PATH VARCHAR(255) NOT NULL PRIMARY KEY, FILE_NAME VARCHAR(255) NOT NULL, "
+					+ "FILE_TYPE SMALLINT NOT NULL, FILE_CONTENT_TYPE VARCHAR(128), FILE_CREATED_AT BIGINT NOT NULL, "
+					+ "FILE_CREATED_BY VARCHAR(255) NOT NULL, FILE_MODIFIED_AT BIGINT NOT NULL, FILE_MODIFIED_BY VARCHAR(255) NOT NULL)");
+			insert(statement, "/a", "a", 0);
+			insert(statement, "/a/x.txt", "x.txt", 1);
+			insert(statement, "/a/b", "b", 0);
+			insert(statement, "/a/b/y.txt", "y.txt", 1);
+			insert(statement, "/ab", "ab", 0);
+			for (int i = 0; i < 1500; i++) {
+				statement.addBatch("INSERT INTO DIRIGIBLE_FILES VALUES ('/many/file" + i + ".txt', 'file" + i + ".txt', 1, NULL, 0, 'test', 0, 'test')");
+			}
+			statement.executeBatch();
+			insert(statement, "/many", "many", 0);
+		}
+	}
+
+	private static void insert(Statement statement, String path, String name, int type) throws SQLException {
+		statement.executeUpdate("INSERT INTO DIRIGIBLE_FILES VALUES ('" + path + "', '" + name + "', " + type + ", NULL, 0, 'test', 0, 'test')");
+	}
+
+	/**
+	 * The existing entries get their parent paths and are listed by them.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void upgradeExistingEntries() throws Exception {
+		IRepository repository = new DatabaseRepository(dataSource);
+
+		ICollection a = repository.getCollection("/a");
+		assertEquals("[b]", a.getCollectionsNames().toString());
+		assertEquals("[x.txt]", a.getResourcesNames().toString());
+		List<String> rootNames = repository.getRoot().getCollectionsNames();
+		assertEquals(3, rootNames.size());
+		assertTrue(rootNames.contains("a"));
+		assertTrue(rootNames.contains("ab"));
+
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery("SELECT FILE_PARENT_PATH, FILE_DEPTH FROM DIRIGIBLE_FILES WHERE FILE_PATH = '/a/b/y.txt'")) {
+			assertTrue(resultSet.next());
+			assertEquals("/a/b", resultSet.getString(1));
+			assertEquals(3, resultSet.getInt(2));
+		}
+
+		repository.getCollection("/a/b").createResource("z.txt", "z".getBytes());
+		assertEquals(2, repository.getCollection("/a/b").getResourcesNames().size());
+
+		repository.getCollection("/a").delete();
+		assertFalse(repository.hasCollection("/a/b"));
+		assertFalse(repository.hasResource("/a/x.txt"));
+		assertTrue(repository.hasCollection("/ab"));
+	}
+
+	/**
+	 * All the entries are filled in by the first connection, even when they take more than one batch.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void upgradeAllBatches() throws Exception {
+		IRepository repository = new DatabaseRepository(dataSource);
+
+		assertEquals(1500, repository.getCollection("/many").getResourcesNames().size());
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM DIRIGIBLE_FILES WHERE FILE_PARENT_PATH IS NULL")) {
+			assertTrue(resultSet.next());
+			assertEquals(0, resultSet.getInt(1));
+		}
+	}
+
+	/**
+	 * An entry without a depth is still read.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void readEntryWithoutDepth() throws Exception {
+		IRepository repository = new DatabaseRepository(dataSource);
+		repository.getRoot().getCollectionsNames();
+
+		try (Connection connection = dataSource.getConnection()) {
+			try (Statement statement = connection.createStatement()) {
+				statement.executeUpdate("UPDATE DIRIGIBLE_FILES SET FILE_DEPTH = NULL WHERE FILE_PATH = '/a/x.txt'");
+			}
+			DatabaseFileDefinition file = DatabaseRepositoryUtils.getFile(connection, "/a/x.txt");
+			assertNotNull(file);
+			assertNull(file.getDepth());
+		}
+	}
+
+	/**
+	 * The root selects the whole tree.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void copyRoot() throws Exception {
+		IRepository repository = new DatabaseRepository(dataSource);
+		repository.getRoot().getCollectionsNames();
+
+		try (Connection connection = dataSource.getConnection()) {
+			DatabaseRepositoryUtils.copyFolder(connection, IRepository.SEPARATOR, "/copy");
+		}
+		assertTrue(repository.hasResource("/copy/a/b/y.txt"));
+		assertTrue(repository.hasCollection("/copy/ab"));
+		assertEquals("[x.txt]", repository.getCollection("/copy/a").getResourcesNames().toString());
+	}
+
+	/**
+	 * The wildcards in the path of a subtree match only themselves.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void deleteTreeWithWildcards() throws Exception {
+		IRepository repository = new DatabaseRepository(dataSource);
+		repository.createResource("/w_c/x.txt", "x".getBytes());
+		repository.createResource("/wXc/y.txt", "y".getBytes());
+		repository.createResource("/w%c/z.txt", "z".getBytes());
+
+		repository.getCollection("/w_c").delete();
+		assertFalse(repository.hasResource("/w_c/x.txt"));
+		assertTrue(repository.hasResource("/wXc/y.txt"));
+		assertTrue(repository.hasResource("/w%c/z.txt"));
+	}
+
+}
@@ -18,6 +18,7 @@ import static org.apache.commons.io.filefilter.TrueFileFilter.TRUE;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -458,6 +459,25 @@ public abstract class FileSystemRepository implements IRepository {
 		return RepositoryZipExporter.exportZip(this, relativeRoot, inclusive);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryExporter#exportZip(java.util.List, java.io.OutputStream)
+	 */
+	@Override
+	public void exportZip(List<String> relativeRoots, OutputStream output) throws RepositoryExportException {
+		RepositoryZipExporter.exportZip(this, relativeRoots, output);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryExporter#exportZip(java.lang.String, boolean,
+	 * java.io.OutputStream)
+	 */
+	@Override
+	public void exportZip(String relativeRoot, boolean inclusive, OutputStream output) throws RepositoryExportException {
+		RepositoryZipExporter.exportZip(this, relativeRoot, inclusive, output);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.repository.api.IRepositorySearch#searchName(java.lang.String, boolean)
@@ -11,6 +11,8 @@
  */
 package org.eclipse.dirigible.repository.local;
 
+import java.io.InputStream;
+
 import org.eclipse.dirigible.repository.fs.FileSystemRepository;
 
 /**
@@ -83,6 +85,17 @@ public class LocalFile extends LocalObject {
 		return getRepository().getRepositoryDao().getFileContent(this);
 	}
 
+	/**
+	 * Gets the data as a stream.
+	 *
+	 * @return the input stream
+	 * @throws LocalRepositoryException
+	 *             the local repository exception
+	 */
+	public InputStream getDataAsStream() throws LocalRepositoryException {
+		return getRepository().getRepositoryDao().getFileContentAsStream(this);
+	}
+
 	/**
 	 * Sets the data.
 	 *
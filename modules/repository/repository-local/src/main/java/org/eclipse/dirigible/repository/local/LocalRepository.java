@@ -15,6 +15,7 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.RepositoryChangeJournal;
 import org.eclipse.dirigible.repository.fs.FileSystemRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +38,8 @@ public class LocalRepository extends FileSystemRepository {
 	
 	private static final AtomicLong lastModified = new AtomicLong(0);
 
+	private static final RepositoryChangeJournal changeJournal = new RepositoryChangeJournal();
+
 	/**
 	 * Constructor with default root folder - user.dir and without database initialization
 	 *
@@ -94,4 +97,9 @@ public class LocalRepository extends FileSystemRepository {
 		lastModified.set(time);
 	}
 
+	@Override
+	public RepositoryChangeJournal getChangeJournal() {
+		return changeJournal;
+	}
+
 }
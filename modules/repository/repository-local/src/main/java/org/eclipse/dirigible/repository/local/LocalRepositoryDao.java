@@ -11,8 +11,10 @@
  */
 package org.eclipse.dirigible.repository.local;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Date;
@@ -21,7 +23,9 @@ import java.util.List;
 import org.eclipse.dirigible.api.v3.security.UserFacade;
 import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
 import org.eclipse.dirigible.commons.api.helpers.FileSystemUtils;
+import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.RepositoryCache;
+import org.eclipse.dirigible.repository.api.RepositoryChange;
 import org.eclipse.dirigible.repository.api.RepositoryWriteException;
 import org.eclipse.dirigible.repository.fs.FileSystemRepository;
 import org.slf4j.Logger;
@@ -92,8 +96,9 @@ public class LocalRepositoryDao {
 		try {
 			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
 			FileSystemUtils.saveFile(workspacePath, content);
-			cache.put(path, content);
+			cache.put(workspacePath, content);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			recordChange(RepositoryChange.Type.CREATED, path, false);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
@@ -120,8 +125,9 @@ public class LocalRepositoryDao {
 		try {
 			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), localFile.getPath());
 			FileSystemUtils.saveFile(workspacePath, content);
-			cache.put(localFile.getPath(), content);
+			cache.put(workspacePath, content);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			recordChange(RepositoryChange.Type.MODIFIED, localFile.getPath(), false);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
@@ -137,10 +143,10 @@ public class LocalRepositoryDao {
 	public byte[] getFileContent(LocalFile localFile) {
 		try {
 			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), localFile.getPath());
-			byte[] content = cache.get(localFile.getPath());
+			byte[] content = cache.get(workspacePath);
 			if (content == null) {
 				content = FileSystemUtils.loadFile(workspacePath);
-				cache.put(localFile.getPath(), content);
+				cache.put(workspacePath, content);
 			}
 			return content;
 		} catch (IOException e) {
@@ -148,6 +154,27 @@ public class LocalRepositoryDao {
 		}
 	}
 
+	/**
+	 * Opens the file content for reading. An already cached content is served from the memory, otherwise the file is
+	 * streamed from the disk without being cached.
+	 *
+	 * @param localFile
+	 *            the local file
+	 * @return the input stream, or null if the file does not exist
+	 */
+	public InputStream getFileContentAsStream(LocalFile localFile) {
+		try {
+			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), localFile.getPath());
+			byte[] content = cache.get(workspacePath);
+			if (content != null) {
+				return new ByteArrayInputStream(content);
+			}
+			return FileSystemUtils.openFile(workspacePath);
+		} catch (IOException e) {
+			throw new LocalRepositoryException(e);
+		}
+	}
+
 	/**
 	 * Rename file.
 	 *
@@ -161,8 +188,11 @@ public class LocalRepositoryDao {
 			String workspacePathOld = LocalWorkspaceMapper.getMappedName(getRepository(), path);
 			String workspacePathNew = LocalWorkspaceMapper.getMappedName(getRepository(), newPath);
 			FileSystemUtils.moveFile(workspacePathOld, workspacePathNew);
-			cache.remove(path);
+			cache.remove(workspacePathOld);
+			cache.remove(workspacePathNew);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			recordChange(RepositoryChange.Type.DELETED, path, false);
+			recordChange(RepositoryChange.Type.CREATED, newPath, false);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
@@ -181,8 +211,9 @@ public class LocalRepositoryDao {
 			String workspacePathOld = LocalWorkspaceMapper.getMappedName(getRepository(), path);
 			String workspacePathNew = LocalWorkspaceMapper.getMappedName(getRepository(), newPath);
 			FileSystemUtils.copyFile(workspacePathOld, workspacePathNew);
-			cache.remove(newPath);
+			cache.remove(workspacePathNew);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			recordChange(RepositoryChange.Type.CREATED, newPath, false);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
@@ -198,8 +229,9 @@ public class LocalRepositoryDao {
 		try {
 			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
 			FileSystemUtils.removeFile(workspacePath);
-			cache.remove(path);
+			cache.remove(workspacePath);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			recordChange(RepositoryChange.Type.DELETED, path, false);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
@@ -215,8 +247,9 @@ public class LocalRepositoryDao {
 		try {
 			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
 			FileSystemUtils.removeFile(workspacePath);
-			cache.clear();
+			cache.removeTree(workspacePath);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			recordChange(RepositoryChange.Type.DELETED, path, true);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
@@ -233,6 +266,7 @@ public class LocalRepositoryDao {
 			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), normalizePath);
 			FileSystemUtils.createFolder(workspacePath);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			recordChange(RepositoryChange.Type.CREATED, normalizePath, true);
 		} catch (RepositoryWriteException e) {
 			throw new LocalRepositoryException(e);
 		}
@@ -251,8 +285,11 @@ public class LocalRepositoryDao {
 			String workspacePathOld = LocalWorkspaceMapper.getMappedName(getRepository(), path);
 			String workspacePathNew = LocalWorkspaceMapper.getMappedName(getRepository(), newPath);
 			FileSystemUtils.moveFile(workspacePathOld, workspacePathNew);
-			cache.clear();
+			cache.removeTree(workspacePathOld);
+			cache.removeTree(workspacePathNew);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			recordChange(RepositoryChange.Type.DELETED, path, true);
+			recordChange(RepositoryChange.Type.CREATED, newPath, true);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
@@ -272,8 +309,9 @@ public class LocalRepositoryDao {
 			String workspacePathOld = LocalWorkspaceMapper.getMappedName(getRepository(), path);
 			String workspacePathNew = LocalWorkspaceMapper.getMappedName(getRepository(), newPath);
 			FileSystemUtils.copyFolder(workspacePathOld, workspacePathNew);
-			cache.clear();
+			cache.removeTree(workspacePathNew);
 			((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+			recordChange(RepositoryChange.Type.CREATED, newPath, true);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
@@ -381,4 +419,26 @@ public class LocalRepositoryDao {
 		return UserFacade.getName();
 	}
 	
+	/**
+	 * Records a change in the journal of the repository under its repository path.
+	 *
+	 * @param type
+	 *            the type
+	 * @param path
+	 *            the repository or the workspace path
+	 * @param collection
+	 *            whether the path is a collection
+	 */
+	private void recordChange(RepositoryChange.Type type, String path, boolean collection) {
+		String repositoryPath = path;
+		if (repositoryPath.startsWith(repository.getRepositoryPath())) {
+			repositoryPath = repositoryPath.substring(repository.getRepositoryPath().length());
+		}
+		repositoryPath = repositoryPath.replace(File.separator, IRepository.SEPARATOR);
+		if (!repositoryPath.startsWith(IRepository.SEPARATOR)) {
+			repositoryPath = IRepository.SEPARATOR + repositoryPath;
+		}
+		((LocalRepository) getRepository()).getChangeJournal().record(type, repositoryPath, collection);
+	}
+
 }
@@ -13,6 +13,8 @@ package org.eclipse.dirigible.repository.local;
 
 import static java.text.MessageFormat.format;
 
+import java.io.InputStream;
+
 import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
 import org.eclipse.dirigible.repository.api.IResource;
 import org.eclipse.dirigible.repository.api.RepositoryNotFoundException;
@@ -160,6 +162,20 @@ public class LocalResource extends LocalEntity implements IResource {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#getContentAsStream()
+	 */
+	@Override
+	public InputStream getContentAsStream() throws RepositoryReadException {
+		final LocalFile document = getDocumentSafe();
+		try {
+			return document.getDataAsStream();
+		} catch (LocalRepositoryException ex) {
+			throw new RepositoryReadException("Could not read resource content.", ex);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.repository.api.IResource#setContent(byte[])
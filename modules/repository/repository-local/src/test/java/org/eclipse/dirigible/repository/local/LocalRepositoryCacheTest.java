@@ -121,5 +121,48 @@ public class LocalRepositoryCacheTest extends RepositoryGenericCacheTest {
 			}
 		}
 	}
+	
+	/**
+	 * Test cache invalidation of a renamed folder.
+	 */
+	@Test
+	public void testCacheFolderRename() {
+		if (repository == null) {
+			return;
+		}
+
+		try {
+			repository.createResource("/testCacheTree/renamed/file1.txt", "file 1".getBytes()); //$NON-NLS-1$
+			repository.createResource("/testCacheTree/kept/file2.txt", "file 2".getBytes()); //$NON-NLS-1$
+			
+			assertEquals("file 1", new String(repository.getResource("/testCacheTree/renamed/file1.txt").getContent()));
+			assertEquals("file 2", new String(repository.getResource("/testCacheTree/kept/file2.txt").getContent()));
+			
+			String workspacePath2 = LocalWorkspaceMapper.getMappedName(((FileSystemRepository) repository), "/testCacheTree/kept/file2.txt");
+			FileWriter output = new FileWriter(workspacePath2);
+			IOUtils.write("file 2 changed", output);
+			output.flush();
+			output.close();
+			
+			long hits = RepositoryCache.getStatistics().hitCount();
+			repository.getCollection("/testCacheTree/renamed").renameTo("moved"); //$NON-NLS-1$
+			
+			assertEquals("file 1", new String(repository.getResource("/testCacheTree/moved/file1.txt").getContent()));
+			// the entries out of the renamed folder are still served from the cache
+			assertEquals("file 2", new String(repository.getResource("/testCacheTree/kept/file2.txt").getContent()));
+			assertTrue(RepositoryCache.getStatistics().hitCount() > hits);
+			assertTrue(RepositoryCache.getSize() > 0);
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		} finally {
+			try {
+				repository.removeCollection("/testCacheTree"); //$NON-NLS-1$
+			} catch (Exception e) {
+				e.printStackTrace();
+				fail(e.getMessage());
+			}
+		}
+	}
 
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.local;
+
+import static org.junit.Assert.fail;
+
+import org.eclipse.dirigible.repository.generic.RepositoryGenericChangeJournalTest;
+import org.junit.Before;
+
+/**
+ * The Class LocalRepositoryChangeJournalTest.
+ */
+public class LocalRepositoryChangeJournalTest extends RepositoryGenericChangeJournalTest {
+
+	/**
+	 * Sets the up.
+	 */
+	@Before
+	public void setUp() {
+		try {
+			repository = new LocalRepository("target/test");
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		}
+	}
+
+}
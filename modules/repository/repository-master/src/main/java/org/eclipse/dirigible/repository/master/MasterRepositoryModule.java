@@ -19,6 +19,7 @@ import org.eclipse.dirigible.repository.api.IMasterRepository;
 import org.eclipse.dirigible.repository.local.LocalRepositoryException;
 import org.eclipse.dirigible.repository.master.fs.FileSystemMasterRepository;
 import org.eclipse.dirigible.repository.master.jar.JarMasterRepository;
+import org.eclipse.dirigible.repository.master.zip.ZipArchiveMasterRepository;
 import org.eclipse.dirigible.repository.master.zip.ZipMasterRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -104,6 +105,11 @@ public class MasterRepositoryModule extends AbstractDirigibleModule {
 	private IMasterRepository createZipInstance() {
 		logger.debug("creating Zip Master Repository...");
 		String zip = Configuration.get(ZipMasterRepository.DIRIGIBLE_MASTER_REPOSITORY_ZIP_LOCATION);
+		if (Boolean.parseBoolean(Configuration.get(ZipMasterRepository.DIRIGIBLE_MASTER_REPOSITORY_ZIP_READ_THROUGH, "false"))) {
+			ZipArchiveMasterRepository zipArchiveMasterRepository = new ZipArchiveMasterRepository(zip);
+			logger.debug("Read-through Zip Mater Repository created.");
+			return zipArchiveMasterRepository;
+		}
 		ZipMasterRepository zipMasterRepository = new ZipMasterRepository(zip);
 		logger.debug("Zip Mater Repository created.");
 		return zipMasterRepository;
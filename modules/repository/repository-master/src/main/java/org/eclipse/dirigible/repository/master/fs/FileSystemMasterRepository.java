@@ -14,6 +14,7 @@ package org.eclipse.dirigible.repository.master.fs;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.dirigible.repository.api.IMasterRepository;
+import org.eclipse.dirigible.repository.api.RepositoryChangeJournal;
 import org.eclipse.dirigible.repository.api.RepositoryInitializationException;
 import org.eclipse.dirigible.repository.fs.FileSystemRepository;
 import org.eclipse.dirigible.repository.local.LocalRepositoryException;
@@ -77,4 +78,9 @@ public class FileSystemMasterRepository extends FileSystemRepository implements
 		return 0;
 	}
 
+	@Override
+	public RepositoryChangeJournal getChangeJournal() {
+		return null;
+	}
+
 }
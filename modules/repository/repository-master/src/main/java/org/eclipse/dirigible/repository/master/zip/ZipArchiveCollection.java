@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.master.zip;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.api.IEntity;
+import org.eclipse.dirigible.repository.api.IEntityInformation;
+import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryPath;
+import org.eclipse.dirigible.repository.api.RepositoryReadException;
+import org.eclipse.dirigible.repository.api.RepositoryWriteException;
+
+/**
+ * The collection of {@link ZipArchiveMasterRepository}, either a directory entry of the archive or implied by the path
+ * of a file entry.
+ */
+public class ZipArchiveCollection extends ZipArchiveEntity implements ICollection {
+
+	/**
+	 * Instantiates a new zip archive collection.
+	 *
+	 * @param repository
+	 *            the repository
+	 * @param path
+	 *            the path
+	 */
+	public ZipArchiveCollection(ZipArchiveMasterRepository repository, RepositoryPath path) {
+		super(repository, path);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntity#getInformation()
+	 */
+	@Override
+	public IEntityInformation getInformation() throws RepositoryReadException {
+		return new ZipArchiveEntityInformation(getRepositoryPath(), null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntity#exists()
+	 */
+	@Override
+	public boolean exists() throws RepositoryReadException {
+		return getArchiveRepository().isCollection(getPath());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntity#isEmpty()
+	 */
+	@Override
+	public boolean isEmpty() throws RepositoryReadException {
+		return getArchiveRepository().getChildPaths(getPath()).isEmpty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.ICollection#getCollections()
+	 */
+	@Override
+	public List<ICollection> getCollections() throws RepositoryReadException {
+		List<ICollection> result = new ArrayList<ICollection>();
+		for (String childPath : getArchiveRepository().getChildPaths(getPath())) {
+			if (getArchiveRepository().isCollection(childPath)) {
+				result.add(new ZipArchiveCollection(getArchiveRepository(), new RepositoryPath(childPath)));
+			}
+		}
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.ICollection#getCollectionsNames()
+	 */
+	@Override
+	public List<String> getCollectionsNames() throws RepositoryReadException {
+		List<String> result = new ArrayList<String>();
+		for (ICollection collection : getCollections()) {
+			result.add(collection.getName());
+		}
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.ICollection#createCollection(java.lang.String)
+	 */
+	@Override
+	public ICollection createCollection(String name) throws RepositoryReadException {
+		throw new RepositoryReadException(READ_ONLY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.ICollection#getCollection(java.lang.String)
+	 */
+	@Override
+	public ICollection getCollection(String name) throws RepositoryReadException {
+		return new ZipArchiveCollection(getArchiveRepository(), getRepositoryPath().append(name));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.ICollection#removeCollection(java.lang.String)
+	 */
+	@Override
+	public void removeCollection(String name) throws RepositoryWriteException {
+		throw new RepositoryWriteException(READ_ONLY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.ICollection#removeCollection(org.eclipse.dirigible.repository.api.
+	 * ICollection)
+	 */
+	@Override
+	public void removeCollection(ICollection collection) throws RepositoryWriteException {
+		throw new RepositoryWriteException(READ_ONLY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.ICollection#getResources()
+	 */
+	@Override
+	public List<IResource> getResources() throws RepositoryReadException {
+		List<IResource> result = new ArrayList<IResource>();
+		for (String childPath : getArchiveRepository().getChildPaths(getPath())) {
+			if (getArchiveRepository().getEntry(childPath) != null) {
+				result.add(new ZipArchiveResource(getArchiveRepository(), new RepositoryPath(childPath)));
+			}
+		}
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.ICollection#getResourcesNames()
+	 */
+	@Override
+	public List<String> getResourcesNames() throws RepositoryReadException {
+		List<String> result = new ArrayList<String>();
+		for (IResource resource : getResources()) {
+			result.add(resource.getName());
+		}
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.ICollection#getResource(java.lang.String)
+	 */
+	@Override
+	public IResource getResource(String name) throws RepositoryReadException {
+		return new ZipArchiveResource(getArchiveRepository(), getRepositoryPath().append(name));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.ICollection#removeResource(java.lang.String)
+	 */
+	@Override
+	public void removeResource(String name) throws RepositoryWriteException {
+		throw new RepositoryWriteException(READ_ONLY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.ICollection#removeResource(org.eclipse.dirigible.repository.api.
+	 * IResource)
+	 */
+	@Override
+	public void removeResource(IResource resource) throws RepositoryWriteException {
+		throw new RepositoryWriteException(READ_ONLY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.ICollection#getChildren()
+	 */
+	@Override
+	public List<IEntity> getChildren() throws RepositoryReadException {
+		List<IEntity> result = new ArrayList<IEntity>();
+		result.addAll(getCollections());
+		result.addAll(getResources());
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.ICollection#createResource(java.lang.String, byte[], boolean,
+	 * java.lang.String)
+	 */
+	@Override
+	public IResource createResource(String name, byte[] content, boolean isBinary, String contentType) throws RepositoryWriteException {
+		throw new RepositoryWriteException(READ_ONLY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.ICollection#createResource(java.lang.String, byte[])
+	 */
+	@Override
+	public IResource createResource(String name, byte[] content) throws RepositoryWriteException {
+		throw new RepositoryWriteException(READ_ONLY);
+	}
+
+}
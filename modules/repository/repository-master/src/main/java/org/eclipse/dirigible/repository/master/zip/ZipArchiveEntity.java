@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.master.zip;
+
+import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.api.IEntity;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.RepositoryPath;
+import org.eclipse.dirigible.repository.api.RepositoryWriteException;
+
+/**
+ * The base of the read only entities of {@link ZipArchiveMasterRepository}.
+ */
+public abstract class ZipArchiveEntity implements IEntity {
+
+	/** The message of the rejected modifications. */
+	protected static final String READ_ONLY = "The read-through Zip Master Repository is read only"; //$NON-NLS-1$
+
+	private final ZipArchiveMasterRepository repository;
+
+	private final RepositoryPath path;
+
+	/**
+	 * Instantiates a new zip archive entity.
+	 *
+	 * @param repository
+	 *            the repository
+	 * @param path
+	 *            the path
+	 */
+	protected ZipArchiveEntity(ZipArchiveMasterRepository repository, RepositoryPath path) {
+		this.repository = repository;
+		this.path = path;
+	}
+
+	/**
+	 * Gets the zip archive repository.
+	 *
+	 * @return the zip archive repository
+	 */
+	protected ZipArchiveMasterRepository getArchiveRepository() {
+		return repository;
+	}
+
+	/**
+	 * Gets the repository path.
+	 *
+	 * @return the repository path
+	 */
+	protected RepositoryPath getRepositoryPath() {
+		return path;
+	}
+
+	/**
+	 * Returns null, as the master repository is not a full {@link IRepository}.
+	 *
+	 * @return null
+	 */
+	@Override
+	public IRepository getRepository() {
+		return null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntity#getName()
+	 */
+	@Override
+	public String getName() {
+		return path.getLastSegment();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntity#getPath()
+	 */
+	@Override
+	public String getPath() {
+		return path.build();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntity#getParent()
+	 */
+	@Override
+	public ICollection getParent() {
+		RepositoryPath parentPath = path.getParentPath();
+		return parentPath != null ? new ZipArchiveCollection(repository, parentPath) : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntity#create()
+	 */
+	@Override
+	public void create() throws RepositoryWriteException {
+		throw new RepositoryWriteException(READ_ONLY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntity#delete()
+	 */
+	@Override
+	public void delete() throws RepositoryWriteException {
+		throw new RepositoryWriteException(READ_ONLY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntity#renameTo(java.lang.String)
+	 */
+	@Override
+	public void renameTo(String name) throws RepositoryWriteException {
+		throw new RepositoryWriteException(READ_ONLY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntity#moveTo(java.lang.String)
+	 */
+	@Override
+	public void moveTo(String path) throws RepositoryWriteException {
+		throw new RepositoryWriteException(READ_ONLY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntity#copyTo(java.lang.String)
+	 */
+	@Override
+	public void copyTo(String path) throws RepositoryWriteException {
+		throw new RepositoryWriteException(READ_ONLY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return getPath();
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.master.zip;
+
+import java.util.Date;
+import java.util.zip.ZipEntry;
+
+import org.eclipse.dirigible.repository.api.IEntityInformation;
+import org.eclipse.dirigible.repository.api.RepositoryPath;
+
+/**
+ * The archive entry based implementation of {@link IEntityInformation}.
+ */
+public class ZipArchiveEntityInformation implements IEntityInformation {
+
+	private final RepositoryPath path;
+
+	private final ZipEntry entry;
+
+	/**
+	 * Instantiates a new zip archive entity information.
+	 *
+	 * @param path
+	 *            the path
+	 * @param entry
+	 *            the archive entry, or null for an implied collection
+	 */
+	public ZipArchiveEntityInformation(RepositoryPath path, ZipEntry entry) {
+		this.path = path;
+		this.entry = entry;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntityInformation#getName()
+	 */
+	@Override
+	public String getName() {
+		return path.getLastSegment();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntityInformation#getPath()
+	 */
+	@Override
+	public String getPath() {
+		return path.build();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntityInformation#getPermissions()
+	 */
+	@Override
+	public int getPermissions() {
+		return PERMISSION_OWNER_READ | PERMISSION_GROUP_READ | PERMISSION_OTHERS_READ;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntityInformation#getSize()
+	 */
+	@Override
+	public Long getSize() {
+		return (entry != null) && (entry.getSize() >= 0) ? entry.getSize() : 0L;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntityInformation#getCreatedBy()
+	 */
+	@Override
+	public String getCreatedBy() {
+		return null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntityInformation#getCreatedAt()
+	 */
+	@Override
+	public Date getCreatedAt() {
+		return getModifiedAt();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntityInformation#getModifiedBy()
+	 */
+	@Override
+	public String getModifiedBy() {
+		return null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntityInformation#getModifiedAt()
+	 */
+	@Override
+	public Date getModifiedAt() {
+		return (entry != null) && (entry.getTime() >= 0) ? new Date(entry.getTime()) : null;
+	}
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.master.zip;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOUtils;
+import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.api.IMasterRepository;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryInitializationException;
+import org.eclipse.dirigible.repository.api.RepositoryPath;
+import org.eclipse.dirigible.repository.api.RepositoryReadException;
+import org.eclipse.dirigible.repository.local.LocalRepositoryException;
+
+/**
+ * The read-through Zip Master Repository.
+ *
+ * Unlike {@link ZipMasterRepository}, the archive is not unpacked - only the directory of its entries is indexed and
+ * the content of a resource is read from the archive on demand. The repository is read only.
+ */
+public class ZipArchiveMasterRepository implements IMasterRepository {
+
+	private final ZipFile zipFile;
+
+	private final Map<String, ZipEntry> resources = new TreeMap<String, ZipEntry>();
+
+	private final Map<String, TreeSet<String>> collections = new TreeMap<String, TreeSet<String>>();
+
+	/**
+	 * Instantiates a new read-through zip master repository.
+	 *
+	 * @param zip
+	 *            the zip
+	 * @throws LocalRepositoryException
+	 *             the local repository exception
+	 */
+	public ZipArchiveMasterRepository(String zip) throws LocalRepositoryException {
+		File file = new File(zip);
+		if (!file.exists()) {
+			throw new LocalRepositoryException(String.format("Zip file containing Repository content does not exist at path: %s", zip));
+		}
+		try {
+			this.zipFile = new ZipFile(file);
+		} catch (IOException e) {
+			throw new LocalRepositoryException(e);
+		}
+		collections.put(IRepository.SEPARATOR, new TreeSet<String>());
+		Enumeration<? extends ZipEntry> entries = zipFile.entries();
+		while (entries.hasMoreElements()) {
+			ZipEntry entry = entries.nextElement();
+			String name = FilenameUtils.normalizeNoEndSeparator(entry.getName(), true);
+			if ((name == null) || name.isEmpty()) {
+				continue;
+			}
+			String path = IRepository.SEPARATOR + name;
+			if (entry.isDirectory()) {
+				addCollection(path);
+			} else {
+				String parentPath = new RepositoryPath(path).getParentPath().build();
+				resources.put(path, entry);
+				addCollection(parentPath);
+				collections.get(parentPath).add(path);
+			}
+		}
+	}
+
+	private void addCollection(String path) {
+		if (collections.containsKey(path)) {
+			return;
+		}
+		collections.put(path, new TreeSet<String>());
+		String parentPath = new RepositoryPath(path).getParentPath().build();
+		addCollection(parentPath);
+		collections.get(parentPath).add(path);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryReader#initialize()
+	 */
+	@Override
+	public void initialize() throws RepositoryInitializationException {
+		// the entries are indexed on instantiation
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryReader#getRoot()
+	 */
+	@Override
+	public ICollection getRoot() {
+		return getCollection(IRepository.SEPARATOR);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryReader#getCollection(java.lang.String)
+	 */
+	@Override
+	public ICollection getCollection(String path) {
+		return new ZipArchiveCollection(this, new RepositoryPath(path));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryReader#hasCollection(java.lang.String)
+	 */
+	@Override
+	public boolean hasCollection(String path) throws RepositoryReadException {
+		return collections.containsKey(new RepositoryPath(path).build());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryReader#getResource(java.lang.String)
+	 */
+	@Override
+	public IResource getResource(String path) {
+		return new ZipArchiveResource(this, new RepositoryPath(path));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryReader#hasResource(java.lang.String)
+	 */
+	@Override
+	public boolean hasResource(String path) throws RepositoryReadException {
+		return resources.containsKey(new RepositoryPath(path).build());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryReader#getAllResourcePaths()
+	 */
+	@Override
+	public List<String> getAllResourcePaths() throws RepositoryReadException {
+		return new ArrayList<String>(resources.keySet());
+	}
+
+	/**
+	 * Gets the archive entry of a resource.
+	 *
+	 * @param path
+	 *            the repository path
+	 * @return the entry, or null if there is no such resource
+	 */
+	ZipEntry getEntry(String path) {
+		return resources.get(path);
+	}
+
+	/**
+	 * Gets the paths of the direct children of a collection.
+	 *
+	 * @param path
+	 *            the repository path of the collection
+	 * @return the paths of the children
+	 */
+	List<String> getChildPaths(String path) {
+		TreeSet<String> children = collections.get(path);
+		return children != null ? new ArrayList<String>(children) : Collections.<String> emptyList();
+	}
+
+	/**
+	 * Checks if a collection exists.
+	 *
+	 * @param path
+	 *            the repository path of the collection
+	 * @return true, if successful
+	 */
+	boolean isCollection(String path) {
+		return collections.containsKey(path);
+	}
+
+	/**
+	 * Opens the content of a resource, read straight from the archive.
+	 *
+	 * @param path
+	 *            the repository path
+	 * @return the content stream
+	 * @throws RepositoryReadException
+	 *             in case there is no such resource or it cannot be read
+	 */
+	InputStream openContent(String path) throws RepositoryReadException {
+		ZipEntry entry = resources.get(path);
+		if (entry == null) {
+			throw new RepositoryReadException(String.format("Resource does not exist: %s", path));
+		}
+		try {
+			return zipFile.getInputStream(entry);
+		} catch (IOException e) {
+			throw new RepositoryReadException(e);
+		}
+	}
+
+	/**
+	 * Reads the content of a resource straight from the archive.
+	 *
+	 * @param path
+	 *            the repository path
+	 * @return the content
+	 * @throws RepositoryReadException
+	 *             in case there is no such resource or it cannot be read
+	 */
+	byte[] readContent(String path) throws RepositoryReadException {
+		try (InputStream input = openContent(path)) {
+			return IOUtils.toByteArray(input);
+		} catch (IOException e) {
+			throw new RepositoryReadException(e);
+		}
+	}
+
+}
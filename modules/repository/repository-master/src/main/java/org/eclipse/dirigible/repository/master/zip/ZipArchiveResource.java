@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.master.zip;
+
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+
+import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
+import org.eclipse.dirigible.repository.api.IEntityInformation;
+import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryPath;
+import org.eclipse.dirigible.repository.api.RepositoryReadException;
+import org.eclipse.dirigible.repository.api.RepositoryWriteException;
+
+/**
+ * The resource of {@link ZipArchiveMasterRepository}, the content of which is read from the archive on demand.
+ */
+public class ZipArchiveResource extends ZipArchiveEntity implements IResource {
+
+	/**
+	 * Instantiates a new zip archive resource.
+	 *
+	 * @param repository
+	 *            the repository
+	 * @param path
+	 *            the path
+	 */
+	public ZipArchiveResource(ZipArchiveMasterRepository repository, RepositoryPath path) {
+		super(repository, path);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntity#getInformation()
+	 */
+	@Override
+	public IEntityInformation getInformation() throws RepositoryReadException {
+		return new ZipArchiveEntityInformation(getRepositoryPath(), getArchiveRepository().getEntry(getPath()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntity#exists()
+	 */
+	@Override
+	public boolean exists() throws RepositoryReadException {
+		return getArchiveRepository().getEntry(getPath()) != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IEntity#isEmpty()
+	 */
+	@Override
+	public boolean isEmpty() throws RepositoryReadException {
+		ZipEntry entry = getArchiveRepository().getEntry(getPath());
+		return (entry == null) || (entry.getSize() == 0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#getContent()
+	 */
+	@Override
+	public byte[] getContent() throws RepositoryReadException {
+		return getArchiveRepository().readContent(getPath());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#getContentAsStream()
+	 */
+	@Override
+	public InputStream getContentAsStream() throws RepositoryReadException {
+		return getArchiveRepository().openContent(getPath());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#setContent(byte[])
+	 */
+	@Override
+	public void setContent(byte[] content) throws RepositoryWriteException {
+		throw new RepositoryWriteException(READ_ONLY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#setContent(byte[], boolean, java.lang.String)
+	 */
+	@Override
+	public void setContent(byte[] content, boolean isBinary, String contentType) throws RepositoryWriteException {
+		throw new RepositoryWriteException(READ_ONLY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#isBinary()
+	 */
+	@Override
+	public boolean isBinary() {
+		return ContentTypeHelper.isBinary(getContentType());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#getContentType()
+	 */
+	@Override
+	public String getContentType() {
+		return ContentTypeHelper.getContentType(ContentTypeHelper.getExtension(getName()));
+	}
+
+}
@@ -25,6 +25,9 @@ public class ZipMasterRepository extends ZipRepository implements IMasterReposit
 	/** The Constant DIRIGIBLE_MASTER_REPOSITORY_ZIP_LOCATION. */
 	public static final String DIRIGIBLE_MASTER_REPOSITORY_ZIP_LOCATION = "DIRIGIBLE_MASTER_REPOSITORY_ZIP_LOCATION";
 
+	/** Whether the entries are served straight from the archive instead of unpacking it, see {@link ZipArchiveMasterRepository}. */
+	public static final String DIRIGIBLE_MASTER_REPOSITORY_ZIP_READ_THROUGH = "DIRIGIBLE_MASTER_REPOSITORY_ZIP_READ_THROUGH";
+
 	/**
 	 * Instantiates a new zip master repository.
 	 *
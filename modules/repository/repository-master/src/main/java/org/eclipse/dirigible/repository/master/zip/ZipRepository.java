@@ -26,6 +26,7 @@ import java.util.zip.ZipInputStream;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
+import org.eclipse.dirigible.repository.api.RepositoryChangeJournal;
 import org.eclipse.dirigible.repository.api.RepositoryInitializationException;
 import org.eclipse.dirigible.repository.fs.FileSystemRepository;
 import org.eclipse.dirigible.repository.local.LocalRepositoryException;
@@ -165,5 +166,10 @@ public class ZipRepository extends FileSystemRepository {
 	public long getLastModified() {
 		return 0;
 	}
+
+	@Override
+	public RepositoryChangeJournal getChangeJournal() {
+		return null;
+	}
 	
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: 2010-2021 SAP SE or an SAP affiliate company and Eclipse Dirigible contributors
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.master.zip;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.api.IEntity;
+import org.eclipse.dirigible.repository.api.IMasterRepository;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.local.LocalRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The read-through zip master repository over an archive with and without directory entries.
+ */
+public class ZipArchiveMasterRepositoryTest {
+
+	private static final byte[] BINARY = new byte[] { 0, 1, 2, (byte) 255 };
+
+	private IMasterRepository masterRepository;
+
+	/**
+	 * Creates the archive.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		File zip = new File("target/tests/master.zip");
+		zip.getParentFile().mkdirs();
+		try (ZipOutputStream output = new ZipOutputStream(new FileOutputStream(zip))) {
+			output.putNextEntry(new ZipEntry("project1/"));
+			output.closeEntry();
+			putEntry(output, "project1/a.txt", "Hello".getBytes(StandardCharsets.UTF_8));
+			// no directory entries for the folders of project2
+			putEntry(output, "project2/nested/deep/b.json", "{}".getBytes(StandardCharsets.UTF_8));
+			putEntry(output, "project2/c.png", BINARY);
+		}
+		masterRepository = new ZipArchiveMasterRepository(zip.getPath());
+		masterRepository.initialize();
+	}
+
+	private static void putEntry(ZipOutputStream output, String name, byte[] content) throws IOException {
+		output.putNextEntry(new ZipEntry(name));
+		output.write(content);
+		output.closeEntry();
+	}
+
+	/**
+	 * The root lists the top level folders.
+	 */
+	@Test
+	public void listRoot() {
+		ICollection root = masterRepository.getRoot();
+		assertTrue(root.exists());
+		assertEquals(Arrays.asList("project1", "project2"), root.getCollectionsNames());
+		assertTrue(root.getResourcesNames().isEmpty());
+		assertTrue(masterRepository.hasCollection(IRepository.SEPARATOR));
+	}
+
+	/**
+	 * The folders without entries of their own are implied by the paths of the resources.
+	 */
+	@Test
+	public void impliedParentFolders() {
+		assertTrue(masterRepository.hasCollection("/project2"));
+		assertTrue(masterRepository.hasCollection("/project2/nested"));
+		assertTrue(masterRepository.hasCollection("/project2/nested/deep"));
+		assertFalse(masterRepository.hasCollection("/project2/c.png"));
+
+		ICollection project2 = masterRepository.getCollection("/project2");
+		assertEquals(Arrays.asList("nested"), project2.getCollectionsNames());
+		assertEquals(Arrays.asList("c.png"), project2.getResourcesNames());
+		assertEquals(Arrays.asList("deep"), masterRepository.getCollection("/project2/nested").getCollectionsNames());
+		assertEquals(Arrays.asList("b.json"), masterRepository.getCollection("/project2/nested/deep").getResourcesNames());
+		assertEquals(Arrays.asList("/project1/a.txt", "/project2/c.png", "/project2/nested/deep/b.json"), masterRepository.getAllResourcePaths());
+	}
+
+	/**
+	 * The content is read from the archive, as a whole or as a stream.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void readContent() throws IOException {
+		IResource text = masterRepository.getResource("/project1/a.txt");
+		assertTrue(text.exists());
+		assertFalse(text.isBinary());
+		assertEquals("Hello", new String(text.getContent(), StandardCharsets.UTF_8));
+
+		IResource binary = masterRepository.getResource("/project2/c.png");
+		assertTrue(binary.isBinary());
+		try (InputStream input = binary.getContentAsStream()) {
+			assertArrayEquals(BINARY, IOUtils.toByteArray(input));
+		}
+
+		assertFalse(masterRepository.hasResource("/project1/missing.txt"));
+		assertFalse(masterRepository.getResource("/project1/missing.txt").exists());
+	}
+
+	/**
+	 * The whole content is copied to a local repository by walking the children, as on the initialization from the
+	 * master repository.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void copyToRepository() throws IOException {
+		File target = new File("target/tests/master-copy");
+		FileUtils.deleteDirectory(target);
+		IRepository repository = new LocalRepository(target.getPath());
+
+		copyCollection(masterRepository.getRoot(), repository);
+
+		assertEquals("Hello", new String(repository.getResource("/project1/a.txt").getContent(), StandardCharsets.UTF_8));
+		assertEquals("{}", new String(repository.getResource("/project2/nested/deep/b.json").getContent(), StandardCharsets.UTF_8));
+		assertArrayEquals(BINARY, repository.getResource("/project2/c.png").getContent());
+	}
+
+	private static void copyCollection(ICollection parent, IRepository repository) {
+		for (IEntity entity : parent.getChildren()) {
+			if (entity instanceof ICollection) {
+				copyCollection((ICollection) entity, repository);
+			} else {
+				IResource resource = (IResource) entity;
+				repository.createResource(resource.getPath(), resource.getContent(), resource.isBinary(), resource.getContentType(), true);
+			}
+		}
+	}
+
+}
@@ -17,6 +17,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Date;
@@ -24,16 +25,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
@@ -44,8 +43,9 @@ import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.repository.api.IRepository;
@@ -55,6 +55,13 @@ import org.eclipse.dirigible.repository.api.RepositoryWriteException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Full text search in the content of the repository.
+ *
+ * The index is updated periodically with the modified resources. Its writer is opened once per index location and
+ * shared by all the searchers, and the changes of a reindexing are committed once at its end. The searches use
+ * near-real-time searchers acquired from a {@link SearcherManager}.
+ */
 public class RepositorySearcher {
 
 	private static final Logger logger = LoggerFactory.getLogger(RepositorySearcher.class);
@@ -78,6 +85,8 @@ public class RepositorySearcher {
 
 	private static final int MAX_RESULTS = 1000;
 
+	private static final Map<Path, SharedIndex> INDEXES = new ConcurrentHashMap<Path, SharedIndex>();
+
 	private IRepository repository;
 
 	private String root;
@@ -139,38 +148,20 @@ public class RepositorySearcher {
 		}
 	}
 
-	private void add(String location, byte[] contents, long lastModified, Map<String, String> parameters)
-			throws RepositoryWriteException {
-		String indexName = index;
-
-		try {
-			Directory dir = FSDirectory.open(Paths.get(root + File.separator + indexName));
-			Analyzer analyzer = new StandardAnalyzer();
-			IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
-			iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
-			IndexWriter writer = null;
-			try {
-				writer = new IndexWriter(dir, iwc);
-				Document doc = new Document();
-				Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
-				doc.add(pathField);
-				doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
-				if (parameters != null) {
-					for (String key : parameters.keySet()) {
-						doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
-					}
-				}
-				doc.add(new TextField(FIELD_CONTENTS, new BufferedReader(
-						new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
-				writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
-			} finally {
-				if (writer != null) {
-					writer.close();
-				}
+	private void add(SharedIndex sharedIndex, String location, byte[] contents, long lastModified, Map<String, String> parameters)
+			throws IOException {
+		Document doc = new Document();
+		Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
+		doc.add(pathField);
+		doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
+		if (parameters != null) {
+			for (String key : parameters.keySet()) {
+				doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
 			}
-		} catch (IOException e) {
-			throw new RepositoryWriteException(e);
 		}
+		doc.add(new TextField(FIELD_CONTENTS, new BufferedReader(
+				new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
+		sharedIndex.writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
 	}
 
 	/**
@@ -185,17 +176,12 @@ public class RepositorySearcher {
 	 */
 	public List<String> search(String term) throws RepositoryReadException {
 		List<String> results = new ArrayList<String>();
-		String indexName = index;
 
 		try {
-			Directory dir = FSDirectory.open(Paths.get(root + File.separator + indexName));
-			IndexReader reader = null;
+			SharedIndex sharedIndex = getSharedIndex();
+			IndexSearcher searcher = sharedIndex.searcherManager.acquire();
 			try {
-				reader = DirectoryReader.open(dir);
-				IndexSearcher searcher = new IndexSearcher(reader);
-				Analyzer analyzer = new StandardAnalyzer();
-				String field = FIELD_CONTENTS;
-				QueryParser parser = new QueryParser(field, analyzer);
+				QueryParser parser = new QueryParser(FIELD_CONTENTS, new StandardAnalyzer());
 				Query query = parser.parse(term);
 				TopDocs topDocs = searcher.search(query, MAX_RESULTS);
 				for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
@@ -211,9 +197,7 @@ public class RepositorySearcher {
 
 				}
 			} finally {
-				if (reader != null) {
-					reader.close();
-				}
+				sharedIndex.searcherManager.release(searcher);
 			}
 			return results;
 		} catch (IOException | ParseException e) {
@@ -224,15 +208,26 @@ public class RepositorySearcher {
 	private void reindex() {
 		synchronized (RepositorySearcher.class) {
 			long start = System.currentTimeMillis();
-			List<String> paths = repository.getAllResourcePaths();
-			for (String path : paths) {
-				IResource resource = repository.getResource(path);
-				if ((resource != null) && (resource.getInformation() != null)
-						&& (resource.getInformation().getModifiedAt() != null)) {
-					if (lastUpdated.before(resource.getInformation().getModifiedAt())) {
-						add(path, resource.getContent(), resource.getInformation().getModifiedAt().getTime(), null);
+			try {
+				SharedIndex sharedIndex = getSharedIndex();
+				int count = 0;
+				List<String> paths = repository.getAllResourcePaths();
+				for (String path : paths) {
+					IResource resource = repository.getResource(path);
+					if ((resource != null) && (resource.getInformation() != null)
+							&& (resource.getInformation().getModifiedAt() != null)) {
+						if (lastUpdated.before(resource.getInformation().getModifiedAt())) {
+							add(sharedIndex, path, resource.getContent(), resource.getInformation().getModifiedAt().getTime(), null);
+							count++;
+						}
 					}
 				}
+				if (count > 0) {
+					sharedIndex.writer.commit();
+					sharedIndex.searcherManager.maybeRefreshBlocking();
+				}
+			} catch (IOException e) {
+				throw new RepositoryWriteException(e);
 			}
 			long end = System.currentTimeMillis();
 			logger.trace("Reindexing of the Repository Content finished in: " + (end - start) + "ms");
@@ -251,4 +246,36 @@ public class RepositorySearcher {
 		return root;
 	}
 
+	private SharedIndex getSharedIndex() throws IOException {
+		Path path = Paths.get(root + File.separator + index).toAbsolutePath().normalize();
+		SharedIndex sharedIndex = INDEXES.get(path);
+		if (sharedIndex == null) {
+			synchronized (INDEXES) {
+				sharedIndex = INDEXES.get(path);
+				if (sharedIndex == null) {
+					sharedIndex = new SharedIndex(path);
+					INDEXES.put(path, sharedIndex);
+				}
+			}
+		}
+		return sharedIndex;
+	}
+
+	/**
+	 * The writer of an index location together with its searchers.
+	 */
+	private static class SharedIndex {
+
+		private final IndexWriter writer;
+
+		private final SearcherManager searcherManager;
+
+		SharedIndex(Path path) throws IOException {
+			IndexWriterConfig iwc = new IndexWriterConfig(new StandardAnalyzer());
+			iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
+			this.writer = new IndexWriter(FSDirectory.open(path), iwc);
+			this.searcherManager = new SearcherManager(writer, new SearcherFactory());
+		}
+	}
+
 }
@@ -15,11 +15,22 @@ import static java.text.MessageFormat.format;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import org.apache.commons.io.IOUtils;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IEntity;
 import org.eclipse.dirigible.repository.api.IRepository;
@@ -29,9 +40,29 @@ import org.eclipse.dirigible.repository.api.RepositoryReadException;
 
 /**
  * Utility class which exports all the content under a given path.
+ *
+ * The archive is written to the output entry by entry and the content of the resources is streamed, so the memory
+ * used does not depend on the size of the exported content. When more than one export thread is configured, the
+ * content of the next resources is read ahead in parallel while the current entry is being compressed, up to a limit
+ * of bytes held in memory.
  */
 public class RepositoryZipExporter {
 
+	/** The number of threads reading the content of the exported resources. */
+	public static final String DIRIGIBLE_REPOSITORY_ZIP_EXPORT_THREADS = "DIRIGIBLE_REPOSITORY_ZIP_EXPORT_THREADS"; //$NON-NLS-1$
+
+	private static final String DEFAULT_EXPORT_THREADS = "1"; //$NON-NLS-1$
+
+	/** The maximum number of bytes read ahead per export. */
+	public static final String DIRIGIBLE_REPOSITORY_ZIP_EXPORT_READ_AHEAD_SIZE = "DIRIGIBLE_REPOSITORY_ZIP_EXPORT_READ_AHEAD_SIZE"; //$NON-NLS-1$
+
+	private static final String DEFAULT_EXPORT_READ_AHEAD_SIZE = "16777216"; //$NON-NLS-1$
+
+	private static final int READ_AHEAD_CHUNK_SIZE = 8192;
+
+	/** The number of resources read ahead per thread. */
+	private static final int READ_AHEAD_PER_THREAD = 2;
+
 	/**
 	 * Export all the content under the given path(s) with the target repository
 	 * instance Include the last segment of the relative roots during the
@@ -46,38 +77,81 @@ public class RepositoryZipExporter {
 	 *             in case the content cannot be exported
 	 */
 	public static byte[] exportZip(IRepository repository, List<String> relativeRoots) throws RepositoryExportException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		exportZip(repository, relativeRoots, baos);
+		return baos.toByteArray();
+	}
+
+	/**
+	 * Export all the content under the given path(s) with the target repository
+	 * instance to the given output. Include the last segment of the relative roots during the
+	 * archiving. The output is not closed.
+	 *
+	 * @param repository
+	 *            the target {@link IRepository} instance
+	 * @param relativeRoots
+	 *            the relative roots
+	 * @param output
+	 *            the output the archive is written to
+	 * @throws RepositoryExportException
+	 *             in case the content cannot be exported
+	 */
+	public static void exportZip(IRepository repository, List<String> relativeRoots, OutputStream output) throws RepositoryExportException {
+		exportZip(repository, relativeRoots, output,
+				Integer.parseInt(Configuration.get(DIRIGIBLE_REPOSITORY_ZIP_EXPORT_THREADS, DEFAULT_EXPORT_THREADS)));
+	}
+
+	/**
+	 * Export all the content under the given path(s) with the target repository
+	 * instance to the given output, reading the content with the given number of threads. The output is not closed.
+	 *
+	 * @param repository
+	 *            the target {@link IRepository} instance
+	 * @param relativeRoots
+	 *            the relative roots
+	 * @param output
+	 *            the output the archive is written to
+	 * @param threads
+	 *            the number of threads reading the content ahead, 1 or less to read it in the writing thread
+	 * @throws RepositoryExportException
+	 *             in case the content cannot be exported
+	 */
+	public static void exportZip(IRepository repository, List<String> relativeRoots, OutputStream output, int threads)
+			throws RepositoryExportException {
 		try {
-			ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			ZipOutputStream zipOutputStream = null;
-			try {
-				zipOutputStream = new ZipOutputStream(baos);
-
-				for (String relativeRoot : relativeRoots) {
-					ICollection collection = repository.getCollection(relativeRoot);
-					if (collection.exists()) {
-						traverseCollection(zipOutputStream, collection, relativeRoot.length() - collection.getName().length());
+			List<ExportEntry> entries = new ArrayList<ExportEntry>();
+			for (String relativeRoot : relativeRoots) {
+				ICollection collection = repository.getCollection(relativeRoot);
+				if (collection.exists()) {
+					traverseCollection(entries, collection, relativeRoot.length() - collection.getName().length());
+				} else {
+					IResource iResource = repository.getResource(relativeRoot);
+					if (iResource.exists()) {
+						entries.add(new ExportEntry(iResource.getPath().substring(relativeRoot.length() - iResource.getName().length()), iResource));
 					} else {
-						IResource iResource = repository.getResource(relativeRoot);
-						if (iResource.exists()) {
-							ZipEntry zipEntry = new ZipEntry(iResource.getPath().substring(relativeRoot.length() - iResource.getName().length()));
-							zipOutputStream.putNextEntry(zipEntry);
-							zipOutputStream.write((iResource.getContent() == null ? new byte[] {} : iResource.getContent()));
-							zipOutputStream.closeEntry();
-						} else {
-							throw new IOException(format("Relative Root: {0} doesn't exist", relativeRoot));
-						}
+						throw new IOException(format("Relative Root: {0} doesn't exist", relativeRoot));
 					}
 				}
-			} finally {
-				if (zipOutputStream != null) {
-					zipOutputStream.finish();
-					zipOutputStream.flush();
-					zipOutputStream.close();
-				}
 			}
 
-			byte[] result = baos.toByteArray();
-			return result;
+			ZipOutputStream zipOutputStream = new ZipOutputStream(output);
+			if (threads > 1) {
+				writeEntriesReadAhead(zipOutputStream, entries, threads);
+			} else {
+				for (ExportEntry entry : entries) {
+					zipOutputStream.putNextEntry(new ZipEntry(entry.name));
+					if (entry.resource != null) {
+						try (InputStream content = entry.resource.getContentAsStream()) {
+							if (content != null) {
+								IOUtils.copy(content, zipOutputStream);
+							}
+						}
+					}
+					zipOutputStream.closeEntry();
+				}
+			}
+			zipOutputStream.finish();
+			zipOutputStream.flush();
 		} catch (RepositoryReadException | IOException e) {
 			throw new RepositoryExportException(e);
 		}
@@ -100,6 +174,30 @@ public class RepositoryZipExporter {
 	 *             in case the content cannot be exported
 	 */
 	public static byte[] exportZip(IRepository repository, String relativeRoot, boolean inclusive) throws RepositoryExportException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		exportZip(repository, relativeRoot, inclusive, baos);
+		return baos.toByteArray();
+	}
+
+	/**
+	 * Export all the content under the given path with the target repository
+	 * instance to the given output. Include or NOT the last segment of the relative root during the
+	 * archiving. The output is not closed.
+	 *
+	 * @param repository
+	 *            the repository
+	 * @param relativeRoot
+	 *            single root
+	 * @param inclusive
+	 *            whether to include the last segment of the root or to pack its
+	 *            content directly in the archive
+	 * @param output
+	 *            the output the archive is written to
+	 * @throws RepositoryExportException
+	 *             in case the content cannot be exported
+	 */
+	public static void exportZip(IRepository repository, String relativeRoot, boolean inclusive, OutputStream output)
+			throws RepositoryExportException {
 
 		List<String> relativeRoots = new ArrayList<String>();
 
@@ -114,51 +212,148 @@ public class RepositoryZipExporter {
 					relativeRoots.add(iEntity.getPath());
 				}
 			}
-			return exportZip(repository, relativeRoots);
+			exportZip(repository, relativeRoots, output);
+			return;
 		}
 		IResource resource = repository.getResource(relativeRoot);
 		if (resource.exists()) {
 			relativeRoots.add(resource.getPath());
-			return exportZip(repository, relativeRoots);
+			exportZip(repository, relativeRoots, output);
+			return;
 		}
 		throw new RepositoryExportException(format("Relative Root: {0} does not exist", relativeRoot));
 	}
 
 	/**
-	 * Iterate recursively a given collection and put its content to the zip.
+	 * Iterate recursively a given collection and list its content in the order of the archive.
 	 *
-	 * @param zipOutputStream
-	 *            resulting output stream
+	 * @param entries
+	 *            the resulting entries
 	 * @param collection
 	 *            the {ICollection} to be processed
 	 * @param substring
 	 *            the prefix size
-	 * @throws RepositoryExportException
+	 * @throws RepositoryReadException
 	 *             in case the processing fails
 	 */
-	private static void traverseCollection(ZipOutputStream zipOutputStream, ICollection collection, int substring) throws RepositoryExportException {
+	private static void traverseCollection(List<ExportEntry> entries, ICollection collection, int substring) throws RepositoryReadException {
+		if (collection.getPath().length() >= substring) {
+			entries.add(new ExportEntry(collection.getPath().substring(substring) + IRepository.SEPARATOR, null));
+		}
+
+		List<ICollection> collections = collection.getCollections();
+		for (ICollection iCollection : collections) {
+			traverseCollection(entries, iCollection, substring);
+		}
+
+		List<IResource> resources = collection.getResources();
+		for (IResource iResource : resources) {
+			entries.add(new ExportEntry(iResource.getPath().substring(substring), iResource));
+		}
+	}
+
+	/**
+	 * Writes the entries in their order, while a pool reads the content of a bounded number of the next resources. The
+	 * content read ahead is limited in bytes; a resource not fitting in the limit is streamed by the writing thread.
+	 *
+	 * @param zipOutputStream
+	 *            resulting output stream
+	 * @param entries
+	 *            the entries
+	 * @param threads
+	 *            the number of the reading threads
+	 * @throws IOException
+	 *             in case the content cannot be read or written
+	 */
+	private static void writeEntriesReadAhead(ZipOutputStream zipOutputStream, List<ExportEntry> entries, int threads) throws IOException {
+		AtomicLong budget = new AtomicLong(
+				Long.parseLong(Configuration.get(DIRIGIBLE_REPOSITORY_ZIP_EXPORT_READ_AHEAD_SIZE, DEFAULT_EXPORT_READ_AHEAD_SIZE)));
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
 		try {
-			ZipEntry zipEntry = null;
-			if (collection.getPath().length() >= substring) {
-				zipEntry = new ZipEntry(collection.getPath().substring(substring) + IRepository.SEPARATOR);
-				zipOutputStream.putNextEntry(zipEntry);
+			Deque<Future<ReadAheadContent>> pending = new ArrayDeque<Future<ReadAheadContent>>();
+			int next = 0;
+			for (ExportEntry entry : entries) {
+				while ((next < entries.size()) && (pending.size() < (threads * READ_AHEAD_PER_THREAD))) {
+					IResource resource = entries.get(next++).resource;
+					pending.addLast(executor.submit(() -> readAhead(resource, budget)));
+				}
+				ReadAheadContent content = pending.removeFirst().get();
+				zipOutputStream.putNextEntry(new ZipEntry(entry.name));
+				if (content.buffer != null) {
+					content.buffer.writeTo(zipOutputStream);
+					budget.addAndGet(content.buffer.size());
+				} else if (entry.resource != null) {
+					try (InputStream input = entry.resource.getContentAsStream()) {
+						if (input != null) {
+							IOUtils.copy(input, zipOutputStream);
+						}
+					}
+				}
 				zipOutputStream.closeEntry();
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} catch (ExecutionException e) {
+			throw new IOException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
 
-			List<ICollection> collections = collection.getCollections();
-			for (ICollection iCollection : collections) {
-				traverseCollection(zipOutputStream, iCollection, substring);
+	/**
+	 * Reads the content of a resource into memory, taking the bytes from the budget. When the budget is exhausted the
+	 * bytes read so far are given back and the content is left to be streamed.
+	 */
+	private static ReadAheadContent readAhead(IResource resource, AtomicLong budget) throws IOException {
+		if (resource == null) {
+			return new ReadAheadContent(null);
+		}
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (InputStream input = resource.getContentAsStream()) {
+			if (input == null) {
+				return new ReadAheadContent(buffer);
 			}
-
-			List<IResource> resources = collection.getResources();
-			for (IResource iResource : resources) {
-				zipEntry = new ZipEntry(iResource.getPath().substring(substring));
-				zipOutputStream.putNextEntry(zipEntry);
-				zipOutputStream.write((iResource.getContent() == null ? new byte[] {} : iResource.getContent()));
-				zipOutputStream.closeEntry();
+			byte[] chunk = new byte[READ_AHEAD_CHUNK_SIZE];
+			int read;
+			while ((read = input.read(chunk)) != -1) {
+				if (budget.addAndGet(-read) < 0) {
+					budget.addAndGet(read + buffer.size());
+					return new ReadAheadContent(null);
+				}
+				buffer.write(chunk, 0, read);
 			}
-		} catch (RepositoryReadException | IOException e) {
-			throw new RepositoryExportException(e);
+		} catch (IOException | RuntimeException e) {
+			budget.addAndGet(buffer.size());
+			throw e;
+		}
+		return new ReadAheadContent(buffer);
+	}
+
+	/**
+	 * The content read ahead, or none if it is to be streamed.
+	 */
+	private static class ReadAheadContent {
+
+		private final ByteArrayOutputStream buffer;
+
+		ReadAheadContent(ByteArrayOutputStream buffer) {
+			this.buffer = buffer;
+		}
+	}
+
+	/**
+	 * An entry of the archive, a resource or a collection.
+	 */
+	private static class ExportEntry {
+
+		private final String name;
+
+		private final IResource resource;
+
+		ExportEntry(String name, IResource resource) {
+			this.name = name;
+			this.resource = resource;
 		}
 	}
 
@@ -262,6 +262,15 @@ public class DirigibleInitializer {
 		logger.trace("Done shutting down Message Broker.");
 	}
 
+	/**
+	 * Shutdown modules.
+	 */
+	private void shutdownModules() {
+		logger.trace("Shutting down Dirigible Modules...");
+		DirigibleModulesInstallerModule.destroyModules();
+		logger.trace("Done shutting down Dirigible Modules.");
+	}
+
 	/**
 	 * Get singleton services registered to this application.
 	 *
@@ -278,6 +287,8 @@ public class DirigibleInitializer {
 
 		shutdownMessaging();
 
+		shutdownModules();
+
 		logger.info("Eclipse Dirigible Platform shut down.");
 	}
 
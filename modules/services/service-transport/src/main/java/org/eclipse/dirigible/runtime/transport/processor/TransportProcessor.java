@@ -11,6 +11,10 @@
  */
 package org.eclipse.dirigible.runtime.transport.processor;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.ZipInputStream;
+
 import javax.inject.Inject;
 
 import org.eclipse.dirigible.core.workspace.api.IProject;
@@ -34,11 +38,11 @@ public class TransportProcessor {
 	 * Import project.
 	 *
 	 * @param workspace the workspace
-	 * @param content the content
+	 * @param content the zip content, read entry by entry
 	 */
-	public void importProject(String workspace, byte[] content) {
+	public void importProject(String workspace, InputStream content) {
 		IWorkspace workspaceApi = getWorkspace(workspace);
-		repository.importZip(content, workspaceApi.getPath(), true, false, null);
+		repository.importZip(new ZipInputStream(content), workspaceApi.getPath(), true, false);
 	}
 
 	/**
@@ -46,23 +50,23 @@ public class TransportProcessor {
 	 *
 	 * @param workspace the workspace
 	 * @param project the project
-	 * @return the byte[]
+	 * @param output the output the zip is streamed to
 	 */
-	public byte[] exportProject(String workspace, String project) {
+	public void exportProject(String workspace, String project, OutputStream output) {
 		IWorkspace workspaceApi = getWorkspace(workspace);
 		IProject projectApi = getProject(workspaceApi, project);
-		return repository.exportZip(projectApi.getPath(), true);
+		repository.exportZip(projectApi.getPath(), true, output);
 	}
 	
 	/**
 	 * Export workspace.
 	 *
 	 * @param workspace the workspace
-	 * @return the byte[]
+	 * @param output the output the zip is streamed to
 	 */
-	public byte[] exportWorkspace(String workspace) {
+	public void exportWorkspace(String workspace, OutputStream output) {
 		IWorkspace workspaceApi = getWorkspace(workspace);
-		return repository.exportZip(workspaceApi.getPath(), false);
+		repository.exportZip(workspaceApi.getPath(), false, output);
 	}
 
 	/**
@@ -89,19 +93,19 @@ public class TransportProcessor {
 	/**
 	 * Import snapshot.
 	 *
-	 * @param content the content
+	 * @param content the zip content, read entry by entry
 	 */
-	public void importSnapshot(byte[] content) {
-		repository.importZip(content, IRepositoryStructure.SEPARATOR, true, false, null);
+	public void importSnapshot(InputStream content) {
+		repository.importZip(new ZipInputStream(content), IRepositoryStructure.SEPARATOR, true, false);
 	}
 
 	/**
 	 * Export snapshot.
 	 *
-	 * @return the byte[]
+	 * @param output the output the zip is streamed to
 	 */
-	public byte[] exportSnapshot() {
-		return repository.exportZip(IRepositoryStructure.SEPARATOR, true);
+	public void exportSnapshot(OutputStream output) {
+		repository.exportZip(IRepositoryStructure.SEPARATOR, true, output);
 	}
 
 	
@@ -11,6 +11,8 @@
  */
 package org.eclipse.dirigible.runtime.transport.service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
@@ -28,7 +30,9 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 
+import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.apache.cxf.jaxrs.ext.multipart.Multipart;
 import org.eclipse.dirigible.api.v3.security.UserFacade;
 import org.eclipse.dirigible.commons.api.service.AbstractRestService;
@@ -70,6 +74,7 @@ public class TransportProjectRestService extends AbstractRestService implements
 	 * @param files the files
 	 * @return the response
 	 * @throws RepositoryImportException the repository import exception
+	 * @throws IOException in case an uploaded file cannot be read
 	 */
 	@POST
 	@Path("/project/{workspace}")
@@ -78,14 +83,16 @@ public class TransportProjectRestService extends AbstractRestService implements
 	@ApiOperation("Import Project from Zip")
 	@ApiResponses({ @ApiResponse(code = 200, message = "Project Imported") })
 	public Response importProject(@ApiParam(value = "Name of the Workspace", required = true) @PathParam("workspace") String workspace,
-			@ApiParam(value = "The Zip file(s) containing the Project artifacts", required = true) @Multipart("file") List<byte[]> files) throws RepositoryImportException {
+			@ApiParam(value = "The Zip file(s) containing the Project artifacts", required = true) @Multipart("file") List<Attachment> files) throws RepositoryImportException, IOException {
 		String user = UserFacade.getName();
 		if (user == null) {
 			return createErrorResponseForbidden(NO_LOGGED_IN_USER);
 		}
 		
-		for (byte[] file : files) {
-			processor.importProject(workspace, file);
+		for (Attachment file : files) {
+			try (InputStream content = file.getDataHandler().getInputStream()) {
+				processor.importProject(workspace, content);
+			}
 		}		
 		return Response.ok().build();
 	}
@@ -112,10 +119,10 @@ public class TransportProjectRestService extends AbstractRestService implements
 		
 		SimpleDateFormat pattern = getDateFormat();
 		if ("*".equals(project)) {
-			byte[] zip = processor.exportWorkspace(workspace);
+			StreamingOutput zip = output -> processor.exportWorkspace(workspace, output);
 			return Response.ok().header("Content-Disposition",  "attachment; filename=\"" + workspace + "-" + pattern.format(new Date()) + ".zip\"").entity(zip).build();
 		}
-		byte[] zip = processor.exportProject(workspace, project);
+		StreamingOutput zip = output -> processor.exportProject(workspace, project, output);
 		return Response.ok().header("Content-Disposition",  "attachment; filename=\"" + project + "-" + pattern.format(new Date()) + ".zip\"").entity(zip).build();
 	}
 	
@@ -125,6 +132,7 @@ public class TransportProjectRestService extends AbstractRestService implements
 	 * @param files the files
 	 * @return the response
 	 * @throws RepositoryImportException the repository import exception
+	 * @throws IOException in case an uploaded file cannot be read
 	 */
 	@POST
 	@Path("/snapshot")
@@ -133,14 +141,16 @@ public class TransportProjectRestService extends AbstractRestService implements
 	@ApiOperation("Import Snapshot from Zip")
 	@ApiResponses({ @ApiResponse(code = 200, message = "Snapshot Imported") })
 	public Response importSnapshot(
-			@ApiParam(value = "The Zip file(s) containing the Snapshot contents", required = true) @Multipart("file") List<byte[]> files) throws RepositoryImportException {
+			@ApiParam(value = "The Zip file(s) containing the Snapshot contents", required = true) @Multipart("file") List<Attachment> files) throws RepositoryImportException, IOException {
 		String user = UserFacade.getName();
 		if (user == null) {
 			return createErrorResponseForbidden(NO_LOGGED_IN_USER);
 		}
 		
-		for (byte[] file : files) {
-			processor.importSnapshot(file);
+		for (Attachment file : files) {
+			try (InputStream content = file.getDataHandler().getInputStream()) {
+				processor.importSnapshot(content);
+			}
 		}		
 		return Response.ok().build();
 	}
@@ -163,7 +173,7 @@ public class TransportProjectRestService extends AbstractRestService implements
 		}
 		
 		SimpleDateFormat pattern = getDateFormat();
-		byte[] zip = processor.exportSnapshot();
+		StreamingOutput zip = output -> processor.exportSnapshot(output);
 		return Response.ok().header("Content-Disposition",  "attachment; filename=\"repository-snapshot-" + pattern.format(new Date()) + ".zip\"").entity(zip).build();
 	}
 